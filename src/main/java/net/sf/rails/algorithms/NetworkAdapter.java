@@ -26,6 +26,10 @@ public class NetworkAdapter {
     private PublicCompany company;
     private boolean addHQ;
 
+    // key and mapping of the graphs in the NetworkGraphCache
+    private NetworkGraphCache.Key cacheKey;
+    private NetworkGraphCache.Mapping cacheMapping;
+
     private NetworkAdapter(RailsRoot root) {
         this.root = root;
     }
@@ -34,34 +38,39 @@ public class NetworkAdapter {
         return new NetworkAdapter(root);
     }
 
+    /**
+     * @return a new map graph, derived from the hex networks kept by the NetworkManager
+     */
     public NetworkGraph getMapGraph() {
         mapGraph = NetworkGraph.createMapGraph(root);
-        log.info("MapGraph created");
+        log.info("MapGraph created from {}", root.getNetworkManager());
         return mapGraph;
     }
 
     /**
-     *
+     * The route graph is taken from the NetworkGraphCache if available for the current state
      * @param company
      * @param addHQ
      * @param running true for train runs, false for tile or token lay allowances
      * @return
      */
     public NetworkGraph getRouteGraph(PublicCompany company, boolean addHQ, boolean running) {
-        routeGraph = NetworkGraph.createRouteGraph(getMapGraph(), company, addHQ, running);
+        NetworkGraphCache graphCache = root.getNetworkManager().getGraphCache();
+        cacheKey = graphCache.createKey(company, addHQ, running);
+        cacheMapping = NetworkGraphCache.Mapping.create();
+        routeGraph = graphCache.getRouteGraph(cacheKey, cacheMapping,
+                () -> NetworkGraph.createRouteGraph(getMapGraph(), company, addHQ, running));
+        revenueGraph = null;
+        multiGraph = null;
         this.company = company;
         this.addHQ = addHQ;
-        log.info("RouteGraph created");
+        log.info("RouteGraph created, {}", graphCache);
         return routeGraph;
     }
 
     public NetworkGraph getRouteGraphCached(PublicCompany company, boolean addHQ) {
         if (routeGraph == null || company != this.company || addHQ != this.addHQ) {
-            if (mapGraph != null) {
-                routeGraph = NetworkGraph.createRouteGraph(mapGraph, company, addHQ, true);
-            } else {
-                getRouteGraph(company, addHQ, true);
-            }
+            getRouteGraph(company, addHQ, true);
         }
         return routeGraph;
     }
@@ -69,8 +78,9 @@ public class NetworkAdapter {
     public NetworkGraph getRevenueGraph(PublicCompany company,
             Collection<NetworkVertex> protectedVertices) {
         if (revenueGraph == null) {
-            revenueGraph = NetworkGraph.createOptimizedGraph(getRouteGraphCached(company, false),
-                    protectedVertices);
+            NetworkGraph graph = getRouteGraphCached(company, false);
+            revenueGraph = root.getNetworkManager().getGraphCache().getRevenueGraph(
+                    cacheKey, cacheMapping, graph, protectedVertices);
             log.info("RevenueGraph created");
         }
 
@@ -80,8 +90,9 @@ public class NetworkAdapter {
     public NetworkMultigraph getMultigraph(PublicCompany company,
             Collection<NetworkVertex> protectedVertices) {
         if (multiGraph == null) {
-            multiGraph = NetworkMultigraph.create(
-                    getRevenueGraph(company, protectedVertices), protectedVertices);
+            NetworkGraph graph = getRevenueGraph(company, protectedVertices);
+            multiGraph = root.getNetworkManager().getGraphCache().getMultigraph(
+                    cacheKey, cacheMapping, routeGraph, graph, protectedVertices);
             log.info("MultiGraph created");
         }
         return multiGraph;
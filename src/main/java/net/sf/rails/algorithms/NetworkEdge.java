@@ -117,6 +117,15 @@ public final class NetworkEdge implements Comparable<NetworkEdge> {
         this.routeCosts = routeCosts;
     }
 
+    /** factory method for a copy of an edge with identical properties, connecting the given vertices
+     */
+    static NetworkEdge copyEdge(NetworkEdge edge, NetworkVertex source, NetworkVertex target,
+            List<NetworkVertex> hiddenVertices) {
+        NetworkEdge newEdge = new NetworkEdge(source, target, edge.greedy, edge.distance, hiddenVertices);
+        newEdge.routeCosts = edge.routeCosts;
+        return newEdge;
+    }
+
     public List<NetworkVertex> getHiddenVertices() {
         return hiddenVertices;
     }
@@ -34,6 +34,9 @@ public class NetworkGraph {
 
     private NetworkIterator iterator;
 
+    // seen data of the iterator, only set for copies of a route graph
+    private Map<NetworkVertex, NetworkIterator.greedyState> seenData;
+
     private NetworkGraph() {
         graph = new SimpleGraph<NetworkVertex, NetworkEdge>(NetworkEdge.class);
         vertices = Maps.newHashMap();
@@ -78,6 +81,34 @@ public class NetworkGraph {
         return new NetworkGraph(this);
     }
 
+    /**
+     * @param mapping provides the vertices and edges of the new graph
+     * @return a copy of the graph that does not share vertices or edges with this graph
+     */
+    NetworkGraph copyGraph(NetworkGraphCache.Mapping mapping) {
+        NetworkGraph newGraph = new NetworkGraph();
+        for (NetworkVertex vertex : graph.vertexSet()) {
+            newGraph.graph.addVertex(mapping.getVertex(vertex));
+        }
+        for (NetworkEdge edge : graph.edgeSet()) {
+            NetworkEdge newEdge = mapping.getEdge(edge);
+            newGraph.graph.addEdge(newEdge.getSource(), newEdge.getTarget(), newEdge);
+        }
+        newGraph.rebuildVertices();
+
+        // the seen data is required for the reachable sides
+        Map<NetworkVertex, NetworkIterator.greedyState> seen = getSeenData();
+        if (seen != null) {
+            newGraph.seenData = Maps.newHashMap();
+            for (NetworkVertex vertex : seen.keySet()) {
+                if (graph.containsVertex(vertex)) {
+                    newGraph.seenData.put(mapping.getVertex(vertex), seen.get(vertex));
+                }
+            }
+        }
+        return newGraph;
+    }
+
     public SimpleGraph<NetworkVertex, NetworkEdge> getGraph() {
         return graph;
     }
@@ -118,11 +149,19 @@ public class NetworkGraph {
         return vertices.get(hex.getId() + "." + point.getTrackPointNumber());
     }
 
+    private Map<NetworkVertex, NetworkIterator.greedyState> getSeenData() {
+        if (iterator != null) {
+            return iterator.getSeenData();
+        }
+        return seenData;
+    }
+
     public ImmutableMap<MapHex, HexSidesSet> getReachableSides() {
         // first create builders for all HexSides
         Map<MapHex, HexSidesSet.Builder> hexSides = Maps.newHashMap();
+        Map<NetworkVertex, NetworkIterator.greedyState> seen = getSeenData();
         for (NetworkVertex vertex : graph.vertexSet()) {
-            if (vertex.isSide() && iterator.getSeenData().get(vertex)
+            if (vertex.isSide() && seen.get(vertex)
                     != NetworkIterator.greedyState.GREEDY ) {
                 MapHex hex = vertex.getHex();
                 if (!hexSides.containsKey(hex)) {
@@ -182,49 +221,26 @@ public class NetworkGraph {
     private void generateMapGraph(RailsRoot root) {
         MapManager mapManager = root.getMapManager();
         RevenueManager revenueManager = root.getRevenueManager();
+        NetworkManager networkManager = root.getNetworkManager();
+
+        // copy the stations and track sides of each hex
         for (MapHex hex : mapManager.getHexes()) {
-            // get Tile
-            Tile tile = hex.getCurrentTile();
-
-            // then get stations
-            Collection<Station> stations = tile.getStations();
-            // and add those to the mapGraph
-            for (Station station : stations) {
-                NetworkVertex stationVertex = new NetworkVertex(hex, station);
-                graph.addVertex(stationVertex);
-                vertices.put(stationVertex.getIdentifier(), stationVertex);
-                log.info("Added {}", stationVertex);
+            for (NetworkVertex template : networkManager.getHexNetwork(hex).getVertices()) {
+                NetworkVertex vertex = NetworkVertex.copyVertex(template);
+                graph.addVertex(vertex);
+                vertices.put(vertex.getIdentifier(), vertex);
+                log.debug("Added {}", vertex);
             }
-
-            // get tracks per side to add that vertex
-            for (HexSide side : HexSide.all())
-                if (tile.hasTracks(side)) {
-                    HexSide rotated = side.rotate(hex.getCurrentTileRotation());
-                    NetworkVertex sideVertex = new NetworkVertex(hex, rotated);
-                    graph.addVertex(sideVertex);
-                    vertices.put(sideVertex.getIdentifier(), sideVertex);
-                    log.info("Added {}", sideVertex);
-                }
         }
 
         // loop over all hex and add tracks
         for (MapHex hex : mapManager.getHexes()) {
-            // get Tile
-            Tile tile = hex.getCurrentTile();
-            // get Tracks
-            Set<Track> tracks = tile.getTracks();
-
-            for (Track track : tracks) {
-                NetworkVertex startVertex = getVertexRotated(hex, track.getStart());
-                NetworkVertex endVertex = getVertexRotated(hex, track.getEnd());
-                log.info("Track: {}", track);
+            for (NetworkEdge template : networkManager.getHexNetwork(hex).getTracks()) {
+                NetworkVertex startVertex = vertices.get(template.getSource().getIdentifier());
+                NetworkVertex endVertex = vertices.get(template.getTarget().getIdentifier());
                 NetworkEdge edge = new NetworkEdge(startVertex, endVertex, false);
-                if (startVertex == endVertex) {
-                    log.error("Track {} on hex {}has identical start/end", track, hex);
-                } else {
-                    graph.addEdge(startVertex, endVertex, edge);
-                    log.info("Added non-greedy edge {}", edge.getConnection());
-                }
+                graph.addEdge(startVertex, endVertex, edge);
+                log.debug("Added non-greedy edge {}", edge.getConnection());
             }
 
             // TODO: Rewrite this by employing the features of Trackpoint
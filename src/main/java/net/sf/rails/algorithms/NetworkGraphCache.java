@@ -0,0 +1,383 @@
+package net.sf.rails.algorithms;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import net.sf.rails.game.Phase;
+import net.sf.rails.game.PublicCompany;
+import net.sf.rails.game.state.Observable;
+
+import org.jgrapht.Graph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+/**
+ * NetworkGraphCache stores the company related graphs for all NetworkAdapters of a game
+ * <p>
+ * Entries are keyed by company, addHQ, running flag, the map version of the NetworkManager,
+ * the current phase and the rights of the company. Any tile or token lay changes the map version,
+ * thus stale entries are never returned and are removed at the next access.
+ * <p>
+ * The graphs are mutated by their users (vertex values, greedness, route costs, vertex removal),
+ * therefore the cache stores snapshot copies and each NetworkAdapter receives its own copies.
+ * The {@link Mapping} of a NetworkAdapter keeps the identity of vertices and edges consistent
+ * between its route, revenue and multigraph.
+ */
+public final class NetworkGraphCache {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkGraphCache.class);
+
+    public static final int DEFAULT_SIZE = 32;
+
+    private final NetworkManager networkManager;
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+
+    // version of the map network of the last access
+    private int mapVersion;
+
+    // statistic data
+    private int hits;
+    private int misses;
+    private int evictions;
+    private int invalidations;
+
+    /**
+     * Key of a route graph
+     */
+    static final class Key {
+        private final PublicCompany company;
+        private final boolean addHQ;
+        private final boolean running;
+        private final int mapVersion;
+        private final Phase phase;
+        private final String rights;
+
+        private Key(PublicCompany company, boolean addHQ, boolean running, int mapVersion, Phase phase,
+                String rights) {
+            this.company = company;
+            this.addHQ = addHQ;
+            this.running = running;
+            this.mapVersion = mapVersion;
+            this.phase = phase;
+            this.rights = rights;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Key)) return false;
+            Key key = (Key) other;
+            return company == key.company && addHQ == key.addHQ && running == key.running
+                    && mapVersion == key.mapVersion && phase == key.phase && Objects.equals(rights, key.rights);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(company, addHQ, running, mapVersion, phase, rights);
+        }
+
+        @Override
+        public String toString() {
+            return company.getId() + (addHQ ? "+HQ" : "") + (running ? " running" : "") + " version " + mapVersion;
+        }
+    }
+
+    /**
+     * Key of a revenue graph (and multigraph) derived from a route graph:
+     * The revenue graph depends on the protected vertices and the vertices left in the route graph
+     */
+    private static final class RevenueKey {
+        private final ImmutableSet<String> protectedVertices;
+        private final ImmutableSet<String> routeVertices;
+
+        private RevenueKey(Collection<NetworkVertex> protectedVertices, Graph<NetworkVertex, NetworkEdge> routeGraph) {
+            this.protectedVertices = identifiers(protectedVertices);
+            this.routeVertices = identifiers(routeGraph.vertexSet());
+        }
+
+        private static ImmutableSet<String> identifiers(Collection<NetworkVertex> vertices) {
+            ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+            for (NetworkVertex vertex : vertices) {
+                builder.add(vertex.getIdentifier());
+            }
+            return builder.build();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof RevenueKey)) return false;
+            RevenueKey key = (RevenueKey) other;
+            return protectedVertices.equals(key.protectedVertices) && routeVertices.equals(key.routeVertices);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(protectedVertices, routeVertices);
+        }
+    }
+
+    private static final class Entry {
+        private final NetworkGraph routeGraph;
+        private final Map<RevenueKey, NetworkGraph> revenueGraphs = Maps.newHashMap();
+        private final Map<RevenueKey, NetworkMultigraph> multiGraphs = Maps.newHashMap();
+
+        private Entry(NetworkGraph routeGraph) {
+            this.routeGraph = routeGraph;
+        }
+    }
+
+    /**
+     * Mapping between the vertices and edges of two graphs, the inverse mapping is updated accordingly.
+     * Objects without a mapping are copied.
+     */
+    static final class Mapping {
+        private final Map<NetworkVertex, NetworkVertex> vertices = Maps.newIdentityHashMap();
+        private final Map<NetworkEdge, NetworkEdge> edges = Maps.newIdentityHashMap();
+        private final Mapping inverse;
+
+        // vertices of the target graph added outside of the mapping (see NetworkVertex.duplicateVertex)
+        private Map<String, NetworkVertex> targetVertices;
+
+        private Mapping() {
+            inverse = new Mapping(this);
+        }
+
+        private Mapping(Mapping inverse) {
+            this.inverse = inverse;
+        }
+
+        /**
+         * @return a new mapping from the graphs of a NetworkAdapter to the snapshots of the cache
+         */
+        static Mapping create() {
+            return new Mapping();
+        }
+
+        Mapping inverse() {
+            return inverse;
+        }
+
+        /**
+         * defines the target graph to resolve vertices that were added to it without the mapping
+         */
+        void resolveBy(Graph<NetworkVertex, NetworkEdge> targetGraph) {
+            targetVertices = Maps.newHashMap();
+            for (NetworkVertex vertex : targetGraph.vertexSet()) {
+                if (!inverse.vertices.containsKey(vertex)) {
+                    targetVertices.put(vertex.getIdentifier(), vertex);
+                }
+            }
+        }
+
+        NetworkVertex getVertex(NetworkVertex source) {
+            NetworkVertex target = vertices.get(source);
+            if (target == null) {
+                if (targetVertices != null) {
+                    target = targetVertices.remove(source.getIdentifier());
+                }
+                if (target == null) {
+                    target = NetworkVertex.copyVertex(source);
+                }
+                vertices.put(source, target);
+                inverse.vertices.put(target, source);
+            }
+            return target;
+        }
+
+        NetworkEdge getEdge(NetworkEdge source) {
+            NetworkEdge target = edges.get(source);
+            if (target == null) {
+                List<NetworkVertex> hiddenVertices = new ArrayList<>();
+                for (NetworkVertex vertex : source.getHiddenVertices()) {
+                    hiddenVertices.add(getVertex(vertex));
+                }
+                target = NetworkEdge.copyEdge(source, getVertex(source.getSource()),
+                        getVertex(source.getTarget()), hiddenVertices);
+                edges.put(source, target);
+                inverse.edges.put(target, source);
+            } else {
+                // greedness of shared edges is changed by the optimization of the graph
+                target.setGreedy(source.isGreedy());
+            }
+            return target;
+        }
+    }
+
+    NetworkGraphCache(NetworkManager networkManager) {
+        this(networkManager, DEFAULT_SIZE);
+    }
+
+    NetworkGraphCache(NetworkManager networkManager, final int maxSize) {
+        this.networkManager = networkManager;
+        this.maxSize = maxSize;
+        // access ordered map for least recently used eviction
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > NetworkGraphCache.this.maxSize) {
+                    evictions++;
+                    log.debug("Evicted graphs of {}", eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the key for the current state of the game
+     */
+    Key createKey(PublicCompany company, boolean addHQ, boolean running) {
+        Phase phase = networkManager.getRoot().getPhaseManager().getCurrentPhase();
+        Observable rights = company.getRightsModel();
+        return new Key(company, addHQ, running, networkManager.getMapVersion(), phase,
+                rights == null ? null : rights.toText());
+    }
+
+    // removes all entries of previous map versions
+    private void invalidate(Key key) {
+        if (key.mapVersion == mapVersion) return;
+        for (Iterator<Key> keys = entries.keySet().iterator(); keys.hasNext(); ) {
+            if (keys.next().mapVersion != key.mapVersion) {
+                keys.remove();
+                invalidations++;
+            }
+        }
+        mapVersion = key.mapVersion;
+    }
+
+    private synchronized Entry getEntry(Key key) {
+        invalidate(key);
+        return entries.get(key);
+    }
+
+    private synchronized void count(boolean hit) {
+        if (hit) {
+            hits++;
+        } else {
+            misses++;
+        }
+    }
+
+    private synchronized void putEntry(Key key, Entry entry) {
+        invalidate(key);
+        if (key.mapVersion == mapVersion) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * @param mapping the mapping of the calling NetworkAdapter
+     * @param factory creates the route graph if it is not cached
+     * @return a route graph owned by the caller
+     */
+    NetworkGraph getRouteGraph(Key key, Mapping mapping, Supplier<NetworkGraph> factory) {
+        Entry entry = getEntry(key);
+        if (entry != null) {
+            count(true);
+            synchronized (entry) {
+                return entry.routeGraph.copyGraph(mapping.inverse());
+            }
+        }
+        count(false);
+        NetworkGraph routeGraph = factory.get();
+        putEntry(key, new Entry(routeGraph.copyGraph(mapping)));
+        log.debug("Cached route graph of {}", key);
+        return routeGraph;
+    }
+
+    /**
+     * @param routeGraph the route graph of the caller, created by getRouteGraph with the same key and mapping
+     * @return a revenue graph owned by the caller
+     */
+    NetworkGraph getRevenueGraph(Key key, Mapping mapping, NetworkGraph routeGraph,
+            Collection<NetworkVertex> protectedVertices) {
+        RevenueKey revenueKey = new RevenueKey(protectedVertices, routeGraph.getGraph());
+        Entry entry = getEntry(key);
+        if (entry != null) {
+            synchronized (entry) {
+                NetworkGraph revenueGraph = entry.revenueGraphs.get(revenueKey);
+                if (revenueGraph != null) {
+                    count(true);
+                    mapping.inverse().resolveBy(routeGraph.getGraph());
+                    return revenueGraph.copyGraph(mapping.inverse());
+                }
+            }
+        }
+        count(false);
+        NetworkGraph revenueGraph = NetworkGraph.createOptimizedGraph(routeGraph, protectedVertices);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.revenueGraphs.put(revenueKey, revenueGraph.copyGraph(mapping));
+            }
+        }
+        return revenueGraph;
+    }
+
+    /**
+     * @param revenueGraph the revenue graph of the caller, created by getRevenueGraph with the same key and mapping
+     * @return a multigraph owned by the caller
+     */
+    NetworkMultigraph getMultigraph(Key key, Mapping mapping, NetworkGraph routeGraph, NetworkGraph revenueGraph,
+            Collection<NetworkVertex> protectedVertices) {
+        RevenueKey revenueKey = new RevenueKey(protectedVertices, routeGraph.getGraph());
+        Entry entry = getEntry(key);
+        if (entry != null) {
+            synchronized (entry) {
+                NetworkMultigraph multiGraph = entry.multiGraphs.get(revenueKey);
+                if (multiGraph != null) {
+                    count(true);
+                    return multiGraph.copyGraph(revenueGraph, mapping.inverse());
+                }
+            }
+        }
+        count(false);
+        NetworkMultigraph multiGraph = NetworkMultigraph.create(revenueGraph, protectedVertices);
+        if (entry != null) {
+            synchronized (entry) {
+                NetworkGraph revenueSnapshot = entry.revenueGraphs.get(revenueKey);
+                if (revenueSnapshot != null) {
+                    entry.multiGraphs.put(revenueKey, multiGraph.copyGraph(revenueSnapshot, mapping));
+                }
+            }
+        }
+        return multiGraph;
+    }
+
+    public synchronized void clear() {
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    public synchronized String getStatistics() {
+        return "NetworkGraphCache: " + entries.size() + " entries, " + hits + " hits, " + misses + " misses, "
+                + evictions + " evictions, " + invalidations + " invalidations";
+    }
+
+    @Override
+    public String toString() {
+        return getStatistics();
+    }
+
+}
@@ -0,0 +1,223 @@
+package net.sf.rails.algorithms;
+
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.rails.game.HexSide;
+import net.sf.rails.game.MapHex;
+import net.sf.rails.game.RailsRoot;
+import net.sf.rails.game.Station;
+import net.sf.rails.game.Tile;
+import net.sf.rails.game.Track;
+import net.sf.rails.game.TrackPoint;
+import net.sf.rails.game.state.Change;
+import net.sf.rails.game.state.Observable;
+import net.sf.rails.game.state.Observer;
+import net.sf.rails.game.state.Triggerable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * NetworkManager keeps the track network of each hex of the map
+ * for the lifetime of the game.
+ * <p>
+ * The network of a hex is only rebuilt if its tile, rotation or stops have changed.
+ * Changes are tracked as trigger (during execution) and as observer
+ * (after close, undo and redo of the ChangeStack).
+ * Map graphs are derived from the stored hex networks, see {@link NetworkGraph#createMapGraph(RailsRoot)}.
+ * Route and revenue graphs are cached by the {@link NetworkGraphCache} for the current map version,
+ * revenue results by the {@link RevenueResultCache}.
+ */
+public final class NetworkManager implements Triggerable {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkManager.class);
+
+    private final RailsRoot root;
+
+    private final Map<MapHex, HexNetwork> hexNetworks = Maps.newHashMap();
+    private final Set<MapHex> dirtyHexes = Sets.newHashSet();
+
+    private final NetworkGraphCache graphCache;
+    private final RevenueResultCache revenueCache;
+
+    // increased for each change of the map network
+    private int mapVersion = 0;
+
+    /**
+     * The stations, track sides and tracks of a single hex,
+     * vertices and edges are templates that get copied into each map graph
+     */
+    static final class HexNetwork {
+        private final ImmutableList<NetworkVertex> vertices;
+        private final ImmutableList<NetworkEdge> tracks;
+
+        private HexNetwork(MapHex hex) {
+            Tile tile = hex.getCurrentTile();
+            Map<String, NetworkVertex> hexVertices = Maps.newLinkedHashMap();
+
+            // stations
+            for (Station station : tile.getStations()) {
+                NetworkVertex stationVertex = new NetworkVertex(hex, station);
+                hexVertices.put(stationVertex.getIdentifier(), stationVertex);
+                log.info("Added {}", stationVertex);
+            }
+
+            // get tracks per side to add that vertex
+            for (HexSide side : HexSide.all()) {
+                if (tile.hasTracks(side)) {
+                    HexSide rotated = side.rotate(hex.getCurrentTileRotation());
+                    NetworkVertex sideVertex = new NetworkVertex(hex, rotated);
+                    hexVertices.put(sideVertex.getIdentifier(), sideVertex);
+                    log.info("Added {}", sideVertex);
+                }
+            }
+
+            // tracks
+            ImmutableList.Builder<NetworkEdge> trackBuilder = ImmutableList.builder();
+            for (Track track : tile.getTracks()) {
+                NetworkVertex startVertex = hexVertices.get(hex.getId() + "." +
+                        rotated(hex, track.getStart()).getTrackPointNumber());
+                NetworkVertex endVertex = hexVertices.get(hex.getId() + "." +
+                        rotated(hex, track.getEnd()).getTrackPointNumber());
+                log.info("Track: {}", track);
+                if (startVertex == endVertex) {
+                    log.error("Track {} on hex {}has identical start/end", track, hex);
+                } else {
+                    trackBuilder.add(new NetworkEdge(startVertex, endVertex, false));
+                }
+            }
+
+            vertices = ImmutableList.copyOf(hexVertices.values());
+            tracks = trackBuilder.build();
+        }
+
+        private static TrackPoint rotated(MapHex hex, TrackPoint point) {
+            if (point.getTrackPointType() == TrackPoint.Type.SIDE) {
+                return point.rotate(hex.getCurrentTileRotation());
+            }
+            return point;
+        }
+
+        ImmutableList<NetworkVertex> getVertices() {
+            return vertices;
+        }
+
+        ImmutableList<NetworkEdge> getTracks() {
+            return tracks;
+        }
+    }
+
+    // informs the NetworkManager about changes of a hex after close, undo and redo
+    private class HexObserver implements Observer {
+        private final MapHex hex;
+
+        private HexObserver(MapHex hex) {
+            this.hex = hex;
+        }
+
+        @Override
+        public void update(String text) {
+            setDirty(hex);
+        }
+
+        @Override
+        public void changed(Supplier<String> text) {
+            // the text of the hex is not used
+            setDirty(hex);
+        }
+
+        @Override
+        public boolean isEngineObserver() {
+            return true;
+        }
+
+        @Override
+        public Observable getObservable() {
+            return hex;
+        }
+    }
+
+    private NetworkManager(RailsRoot root) {
+        this.root = root;
+        this.graphCache = new NetworkGraphCache(this);
+        this.revenueCache = new RevenueResultCache();
+    }
+
+    /**
+     * Creates the NetworkManager and registers it at all hexes of the map
+     * This has to be called during the configuration of the game.
+     */
+    public static NetworkManager create(RailsRoot root) {
+        NetworkManager networkManager = new NetworkManager(root);
+        for (MapHex hex : root.getMapManager().getHexes()) {
+            hex.addTrigger(networkManager);
+            hex.addObserver(networkManager.new HexObserver(hex));
+        }
+        return networkManager;
+    }
+
+    // Triggerable interface
+    @Override
+    public void triggered(Observable observable, Change change) {
+        if (observable instanceof MapHex) {
+            setDirty((MapHex) observable);
+        }
+    }
+
+    private synchronized void setDirty(MapHex hex) {
+        if (hexNetworks.containsKey(hex) && dirtyHexes.add(hex)) {
+            log.debug("Network of hex {} is invalid", hex.getId());
+        }
+        mapVersion++;
+    }
+
+    /**
+     * @return the network of the hex, rebuilt only if required
+     */
+    synchronized HexNetwork getHexNetwork(MapHex hex) {
+        HexNetwork hexNetwork = hexNetworks.get(hex);
+        if (hexNetwork == null || dirtyHexes.remove(hex)) {
+            hexNetwork = new HexNetwork(hex);
+            hexNetworks.put(hex, hexNetwork);
+            log.debug("Network of hex {} rebuilt", hex.getId());
+        }
+        return hexNetwork;
+    }
+
+    /**
+     * @return a version number of the map network that changes with each tile lay, undo or redo
+     */
+    public synchronized int getMapVersion() {
+        return mapVersion;
+    }
+
+    /**
+     * @return the cache of the company related graphs, shared by all NetworkAdapters
+     */
+    public NetworkGraphCache getGraphCache() {
+        return graphCache;
+    }
+
+    /**
+     * @return the cache of the revenue results, shared by all RevenueAdapters
+     */
+    public RevenueResultCache getRevenueCache() {
+        return revenueCache;
+    }
+
+    public RailsRoot getRoot() {
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return "NetworkManager: " + hexNetworks.size() + " hexes, " + dirtyHexes.size() + " dirty, version " + mapVersion;
+    }
+
+}
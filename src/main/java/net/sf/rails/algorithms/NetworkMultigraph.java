@@ -46,6 +46,29 @@ public class NetworkMultigraph {
         return newGraph;
     }
 
+    /**
+     * @param inGraphCopy copy of the inGraph, created with the same mapping
+     * @param mapping provides the vertices and edges of the new multigraph
+     * @return a copy of the multigraph that does not share vertices or edges with this graph
+     */
+    NetworkMultigraph copyGraph(NetworkGraph inGraphCopy, NetworkGraphCache.Mapping mapping) {
+        NetworkMultigraph newGraph = new NetworkMultigraph(inGraphCopy);
+        for (NetworkVertex vertex : graph2.vertexSet()) {
+            newGraph.graph2.addVertex(mapping.getVertex(vertex));
+        }
+        for (NetworkEdge edge : graph2.edgeSet()) {
+            NetworkEdge newEdge = mapping.getEdge(edge);
+            newGraph.graph2.addEdge(newEdge.getSource(), newEdge.getTarget(), newEdge);
+        }
+        for (Map.Entry<NetworkEdge, NetworkEdge> entry : partial2route.entries()) {
+            newGraph.partial2route.put(mapping.getEdge(entry.getKey()), mapping.getEdge(entry.getValue()));
+        }
+        for (Map.Entry<NetworkEdge, NetworkEdge> entry : route2partial.entries()) {
+            newGraph.route2partial.put(mapping.getEdge(entry.getKey()), mapping.getEdge(entry.getValue()));
+        }
+        return newGraph;
+    }
+
     public Multigraph<NetworkVertex, NetworkEdge> getGraph() {
         return graph2;
     }
@@ -92,6 +92,27 @@ public final class NetworkVertex implements Comparable<NetworkVertex> {
         this.virtualId = name;
     }
 
+    /** copy constructor, used to copy the vertex templates of the NetworkManager */
+    private NetworkVertex(NetworkVertex vertex) {
+        this.type = vertex.type;
+        this.virtual = vertex.virtual;
+        this.virtualId = vertex.virtualId;
+        this.stationType = vertex.stationType;
+        this.value = vertex.value;
+        this.sink = vertex.sink;
+        this.stopName = vertex.stopName;
+        this.mutexId = vertex.mutexId;
+        this.hex = vertex.hex;
+        this.trackPoint = vertex.trackPoint;
+        this.stop = vertex.stop;
+    }
+
+    /** factory method for a copy of a vertex with identical properties (but without links)
+     */
+    static NetworkVertex copyVertex(NetworkVertex vertex) {
+        return new NetworkVertex(vertex);
+    }
+
     /** factory method for virtual vertex
      */
     public static NetworkVertex getVirtualVertex(VertexType type, String name) {
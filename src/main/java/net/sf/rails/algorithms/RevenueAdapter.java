@@ -2,6 +2,7 @@ package net.sf.rails.algorithms;
 
 import java.awt.EventQueue;
 import java.awt.geom.GeneralPath;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -26,6 +27,10 @@ import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
 import org.jgrapht.graph.SimpleGraph;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
 
 /**
  * RevenueAdapter links the revenue algorithm to Rails.
@@ -56,6 +61,21 @@ public final class RevenueAdapter implements Runnable {
         }
     }
 
+    // define the result of a revenue calculation that might not be finished
+    public static class BestRun {
+        public final int value;
+        public final List<RevenueTrainRun> runs;
+        public final boolean optimal;
+        public BestRun(int value, List<RevenueTrainRun> runs, boolean optimal) {
+            this.value = value;
+            this.runs = runs;
+            this.optimal = optimal;
+        }
+        public String toString() {
+            return "BestRun value = " + value + ", optimal = " + optimal;
+        }
+    }
+
     // basic links, to be defined at creation
     private final RailsRoot root;
     private final RevenueManager revenueManager;
@@ -75,11 +95,21 @@ public final class RevenueAdapter implements Runnable {
     // components related to the revenue calculator
     private RevenueCalculator rc;
     private boolean useMultiGraph;
+    private boolean useParallelSearch;
     private Graph<NetworkVertex,NetworkEdge> rcGraph;
     private List<NetworkVertex> rcVertices;
     private List<NetworkEdge> rcEdges;
     private List<RevenueTrainRun> optimalRun;
     private boolean hasDynamicModifiers;
+    // view on the current run for the dynamic modifiers
+    private RevenueCalculatorRunView currentRunView;
+
+    // cancellation and budget of the revenue calculation
+    private volatile boolean cancelled;
+    private volatile boolean calculationFinished;
+    private volatile RevenueCalculatorParallel rcParallel;
+    private long timeBudget;
+    private int maxEvaluations;
 
     // revenue listener to communicate results
     private RevenueListener revenueListener;
@@ -296,8 +326,17 @@ public final class RevenueAdapter implements Runnable {
     }
 
     public void initRevenueCalculator(boolean useMultiGraph){
+        initRevenueCalculator(useMultiGraph, false);
+    }
+
+    /**
+     * @param useMultiGraph true => multigraph, false => simplegraph
+     * @param useParallelSearch true => fork-join search on all available cores
+     */
+    public void initRevenueCalculator(boolean useMultiGraph, boolean useParallelSearch){
 
         this.useMultiGraph = useMultiGraph;
+        this.useParallelSearch = useParallelSearch;
 
         // check for dynamic modifiers (including an own calculator
         if (revenueManager != null) {
@@ -345,6 +384,7 @@ public final class RevenueAdapter implements Runnable {
             rc = new RevenueCalculatorSimple(this, rcVertices.size(), rcEdges.size(),
                     maxNeighbors, maxVisitVertices, trains.size(), maxBonusVertices);
         }
+        currentRunView = new RevenueCalculatorRunView(this, rc, trains, rcVertices, rcEdges, useMultiGraph);
 
         populateRevenueCalculator();
     }
@@ -614,17 +654,129 @@ public final class RevenueAdapter implements Runnable {
         }
         // the optimal run might change
         optimalRun = null;
+        calculationFinished = false;
+        rc.setBudget(timeBudget, maxEvaluations);
+        if (cancelled) rc.cancel();
         rc.initRuns(startTrain, finalTrain);
+
+        // check for the result of an identical calculation
+        RevenueResultCache revenueCache = root.getNetworkManager().getRevenueCache();
+        HashCode fingerprint = createFingerprint(startTrain, finalTrain);
+        RevenueResultCache.Result result = revenueCache.get(fingerprint);
+        if (result != null) {
+            rc.restoreBestRun(result.getValue(), result.getCalculatorSpecialRevenue(), result.getRun());
+            specialRevenue = result.getSpecialRevenue();
+            calculationFinished = true;
+            log.info("RA: Revenue result {} taken from {}", result.getValue(), revenueCache);
+            rc.notifyRevenueAdapter(result.getValue(), result.getCalculatorSpecialRevenue(), true);
+            return result.getValue();
+        }
+
         rc.executePredictions(startTrain, finalTrain);
-        int value = rc.calculateRevenue(startTrain, finalTrain);
+        int value;
+        if (useParallelSearch) {
+            rcParallel = new RevenueCalculatorParallel(rc);
+            value = rcParallel.calculateRevenue(startTrain, finalTrain);
+            rcParallel = null;
+        } else {
+            value = rc.calculateRevenue(startTrain, finalTrain);
+        }
+        calculationFinished = true;
+
+        // only optimal results are stored
+        if (!rc.isAborted()) {
+            revenueCache.put(fingerprint, new RevenueResultCache.Result(value, specialRevenue,
+                    rc.specialRevenue, rc.getOptimalRun()));
+        }
 
         return value;
     }
 
+    /**
+     * @return a fingerprint of all input data of the revenue calculation
+     */
+    private HashCode createFingerprint(int startTrain, int finalTrain) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(company.getId(), StandardCharsets.UTF_8);
+        hasher.putString(String.valueOf(phase), StandardCharsets.UTF_8);
+        hasher.putInt(startTrain).putInt(finalTrain).putBoolean(useMultiGraph);
+
+        // vertices and edges are required to convert the runs
+        for (NetworkVertex vertex : rcVertices) {
+            hasher.putString(vertex.getIdentifier(), StandardCharsets.UTF_8);
+        }
+        for (NetworkEdge edge : rcEdges) {
+            for (NetworkVertex vertex : edge.getVertexPath()) {
+                hasher.putString(vertex.getIdentifier(), StandardCharsets.UTF_8);
+            }
+            hasher.putChar(';');
+        }
+        for (NetworkTrain train : trains) {
+            hasher.putString(train.toString(), StandardCharsets.UTF_8);
+        }
+
+        // dynamic modifiers are only known by their identity
+        if (hasDynamicModifiers) {
+            for (RevenueDynamicModifier modifier : revenueManager.getActiveDynamicModifiers()) {
+                hasher.putString(modifier.getClass().getName(), StandardCharsets.UTF_8);
+                hasher.putInt(System.identityHashCode(modifier));
+            }
+        }
+
+        // all static data of the revenue calculator
+        rc.fingerprint(hasher);
+        return hasher.hash();
+    }
+
     public int getSpecialRevenue() {
         return specialRevenue;
     }
 
+    /**
+     * Limits the revenue calculation, the best run found is kept if the limit is reached
+     * @param timeBudget maximum time in milliseconds, 0 => unlimited
+     * @param maxEvaluations maximum number of evaluations, 0 => unlimited
+     */
+    public void setBudget(long timeBudget, int maxEvaluations) {
+        this.timeBudget = timeBudget;
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    /**
+     * Stops a running revenue calculation (can be called from any thread)
+     */
+    public void cancel() {
+        cancelled = true;
+        if (rc != null) rc.cancel();
+    }
+
+    /**
+     * @return true if the last revenue calculation has finished without being cancelled or exceeding the budget
+     */
+    public boolean isOptimal() {
+        return calculationFinished && !rc.isAborted();
+    }
+
+    /**
+     * Anytime access to the revenue calculation, can be called from any thread during the calculation
+     * @return the best run found so far, with optimal set to true if it is proven to be the optimal run
+     */
+    public BestRun getBestRunSoFar() {
+        if (rc == null) {
+            return new BestRun(0, Collections.<RevenueTrainRun>emptyList(), false);
+        }
+        boolean optimal = isOptimal();
+        int[][] run = new int[trains.size()][rcVertices.size() + 1];
+        RevenueCalculatorParallel parallel = rcParallel;
+        int value;
+        if (parallel != null) {
+            value = parallel.copyBestRun(run);
+        } else {
+            value = rc.copyBestRun(run);
+        }
+        return new BestRun(value, convertRcRun(run), optimal);
+    }
+
     public List<RevenueTrainRun> getOptimalRun() {
         if (optimalRun == null) {
             optimalRun = convertRcRun(rc.getOptimalRun());
@@ -635,6 +787,22 @@ public final class RevenueAdapter implements Runnable {
         return optimalRun;
     }
 
+    public String getStatistics() {
+        return rc.getStatistics();
+    }
+
+    int getNumberOfEvaluations() {
+        return rc.getNumberOfEvaluations();
+    }
+
+    int getNumberOfPredictions() {
+        return rc.getNumberOfPredictions();
+    }
+
+    int getNumberOfPrunings() {
+        return rc.getNumberOfPrunings();
+    }
+
     public List<RevenueTrainRun> getCurrentRun() {
         return convertRcRun(rc.getCurrentRun());
     }
@@ -645,7 +813,8 @@ public final class RevenueAdapter implements Runnable {
     int dynamicEvaluation() {
         int value = 0;
         if (hasDynamicModifiers) {
-            value = revenueManager.evaluationValue(this.getCurrentRun(), false);
+            currentRunView.invalidate();
+            value = revenueManager.evaluationValue(currentRunView, this);
             specialRevenue = revenueManager.getSpecialRevenue();
         }
         return value;
@@ -657,7 +826,8 @@ public final class RevenueAdapter implements Runnable {
     int dynamicPrediction() {
         int value = 0;
         if (hasDynamicModifiers) {
-            value = revenueManager.predictionValue(this.getCurrentRun());
+            currentRunView.invalidate();
+            value = revenueManager.predictionValue(currentRunView, this);
         }
         return value;
     }
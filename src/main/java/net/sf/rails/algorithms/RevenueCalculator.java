@@ -1,10 +1,14 @@
 package net.sf.rails.algorithms;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.hash.Hasher;
+
 abstract class RevenueCalculator {
 
     protected final int nbVertexes;
@@ -74,6 +78,20 @@ abstract class RevenueCalculator {
     protected int currentBestValue;
     protected final int [][] currentBestRun;
 
+    // parallel search settings (see RevenueCalculatorParallel)
+    protected AtomicInteger sharedBestValue; // null => sequential search
+    protected int splitStartVertex = -1; // index of the start vertex of the first train, -1 => no split
+    protected int splitStartEdge = -1; // index of the first edge of that start vertex
+
+    // cancellation and budget settings
+    protected final AtomicBoolean cancelled; // shared with the workers of a parallel search
+    protected long timeBudget; // in milliseconds, 0 => unlimited
+    protected int maxEvaluations; // 0 => unlimited
+    protected long deadline; // System.nanoTime() value, defined by initRuns
+    protected boolean aborted; // true => search stopped before completion
+    private int abortCheckCounter;
+    private volatile boolean predicting; // true => best run is no run of all trains
+
     // prediction data
     protected int[] maxCumulatedTrainRevenues;
     protected int[][] maxMajorRevenues; // dimensions trainId x nb vertex;
@@ -86,6 +104,7 @@ abstract class RevenueCalculator {
     protected int nbEdgesTravelled;
     protected int nbEvaluations;
     protected int nbPredictions;
+    protected int nbPrunings; // predictions that terminated the run
 
     // revenue Adapter
     protected RevenueAdapter revenueAdapter;
@@ -160,8 +179,93 @@ abstract class RevenueCalculator {
         useRevenuePrediction = false;
 
         callDynamicModifiers = false;
+
+        cancelled = new AtomicBoolean(false);
+    }
+
+    /**
+     * Creates a worker copy for the parallel search:
+     * static data is shared with the prototype, dynamic data is allocated new
+     */
+    protected RevenueCalculator(RevenueCalculator prototype) {
+        this.revenueAdapter = prototype.revenueAdapter;
+        this.nbVertexes = prototype.nbVertexes;
+        this.nbEdges = prototype.nbEdges;
+        this.nbTrains = prototype.nbTrains;
+        this.nbBonuses = prototype.nbBonuses;
+
+        // static data
+        vertexValueByTrain = prototype.vertexValueByTrain;
+        vertexMajor = prototype.vertexMajor;
+        vertexMinor = prototype.vertexMinor;
+        vertexSink = prototype.vertexSink;
+        vertexNbNeighbors = prototype.vertexNbNeighbors;
+        vertexNbVisitSets = prototype.vertexNbVisitSets;
+        vertexNbBonusSets = prototype.vertexNbBonusSets;
+        vertexNeighbors = prototype.vertexNeighbors;
+        vertexEdges = prototype.vertexEdges;
+        vertexVisitSets = prototype.vertexVisitSets;
+        vertexBonusSets = prototype.vertexBonusSets;
+        startVertexes = prototype.startVertexes;
+
+        edgeGreedy = prototype.edgeGreedy;
+        edgeDistance = prototype.edgeDistance;
+
+        trainMaxMajors = prototype.trainMaxMajors;
+        trainMaxMinors = prototype.trainMaxMinors;
+        trainMaxBonuses = prototype.trainMaxBonuses;
+        trainIgnoreMinors = prototype.trainIgnoreMinors;
+        trainIsH = prototype.trainIsH;
+        trainIsE = prototype.trainIsE;
+
+        bonusValue = prototype.bonusValue;
+        bonusRequiresVertices = prototype.bonusRequiresVertices;
+        bonusActiveForTrain = prototype.bonusActiveForTrain;
+
+        // dynamic data
+        trainCurrentValue = new int[nbTrains];
+        trainMajors = new int[nbTrains];
+        trainMinors = new int[nbTrains];
+        trainBonuses = new int[nbTrains];
+        trainVisited = new boolean[nbTrains][nbVertexes];
+        trainStack = new int[nbTrains][nbVertexes + 1];
+        trainStackPos = new int[nbTrains];
+        trainBottomActive = new boolean[nbTrains];
+        trainStartEdge = new int[nbTrains];
+        trainDistance = new int[nbTrains];
+        bonusTrainVertices = new int[nbBonuses][nbTrains];
+
+        // run settings
+        startTrainSet = prototype.startTrainSet;
+        finalTrainSet = prototype.finalTrainSet;
+
+        // prediction data (read-only during the search)
+        useRevenuePrediction = prototype.useRevenuePrediction;
+        maxCumulatedTrainRevenues = prototype.maxCumulatedTrainRevenues;
+        maxMajorRevenues = prototype.maxMajorRevenues;
+        maxMinorRevenues = prototype.maxMinorRevenues;
+        maxBonusRevenues = prototype.maxBonusRevenues;
+
+        // start from the best run of the prototype
+        currentBestValue = prototype.currentBestValue;
+        currentBestRun = new int[nbTrains][];
+        for (int j = 0; j < nbTrains; j++) {
+            currentBestRun[j] = prototype.currentBestRun[j].clone();
+        }
+
+        callDynamicModifiers = prototype.callDynamicModifiers;
+
+        cancelled = prototype.cancelled;
+        timeBudget = prototype.timeBudget;
+        maxEvaluations = prototype.maxEvaluations;
+        deadline = prototype.deadline;
     }
 
+    /**
+     * @return a worker copy of the same calculator type, see {@link #RevenueCalculator(RevenueCalculator)}
+     */
+    protected abstract RevenueCalculator createWorker();
+
     final void setVertex(int id, boolean major, boolean minor, boolean sink) {
         vertexMajor[id] = major;
         vertexMinor[id] = minor;
@@ -238,6 +342,52 @@ abstract class RevenueCalculator {
         return currentBestRun;
     }
 
+    /**
+     * copies the current best run into the given array, can be called during the search from other threads
+     * @return the current best value
+     */
+    final int copyBestRun(int[][] run) {
+        synchronized (currentBestRun) {
+            for (int j = 0; j < nbTrains; j++) {
+                if (predicting) {
+                    run[j][0] = -1;
+                } else {
+                    System.arraycopy(currentBestRun[j], 0, run[j], 0, nbVertexes + 1);
+                }
+            }
+            return predicting ? 0 : currentBestValue;
+        }
+    }
+
+    final void setBudget(long timeBudget, int maxEvaluations) {
+        this.timeBudget = timeBudget;
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    final void cancel() {
+        cancelled.set(true);
+    }
+
+    /**
+     * @return true if the last search was stopped by cancellation, interruption or budget
+     */
+    final boolean isAborted() {
+        return aborted;
+    }
+
+    // checks for cancellation, interruption and budgets, the expensive checks only every 1024 calls
+    protected final boolean checkAborted() {
+        if (aborted) return true;
+        if ((++abortCheckCounter & 0x3FF) != 0) return false;
+        if (cancelled.get() || Thread.currentThread().isInterrupted()
+                || maxEvaluations > 0 && nbEvaluations >= maxEvaluations
+                || timeBudget > 0 && System.nanoTime() - deadline > 0) {
+            log.debug("RC: Search aborted after {}", getStatistics());
+            aborted = true;
+        }
+        return aborted;
+    }
+
     final int[][] getCurrentRun() {
         int[][] currentRun = new int[nbTrains][nbVertexes+1];
         for (int j = startTrainSet; j <= finalTrainSet; j++) {
@@ -257,16 +407,25 @@ abstract class RevenueCalculator {
         return nbEvaluations;
     }
 
+    final int getNumberOfPredictions() {
+        return nbPredictions;
+    }
+
+    final int getNumberOfPrunings() {
+        return nbPrunings;
+    }
+
     final String getStatistics() {
         StringBuilder statistics = new StringBuilder();
         statistics.append(nbEvaluations).append(" evaluations");
         if (useRevenuePrediction)
-            statistics.append(", ").append(nbPredictions).append(" predictions");
+            statistics.append(", ").append(nbPredictions).append(" predictions (")
+                    .append(nbPrunings).append(" pruned)");
         statistics.append(" and ").append(nbEdgesTravelled).append(" edges travelled.");
         return statistics.toString();
     }
 
-    private void notifyRevenueAdapter(final int revenue, final int specialRevenue, final boolean finalResult) {
+    final void notifyRevenueAdapter(final int revenue, final int specialRevenue, final boolean finalResult) {
         String modifier;
         if (finalResult)
             modifier = "final";
@@ -331,6 +490,79 @@ abstract class RevenueCalculator {
         log.debug("maxCumulatedTrainRevenues = {}", Arrays.toString(maxCumulatedTrainRevenues));
     }
 
+    /**
+     * restores the optimal run of a previous calculation with identical fingerprint
+     */
+    final void restoreBestRun(final int value, final int specialRevenue, final int[][] run) {
+        synchronized (currentBestRun) {
+            currentBestValue = value;
+            this.specialRevenue = specialRevenue;
+            for (int j = startTrainSet; j <= finalTrainSet; j++) {
+                System.arraycopy(run[j], 0, currentBestRun[j], 0, nbVertexes + 1);
+            }
+        }
+        aborted = false;
+    }
+
+    /**
+     * adds all static data of the calculator to the fingerprint of a calculation
+     */
+    void fingerprint(Hasher hasher) {
+        hasher.putInt(nbVertexes).putInt(nbEdges).putInt(nbTrains).putInt(nbBonuses);
+        hasher.putBoolean(callDynamicModifiers);
+        putArray(hasher, vertexValueByTrain);
+        putArray(hasher, vertexMajor);
+        putArray(hasher, vertexMinor);
+        putArray(hasher, vertexSink);
+        putArray(hasher, vertexNbNeighbors);
+        putArray(hasher, vertexNbVisitSets);
+        putArray(hasher, vertexNbBonusSets);
+        putArray(hasher, vertexNeighbors);
+        putArray(hasher, vertexEdges);
+        putArray(hasher, vertexVisitSets);
+        putArray(hasher, vertexBonusSets);
+        putArray(hasher, startVertexes);
+        putArray(hasher, edgeGreedy);
+        putArray(hasher, edgeDistance);
+        putArray(hasher, trainMaxMajors);
+        putArray(hasher, trainMaxMinors);
+        putArray(hasher, trainMaxBonuses);
+        putArray(hasher, trainIgnoreMinors);
+        putArray(hasher, trainIsH);
+        putArray(hasher, trainIsE);
+        putArray(hasher, bonusValue);
+        putArray(hasher, bonusActiveForTrain);
+        putArray(hasher, bonusRequiresVertices);
+    }
+
+    protected static void putArray(Hasher hasher, int[] array) {
+        hasher.putInt(array.length);
+        for (int value : array) {
+            hasher.putInt(value);
+        }
+    }
+
+    protected static void putArray(Hasher hasher, boolean[] array) {
+        hasher.putInt(array.length);
+        for (boolean value : array) {
+            hasher.putBoolean(value);
+        }
+    }
+
+    protected static void putArray(Hasher hasher, int[][] array) {
+        hasher.putInt(array.length);
+        for (int[] values : array) {
+            putArray(hasher, values);
+        }
+    }
+
+    protected static void putArray(Hasher hasher, boolean[][] array) {
+        hasher.putInt(array.length);
+        for (boolean[] values : array) {
+            putArray(hasher, values);
+        }
+    }
+
     final void initRuns(final int startTrain, final int finalTrain) {
         log.debug("RC: init runs from {} to {}", startTrain, finalTrain);
         if (startTrain > finalTrain) return;
@@ -344,6 +576,10 @@ abstract class RevenueCalculator {
         }
         currentBestValue = 0;
 
+        // start the budget
+        aborted = false;
+        deadline = System.nanoTime() + timeBudget * 1000000L;
+
     }
     final void executePredictions(final int startTrain, final int finalTrain) {
 
@@ -358,7 +594,8 @@ abstract class RevenueCalculator {
         }
 
         // start prediction runs
-        nbEvaluations = 0; nbPredictions = 0; nbEdgesTravelled = 0;
+        nbEvaluations = 0; nbPredictions = 0; nbPrunings = 0; nbEdgesTravelled = 0;
+        predicting = true;
 
         log.info("RC: start individual prediction Runs");
         int[] maxSingleTrainRevenues = new int[nbTrains];
@@ -377,7 +614,10 @@ abstract class RevenueCalculator {
         }
         log.debug("maxCumulatedTrainRevenues = {}", Arrays.toString(maxCumulatedTrainRevenues));
 
-        if (startTrain == finalTrain - 1) return;
+        if (startTrain == finalTrain - 1) {
+            finishPredictions(startTrain, finalTrain);
+            return;
+        }
 
         log.info("RC: start combined prediction runs");
         this.finalTrain = finalTrain;
@@ -390,6 +630,21 @@ abstract class RevenueCalculator {
             maxCumulatedTrainRevenues[j-1] = currentBestValue  + maxSingleTrainRevenues[j-1];
             log.debug("maxCumulatedTrainRevenues = {}", Arrays.toString(maxCumulatedTrainRevenues));
         }
+        finishPredictions(startTrain, finalTrain);
+    }
+
+    private void finishPredictions(final int startTrain, final int finalTrain) {
+        if (aborted) {
+            // incomplete predictions are no upper bounds, and the runs found are no runs of all trains
+            log.info("RC: Predictions aborted, no run available");
+            synchronized (currentBestRun) {
+                for (int j = startTrain; j <= finalTrain; j++) {
+                    currentBestRun[j][0] = -1;
+                }
+                currentBestValue = 0;
+            }
+        }
+        predicting = false;
     }
 
     final int calculateRevenue(final int startTrain, final int finalTrain) {
@@ -408,6 +663,32 @@ abstract class RevenueCalculator {
 
     protected abstract void runTrain(final int trainId);
 
+    // checks if the start vertex with the given index is skipped due to the parallel split of the first train
+    protected final boolean skipStartVertex(final int trainId, final int index) {
+        if (splitStartVertex == -1 || trainId != startTrain) return false;
+        if (index < splitStartVertex) {
+            // handled by another worker, but keep it on the visited vertex list to avoid route duplication
+            trainVisited[trainId][startVertexes[index]] = true;
+        }
+        return index != splitStartVertex;
+    }
+
+    // checks if the edge of the start vertex with the given index is skipped due to the parallel split
+    protected final boolean skipStartEdge(final int trainId, final int index) {
+        return splitStartVertex != -1 && trainId == startTrain && index != splitStartEdge;
+    }
+
+    // checks if the empty run of the train is skipped due to the parallel split
+    protected final boolean skipEmptyRun(final int trainId) {
+        return splitStartVertex != -1 && trainId == startTrain && splitStartVertex != startVertexes.length;
+    }
+
+    // best value of all workers in the parallel search
+    private int bestValue() {
+        if (sharedBestValue == null) return currentBestValue;
+        return Math.max(currentBestValue, sharedBestValue.get());
+    }
+
     protected abstract void runBottom(final int trainId);
 
 
@@ -505,6 +786,7 @@ abstract class RevenueCalculator {
 
     protected final void finalizeVertex(final int trainId, final int vertexId) {
         log.debug("RC: Finalize Vertex id {} for train {}", vertexId, trainId);
+        if (aborted) return;
 
         if (trainId == finalTrain) {
             evaluateResults();
@@ -537,16 +819,19 @@ abstract class RevenueCalculator {
         log.debug("RC: current total value {}", totalValue);
 
         // compare to current best result
-        if (totalValue > currentBestValue) {
-            currentBestValue = totalValue;
-            // exceed thus deep copy of vertex stack
-            for (int j = startTrainSet; j <= finalTrainSet; j++) {
-                for (int v = 0; v < nbVertexes + 1; v++) {
-                    if (v < trainStackPos[j]) {
-                        currentBestRun[j][v] = trainStack[j][v];
-                    } else {
-                        currentBestRun[j][v] = -1; // terminator
-                        break;
+        if (totalValue > bestValue()) {
+            if (sharedBestValue != null) sharedBestValue.accumulateAndGet(totalValue, Math::max);
+            // exceed thus deep copy of vertex stack, synchronized for copyBestRun
+            synchronized (currentBestRun) {
+                currentBestValue = totalValue;
+                for (int j = startTrainSet; j <= finalTrainSet; j++) {
+                    for (int v = 0; v < nbVertexes + 1; v++) {
+                        if (v < trainStackPos[j]) {
+                            currentBestRun[j][v] = trainStack[j][v];
+                        } else {
+                            currentBestRun[j][v] = -1; // terminator
+                            break;
+                        }
                     }
                 }
             }
@@ -607,8 +892,11 @@ abstract class RevenueCalculator {
 
         nbPredictions++;
 
-        boolean terminate = (totalValue <= currentBestValue);
-        if (terminate) log.debug("Run terminated due to predicted value of {}", totalValue);
+        boolean terminate = (totalValue <= bestValue());
+        if (terminate) {
+            nbPrunings++;
+            log.debug("Run terminated due to predicted value of {}", totalValue);
+        }
 
         return terminate;
     }
@@ -3,6 +3,8 @@ package net.sf.rails.algorithms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.hash.Hasher;
+
 import net.sf.rails.game.specific._1856.OperatingRound_1856;
 
 class RevenueCalculatorMulti extends RevenueCalculator {
@@ -36,6 +38,21 @@ class RevenueCalculatorMulti extends RevenueCalculator {
 
     }
 
+    protected RevenueCalculatorMulti(RevenueCalculatorMulti prototype) {
+        super(prototype);
+
+        edgeNbTravelSets = prototype.edgeNbTravelSets;
+        edgeTravelSets = prototype.edgeTravelSets;
+
+        edgeUsed = new int[nbEdges];
+        startVertexActive = new int[nbTrains];
+    }
+
+    @Override
+    protected RevenueCalculator createWorker() {
+        return new RevenueCalculatorMulti(this);
+    }
+
     @Override
     final void setEdge(int edgeId, boolean greedy, int distance) {
         super.setEdge(edgeId, greedy, distance);
@@ -43,6 +60,13 @@ class RevenueCalculatorMulti extends RevenueCalculator {
         edgeNbTravelSets[edgeId] = 0;
     }
 
+    @Override
+    void fingerprint(Hasher hasher) {
+        super.fingerprint(hasher);
+        putArray(hasher, edgeNbTravelSets);
+        putArray(hasher, edgeTravelSets);
+    }
+
     // define edgeTravelSets
     final void setTravelSet(int edgeId, int[] edges) {
         for (int j=0; j < edges.length; j++) {
@@ -77,6 +101,7 @@ class RevenueCalculatorMulti extends RevenueCalculator {
 
         // try all startVertexes
         for (int i=0; i < startVertexes.length; i++) {
+            if (skipStartVertex(trainId, i)) continue;
             int vertexId = startVertexes[i];
             log.debug("RCM: Using startVertex nr. {} for train {}", i, trainId);
             boolean stationVertex = encounterVertex(trainId, vertexId, true);
@@ -96,6 +121,7 @@ class RevenueCalculatorMulti extends RevenueCalculator {
             startVertexActive[trainId] = vertexId;
             // for startVertices the sink property is ignored
             for (int j = 0; j < vertexNbNeighbors[vertexId]; j++) {
+                if (skipStartEdge(trainId, j)) continue;
                 int edgeId = vertexEdges[vertexId][j];
                 if (edgeUsed[edgeId] != 0) continue;
                 log.debug("RCM: Testing Neighbor Nr. {} of startVertex", j);
@@ -125,7 +151,9 @@ class RevenueCalculatorMulti extends RevenueCalculator {
         }
 
         // allow that the train does not run at all
-        finalizeVertex(trainId, -1);
+        if (!skipEmptyRun(trainId)) {
+            finalizeVertex(trainId, -1);
+        }
 
         log.debug("RCM: finishTrain {}", trainId);
 
@@ -171,6 +199,9 @@ class RevenueCalculatorMulti extends RevenueCalculator {
 
     private void nextVertex(final int trainId, final int vertexId) {
 
+        // 0. stop immediately if the search is aborted
+        if (checkAborted()) return;
+
         // 1. encounterVertex adds value and returns true if value vertex
         Terminated trainTerminated = Terminated.NOT_YET;
         boolean stationVertex = encounterVertex(trainId, vertexId, true);
@@ -15,6 +15,15 @@ class RevenueCalculatorMultiHex extends RevenueCalculatorMulti {
 
     }
 
+    private RevenueCalculatorMultiHex(RevenueCalculatorMultiHex prototype) {
+        super(prototype);
+    }
+
+    @Override
+    protected RevenueCalculator createWorker() {
+        return new RevenueCalculatorMultiHex(this);
+    }
+
     @Override
     protected void runTrain(int trainId) {
         // init train distance
@@ -0,0 +1,200 @@
+package net.sf.rails.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parallel search mode of a revenue calculator
+ *
+ * The choices of start vertex and first edge of the first train are split into
+ * fork-join subtasks. Each subtask runs on a worker copy of the prototype calculator
+ * with its own dynamic train data, the best value is shared between the workers
+ * to keep the revenue prediction pruning effective.
+ *
+ * Calculators with dynamic modifiers use the sequential search, as the modifiers
+ * evaluate the current run of the prototype calculator.
+ */
+final class RevenueCalculatorParallel {
+
+    private static final Logger log = LoggerFactory.getLogger(RevenueCalculatorParallel.class);
+
+    private final RevenueCalculator prototype;
+    private final ForkJoinPool pool;
+
+    private volatile List<SearchTask> tasks;
+
+    // statistic data
+    private int nbTasks;
+    private long wallTime;
+    private final AtomicLong taskTime = new AtomicLong();
+
+    RevenueCalculatorParallel(RevenueCalculator prototype) {
+        this(prototype, ForkJoinPool.commonPool());
+    }
+
+    RevenueCalculatorParallel(RevenueCalculator prototype, ForkJoinPool pool) {
+        this.prototype = prototype;
+        this.pool = pool;
+    }
+
+    private class SearchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int startVertex;
+        private final int startEdge;
+        private volatile RevenueCalculator worker;
+
+        private SearchTask(int startVertex, int startEdge) {
+            this.startVertex = startVertex;
+            this.startEdge = startEdge;
+        }
+
+        @Override
+        protected void compute() {
+            long start = System.nanoTime();
+            worker = prototype.createWorker();
+            worker.sharedBestValue = prototype.sharedBestValue;
+            worker.splitStartVertex = startVertex;
+            worker.splitStartEdge = startEdge;
+            worker.startTrain = prototype.startTrain;
+            worker.finalTrain = prototype.finalTrain;
+            worker.runTrain(prototype.startTrain);
+            taskTime.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private List<SearchTask> createTasks() {
+        List<SearchTask> tasks = new ArrayList<>();
+        int[] startVertexes = prototype.startVertexes;
+        for (int i = 0; i < startVertexes.length; i++) {
+            int nbNeighbors = prototype.vertexNbNeighbors[startVertexes[i]];
+            // a start vertex without edges still requires one task
+            for (int j = 0; j < Math.max(nbNeighbors, 1); j++) {
+                tasks.add(new SearchTask(i, j));
+            }
+        }
+        // the empty run of the first train
+        tasks.add(new SearchTask(startVertexes.length, -1));
+        return tasks;
+    }
+
+    int calculateRevenue(final int startTrain, final int finalTrain) {
+        if (prototype.callDynamicModifiers) {
+            log.debug("RCP: dynamic modifiers active, use sequential search");
+            return prototype.calculateRevenue(startTrain, finalTrain);
+        }
+        log.debug("RCP: calculateRevenue trains from {} to {}", startTrain, finalTrain);
+        if (prototype.aborted) {
+            // aborted during predictions
+            prototype.notifyRevenueAdapter(prototype.currentBestValue, prototype.specialRevenue, true);
+            return prototype.currentBestValue;
+        }
+
+        prototype.startTrain = startTrain;
+        prototype.finalTrain = finalTrain;
+        prototype.sharedBestValue = new AtomicInteger(prototype.currentBestValue);
+
+        final List<SearchTask> tasks = createTasks();
+        nbTasks = tasks.size();
+        this.tasks = tasks;
+
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        } finally {
+            prototype.sharedBestValue = null;
+        }
+        wallTime = System.nanoTime() - start;
+
+        // collect results and statistics of the workers
+        RevenueCalculator bestWorker = null;
+        for (SearchTask task : tasks) {
+            RevenueCalculator worker = task.worker;
+            if (worker == null) continue;
+            prototype.aborted |= worker.aborted;
+            prototype.nbEvaluations += worker.nbEvaluations;
+            prototype.nbPredictions += worker.nbPredictions;
+            prototype.nbPrunings += worker.nbPrunings;
+            prototype.nbEdgesTravelled += worker.nbEdgesTravelled;
+            if (worker.currentBestValue > prototype.currentBestValue &&
+                    (bestWorker == null || worker.currentBestValue > bestWorker.currentBestValue)) {
+                bestWorker = worker;
+            }
+        }
+        if (bestWorker != null) {
+            synchronized (prototype.currentBestRun) {
+                prototype.currentBestValue = bestWorker.currentBestValue;
+                for (int j = prototype.startTrainSet; j <= prototype.finalTrainSet; j++) {
+                    System.arraycopy(bestWorker.currentBestRun[j], 0, prototype.currentBestRun[j], 0,
+                            prototype.currentBestRun[j].length);
+                }
+            }
+        }
+        this.tasks = null;
+        log.info("RCP: {}", getStatistics());
+
+        // inform revenue listener via adapter
+        prototype.notifyRevenueAdapter(prototype.currentBestValue, prototype.specialRevenue, true);
+
+        return prototype.currentBestValue;
+    }
+
+    /**
+     * copies the best run of all workers into the given array, can be called during the search from other threads
+     * @return the best value of all workers
+     */
+    int copyBestRun(int[][] run) {
+        int bestValue = prototype.copyBestRun(run);
+        List<SearchTask> activeTasks = tasks;
+        if (activeTasks == null) return bestValue;
+
+        int[][] workerRun = new int[run.length][run[0].length];
+        for (SearchTask task : activeTasks) {
+            RevenueCalculator worker = task.worker;
+            if (worker == null) continue;
+            int workerValue = worker.copyBestRun(workerRun);
+            if (workerValue > bestValue) {
+                bestValue = workerValue;
+                for (int j = 0; j < run.length; j++) {
+                    System.arraycopy(workerRun[j], 0, run[j], 0, run[j].length);
+                }
+            }
+        }
+        return bestValue;
+    }
+
+    int getNumberOfEvaluations() {
+        return prototype.getNumberOfEvaluations();
+    }
+
+    int getNumberOfTasks() {
+        return nbTasks;
+    }
+
+    /**
+     * @return ratio of the cumulated task time to the elapsed time of the search
+     */
+    double getSpeedup() {
+        if (wallTime == 0) return 1.0;
+        return (double) taskTime.get() / wallTime;
+    }
+
+    String getStatistics() {
+        return prototype.getStatistics() + " " + nbTasks + " tasks on " + pool.getParallelism()
+                + " threads, speedup " + String.format("%.2f", getSpeedup()) + ".";
+    }
+
+}
@@ -0,0 +1,195 @@
+package net.sf.rails.algorithms;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Flyweight view on the current run of a revenue calculator
+ * 
+ * The vertices of each train run are resolved on first access after {@link #invalidate()}
+ * into buffers allocated once, thus evaluations and predictions of the dynamic modifiers
+ * do not allocate objects for the runs.
+ */
+final class RevenueCalculatorRunView implements RevenueRunView {
+
+    private final RevenueAdapter revenueAdapter;
+    private final RevenueCalculator rc;
+    private final List<NetworkVertex> rcVertices;
+    private final List<NetworkEdge> rcEdges;
+    private final boolean useMultiGraph;
+    private final CalculatorTrainRun[] trainRuns;
+
+    RevenueCalculatorRunView(RevenueAdapter revenueAdapter, RevenueCalculator rc, List<NetworkTrain> trains,
+            List<NetworkVertex> rcVertices, List<NetworkEdge> rcEdges, boolean useMultiGraph) {
+        this.revenueAdapter = revenueAdapter;
+        this.rc = rc;
+        this.rcVertices = rcVertices;
+        this.rcEdges = rcEdges;
+        this.useMultiGraph = useMultiGraph;
+        trainRuns = new CalculatorTrainRun[trains.size()];
+        for (int j = 0; j < trainRuns.length; j++) {
+            // a run of edges has one vertex more than edges, the bottom run adds the base vertex again
+            trainRuns[j] = new CalculatorTrainRun(j, trains.get(j), rc.trainStack[j].length + 2);
+        }
+    }
+
+    /**
+     * Has to be called if the run of the calculator has changed
+     */
+    void invalidate() {
+        for (CalculatorTrainRun trainRun : trainRuns) {
+            trainRun.resolved = false;
+        }
+    }
+
+    @Override
+    public int size() {
+        return trainRuns.length;
+    }
+
+    @Override
+    public TrainRunView get(int index) {
+        return trainRuns[index];
+    }
+
+    private final class CalculatorTrainRun extends AbstractList<NetworkVertex>
+            implements TrainRunView, RandomAccess {
+
+        private final int trainId;
+        private final NetworkTrain train;
+        private final NetworkVertex[] vertices;
+        private int nbVertices;
+        private boolean resolved;
+
+        private CalculatorTrainRun(int trainId, NetworkTrain train, int capacity) {
+            this.trainId = trainId;
+            this.train = train;
+            this.vertices = new NetworkVertex[capacity];
+        }
+
+        // resolves the vertices from the stack of the calculator, see RevenueAdapter.convertRcRun
+        private void resolve() {
+            if (resolved) return;
+            resolved = true;
+            nbVertices = 0;
+            // trains outside of the current train set have no run
+            if (trainId < rc.startTrainSet || trainId > rc.finalTrainSet || rcEdges.isEmpty()) return;
+
+            int[] stack = rc.trainStack[trainId];
+            int stackSize = Math.min(rc.trainStackPos[trainId], stack.length);
+            if (useMultiGraph) {
+                resolveEdges(stack, stackSize);
+            } else {
+                for (int v = 0; v < stackSize; v++) {
+                    vertices[nbVertices++] = rcVertices.get(stack[v]);
+                }
+            }
+        }
+
+        // see RevenueTrainRun.convertEdgesToVertices
+        private void resolveEdges(int[] stack, int stackSize) {
+            if (stackSize == 0) {
+                return;
+            } else if (stackSize == 1) {
+                NetworkEdge edge = rcEdges.get(stack[0]);
+                vertices[nbVertices++] = edge.getSource();
+                vertices[nbVertices++] = edge.getTarget();
+                return;
+            }
+
+            NetworkEdge previousEdge = rcEdges.get(stack[0]);
+            NetworkVertex startVertex = null;
+            for (int e = 1; e < stackSize; e++) {
+                NetworkEdge edge = rcEdges.get(stack[e]);
+                NetworkVertex commonVertex = edge.getCommonVertex(previousEdge);
+                if (startVertex == null) {
+                    if (commonVertex != null) {
+                        startVertex = previousEdge.getOtherVertex(commonVertex);
+                        vertices[nbVertices++] = startVertex;
+                        vertices[nbVertices++] = commonVertex;
+                    }
+                } else if (commonVertex != null) {
+                    vertices[nbVertices++] = commonVertex;
+                } else {
+                    // bottom run
+                    vertices[nbVertices] = previousEdge.getOtherVertex(vertices[nbVertices - 1]);
+                    nbVertices++;
+                    vertices[nbVertices++] = startVertex;
+                }
+                previousEdge = edge;
+            }
+            if (nbVertices > 0) {
+                vertices[nbVertices] = previousEdge.getOtherVertex(vertices[nbVertices - 1]);
+                nbVertices++;
+            }
+        }
+
+        // list of the run vertices
+
+        @Override
+        public NetworkVertex get(int index) {
+            resolve();
+            if (index < 0 || index >= nbVertices) throw new IndexOutOfBoundsException("Index: " + index);
+            return vertices[index];
+        }
+
+        @Override
+        public int size() {
+            resolve();
+            return nbVertices;
+        }
+
+        @Override
+        public boolean contains(Object vertex) {
+            resolve();
+            for (int v = 0; v < nbVertices; v++) {
+                if (vertices[v] == vertex) return true;
+            }
+            return false;
+        }
+
+        // run
+
+        @Override
+        public NetworkTrain getTrain() {
+            return train;
+        }
+
+        @Override
+        public List<NetworkVertex> getRunVertices() {
+            return this;
+        }
+
+        @Override
+        public boolean hasAValidRun() {
+            return size() >= 2;
+        }
+
+        @Override
+        public NetworkVertex getBaseVertex() {
+            return get(0);
+        }
+
+        @Override
+        public NetworkVertex getFirstVertex() {
+            return RevenueTrainRun.getFirstVertex(this);
+        }
+
+        @Override
+        public NetworkVertex getLastVertex() {
+            return get(size() - 1);
+        }
+
+        @Override
+        public int getRunValue() {
+            return getRunValueForVertices(this);
+        }
+
+        @Override
+        public int getRunValueForVertices(List<NetworkVertex> listOfVertices) {
+            return RevenueTrainRun.getRunValueForVertices(revenueAdapter, train, listOfVertices);
+        }
+    }
+
+}
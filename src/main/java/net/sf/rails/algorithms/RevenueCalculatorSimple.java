@@ -22,6 +22,16 @@ final class RevenueCalculatorSimple extends RevenueCalculator {
 
     }
 
+    private RevenueCalculatorSimple(RevenueCalculatorSimple prototype) {
+        super(prototype);
+        edgeUsed = new boolean[nbEdges];
+    }
+
+    @Override
+    protected RevenueCalculator createWorker() {
+        return new RevenueCalculatorSimple(this);
+    }
+
    @Override
    protected final void runTrain(final int trainId) {
        log.debug("RCS: runTrain {}", trainId);
@@ -49,6 +59,7 @@ final class RevenueCalculatorSimple extends RevenueCalculator {
 
         // try all startVertexes
         for (int i=0; i < startVertexes.length; i++) {
+            if (skipStartVertex(trainId, i)) continue;
             int vertexId = startVertexes[i];
             log.debug("RCS: Using startVertex nr. {} for train {}", i, trainId);
             boolean stationVertex = encounterVertex(trainId, vertexId, true);
@@ -69,6 +80,7 @@ final class RevenueCalculatorSimple extends RevenueCalculator {
             // then try all edges of it
             // for startVertices the sink property is ignored
             for (int j = 0; j < vertexNbNeighbors[vertexId]; j++) {
+                if (skipStartEdge(trainId, j)) continue;
                 int edgeId = vertexEdges[vertexId][j];
                 if (edgeUsed[edgeId]) continue;
                 log.debug("RCS: Testing Neighbor Nr. {} of startVertex", j);
@@ -99,7 +111,9 @@ final class RevenueCalculatorSimple extends RevenueCalculator {
         }
 
         // allow that the train does not run at all
-        finalizeVertex(trainId, -1);
+        if (!skipEmptyRun(trainId)) {
+            finalizeVertex(trainId, -1);
+        }
 
        log.debug("RCS: finishTrain {}", trainId);
     }
@@ -143,6 +157,9 @@ final class RevenueCalculatorSimple extends RevenueCalculator {
 
    private void nextVertex(final int trainId, final int vertexId, final boolean previousGreedy) {
 
+       // 0. stop immediately if the search is aborted
+       if (checkAborted()) return;
+
        // 1. encounterVertex adds value and returns true if value vertex
        Terminated trainTerminated = Terminated.NOT_YET;
        boolean stationVertex = encounterVertex(trainId, vertexId, true);
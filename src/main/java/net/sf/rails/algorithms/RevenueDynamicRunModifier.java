@@ -0,0 +1,43 @@
+package net.sf.rails.algorithms;
+
+import java.util.List;
+
+/**
+ * A dynamic modifier that evaluates the runs by a {@link RevenueRunView}
+ * 
+ * During the revenue calculation the view operates directly on the run stacks of the
+ * revenue calculator, thus evaluations and predictions do not convert the runs into
+ * {@link RevenueTrainRun} objects for each call (as for the {@link RevenueDynamicModifier}).
+ * The implementations should avoid allocations in these methods as well.
+ * 
+ * The methods with the list of runs (used for the optimal run) delegate to the view methods.
+ */
+public interface RevenueDynamicRunModifier extends RevenueDynamicModifier {
+
+    /** 
+     * Allows to change the value for the prediction
+     * If several dynamic modifiers are active simultaneously, their prediction values are added up.  
+     * @param runs Current run of the revenue calculator
+     * @return value used to change the prediction
+     */
+    public int predictionValue(RevenueRunView runs);
+
+    /** 
+     * Allows to change the value for the supplied runs from the revenue calculator
+     * @param runs Current run of the revenue calculator
+     * @param optimalRuns true => after optimization, false => during optimization
+     * @return value used to change the run results
+     */
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns);
+
+    @Override
+    public default int predictionValue(List<RevenueTrainRun> runs) {
+        return predictionValue(RevenueRunView.of(runs));
+    }
+
+    @Override
+    public default int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+        return evaluationValue(RevenueRunView.of(runs), optimalRuns);
+    }
+
+}
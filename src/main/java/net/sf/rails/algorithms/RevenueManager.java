@@ -1,6 +1,7 @@
 package net.sf.rails.algorithms;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
@@ -184,6 +185,13 @@ public final class RevenueManager extends RailsManager implements Configurable {
         }
     }
 
+    /**
+     * @return the dynamic modifiers activated by the last call of initDynamicModifiers
+     */
+    List<RevenueDynamicModifier> getActiveDynamicModifiers() {
+        return Collections.unmodifiableList(activeDynamicModifiers);
+    }
+
     /**
      * @param revenueAdapter
      * @return true if there are active dynamic modifiers
@@ -239,18 +247,50 @@ public final class RevenueManager extends RailsManager implements Configurable {
         return value;
     }
 
+    /**
+     * Evaluation during the calculation: modifiers with {@link RevenueDynamicRunModifier} use the view,
+     * the run is converted only for the other modifiers
+     * @param run     view on the current run of the revenue calculator
+     * @return total value of dynamic modifiers
+     */
+    int evaluationValue(RevenueRunView run, RevenueAdapter revenueAdapter) {
+        int value = 0;
+        List<RevenueTrainRun> convertedRun = null;
+        for (int i = 0; i < activeDynamicModifiers.size(); i++) {
+            RevenueDynamicModifier modifier = activeDynamicModifiers.get(i);
+            if (modifier instanceof RevenueDynamicRunModifier) {
+                value += ((RevenueDynamicRunModifier) modifier).evaluationValue(run, false);
+            } else {
+                if (convertedRun == null) convertedRun = revenueAdapter.getCurrentRun();
+                value += modifier.evaluationValue(convertedRun, false);
+            }
+        }
+        if (calculatorModifier != null) {
+            specialRevenue = calculatorModifier.getSpecialRevenue();
+        }
+        return value;
+    }
+
     public int getSpecialRevenue () {
         return specialRevenue;
     }
 
     /**
+     * Prediction during the calculation, see {@link #evaluationValue(RevenueRunView, RevenueAdapter)}
      * @return total prediction value of dynamic modifiers
      */
-    int predictionValue(List<RevenueTrainRun> run) {
+    int predictionValue(RevenueRunView run, RevenueAdapter revenueAdapter) {
         // do not change the optimal run!
         int value = 0;
-        for (RevenueDynamicModifier modifier : activeDynamicModifiers) {
-            value += modifier.predictionValue(run);
+        List<RevenueTrainRun> convertedRun = null;
+        for (int i = 0; i < activeDynamicModifiers.size(); i++) {
+            RevenueDynamicModifier modifier = activeDynamicModifiers.get(i);
+            if (modifier instanceof RevenueDynamicRunModifier) {
+                value += ((RevenueDynamicRunModifier) modifier).predictionValue(run);
+            } else {
+                if (convertedRun == null) convertedRun = revenueAdapter.getCurrentRun();
+                value += modifier.predictionValue(convertedRun);
+            }
         }
         return value;
     }
@@ -0,0 +1,131 @@
+package net.sf.rails.algorithms;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.HashCode;
+
+/**
+ * RevenueResultCache stores the optimal results of revenue calculations for all RevenueAdapters of a game
+ * <p>
+ * Results are keyed by the fingerprint of the calculation, see {@link RevenueAdapter#calculateRevenue(int, int)}.
+ * The fingerprint covers all data of the revenue calculator (graph, vertex values, trains, bonuses,
+ * visit and travel sets), the company, the phase and the active dynamic modifiers,
+ * thus identical fingerprints yield identical results.
+ * <p>
+ * Only optimal results are stored, runs are stored as indices of the revenue calculator.
+ */
+public final class RevenueResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RevenueResultCache.class);
+
+    public static final int DEFAULT_SIZE = 64;
+
+    private final int maxSize;
+    private final Map<HashCode, Result> results;
+
+    // statistic data
+    private int hits;
+    private int misses;
+
+    /**
+     * Optimal result of a revenue calculation
+     */
+    static final class Result {
+        private final int value;
+        private final int specialRevenue;
+        private final int calculatorSpecialRevenue;
+        private final int[][] run;
+
+        Result(int value, int specialRevenue, int calculatorSpecialRevenue, int[][] run) {
+            this.value = value;
+            this.specialRevenue = specialRevenue;
+            this.calculatorSpecialRevenue = calculatorSpecialRevenue;
+            this.run = copyRun(run);
+        }
+
+        private static int[][] copyRun(int[][] run) {
+            int[][] copy = new int[run.length][];
+            for (int j = 0; j < run.length; j++) {
+                copy[j] = run[j].clone();
+            }
+            return copy;
+        }
+
+        int getValue() {
+            return value;
+        }
+
+        int getSpecialRevenue() {
+            return specialRevenue;
+        }
+
+        int getCalculatorSpecialRevenue() {
+            return calculatorSpecialRevenue;
+        }
+
+        /**
+         * @return a copy of the run (dimensions: train x vertices or edges)
+         */
+        int[][] getRun() {
+            return copyRun(run);
+        }
+    }
+
+    RevenueResultCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    RevenueResultCache(final int maxSize) {
+        this.maxSize = maxSize;
+        // access ordered map for least recently used eviction
+        this.results = new LinkedHashMap<HashCode, Result>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<HashCode, Result> eldest) {
+                return size() > RevenueResultCache.this.maxSize;
+            }
+        };
+    }
+
+    synchronized Result get(HashCode fingerprint) {
+        Result result = results.get(fingerprint);
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+            log.debug("Revenue result found for {}", fingerprint);
+        }
+        return result;
+    }
+
+    synchronized void put(HashCode fingerprint, Result result) {
+        results.put(fingerprint, result);
+    }
+
+    public synchronized void clear() {
+        results.clear();
+    }
+
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    public synchronized String getStatistics() {
+        return "RevenueResultCache: " + results.size() + " results, " + hits + " hits, " + misses + " misses";
+    }
+
+    @Override
+    public String toString() {
+        return getStatistics();
+    }
+
+}
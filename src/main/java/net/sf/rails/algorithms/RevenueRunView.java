@@ -0,0 +1,71 @@
+package net.sf.rails.algorithms;
+
+import java.util.List;
+
+/**
+ * Read-only view of the runs of all trains
+ * 
+ * During the revenue calculation the view is a flyweight on the run stacks of the revenue calculator:
+ * the same view (and train runs) are reused for each evaluation and prediction, thus
+ * they must not be stored by the modifiers.
+ * After the calculation a view on the optimal run is provided by {@link #of(List)}.
+ */
+public interface RevenueRunView {
+
+    /**
+     * @return number of trains
+     */
+    public int size();
+
+    /**
+     * @return run of the train with the given index
+     */
+    public TrainRunView get(int index);
+
+    /**
+     * Run of one train, see {@link RevenueTrainRun} for the definitions
+     */
+    public interface TrainRunView {
+
+        public NetworkTrain getTrain();
+
+        /** @return vertices of the run, a bottom run starts again with the base vertex */
+        public List<NetworkVertex> getRunVertices();
+
+        /** @return true if train has a valid run (at least two vertices) */
+        public boolean hasAValidRun();
+
+        /** @return the vertex of the initial base token of the train run */
+        public NetworkVertex getBaseVertex();
+
+        /** @return the first vertex of a train run */
+        public NetworkVertex getFirstVertex();
+
+        /** @return the last vertex of a train run */
+        public NetworkVertex getLastVertex();
+
+        /** @return value of the run including all revenue bonuses */
+        public int getRunValue();
+
+        /** @return value of the sublist of vertices including all revenue bonuses */
+        public int getRunValueForVertices(List<NetworkVertex> listOfVertices);
+    }
+
+    /**
+     * @return view on a list of converted train runs
+     */
+    public static RevenueRunView of(final List<RevenueTrainRun> runs) {
+        return new RevenueRunView() {
+            @Override
+            public int size() {
+                return runs.size();
+            }
+
+            @Override
+            public TrainRunView get(int index) {
+                return runs.get(index);
+            }
+        };
+    }
+
+}
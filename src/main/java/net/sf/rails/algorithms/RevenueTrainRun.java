@@ -21,7 +21,7 @@ import org.slf4j.LoggerFactory;
  * object defines the run of one train
  *
  */
-public class RevenueTrainRun implements Comparable<RevenueTrainRun> {
+public class RevenueTrainRun implements Comparable<RevenueTrainRun>, RevenueRunView.TrainRunView {
 
     private static final int PRETTY_PRINT_LENGTH = 100;
     private static final int PRETTY_PRINT_INDENT = 10;
@@ -65,9 +65,14 @@ public class RevenueTrainRun implements Comparable<RevenueTrainRun> {
      * returns the first vertex of a train run
      */
     public NetworkVertex getFirstVertex() {
+        return getFirstVertex(vertices);
+    }
+
+    static NetworkVertex getFirstVertex(List<NetworkVertex> vertices) {
         NetworkVertex startVertex = null;
         NetworkVertex firstVertex = null;
-        for (NetworkVertex vertex : vertices) {
+        for (int i = 0; i < vertices.size(); i++) {
+            NetworkVertex vertex = vertices.get(i);
             if (startVertex == vertex) return firstVertex;
             if (startVertex == null) startVertex = vertex;
             firstVertex = vertex;
@@ -96,9 +101,15 @@ public class RevenueTrainRun implements Comparable<RevenueTrainRun> {
      * This includes all revenue bonuses defined in the calculator
      */
     public int getRunValueForVertices(List<NetworkVertex> listOfVertices) {
+        return getRunValueForVertices(revenueAdapter, train, listOfVertices);
+    }
+
+    static int getRunValueForVertices(RevenueAdapter revenueAdapter, NetworkTrain train,
+            List<NetworkVertex> listOfVertices) {
         int value = 0;
         NetworkVertex startVertex = null;
-        for (NetworkVertex vertex : listOfVertices) {
+        for (int i = 0; i < listOfVertices.size(); i++) {
+            NetworkVertex vertex = listOfVertices.get(i);
             if (startVertex == vertex) continue;
             if (startVertex == null) startVertex = vertex;
             value +=
@@ -106,7 +117,9 @@ public class RevenueTrainRun implements Comparable<RevenueTrainRun> {
                             revenueAdapter.getPhase());
         }
         // check revenueBonuses (complex)
-        for (RevenueBonus bonus : revenueAdapter.getRevenueBonuses()) {
+        List<RevenueBonus> revenueBonuses = revenueAdapter.getRevenueBonuses();
+        for (int i = 0; i < revenueBonuses.size(); i++) {
+            RevenueBonus bonus = revenueBonuses.get(i);
             if (bonus.checkComplexBonus(listOfVertices, train.getRailsTrain(),
                     revenueAdapter.getPhase())) {
                 value += bonus.getValue();
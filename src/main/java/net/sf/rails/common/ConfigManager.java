@@ -190,6 +190,12 @@ public class ConfigManager implements Configurable {
     }
 
     public String getValue(String key, String defaultValue) {
+        // values of the game context of the current thread (if any) take precedence
+        GameContext context = GameContext.getCurrent();
+        if (context != null && context.hasValue(key)) {
+            return context.getValue(key);
+        }
+
         if (transientConfig.containsKey(key)) {
             return transientConfig.get(key);
         }
@@ -203,8 +209,16 @@ public class ConfigManager implements Configurable {
         }
     }
 
+    /**
+     * Sets a transient value, in the game context of the current thread if there is one
+     */
     public void setValue(String key, String value) {
-        transientConfig.put(key, value);
+        GameContext context = GameContext.getCurrent();
+        if (context != null) {
+            context.setValue(key, value);
+        } else {
+            transientConfig.put(key, value);
+        }
     }
 
     public void clearTransientConfig() {
@@ -13,12 +13,13 @@ import java.util.ArrayList;
 
 /**
  * DisplayBuffer stores messages of the current action.
+ * Localised messages are rendered only if they are retrieved.
  */
 public class DisplayBuffer extends RailsModel {
 
     private static final Logger log = LoggerFactory.getLogger(DisplayBuffer.class);
 
-    private final ArrayList<String> buffer = new ArrayList<>();
+    private final ArrayList<LocalText.Message> buffer = new ArrayList<>();
 
     private final BooleanState autoDisplay = new BooleanState(this, "autoDisplay");
 
@@ -45,18 +46,27 @@ public class DisplayBuffer extends RailsModel {
     public void add(String message, boolean autoDisplay) {
         this.autoDisplay.set(autoDisplay);
         if (Util.hasValue(message)) {
-            buffer.add(message);
+            buffer.add(LocalText.Message.of(message));
             log.debug("To display: {}", message);
         }
     }
 
+    private void add(LocalText.Message message, boolean autoDisplay) {
+        this.autoDisplay.set(autoDisplay);
+        buffer.add(message);
+        log.debug("To display: {}", message);
+    }
+
     /**
      * Get the current message buffer, and clear it
      */
     // TODO: (Rails2.0): Refactor this a little bit (use Model facilities)
     public String[] get() {
         if (buffer.size() > 0) {
-            String[] message = buffer.toArray(new String[0]);
+            String[] message = new String[buffer.size()];
+            for (int i = 0; i < message.length; i++) {
+                message[i] = buffer.get(i).getText();
+            }
             buffer.clear();
             return message;
         } else {
@@ -64,6 +74,17 @@ public class DisplayBuffer extends RailsModel {
         }
     }
 
+    /**
+     * Restores messages taken by {@link #get()}, without changing autoDisplay
+     */
+    public void restore(String[] messages) {
+        if (messages != null) {
+            for (String message : messages) {
+                buffer.add(LocalText.Message.of(message));
+            }
+        }
+    }
+
     public int getSize() {
         return buffer.size();
     }
@@ -90,6 +111,15 @@ public class DisplayBuffer extends RailsModel {
         item.getRoot().getReportManager().getDisplayBuffer().add(message, autoDisplay);
     }
 
+    /**
+     * Shortcut to add a localised message to DisplayBuffer, the text is only created if the message is retrieved
+     * @param key of the text (see {@link LocalText#getText(String, Object...)})
+     */
+    public static void addText(RailsItem item, String key, Object... parameters) {
+        if (!Util.hasValue(key)) return;
+        item.getRoot().getReportManager().getDisplayBuffer().add(LocalText.getMessage(key, parameters), true);
+    }
+
     public static void addAll (RailsItem item, String[] messages) {
         DisplayBuffer instance = item.getRoot().getReportManager().getDisplayBuffer();
         for (String message : messages) {
@@ -0,0 +1,143 @@
+package net.sf.rails.common;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * GameContext contains the configuration and the locale of one game,
+ * if several games run in the same JVM
+ * <p>
+ * The context is bound to the thread that executes the game (see {@link #run(Runnable)}).
+ * {@link Config} and {@link LocalText} use the context of the current thread first,
+ * then the process-wide configuration.
+ */
+public final class GameContext {
+
+    private static final Logger log = LoggerFactory.getLogger(GameContext.class);
+
+    private static final ThreadLocal<GameContext> current = new ThreadLocal<>();
+
+    private final String id;
+
+    // configuration values that replace the values of the ConfigManager
+    private final Map<String, String> config = new ConcurrentHashMap<>();
+
+    // null: locale of the process-wide configuration
+    private final String localeCode;
+    private final Locale locale;
+    private ResourceBundle localisedText;
+
+    private GameContext(String id, String localeCode) {
+        this.id = id;
+        this.localeCode = localeCode;
+        if (localeCode != null) {
+            String[] codes = localeCode.split("_");
+            this.locale = new Locale(codes[0], codes.length > 1 ? codes[1] : "");
+        } else {
+            this.locale = null;
+        }
+    }
+
+    /**
+     * @param id of the game
+     * @param localeCode locale of the game (e.g. en_US), null to use the configured locale
+     */
+    public static GameContext create(String id, String localeCode) {
+        return new GameContext(id, localeCode);
+    }
+
+    /**
+     * @return the context of the current thread, null if there is none
+     */
+    public static GameContext getCurrent() {
+        return current.get();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean hasValue(String key) {
+        return config.containsKey(key);
+    }
+
+    public String getValue(String key) {
+        return config.get(key);
+    }
+
+    /**
+     * @param value null removes the value from the context
+     */
+    public void setValue(String key, String value) {
+        if (value == null) {
+            config.remove(key);
+        } else {
+            config.put(key, value);
+        }
+    }
+
+    public boolean hasLocale() {
+        return localeCode != null;
+    }
+
+    public String getLocaleCode() {
+        return localeCode;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return the localised texts of the context locale, null if they are missing
+     */
+    ResourceBundle getLocalisedText() {
+        if (localisedText == null && locale != null) {
+            try {
+                localisedText = ResourceBundle.getBundle("LocalisedText", locale);
+            } catch (MissingResourceException e) {
+                log.warn("Unable to locate LocalisedText resource for game {}: ", id, e);
+            }
+        }
+        return localisedText;
+    }
+
+    /**
+     * Runs the task with this context bound to the current thread
+     */
+    public void run(Runnable task) {
+        GameContext previous = current.get();
+        current.set(this);
+        try {
+            task.run();
+        } finally {
+            current.set(previous);
+        }
+    }
+
+    /**
+     * Calls the task with this context bound to the current thread
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        GameContext previous = current.get();
+        current.set(this);
+        try {
+            return task.call();
+        } finally {
+            current.set(previous);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GameContext(" + id + ")";
+    }
+
+}
@@ -1,11 +1,16 @@
 /* $Header: /Users/blentz/rails_rcs/cvs/18xx/rails/util/LocalText.java,v 1.7 2010/03/23 18:45:16 stefanfrey Exp $*/
 package net.sf.rails.common;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.MessageFormat;
+import java.util.Date;
 import java.util.Enumeration;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.sf.rails.util.Util;
 
@@ -29,6 +34,9 @@ public class LocalText extends ResourceBundle {
 
     private static final Logger log = LoggerFactory.getLogger(LocalText.class);
 
+    // compiled formats by locale code and key
+    private static final Map<String, Map<String, MessageFormat>> formats = new ConcurrentHashMap<>();
+
     public static String getText(String key) {
         return getText(key, (Object[]) null);
     }
@@ -43,15 +51,52 @@ public class LocalText extends ResourceBundle {
     }
 
     public static String getTextWithDefault(String key, String defaultText) {
-        return getTextExecute(key, defaultText, false, (Object[]) null);
+        return getTextExecute(GameContext.getCurrent(), key, defaultText, false, (Object[]) null);
+    }
+
+    /**
+     * Creates a message, which is localised on first use only (see {@link Message#getText()})
+     */
+    public static Message getMessage(String key, Object... parameters) {
+        return new Message(key, freeze(parameters), GameContext.getCurrent());
+    }
+
+    // the parameters are formatted later, thus only immutable values are kept, all others are converted to text
+    private static Object[] freeze(Object[] parameters) {
+        if (parameters == null) return null;
+        Object[] frozen = parameters.clone();
+        for (int i = 0; i < frozen.length; i++) {
+            Object parameter = frozen[i];
+            if (parameter == null || parameter instanceof String || parameter instanceof Integer
+                    || parameter instanceof Long || parameter instanceof Double || parameter instanceof Float
+                    || parameter instanceof Short || parameter instanceof Byte || parameter instanceof Boolean
+                    || parameter instanceof BigDecimal || parameter instanceof BigInteger) {
+                continue;
+            }
+            if (parameter instanceof Date) {
+                frozen[i] = ((Date) parameter).clone();
+            } else {
+                frozen[i] = parameter.toString();
+            }
+        }
+        return frozen;
     }
 
     // actual procedure to retrieve the local text
     private static String getTextExecute(String key, String defaultText, boolean errorOnMissing, Object... parameters) {
-        String result = "";
+        return getTextExecute(GameContext.getCurrent(), key, defaultText, errorOnMissing, parameters);
+    }
 
+    private static String getTextExecute(GameContext context, String key, String defaultText, boolean errorOnMissing,
+            Object... parameters) {
         if (key == null || key.length() == 0) return "";
 
+        // the game context (if any) defines its own locale
+        if (context != null && context.hasLocale()) {
+            return findText(context.getLocalisedText(), context.getLocaleCode(), context.getLocale(),
+                    key, defaultText, errorOnMissing, parameters);
+        }
+
         /* Load the texts */
         if (localisedText == null) {
             /*
@@ -85,6 +130,14 @@ public class LocalText extends ResourceBundle {
             }
         }
 
+        return findText(localisedText, localeCode, locale, key, defaultText, errorOnMissing, parameters);
+    }
+
+    // retrieves the text of the key from the resource bundle of the locale
+    private static String findText(ResourceBundle localisedText, String localeCode, Locale locale,
+            String key, String defaultText, boolean errorOnMissing, Object... parameters) {
+        String result;
+
         /* If the key contains a space, something is wrong, check who did that! */
         if ( key.contains(" ") ) {
             try {
@@ -115,13 +168,30 @@ public class LocalText extends ResourceBundle {
         }
 
         if (parameters != null) {
-            result = MessageFormat.format(result, parameters);
+            result = format(localeCode, key, result, parameters);
         }
 
         return result;
 
     }
 
+    // formats the parameters with the compiled format of the key
+    private static String format(String localeCode, String key, String pattern, Object[] parameters) {
+        Map<String, MessageFormat> localeFormats = formats.get(localeCode);
+        if (localeFormats == null) {
+            localeFormats = formats.computeIfAbsent(localeCode, code -> new ConcurrentHashMap<>());
+        }
+        MessageFormat format = localeFormats.get(key);
+        if (format == null) {
+            format = new MessageFormat(pattern);
+            localeFormats.put(key, format);
+        }
+        // MessageFormat is not thread-safe
+        synchronized (format) {
+            return format.format(parameters);
+        }
+    }
+
     public static void setLocale(String localeCode) {
 
         LocalText.localeCode = localeCode;
@@ -146,4 +216,52 @@ public class LocalText extends ResourceBundle {
         // TODO Auto-generated method stub
         return null;
     }
+
+    /**
+     * Message of a text key and its parameters, the text is rendered on first use
+     * with the locale of the game context at creation
+     */
+    public static final class Message {
+        private final String key;
+        private final Object[] parameters;
+        private final GameContext context;
+
+        private volatile String text;
+
+        private Message(String key, Object[] parameters, GameContext context) {
+            this.key = key;
+            this.parameters = parameters;
+            this.context = context;
+        }
+
+        /**
+         * @return a message with the text already given (e.g. composed of other texts)
+         */
+        public static Message of(String text) {
+            Message message = new Message(null, null, null);
+            message.text = text;
+            return message;
+        }
+
+        /**
+         * @return the key of the text, null if the message was created from text
+         */
+        public String getKey() {
+            return key;
+        }
+
+        public String getText() {
+            String result = text;
+            if (result == null) {
+                result = getTextExecute(context, key, "[" + key + "]", true, parameters);
+                text = result;
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return getText();
+        }
+    }
 }
@@ -1,12 +1,11 @@
 package net.sf.rails.common;
 
-import java.util.Deque;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 
 import net.sf.rails.game.RailsAbstractItem;
@@ -19,6 +18,10 @@ import net.sf.rails.util.Util;
 /**
  * ReportBuffer stores messages of the game progress.
  * <p>
+ * The html text of each ReportSet is rendered on first use and cached. The observer is informed
+ * incrementally: after a close only the new ReportSet and the previously active one are sent,
+ * after undo/redo only the ReportSets that lose and gain the active marker.
+ * <p>
  * Also used for regression testing comparing the output of the report buffer.
  */
 public class ReportBuffer extends RailsAbstractItem implements ChangeReporter {
@@ -30,15 +33,24 @@ public class ReportBuffer extends RailsAbstractItem implements ChangeReporter {
      */
     public static final String ACTIVE_MESSAGE_INDICATOR = "(**)";
 
-    // static data
-    private final Deque<ReportSet> pastReports = Lists.newLinkedList();
-    private final Deque<ReportSet> futureReports = Lists.newLinkedList();
+    /**
+     * Prefix of the html id attribute of each ReportSet, followed by its index
+     */
+    public static final String REPORT_ID_PREFIX = "report_";
+
+    // static data: reports of past (executed) and future (undone) changeSets
+    private final List<ReportSet> reports = Lists.newArrayList();
+    private int pastCount = 0;
 
     private ChangeStack changeStack; // initialized via init()
 
     // dynamic data
     private ReportSet.Builder currentReportBuilder;
     private ReportBuffer.Observer observer;
+    // index of the active ReportSet as last sent to the observer
+    private int observedActive = -1;
+    // true while the observer is not informed (e.g. bulk replay), it receives the full text on resume
+    private boolean observerSuspended = false;
 
 
     public ReportBuffer(ReportManager parent, String id) {
@@ -49,12 +61,37 @@ public class ReportBuffer extends RailsAbstractItem implements ChangeReporter {
 
     public void addObserver(ReportBuffer.Observer observer) {
         this.observer = observer;
+        this.observedActive = getActiveIndex();
+    }
+
+    public ReportBuffer.Observer getObserver() {
+        return observer;
     }
 
     public void removeObserver() {
         this.observer = null;
     }
 
+    /**
+     * The observer is not informed anymore until {@link #resumeObserver()} is called
+     */
+    public void suspendObserver() {
+        observerSuspended = true;
+    }
+
+    /**
+     * Informs the observer with the full text, if it was suspended
+     */
+    public void resumeObserver() {
+        if (!observerSuspended) return;
+        observerSuspended = false;
+        observedActive = getActiveIndex();
+        if (observer != null) {
+            observer.update(getAsHtml());
+            observer.setActive(observedActive);
+        }
+    }
+
     /**
      * Returns a list of all messages (of the past)
      *
@@ -62,25 +99,43 @@ public class ReportBuffer extends RailsAbstractItem implements ChangeReporter {
      */
     public ImmutableList<String> getAsList() {
         ImmutableList.Builder<String> list = ImmutableList.builder();
-        for (ReportSet rs : pastReports) {
+        for (ReportSet rs : reports.subList(0, pastCount)) {
             list.addAll(rs.getMessages());
         }
         return list.build();
     }
 
-    private String getAsHtml(ChangeSet currentChangeSet) {
+    // index of the ReportSet of the current ChangeSet, -1 if there is none
+    private int getActiveIndex() {
+        if (pastCount == 0 || changeStack == null) return -1;
+        if (reports.get(pastCount - 1).getChangeSet() != changeStack.getClosedChangeSet()) return -1;
+        return pastCount - 1;
+    }
+
+    private String getAsHtml(int index, int activeIndex) {
+        return reports.get(index).getAsHtml(index == activeIndex);
+    }
+
+    /**
+     * @return html paragraph of the ReportSet, null if there is nothing to display
+     */
+    public static String toParagraph(int index, String text) {
+        if (text == null) return null;
+        return "<p id=" + REPORT_ID_PREFIX + index + ">" + text + "</p>";
+    }
+
+    private String getAsHtml() {
 
         // FIXME (Rails2.0): Add comments back
         //     s.append("<span style='color:green;font-size:80%;font-style:italic;'>");
 
+        int activeIndex = getActiveIndex();
         StringBuilder s = new StringBuilder();
         s.append("<html>");
-        for (ReportSet rs : Iterables.concat(pastReports, futureReports)) {
-            String text = rs.getAsHtml(currentChangeSet);
+        for (int index = 0; index < reports.size(); index++) {
+            String text = toParagraph(index, getAsHtml(index, activeIndex));
             if (text == null) continue;
-            s.append("<p>");
             s.append(text);
-            s.append("</p>");
         }
         s.append("</html>");
 
@@ -98,21 +153,32 @@ public class ReportBuffer extends RailsAbstractItem implements ChangeReporter {
     }
 
     public String getCurrentText() {
-        return getAsHtml(changeStack.getClosedChangeSet());
+        return getAsHtml();
     }
 
-    private void addMessage(String message) {
-        if (!Util.hasValue(message)) return;
+    private void addMessage(LocalText.Message message) {
+        // messages of speculative executions are rolled back with their changes
+        if (changeStack != null && changeStack.isSpeculative()) return;
 
         currentReportBuilder.withMessage(message);
 
         log.debug("ReportBuffer: {}", message);
     }
 
-    private void updateObserver() {
-        if (observer != null) {
-            observer.update(getCurrentText());
+    // sends the ReportSets that lost or gained the active marker
+    private void updateActive() {
+        if (observerSuspended) return;
+        int activeIndex = getActiveIndex();
+        if (observer != null && activeIndex != observedActive) {
+            if (observedActive >= 0 && observedActive < reports.size()) {
+                observer.set(observedActive, getAsHtml(observedActive, activeIndex));
+            }
+            if (activeIndex >= 0) {
+                observer.set(activeIndex, getAsHtml(activeIndex, activeIndex));
+            }
+            observer.setActive(activeIndex);
         }
+        observedActive = activeIndex;
     }
 
     // ChangeReport methods
@@ -126,43 +192,86 @@ public class ReportBuffer extends RailsAbstractItem implements ChangeReporter {
         ChangeSet current = changeStack.getClosedChangeSet();
         ReportSet currentSet = currentReportBuilder.withChangeSet(current).build();
 
-        pastReports.addLast(currentSet);
-        futureReports.clear();
+        // remove future reports
+        if (pastCount < reports.size()) {
+            reports.subList(pastCount, reports.size()).clear();
+            if (observer != null && !observerSuspended) {
+                observer.removeFrom(pastCount);
+            }
+            if (observedActive >= pastCount) {
+                observedActive = -1;
+            }
+        }
+        reports.add(currentSet);
+        pastCount++;
 
         // a new builder
         currentReportBuilder = ReportSet.builder();
 
         // update observer (ReportWindow)
-        updateObserver();
+        int newIndex = pastCount - 1;
+        int activeIndex = getActiveIndex();
+        if (observer != null && !observerSuspended && newIndex != activeIndex) {
+            observer.set(newIndex, getAsHtml(newIndex, activeIndex));
+        }
+        updateActive();
     }
 
     @Override
     public void informOnUndo() {
-        ReportSet undoSet = pastReports.pollLast();
-        futureReports.addFirst(undoSet);
+        pastCount--;
     }
 
     @Override
     public void informOnRedo() {
-        ReportSet redoSet = futureReports.pollFirst();
-        pastReports.addLast(redoSet);
+        pastCount++;
     }
 
     @Override
     public void updateAfterUndoRedo() {
-        updateObserver();
+        updateActive();
     }
 
     /**
      * Shortcut to add a message to DisplayBuffer
      */
     public static void add(RailsItem item, String message) {
-        item.getRoot().getReportManager().getReportBuffer().addMessage(message);
+        if (!Util.hasValue(message)) return;
+        item.getRoot().getReportManager().getReportBuffer().addMessage(LocalText.Message.of(message));
     }
 
-    public interface Observer {
-        void append(String text);
+    /**
+     * Shortcut to add a localised message to ReportBuffer, the text is only created if the report is read
+     * @param key of the text (see {@link LocalText#getText(String, Object...)})
+     */
+    public static void addText(RailsItem item, String key, Object... parameters) {
+        if (!Util.hasValue(key)) return;
+        item.getRoot().getReportManager().getReportBuffer().addMessage(LocalText.getMessage(key, parameters));
+    }
 
+    /**
+     * Observer of the ReportBuffer, which receives the html text of the ReportSets by their index
+     */
+    public interface Observer {
+        /**
+         * Replaces the full text
+         */
         void update(String newText);
+
+        /**
+         * Sets the text of a ReportSet
+         * @param text the html text, null if the ReportSet has nothing to display
+         */
+        void set(int index, String text);
+
+        /**
+         * Removes the ReportSets from index on
+         */
+        void removeFrom(int index);
+
+        /**
+         * @param index of the active ReportSet, -1 if there is none
+         */
+        void setActive(int index);
     }
 }
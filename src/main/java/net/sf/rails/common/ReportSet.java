@@ -1,6 +1,7 @@
 package net.sf.rails.common;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import net.sf.rails.game.state.ChangeSet;
 import net.sf.rails.util.Util;
@@ -9,6 +10,8 @@ import java.util.List;
 
 /**
  * ReportSet contains all messages that reference one ChangeSet
+ * <p>
+ * The messages are stored as keys and parameters, their text is localised on first use only.
  */
 public class ReportSet {
 
@@ -21,29 +24,56 @@ public class ReportSet {
     private final ChangeSet changeSet;
 
 
-    private final List<String> messages;
+    private final List<LocalText.Message> messages;
 
-    private final String htmlText;
-    private final String htmlTextActive;
+    // html texts are rendered on first use only
+    private String htmlText;
+    private String htmlTextActive;
+    private boolean htmlRendered;
+    private boolean htmlActiveRendered;
 
-    public ReportSet(ChangeSet changeSet, List<String> messages) {
+    public ReportSet(ChangeSet changeSet, List<LocalText.Message> messages) {
         super();
 
         this.changeSet = changeSet;
         this.messages = messages;
-
-        this.htmlText = toHtml(false);
-        this.htmlTextActive = toHtml(true);
     }
 
+    /**
+     * @return the localised texts of the messages
+     */
     public List<String> getMessages() {
-        return messages;
+        ImmutableList.Builder<String> texts = ImmutableList.builder();
+        for (LocalText.Message message : messages) {
+            texts.add(message.getText());
+        }
+        return texts.build();
+    }
+
+    public ChangeSet getChangeSet() {
+        return changeSet;
     }
 
     public String getAsHtml(ChangeSet currentChangeSet) {
-        if (currentChangeSet == changeSet) {
+        return getAsHtml(currentChangeSet == changeSet);
+    }
+
+    /**
+     * @param active if true, the html text contains the indicator and highlighting for the active message
+     * @return html text of the messages, null if there is nothing to display
+     */
+    public String getAsHtml(boolean active) {
+        if (active) {
+            if (!htmlActiveRendered) {
+                htmlTextActive = toHtml(true);
+                htmlActiveRendered = true;
+            }
             return htmlTextActive;
         } else {
+            if (!htmlRendered) {
+                htmlText = toHtml(false);
+                htmlRendered = true;
+            }
             return htmlText;
         }
     }
@@ -65,8 +95,8 @@ public class ReportSet {
 
         StringBuilder s = new StringBuilder();
         boolean init = true;
-        for (String message : messages) {
-            message = Util.convertToHtml(message);
+        for (LocalText.Message reportMessage : messages) {
+            String message = Util.convertToHtml(reportMessage.getText());
             if (init) {
                 if (activeMessage) {
                     s.append("<span bgcolor=Yellow>" + ReportBuffer.ACTIVE_MESSAGE_INDICATOR);
@@ -100,7 +130,7 @@ public class ReportSet {
     public static class Builder {
         private ChangeSet changeSet;
 
-        private final List<String> messages = Lists.newArrayList();
+        private final List<LocalText.Message> messages = Lists.newArrayList();
 
         private Builder() {
             // do nothing
@@ -112,7 +142,7 @@ public class ReportSet {
             return this;
         }
 
-        public Builder withMessage(String message) {
+        public Builder withMessage(LocalText.Message message) {
             this.messages.add(message);
 
             return this;
@@ -0,0 +1,388 @@
+package net.sf.rails.common.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Element;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.GameOptionsSet;
+import net.sf.rails.common.ResourceLoader;
+import net.sf.rails.util.SystemOS;
+
+/**
+ * GameDefinitionCache keeps the option-resolved content of the game definition files
+ * (Game.xml, Map.xml, Tiles.xml etc.), so that creating a game does not parse them again.
+ * <p>
+ * The cache is keyed by the file, the top tag and the SHA-256 hash of the file content,
+ * thus a changed file is parsed again. For each file the compiled variants are stored together with
+ * the values of the game options that were evaluated by IfOption/IfVariant when compiling:
+ * a variant is reused if the game options have the same values for these options only.
+ * <p>
+ * Optionally (load.definitionCache.disk) the variants are stored in the gamecache folder of
+ * the configuration folder, which is valid for the same Rails version only.
+ */
+public final class GameDefinitionCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GameDefinitionCache.class);
+
+    public static final String DISK_CACHE_ENABLED = "load.definitionCache.disk";
+
+    private static final String CACHE_FOLDER = "gamecache";
+    private static final int MAGIC = 0x52444546; // "RDEF"
+    private static final int FORMAT_VERSION = 1;
+    // string references of the cache files: strings are written once and referenced by index afterwards
+    private static final int NULL_STRING = -1;
+    private static final int NEW_STRING = -2;
+    // maximum number of cached files in memory
+    private static final int MAX_FILES = 128;
+
+    // cached files in order of access, guarded by itself
+    private static final Map<String, CachedFile> files = new LinkedHashMap<String, CachedFile>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedFile> eldest) {
+            return size() > MAX_FILES;
+        }
+    };
+
+    private GameDefinitionCache() {
+        // static only
+    }
+
+    /**
+     * Cached equivalent of {@link Tag#findTopTagInFile(String, String, String, GameOptionsSet)}
+     */
+    public static Tag findTopTagInFile(String filename, String directory, String tagName,
+            GameOptionsSet gameOptions) throws ConfigurationException {
+        byte[] content;
+        try (InputStream input = ResourceLoader.getInputStream(filename, directory)) {
+            if (input == null) {
+                throw new ConfigurationException("Cannot find file " + filename);
+            }
+            content = ByteStreams.toByteArray(input);
+        } catch (IOException e) {
+            throw new ConfigurationException("Could not read " + filename, e);
+        }
+
+        String key = directory + ResourceLoader.SEPARATOR + filename + "#" + tagName + "@"
+                + Hashing.sha256().hashBytes(content);
+        CachedFile cachedFile = getCachedFile(key);
+
+        CompiledTag compiled = cachedFile.find(gameOptions);
+        if (compiled == null) {
+            Element element = Tag.findTopElement(new ByteArrayInputStream(content), filename, tagName);
+            Map<String, String> usedOptions = new HashMap<>();
+            try {
+                compiled = CompiledTag.compile(new Tag(element, gameOptions, usedOptions));
+            } catch (ConfigurationException e) {
+                // keep the lazy parsing, errors occur only if the invalid tags are used
+                log.debug("Unable to compile {} for the cache", filename, e);
+                return new Tag(element, gameOptions);
+            }
+            if (cachedFile.add(new Variant(usedOptions, compiled))) {
+                writeCacheFile(cachedFile);
+            }
+            log.debug("Compiled {} for options {}", key, usedOptions);
+        }
+        return new Tag(compiled, gameOptions);
+    }
+
+    /**
+     * Removes all files from the memory cache
+     */
+    public static void clear() {
+        synchronized (files) {
+            files.clear();
+        }
+    }
+
+    private static CachedFile getCachedFile(String key) {
+        synchronized (files) {
+            CachedFile cachedFile = files.get(key);
+            if (cachedFile == null) {
+                cachedFile = readCacheFile(key);
+                if (cachedFile == null) {
+                    cachedFile = new CachedFile(key);
+                }
+                files.put(key, cachedFile);
+            }
+            return cachedFile;
+        }
+    }
+
+    private static File getCacheFile(String key) {
+        if (!Config.getBoolean(DISK_CACHE_ENABLED, false)) return null;
+        File folder = SystemOS.get().getConfigurationFolder(CACHE_FOLDER, true);
+        if (folder == null) return null;
+        return new File(folder, Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + ".bin");
+    }
+
+    private static CachedFile readCacheFile(String key) {
+        File file = getCacheFile(key);
+        if (file == null || !file.isFile()) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+                    || !in.readUTF().equals(String.valueOf(Config.getVersion())) || !in.readUTF().equals(key)) {
+                return null;
+            }
+            CachedFile cachedFile = new CachedFile(key);
+            StringTableReader strings = new StringTableReader(in);
+            int variants = in.readInt();
+            for (int i = 0; i < variants; i++) {
+                int size = in.readInt();
+                Map<String, String> usedOptions = new HashMap<>();
+                for (int j = 0; j < size; j++) {
+                    usedOptions.put(strings.read(), strings.read());
+                }
+                cachedFile.add(new Variant(usedOptions, CompiledTag.read(strings)));
+            }
+            log.debug("Read {} variants of {} from {}", variants, key, file);
+            return cachedFile;
+        } catch (IOException e) {
+            log.warn("Unable to read cached game definition {}", file, e);
+            return null;
+        }
+    }
+
+    private static void writeCacheFile(CachedFile cachedFile) {
+        File file = getCacheFile(cachedFile.key);
+        if (file == null) return;
+        try {
+            // write to a temporary file first, so that no partial file is read by others
+            File tempFile = File.createTempFile("definition", ".tmp", file.getParentFile());
+            try {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(String.valueOf(Config.getVersion()));
+                    out.writeUTF(cachedFile.key);
+                    StringTableWriter strings = new StringTableWriter(out);
+                    List<Variant> variants = ImmutableList.copyOf(cachedFile.variants);
+                    out.writeInt(variants.size());
+                    for (Variant variant : variants) {
+                        out.writeInt(variant.usedOptions.size());
+                        for (Map.Entry<String, String> option : variant.usedOptions.entrySet()) {
+                            strings.write(option.getKey());
+                            strings.write(option.getValue());
+                        }
+                        variant.root.write(strings);
+                    }
+                }
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        } catch (IOException e) {
+            log.warn("Unable to write cached game definition {}", file, e);
+        }
+    }
+
+    /**
+     * Compiled variants of one file
+     */
+    private static final class CachedFile {
+        private final String key;
+        private final List<Variant> variants = new CopyOnWriteArrayList<>();
+
+        private CachedFile(String key) {
+            this.key = key;
+        }
+
+        private CompiledTag find(GameOptionsSet gameOptions) {
+            for (Variant variant : variants) {
+                if (variant.matches(gameOptions)) return variant.root;
+            }
+            return null;
+        }
+
+        /**
+         * @return false if there is a variant for the same options already
+         */
+        private synchronized boolean add(Variant variant) {
+            for (Variant existing : variants) {
+                if (existing.usedOptions.equals(variant.usedOptions)) return false;
+            }
+            variants.add(variant);
+            return true;
+        }
+    }
+
+    /**
+     * Content of a file compiled for the values of the evaluated options
+     */
+    private static final class Variant {
+        // option values can be null
+        private final Map<String, String> usedOptions;
+        private final CompiledTag root;
+
+        private Variant(Map<String, String> usedOptions, CompiledTag root) {
+            this.usedOptions = Collections.unmodifiableMap(new HashMap<>(usedOptions));
+            this.root = root;
+        }
+
+        private boolean matches(GameOptionsSet gameOptions) {
+            if (gameOptions == null) return usedOptions.isEmpty();
+            for (Map.Entry<String, String> option : usedOptions.entrySet()) {
+                if (!Objects.equals(gameOptions.get(option.getKey()), option.getValue())) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Immutable content of a {@link Tag} with all options resolved
+     */
+    static final class CompiledTag {
+        private final ImmutableMap<String, String> attributes;
+        private final ImmutableMap<String, ImmutableList<CompiledTag>> children;
+        private final String text;
+
+        private CompiledTag(ImmutableMap<String, String> attributes,
+                ImmutableMap<String, ImmutableList<CompiledTag>> children, String text) {
+            this.attributes = attributes;
+            this.children = children;
+            this.text = text;
+        }
+
+        private static CompiledTag compile(Tag tag) throws ConfigurationException {
+            ImmutableMap.Builder<String, ImmutableList<CompiledTag>> children = ImmutableMap.builder();
+            for (Map.Entry<String, List<Tag>> entry : tag.getChildren().entrySet()) {
+                ImmutableList.Builder<CompiledTag> childTags = ImmutableList.builder();
+                for (Tag child : entry.getValue()) {
+                    childTags.add(compile(child));
+                }
+                children.put(entry.getKey(), childTags.build());
+            }
+            return new CompiledTag(ImmutableMap.copyOf(tag.getAttributes()), children.build(), tag.getText());
+        }
+
+        ImmutableMap<String, String> getAttributes() {
+            return attributes;
+        }
+
+        ImmutableMap<String, ImmutableList<CompiledTag>> getChildren() {
+            return children;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        private void write(StringTableWriter strings) throws IOException {
+            strings.out.writeInt(attributes.size());
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                strings.write(attribute.getKey());
+                strings.write(attribute.getValue());
+            }
+            strings.write(text);
+            strings.out.writeInt(children.size());
+            for (Map.Entry<String, ImmutableList<CompiledTag>> entry : children.entrySet()) {
+                strings.write(entry.getKey());
+                strings.out.writeInt(entry.getValue().size());
+                for (CompiledTag child : entry.getValue()) {
+                    child.write(strings);
+                }
+            }
+        }
+
+        private static CompiledTag read(StringTableReader strings) throws IOException {
+            int size = strings.in.readInt();
+            Map<String, String> attributes = Maps.newLinkedHashMap();
+            for (int i = 0; i < size; i++) {
+                attributes.put(strings.read(), strings.read());
+            }
+            String text = strings.read();
+            size = strings.in.readInt();
+            ImmutableMap.Builder<String, ImmutableList<CompiledTag>> children = ImmutableMap.builder();
+            for (int i = 0; i < size; i++) {
+                String name = strings.read();
+                int count = strings.in.readInt();
+                ImmutableList.Builder<CompiledTag> childTags = ImmutableList.builder();
+                for (int j = 0; j < count; j++) {
+                    childTags.add(read(strings));
+                }
+                children.put(name, childTags.build());
+            }
+            return new CompiledTag(ImmutableMap.copyOf(attributes), children.build(), text);
+        }
+    }
+
+    private static final class StringTableWriter {
+        private final DataOutputStream out;
+        private final Map<String, Integer> indices = Maps.newHashMap();
+
+        private StringTableWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        private void write(String value) throws IOException {
+            if (value == null) {
+                out.writeInt(NULL_STRING);
+                return;
+            }
+            Integer index = indices.get(value);
+            if (index != null) {
+                out.writeInt(index);
+            } else {
+                indices.put(value, indices.size());
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(NEW_STRING);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static final class StringTableReader {
+        private final DataInputStream in;
+        private final List<String> strings = Lists.newArrayList();
+
+        private StringTableReader(DataInputStream in) {
+            this.in = in;
+        }
+
+        private String read() throws IOException {
+            int index = in.readInt();
+            if (index == NULL_STRING) return null;
+            if (index == NEW_STRING) {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                String value = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(value);
+                return value;
+            }
+            if (index < 0 || index >= strings.size()) throw new IOException("Invalid string index " + index);
+            return strings.get(index);
+        }
+    }
+
+}
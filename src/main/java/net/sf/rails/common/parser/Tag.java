@@ -17,6 +17,7 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 
@@ -34,6 +35,10 @@ public class Tag {
     // static data
     private final Element element;
     private final GameOptionsSet gameOptions;
+    // option-resolved content, if created from the GameDefinitionCache
+    private final GameDefinitionCache.CompiledTag compiled;
+    // records the options evaluated by IfOption, null if not recorded
+    private final Map<String, String> usedOptions;
 
     // dynamic data
     private Map<String, String> attributes = null;
@@ -44,8 +49,25 @@ public class Tag {
 
 
     public Tag(Element element, GameOptionsSet gameOptions) {
+        this(element, gameOptions, null);
+    }
+
+    /**
+     * @param usedOptions receives the names and values of all options evaluated
+     * by this tag and its children
+     */
+    Tag(Element element, GameOptionsSet gameOptions, Map<String, String> usedOptions) {
         this.element = element;
         this.gameOptions = gameOptions;
+        this.compiled = null;
+        this.usedOptions = usedOptions;
+    }
+
+    Tag(GameDefinitionCache.CompiledTag compiled, GameOptionsSet gameOptions) {
+        this.element = null;
+        this.gameOptions = gameOptions;
+        this.compiled = compiled;
+        this.usedOptions = null;
     }
 
     public Map<String, List<Tag>> getChildren() throws ConfigurationException {
@@ -233,6 +255,23 @@ public class Tag {
             throws ConfigurationException {
 
         if (parsed || parsing) return;
+
+        if (compiled != null) {
+            attributes = new HashMap<>(compiled.getAttributes());
+            children = new HashMap<>();
+            for (Map.Entry<String, ? extends List<GameDefinitionCache.CompiledTag>> entry
+                    : compiled.getChildren().entrySet()) {
+                List<Tag> childTags = new ArrayList<>(entry.getValue().size());
+                for (GameDefinitionCache.CompiledTag child : entry.getValue()) {
+                    childTags.add(new Tag(child, gameOptions));
+                }
+                children.put(entry.getKey(), childTags);
+            }
+            text = compiled.getText();
+            parsed = true;
+            return;
+        }
+
         parsing = true;
 
         attributes = new HashMap<>();
@@ -311,6 +350,9 @@ public class Tag {
                     }
 
                     String optionValue = gameOptions.get(name);
+                    if (usedOptions != null) {
+                        usedOptions.put(name, optionValue);
+                    }
 
                     // For backwards compatibility: search for an extended name
                     /* This applies to parametrized options, such as "UnlimitedTopTrains".
@@ -352,7 +394,7 @@ public class Tag {
                     if (!children.containsKey(childTagName)) {
                         children.put(childTagName, new ArrayList<Tag>());
                     }
-                    children.get(childTagName).add(new Tag(childElement, gameOptions));
+                    children.get(childTagName).add(new Tag(childElement, gameOptions, usedOptions));
                 }
             } else if (childNode.getNodeType() == Node.TEXT_NODE) {
                 textBuffer.append(childNode.getNodeValue());
@@ -377,6 +419,29 @@ public class Tag {
      */
     public static Tag findTopTagInFile(String filename, String directory,
                                        String tagName, GameOptionsSet gameOptions) throws ConfigurationException {
+        try (InputStream input = ResourceLoader.getInputStream(filename, directory)) {
+            return new Tag(findTopElement(input, filename, tagName), gameOptions);
+        } catch (IOException e) {
+            throw new ConfigurationException("Could not read " + filename, e);
+        }
+    }
+
+    /**
+     * Parses the xml content and searches the root level for an element with the supplied name.
+     *
+     * @param input    the content of the file, null if the file was not found
+     * @param filename the name of the file, used for error messages
+     * @param tagName  the name of the top-level tag to find
+     * @return the named element
+     * @throws ConfigurationException if the content cannot be parsed or does not contain
+     *                                a top level element with the given name.
+     */
+    static Element findTopElement(InputStream input, String filename, String tagName)
+            throws ConfigurationException {
+        if (input == null) {
+            throw new ConfigurationException("Cannot find file " + filename);
+        }
+
         Document doc = null;
         try {
             // Step 1: create a DocumentBuilderFactory and setNamespaceAware
@@ -387,7 +452,7 @@ public class Tag {
             DocumentBuilder db = dbf.newDocumentBuilder();
 
             // Step 3: parse the input file to get a Document object
-            doc = db.parse(ResourceLoader.getInputStream(filename, directory));
+            doc = db.parse(input);
         } catch (ParserConfigurationException | SAXException | IOException e) {
             throw new ConfigurationException("Could not read/parse " + filename
                     + " to find element " + tagName, e);
@@ -404,12 +469,15 @@ public class Tag {
             if ((childNode != null)
                     && (childNode.getNodeName().equals(tagName))
                     && (childNode.getNodeType() == Node.ELEMENT_NODE)) {
-                return new Tag((Element) childNode, gameOptions);
+                return (Element) childNode;
             }
         }
         throw new ConfigurationException("Could not find " + tagName + " in " + filename);
     }
 
+    /**
+     * @return the DOM element, null if the tag was created from the {@link GameDefinitionCache}
+     */
     public Element getElement() {
         return element;
     }
@@ -23,7 +23,7 @@ import net.sf.rails.game.state.Observable;
  * In that case, the bonus is not assigned to the city, but added at the final evaluation
  * provided that at least one train has reached that city. This applies to 18Scan Kiruna.
  */
-public class Bonus implements Closeable, RevenueStaticModifier, RevenueDynamicModifier {
+public class Bonus implements Closeable, RevenueStaticModifier, RevenueDynamicRunModifier {
 
     private PublicCompany owner;
     private List<MapHex> locations;
@@ -194,16 +194,16 @@ public class Bonus implements Closeable, RevenueStaticModifier, RevenueDynamicMo
     }
 
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         return value;
     }
 
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
         int hits = 0;
         if (runs.size() == 0) return 0;
-        for (RevenueTrainRun run:runs) {
-            if (run.getUniqueVertices().contains(bonusVertex)) {
+        for (int i = 0; i < runs.size(); i++) {
+            if (runs.get(i).getRunVertices().contains(bonusVertex)) {
                 hits++;
             }
         }
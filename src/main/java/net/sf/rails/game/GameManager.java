@@ -16,8 +16,11 @@ import net.sf.rails.game.special.SpecialProperty;
 import net.sf.rails.game.state.*;
 import net.sf.rails.game.state.Currency;
 import net.sf.rails.ui.swing.GameUIManager;
+import net.sf.rails.util.ActionJournal;
 import net.sf.rails.util.GameLoader;
 import net.sf.rails.util.GameSaver;
+import net.sf.rails.util.GameSnapshot;
+import net.sf.rails.util.SystemOS;
 import net.sf.rails.util.Util;
 
 import org.apache.commons.lang3.StringUtils;
@@ -54,6 +57,7 @@ public class GameManager extends RailsManager implements Configurable, Owner {
     public static final String ARCHIVE_ENABLED = "save.archive.enabled";
     public static final String ARCHIVE_DIRECTORY = "save.archive.dir";
     public static final String ARCHIVE_KEEP_COUNT = "save.archive.keep_count";
+    public static final String SNAPSHOT_ENABLED = "save.snapshot.enabled";
 
 
     protected Class<? extends StockRound> stockRoundClass = StockRound.class;
@@ -87,6 +91,12 @@ public class GameManager extends RailsManager implements Configurable, Owner {
      */
     protected boolean reloading = false;
 
+    /**
+     * Will only be set during the bulk replay of a game load (all actions except the final one),
+     * skips the work that is only needed for interactive play
+     */
+    protected boolean bulkReplay = false;
+
     protected final EnumMap<GameDef.Parm, Object> gameParameters = new EnumMap<>(GameDef.Parm.class);
 
     /**
@@ -148,6 +158,17 @@ public class GameManager extends RailsManager implements Configurable, Owner {
      */
     protected boolean recoverySaveWarning = true;
 
+    /**
+     * journal of the executed actions used by the recoverySave
+     */
+    private ActionJournal recoveryJournal = null;
+
+    /**
+     * Number of actions restored from a snapshot at load,
+     * the undo history of those actions requires a full replay
+     */
+    protected int snapshotActions = 0;
+
     /**
      * Flag to skip a subsequent Done action (if present) during reloading.
      * <br>This is a fix to maintain backwards compatibility when redundant
@@ -685,7 +706,7 @@ public class GameManager extends RailsManager implements Configurable, Owner {
     }
 
     public void reportAllPlayersPassed() {
-        ReportBuffer.add(this, LocalText.getText("ALL_PASSED"));
+        ReportBuffer.addText(this, "ALL_PASSED");
         firstAllPlayersPassed.set(true);
     }
 
@@ -772,13 +793,13 @@ public class GameManager extends RailsManager implements Configurable, Owner {
             String actionPlayerName = action.getPlayerName();
             String currentPlayerName = getCurrentPlayer().getId();
             if (!actionPlayerName.equals(currentPlayerName)) {
-                DisplayBuffer.add(this, LocalText.getText("WrongPlayer", actionPlayerName, currentPlayerName));
+                DisplayBuffer.addText(this, "WrongPlayer", actionPlayerName, currentPlayerName);
                 return false;
             }
 
             // Check if the action is allowed
             if (!possibleActions.validate(action)) {
-                DisplayBuffer.add(this, LocalText.getText("ActionNotAllowed", action.toString()));
+                DisplayBuffer.addText(this, "ActionNotAllowed", action.toString());
                 return false;
             }
 
@@ -828,11 +849,22 @@ public class GameManager extends RailsManager implements Configurable, Owner {
         if (changeStack.isRedoPossible()) {
             possibleActions.add(new GameAction(getRoot(), GameAction.Mode.REDO));
         }
+        // the undo history before the snapshot is rebuilt on request (see isHistoryRebuildRequired)
+        if (!changeStack.isUndoPossible() && snapshotActions > 0 && !executedActions.isEmpty()) {
+            possibleActions.add(new GameAction(getRoot(), GameAction.Mode.FORCED_UNDO));
+        }
+
+        // speculative actions are rolled back, thus not saved
+        if (result && !isReloading() && !changeStack.isSpeculative()) {
+            recoverySave();
+        }
 
         // logging of game actions activated
         log.debug ("Action result: {}", result);
-        for (PossibleAction pa : possibleActions.getList()) {
-            log.info("{}", pa);
+        if (!changeStack.isSpeculative()) {
+            for (PossibleAction pa : possibleActions.getList()) {
+                log.info("{}", pa);
+            }
         }
 
         return result;
@@ -960,17 +992,19 @@ public class GameManager extends RailsManager implements Configurable, Owner {
             if (!isGameOver()) setCorrectionActions();
         }
 
-       // Log possible actions (normally this is outcommented)
-        for (PossibleAction a : possibleActions.getList()) {
-            log.info("{}", a);
+       // Log possible actions (normally this is outcommented), not during bulk replay
+        if (!bulkReplay) {
+            for (PossibleAction a : possibleActions.getList()) {
+                log.info("{}", a);
+            }
         }
 
         logActionTaken (action);
 
         // New in Rails2.0: Check if the action is allowed
         if (!possibleActions.validate(action)) {
-            DisplayBuffer.add(this, LocalText.getText("ActionNotAllowed",
-                    action.toString()));
+            DisplayBuffer.addText(this, "ActionNotAllowed",
+                    action.toString());
             return false;
         }
 
@@ -1016,23 +1050,39 @@ public class GameManager extends RailsManager implements Configurable, Owner {
 
     /**
      * recoverySave method
-     * Uses filePath defined in save.recovery.filepath
+     * Appends the new executed actions to the recovery journal, actions removed by undo are truncated
      */
     protected void recoverySave() {
         if (Config.get("save.recovery.active", "yes").equalsIgnoreCase("no")) return;
 
-        GameSaver gameSaver = new GameSaver(getRoot().getGameData(), executedActions.view());
         try {
-            gameSaver.autoSave();
+            if (recoveryJournal == null) {
+                File directory = SystemOS.get().getConfigurationFolder(GameSaver.AUTOSAVE_FOLDER, true);
+                recoveryJournal = ActionJournal.create(new File(directory, GameSaver.AUTOSAVE_FILE),
+                        getRoot().getGameData(), ActionJournal.DEFAULT_SYNC_INTERVAL);
+            }
+            recoveryJournal.synchronize(executedActions.view());
             recoverySaveWarning = false;
         } catch (IOException e) {
             // suppress warning after first occurrence
             if (!recoverySaveWarning) {
-                DisplayBuffer.add(this, LocalText.getText("RecoverySaveFailed", e.getMessage()));
+                DisplayBuffer.addText(this, "RecoverySaveFailed", e.getMessage());
                 recoverySaveWarning = true;
             }
             log.error("autosave failed", e);
+            // the journal is recreated at the next recoverySave
+            closeRecoveryJournal();
+        }
+    }
+
+    private void closeRecoveryJournal() {
+        if (recoveryJournal == null) return;
+        try {
+            recoveryJournal.close();
+        } catch (IOException e) {
+            log.warn("Unable to close recovery journal", e);
         }
+        recoveryJournal = null;
     }
 
     protected boolean save(GameAction saveAction) {
@@ -1041,11 +1091,15 @@ public class GameManager extends RailsManager implements Configurable, Owner {
         try {
             gameSaver.saveGame(file);
         } catch (IOException e) {
-            DisplayBuffer.add(this, LocalText.getText("SaveFailed", e.getMessage()));
+            DisplayBuffer.addText(this, "SaveFailed", e.getMessage());
             log.error("save failed", e);
             return false;
         }
 
+        if (Config.getBoolean(SNAPSHOT_ENABLED, true)) {
+            GameSnapshot.save(file, getRoot(), executedActions.view());
+        }
+
         boolean archive = Config.getBoolean(ARCHIVE_ENABLED, false);
         if ( archive ) {
             int count = Config.getInt(ARCHIVE_KEEP_COUNT, 5);
@@ -1144,8 +1198,8 @@ public class GameManager extends RailsManager implements Configurable, Owner {
                 log.debug("loaded {}: {}", i, savedActions.get(i));
             }
 
-            DisplayBuffer.add(this, LocalText.getText("LOAD_FAILED_MESSAGE",
-                    "loaded file has less actions than current game"));
+            DisplayBuffer.addText(this, "LOAD_FAILED_MESSAGE",
+                    "loaded file has less actions than current game");
             return false;
         }
 
@@ -1160,10 +1214,10 @@ public class GameManager extends RailsManager implements Configurable, Owner {
                     executedAction = executedActions.get(index);
                     if (!savedAction.equalsAsAction(executedAction)) {
                         log.warn("loaded action {} is not the same as expected game action {}", savedAction, executedAction);
-                        DisplayBuffer.add(this, LocalText.getText("LoadFailed",
+                        DisplayBuffer.addText(this, "LoadFailed",
                                 "loaded action \"" + savedAction.toString()
                                         + "\"<br>   is not same as game action \"" + executedAction.toString()
-                                        + "\""));
+                                        + "\"");
                         return false;
                     }
                 } else {
@@ -1173,8 +1227,8 @@ public class GameManager extends RailsManager implements Configurable, Owner {
                     // Found a new action: execute it
                     if (!processOnReload(savedAction)) {
                         log.error("Reload interrupted");
-                        DisplayBuffer.add(this, LocalText.getText("LoadFailed",
-                                " loaded action \"" + savedAction.toString() + "\" is invalid"));
+                        DisplayBuffer.addText(this, "LoadFailed",
+                                " loaded action \"" + savedAction.toString() + "\" is invalid");
                         break;
                     }
                 }
@@ -1182,7 +1236,7 @@ public class GameManager extends RailsManager implements Configurable, Owner {
             }
         } catch (Exception e) {
             log.error("Reload failed", e);
-            DisplayBuffer.add(this, LocalText.getText("LoadFailed", e.getMessage()));
+            DisplayBuffer.addText(this, "LoadFailed", e.getMessage());
             return false;
         }
 
@@ -1216,7 +1270,7 @@ public class GameManager extends RailsManager implements Configurable, Owner {
 
         } catch (IOException e) {
             log.error("Save failed", e);
-            DisplayBuffer.add(this, LocalText.getText("SaveFailed", e.getMessage()));
+            DisplayBuffer.addText(this, "SaveFailed", e.getMessage());
         }
 
         return result;
@@ -1372,9 +1426,9 @@ public class GameManager extends RailsManager implements Configurable, Owner {
             if (newPresident != null) {
                 bankrupter.getPortfolioModel().swapPresidentCertificate(company,
                         newPresident.getPortfolioModel());
-                ReportBuffer.add(this, LocalText.getText("IS_NOW_PRES_OF",
+                ReportBuffer.addText(this, "IS_NOW_PRES_OF",
                         newPresident.getId(),
-                        company.getId()));
+                        company.getId());
             } else {
                 // This process is game-dependent.
                 newPresident = processCompanyAfterPlayerBankruptcy(bankrupter, company);
@@ -1412,7 +1466,7 @@ public class GameManager extends RailsManager implements Configurable, Owner {
 
     public void registerBrokenBank() {
         gameOverPending.set(true);
-        ReportBuffer.add(this, LocalText.getText("BankIsBrokenReportText"));
+        ReportBuffer.addText(this, "BankIsBrokenReportText");
         String msgContinue = "";
         if (gameEndWhen == GameEnd.AFTER_SET_OF_ORS)
             msgContinue = LocalText.getText("gameOverPlaySetOfORs");
@@ -1425,9 +1479,9 @@ public class GameManager extends RailsManager implements Configurable, Owner {
 
     public void registerMaxedSharePrice(PublicCompany company, StockSpace space) {
         gameOverPending.set(true);
-        ReportBuffer.add(this, LocalText.getText("MaxedSharePriceReportText",
+        ReportBuffer.addText(this, "MaxedSharePriceReportText",
                 company.getId(),
-                Bank.format(this, space.getPrice())));
+                Bank.format(this, space.getPrice()));
         String msgContinue = "";
         if (gameEndWhen == GameEnd.AFTER_SET_OF_ORS)
             msgContinue = LocalText.getText("gameOverPlaySetOfORs");
@@ -1759,6 +1813,40 @@ public class GameManager extends RailsManager implements Configurable, Owner {
         this.reloading = reloading;
     }
 
+    public boolean isBulkReplay() {
+        return bulkReplay;
+    }
+
+    public void setBulkReplay(boolean bulkReplay) {
+        this.bulkReplay = bulkReplay;
+    }
+
+    /**
+     * @param snapshotActions number of actions restored from a snapshot at load
+     */
+    public void setSnapshotActions(int snapshotActions) {
+        this.snapshotActions = snapshotActions;
+    }
+
+    /**
+     * @return true if the undo action requires the undo history before the restored snapshot,
+     * which has to be rebuilt by a full replay of the game
+     */
+    public boolean isHistoryRebuildRequired(GameAction action) {
+        if (snapshotActions == 0) return false;
+        if (action.getMode() != GameAction.Mode.UNDO && action.getMode() != GameAction.Mode.FORCED_UNDO) {
+            return false;
+        }
+        return !getRoot().getStateManager().getChangeStack().isUndoPossible();
+    }
+
+    /**
+     * @return the actions executed so far
+     */
+    public List<PossibleAction> getExecutedActions() {
+        return executedActions.view();
+    }
+
     public void setSkipDone(GameDef.OrStep step) {
         skipNextDone = true;
         skippedStep = step;
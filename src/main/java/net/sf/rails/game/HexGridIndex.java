@@ -0,0 +1,101 @@
+package net.sf.rails.game;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * HexGridIndex is a packed index of the hexes of the map
+ * <p>
+ * Each hex gets a dense index (see {@link MapHex#getGridIndex()}), the neighbours are stored in an
+ * array with six entries per hex. The distances between all hexes are calculated once on the first
+ * request by a breadth-first search from each hex.
+ */
+final class HexGridIndex {
+
+    static final int NO_HEX = -1;
+
+    private static final int SIDES = 6;
+
+    private final ImmutableList<MapHex> hexes;
+
+    // neighbour index by hex index * 6 + side number, NO_HEX if there is no valid neighbour
+    private final int[] neighbours;
+
+    // distance by hex index * number of hexes + other hex index, NO_HEX if not reachable
+    private short[] distances;
+
+    HexGridIndex(List<MapHex> hexes) {
+        this.hexes = ImmutableList.copyOf(hexes);
+        for (int i = 0; i < this.hexes.size(); i++) {
+            this.hexes.get(i).setGridIndex(i);
+        }
+        neighbours = new int[this.hexes.size() * SIDES];
+        Arrays.fill(neighbours, NO_HEX);
+    }
+
+    void setNeighbour(MapHex hex, HexSide side, MapHex neighbour) {
+        neighbours[hex.getGridIndex() * SIDES + side.getTrackPointNumber()] = neighbour.getGridIndex();
+        // the distances have to be recalculated
+        distances = null;
+    }
+
+    int size() {
+        return hexes.size();
+    }
+
+    MapHex getHex(int index) {
+        return hexes.get(index);
+    }
+
+    /**
+     * @return the neighbour of the hex on that side, null if there is no valid neighbour
+     */
+    MapHex getNeighbour(MapHex hex, HexSide side) {
+        int neighbour = neighbours[hex.getGridIndex() * SIDES + side.getTrackPointNumber()];
+        return neighbour == NO_HEX ? null : hexes.get(neighbour);
+    }
+
+    /**
+     * @return the number of steps between valid neighbours from hex to other, NO_HEX if there is no path
+     */
+    int getDistance(MapHex hex, MapHex other) {
+        return getDistance(hex.getGridIndex(), other.getGridIndex());
+    }
+
+    int getDistance(int index, int otherIndex) {
+        if (distances == null) {
+            distances = calculateDistances();
+        }
+        return distances[index * hexes.size() + otherIndex];
+    }
+
+    private short[] calculateDistances() {
+        int size = hexes.size();
+        short[] result = new short[size * size];
+        Arrays.fill(result, (short) NO_HEX);
+
+        int[] queue = new int[size];
+        for (int start = 0; start < size; start++) {
+            int offset = start * size;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            result[offset + start] = 0;
+            while (head < tail) {
+                int current = queue[head++];
+                short next = (short) (result[offset + current] + 1);
+                for (int s = current * SIDES; s < current * SIDES + SIDES; s++) {
+                    int neighbour = neighbours[s];
+                    if (neighbour != NO_HEX && result[offset + neighbour] == NO_HEX) {
+                        result[offset + neighbour] = next;
+                        queue[tail++] = neighbour;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+}
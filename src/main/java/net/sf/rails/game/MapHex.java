@@ -21,7 +21,6 @@ import com.google.common.collect.Sets;
 import com.google.common.collect.Sets.SetView;
 
 import net.sf.rails.algorithms.RevenueBonusTemplate;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.common.parser.Configurable;
 import net.sf.rails.common.parser.ConfigurationException;
@@ -158,6 +157,9 @@ public class MapHex extends RailsModel implements RailsOwner, Configurable {
 
     private final Coordinates coordinates;
 
+    // dense index of the hex in the map, set by the MapManager (see HexGridIndex)
+    private int gridIndex = -1;
+
     private String preprintedTileId;
     private String preprintedPictureId;
     private HexSide preprintedTileRotation;
@@ -442,6 +444,14 @@ public class MapHex extends RailsModel implements RailsOwner, Configurable {
         return coordinates;
     }
 
+    int getGridIndex() {
+        return gridIndex;
+    }
+
+    void setGridIndex(int gridIndex) {
+        this.gridIndex = gridIndex;
+    }
+
     public boolean isPreprintedTileCurrent() {
         return currentTile.value().getId().equals(preprintedTileId);
     }
@@ -664,8 +674,8 @@ public class MapHex extends RailsModel implements RailsOwner, Configurable {
                 // tokens
                 token.moveTo(company);
                 log.debug("Duplicate token {} moved from {} to {}", token.getUniqueId(), origin.getSpecificId(), company.getId());
-                ReportBuffer.add(this, LocalText.getText(
-                        "DuplicateTokenRemoved", company.getId(), getId()));
+                ReportBuffer.addText(this,
+                        "DuplicateTokenRemoved", company.getId(), getId());
             } else {
                 token.moveTo(target);
                 log.debug("Token {} moved from {} to {}", token.getUniqueId(), origin.getSpecificId(), target.getSpecificId());
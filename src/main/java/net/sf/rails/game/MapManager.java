@@ -1,19 +1,15 @@
 package net.sf.rails.game;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 import net.sf.rails.common.Config;
 import net.sf.rails.common.parser.Configurable;
 import net.sf.rails.common.parser.ConfigurationException;
 import net.sf.rails.common.parser.Tag;
 
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedSet;
-import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.Table;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +22,8 @@ public class MapManager extends RailsManager implements Configurable {
     private MapOrientation mapOrientation;
 
     private ImmutableMap<MapHex.Coordinates, MapHex> hexes;
-    private ImmutableTable<MapHex, HexSide, MapHex> hexTable;
+    // neighbours and distances by dense hex index
+    private HexGridIndex hexGrid;
 
     private MapHex.Coordinates minimum;
     private MapHex.Coordinates maximum;
@@ -36,9 +33,6 @@ public class MapManager extends RailsManager implements Configurable {
 
     // Stop property defaults per stop type
     private EnumMap<Stop.Type, Access> defaultAccessTypes = new EnumMap<>(Stop.Type.class);
-    
-    // if required: distance table
-    private Table<MapHex, MapHex, Integer> hexDistances;
 
     // Optional map image (SVG file)
     // FIXME: Move to UI class
@@ -105,14 +99,14 @@ public class MapManager extends RailsManager implements Configurable {
         }
 
         // Initialise the neighbours
-        ImmutableTable.Builder<MapHex, HexSide, MapHex> hexTableBuilder = ImmutableTable.builder();
+        hexGrid = new HexGridIndex(hexes.values().asList());
         for (MapHex hex:hexes.values()) {
            for (HexSide side:HexSide.all()){
                 MapHex neighbour = hexes.get(mapOrientation.
                         getAdjacentCoordinates(hex.getCoordinates(), side));
                 if (neighbour != null) {
                     if (hex.isValidNeighbour(neighbour, side)) {
-                        hexTableBuilder.put(hex, side, neighbour);
+                        hexGrid.setNeighbour(hex, side, neighbour);
                         if (hex.isRiverNeighbour(neighbour)) {
                             hex.addRiverSide(side);
                             neighbour.addRiverSide(side.opposite());
@@ -129,7 +123,6 @@ public class MapManager extends RailsManager implements Configurable {
                 }
             }
         }
-        hexTable = hexTableBuilder.build();
 
         for (PublicCompany company : root.getCompanyManager().getAllPublicCompanies()) {
             List<MapHex> homeHexes = company.getHomeHexes();
@@ -180,7 +173,7 @@ public class MapManager extends RailsManager implements Configurable {
     
     
     public MapHex getNeighbour(MapHex hex, HexSide side) {
-        return hexTable.get(hex, side);
+        return hexGrid.getNeighbour(hex, side);
     }
 
     /**
@@ -297,32 +290,17 @@ public class MapManager extends RailsManager implements Configurable {
     /**
      * Calculate the distance between two hexes as in 1835,
      * i.e. as "the crow without a passport flies".
+     * <p> Distances are calculated once for all hexes.
+     * @throws IllegalArgumentException if hex2 cannot be reached from hex1
      */
     public int getHexDistance (MapHex hex1, MapHex hex2) {
-        if (hexDistances == null) {
-            hexDistances = HashBasedTable.create();
-        }
-
-        if (!hexDistances.contains(hex1, hex2)) {
-            calculateHexDistances(hex1, hex1, 0);
+        int distance = hexGrid.getDistance(hex1, hex2);
+        if (distance == HexGridIndex.NO_HEX) {
+            throw new IllegalArgumentException("Hex " + hex2 + " cannot be reached from hex " + hex1);
         }
-        return hexDistances.get(hex1, hex2);
+        return distance;
     }
 
-    private void calculateHexDistances (MapHex initHex, MapHex currentHex, int depth) {
-        hexDistances.put(initHex, currentHex, depth);
-        
-        // check for next hexes
-        depth ++;
-        for (MapHex nextHex:hexTable.row(currentHex).values()) {
-            if (!hexDistances.contains(initHex, nextHex) ||
-                    depth < hexDistances.get(initHex, nextHex)) {
-                calculateHexDistances(initHex, nextHex, depth);
-            }
-        }
-    }
-
-
     /**
      * Calculate the distances between a given tokenable city hex
      * and all other tokenable city hexes.
@@ -332,20 +310,14 @@ public class MapManager extends RailsManager implements Configurable {
      */
     public SortedSet<Integer> getCityDistances (MapHex initHex) {
         
-        if (hexDistances == null) {
-            hexDistances = HashBasedTable.create();
-        }
-
-        if (!hexDistances.containsRow(initHex)) {
-            calculateHexDistances(initHex, initHex, 0);
-        }
-        
         ImmutableSortedSet.Builder<Integer> distances = 
                 ImmutableSortedSet.naturalOrder();
         
-        for (Entry<MapHex, Integer> otherHex:hexDistances.row(initHex).entrySet()) {
-            if (otherHex.getKey().getCurrentTile().hasStations()) {
-                distances.add(otherHex.getValue());
+        int initIndex = initHex.getGridIndex();
+        for (int i = 0; i < hexGrid.size(); i++) {
+            int distance = hexGrid.getDistance(initIndex, i);
+            if (distance != HexGridIndex.NO_HEX && hexGrid.getHex(i).getCurrentTile().hasStations()) {
+                distances.add(distance);
             }
         }
         return distances.build();
@@ -1,5 +1,6 @@
 package net.sf.rails.game;
 
+import com.google.common.base.Supplier;
 import com.google.common.collect.Iterables;
 import net.sf.rails.common.*;
 import net.sf.rails.game.financial.*;
@@ -107,7 +108,7 @@ public class OperatingRound extends Round implements Observer {
     public void start() {
         thisOrNumber = gameManager.getORId();
 
-        ReportBuffer.add(this, LocalText.getText("START_OR", thisOrNumber));
+        ReportBuffer.addText(this, "START_OR", thisOrNumber);
 
         for (Player player : getRoot().getPlayerManager().getPlayers()) {
             player.setWorthAtORStart();
@@ -148,8 +149,8 @@ public class OperatingRound extends Round implements Observer {
                     if (revenue != 0) {
                         if (count++ == 0) ReportBuffer.add(this, "");
                         String revText = Currency.fromBank(revenue, recipient);
-                        ReportBuffer.add(this, LocalText.getText("ReceivesFor",
-                                recipient.getId(), revText, priv.getId()));
+                        ReportBuffer.addText(this, "ReceivesFor",
+                                recipient.getId(), revText, priv.getId());
                     }
                 }
             }
@@ -185,17 +186,17 @@ public class OperatingRound extends Round implements Observer {
         // }
 
         ReportBuffer.add(this, " ");
-        ReportBuffer.add(this,
-                LocalText.getText("EndOfOperatingRound", thisOrNumber));
+        ReportBuffer.addText(this,
+                "EndOfOperatingRound", thisOrNumber);
 
         // Update the worth increase per player
         int orWorthIncrease;
         for (Player player : getRoot().getPlayerManager().getPlayers()) {
             player.setLastORWorthIncrease();
             orWorthIncrease = player.getLastORWorthIncrease().value();
-            ReportBuffer.add(this, LocalText.getText("ORWorthIncrease",
+            ReportBuffer.addText(this, "ORWorthIncrease",
                     player.getId(), thisOrNumber,
-                    Bank.format(this, orWorthIncrease)));
+                    Bank.format(this, orWorthIncrease));
         }
 
         // OR done. Inform GameManager.
@@ -221,8 +222,8 @@ public class OperatingRound extends Round implements Observer {
                 && !(action instanceof DiscardTrain) && !action.isCorrection()) {
             PublicCompany company = ((PossibleORAction) action).getCompany();
             if (company != operatingCompany.value()) {
-                DisplayBuffer.add(this, LocalText.getText("WrongCompany",
-                        company.getId(), operatingCompany.value().getId()));
+                DisplayBuffer.addText(this, "WrongCompany",
+                        company.getId(), operatingCompany.value().getId());
                 return false;
             }
         }
@@ -328,10 +329,10 @@ public class OperatingRound extends Round implements Observer {
 
         } else {
 
-            DisplayBuffer.add(
+            DisplayBuffer.addText(
                     this,
-                    LocalText.getText("UnexpectedAction",
-                            selectedAction.toString()));
+                    "UnexpectedAction",
+                            selectedAction.toString());
             return false;
         }
 
@@ -385,13 +386,13 @@ public class OperatingRound extends Round implements Observer {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText(
+            DisplayBuffer.addText(this,
                     "CannotSwapPrivateForCertificate",
                     player.getId(),
                     privateCompany.getId(),
                     sp.getShare(),
                     publicCompany.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -401,11 +402,11 @@ public class OperatingRound extends Round implements Observer {
                         ? ipo.findCertificate(publicCompany,false)
                         : pool.findCertificate(publicCompany,false);
         cert.moveTo(player);
-        ReportBuffer.add(this, LocalText.getText("SwapsPrivateForCertificate",
+        ReportBuffer.addText(this, "SwapsPrivateForCertificate",
                 player.getId(),
                 privateCompany.getId(),
                 sp.getShare(),
-                publicCompany.getId()));
+                publicCompany.getId());
         sp.setExercised();
         privateCompany.setClosed();
 
@@ -654,9 +655,9 @@ public class OperatingRound extends Round implements Observer {
     protected void initTurn() {
         log.debug("Starting turn of {}", operatingCompany.value().getId());
         ReportBuffer.add(this, " ");
-        ReportBuffer.add(this, LocalText.getText("CompanyOperates",
+        ReportBuffer.addText(this, "CompanyOperates",
                 operatingCompany.value().getId(),
-                operatingCompany.value().getPresident().getId()));
+                operatingCompany.value().getPresident().getId());
         playerManager.setCurrentPlayer(operatingCompany.value().getPresident());
 
         if (noMapMode && !operatingCompany.value().hasLaidHomeBaseTokens()) {
@@ -1032,9 +1033,9 @@ public class OperatingRound extends Round implements Observer {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this,
-                    LocalText.getText("CannotDiscardTrain", companyName,
-                            (train != null ? train.toText() : "?"), errMsg));
+            DisplayBuffer.addText(this,
+                    "CannotDiscardTrain", companyName,
+                            (train != null ? train.toText() : "?"), errMsg);
             return false;
         }
 
@@ -1164,14 +1165,14 @@ public class OperatingRound extends Round implements Observer {
         }
         if (errMsg != null) {
             if (owner != null) {
-                DisplayBuffer.add(this, LocalText.getText(
+                DisplayBuffer.addText(this,
                         "CannotBuyPrivateFromFor", publicCompanyName,
                         privateCompanyName, owner.getId(),
-                        Bank.format(this, price), errMsg));
+                        Bank.format(this, price), errMsg);
             } else {
-                DisplayBuffer.add(this, LocalText.getText(
+                DisplayBuffer.addText(this,
                         "CannotBuyPrivateFor", publicCompanyName,
-                        privateCompanyName, Bank.format(this, price), errMsg));
+                        privateCompanyName, Bank.format(this, price), errMsg);
             }
             return false;
         }
@@ -1249,9 +1250,9 @@ public class OperatingRound extends Round implements Observer {
                 if (company.hasDestination()
                         && !company.hasReachedDestination()) {
                     company.setReachedDestination(true);
-                    ReportBuffer.add(this, LocalText.getText(
+                    ReportBuffer.addText(this,
                             "DestinationReached", company.getId(),
-                            company.getDestinationHex().getId()));
+                            company.getDestinationHex().getId());
                     // Process any consequences of reaching a destination
                     // (default none)
                 }
@@ -1281,9 +1282,9 @@ public class OperatingRound extends Round implements Observer {
         String errMsg = validateTakeLoans(action);
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotTakeLoans",
+            DisplayBuffer.addText(this, "CannotTakeLoans",
                     action.getCompanyName(), action.getNumberTaken(),
-                    Bank.format(this, action.getPrice()), errMsg));
+                    Bank.format(this, action.getPrice()), errMsg);
 
             return false;
         }
@@ -1338,15 +1339,15 @@ public class OperatingRound extends Round implements Observer {
         operatingCompany.value().addLoans(number);
         Currency.fromBank(amount, operatingCompany.value());
         if (number == 1) {
-            ReportBuffer.add(this, LocalText.getText("CompanyTakesLoan",
+            ReportBuffer.addText(this, "CompanyTakesLoan",
                     operatingCompany.value().getId(), Bank.format(this,
                             operatingCompany.value().getValuePerLoan()),
-                    Bank.format(this, amount)));
+                    Bank.format(this, amount));
         } else {
-            ReportBuffer.add(this, LocalText.getText("CompanyTakesLoans",
+            ReportBuffer.addText(this, "CompanyTakesLoans",
                     operatingCompany.value().getId(), number, Bank.format(this,
                             operatingCompany.value().getValuePerLoan()),
-                    Bank.format(this, amount)));
+                    Bank.format(this, amount));
         }
 
         if (operatingCompany.value().getMaxLoansPerRound() > 0) {
@@ -1366,9 +1367,9 @@ public class OperatingRound extends Round implements Observer {
         String errMsg = validateRepayLoans(action);
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotRepayLoans",
+            DisplayBuffer.addText(this, "CannotRepayLoans",
                     action.getCompanyName(), action.getNumberRepaid(),
-                    Bank.format(this, action.getPrice()), errMsg));
+                    Bank.format(this, action.getPrice()), errMsg);
 
             return false;
         }
@@ -1421,14 +1422,14 @@ public class OperatingRound extends Round implements Observer {
         if (payment > 0) {
             String paymentText =
                     Currency.toBank(operatingCompany.value(), payment);
-            ReportBuffer.add(this, LocalText.getText(
+            ReportBuffer.addText(this,
                     "CompanyRepaysLoans",
                     operatingCompany.value().getId(),
                     paymentText,
                     bank.getCurrency().format(amount), // TODO: Do this nicer
                     number,
                     bank.getCurrency().format(
-                            operatingCompany.value().getValuePerLoan()))); // TODO:
+                            operatingCompany.value().getValuePerLoan())); // TODO:
             // Do
             // this
             // nicer
@@ -1438,7 +1439,7 @@ public class OperatingRound extends Round implements Observer {
             if (president.getCashValue() >= remainder) {
                 payment = remainder;
                 String paymentText = Currency.toBank(president, payment);
-                ReportBuffer.add(this, LocalText.getText(
+                ReportBuffer.addText(this,
                         "CompanyRepaysLoansWithPresCash",
                         operatingCompany.value().getId(),
                         paymentText,
@@ -1450,7 +1451,7 @@ public class OperatingRound extends Round implements Observer {
                         // Do
                         // this
                         // nicer
-                        president.getId()));
+                        president.getId());
             }
         }
     }
@@ -1507,10 +1508,10 @@ public class OperatingRound extends Round implements Observer {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotBuyRight",
+            DisplayBuffer.addText(this, "CannotBuyRight",
                     action.getCompanyName(), rightName,
                     bank.getCurrency().format(cost), // TODO: Do this nicer
-                    errMsg));
+                    errMsg);
 
             return false;
         }
@@ -1519,8 +1520,8 @@ public class OperatingRound extends Round implements Observer {
         // TODO: Creates a zero cost transfer if cost == 0
         String costText = Currency.toBank(operatingCompany.value(), cost);
 
-        ReportBuffer.add(this, LocalText.getText("BuysRight",
-                operatingCompany.value().getId(), rightName, costText));
+        ReportBuffer.addText(this, "BuysRight",
+                operatingCompany.value().getId(), rightName, costText);
 
         sp.setExercised();
 
@@ -1640,9 +1641,9 @@ public class OperatingRound extends Round implements Observer {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotLayTileOn",
+            DisplayBuffer.addText(this, "CannotLayTileOn",
                     companyName, tile.toText(), hex.getId(),
-                    Bank.format(this, cost), errMsg));
+                    Bank.format(this, cost), errMsg);
             return false;
         }
 
@@ -1656,19 +1657,18 @@ public class OperatingRound extends Round implements Observer {
             operatingCompany.value().layTile(hex, tile, orientation, cost);
 
             if (costText == null) {
-                ReportBuffer.add(
+                ReportBuffer.addText(
                         this,
-                        LocalText.getText(
                                 "LaysTileAt",
                                 companyName,
                                 tile.toText(),
                                 hex.getId(),
-                                hex.getOrientationName(HexSide.get(orientation))));
+                                hex.getOrientationName(HexSide.get(orientation)));
             } else {
-                ReportBuffer.add(this, LocalText.getText("LaysTileAtFor",
+                ReportBuffer.addText(this, "LaysTileAtFor",
                         companyName, tile.toText(), hex.getId(),
                         hex.getOrientationName(HexSide.get(orientation)),
-                        costText));
+                        costText);
             }
             hex.upgrade(action);
 
@@ -1729,10 +1729,10 @@ public class OperatingRound extends Round implements Observer {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CorrectMapCannotLayTile",
+            DisplayBuffer.addText(this, "CorrectMapCannotLayTile",
                     tile.toText(),
                     hex.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -2107,10 +2107,10 @@ public class OperatingRound extends Round implements Observer {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(
+            DisplayBuffer.addText(
                     this,
-                    LocalText.getText("CannotLayBaseTokenOn", companyName,
-                            hex.getId(), Bank.format(this, cost), errMsg));
+                    "CannotLayBaseTokenOn", companyName,
+                            hex.getId(), Bank.format(this, cost), errMsg);
             return false;
         }
 
@@ -2285,9 +2285,9 @@ public class OperatingRound extends Round implements Observer {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this,
-                    LocalText.getText("CannotLayBonusTokenOn", token.getId(),
-                            hex.getId(), Bank.format(this, cost), errMsg));
+            DisplayBuffer.addText(this,
+                    "CannotLayBonusTokenOn", token.getId(),
+                            hex.getId(), Bank.format(this, cost), errMsg);
             return false;
         }
 
@@ -2301,9 +2301,9 @@ public class OperatingRound extends Round implements Observer {
                             token.getValue(), Collections.singletonList(hex)));
             token.setUser(operatingCompany.value());
 
-            ReportBuffer.add(this, LocalText.getText("LaysBonusTokenOn",
+            ReportBuffer.addText(this, "LaysBonusTokenOn",
                     operatingCompany.value().getId(), token.getId(),
-                    Bank.format(this, token.getValue()), hex.getId()));
+                    Bank.format(this, token.getValue()), hex.getId());
 
             // Was a special property used?
             if (stl != null) {
@@ -2351,12 +2351,12 @@ public class OperatingRound extends Round implements Observer {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotBuyBonusToken",
+            DisplayBuffer.addText(this, "CannotBuyBonusToken",
                     operatingCompany.value().getId(), sbt.getId(),
                     seller.getId(), bank.getCurrency().format(cost), // TODO: Do
                     // this
                     // nicer
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -2369,11 +2369,11 @@ public class OperatingRound extends Round implements Observer {
                 sbt.getValue(), sbt.getLocations(), sbt.allowOneTrainOnly());
         operatingCompany.value().addBonus(bonus);
 
-        ReportBuffer.add(this, LocalText.getText("BuysBonusTokenFrom",
+        ReportBuffer.addText(this, "BuysBonusTokenFrom",
                 operatingCompany.value().getId(), sbt.getName(),
                 bank.getCurrency().format(sbt.getValue()), // TODO: Do this
                 // nicer
-                seller.getId(), bank.getCurrency().format(sbt.getPrice()))); // TODO:
+                seller.getId(), bank.getCurrency().format(sbt.getPrice())); // TODO:
         // Do
         // this
         // nicer
@@ -2413,15 +2413,15 @@ public class OperatingRound extends Round implements Observer {
         String errMsg = validateSetRevenueAndDividend(action);
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotProcessRevenue",
+            DisplayBuffer.addText(this, "CannotProcessRevenue",
                     Bank.format(this, action.getActualRevenue()),
-                    action.getCompanyName(), errMsg));
+                    action.getCompanyName(), errMsg);
             return false;
         }
 
-        ReportBuffer.add(this, LocalText.getText("CompanyRevenue",
+        ReportBuffer.addText(this, "CompanyRevenue",
                 action.getCompanyName(),
-                Bank.format(this, action.getActualRevenue())));
+                Bank.format(this, action.getActualRevenue()));
 
         int remainingAmount = checkForDeductions(action);
         if (remainingAmount < 0) {
@@ -2536,9 +2536,9 @@ public class OperatingRound extends Round implements Observer {
 
             if (amount == 0
                     && operatingCompany.value().getNumberOfTrains() == 0) {
-                DisplayBuffer.add(this, LocalText.getText(
+                DisplayBuffer.addText(this,
                         "RevenueWithNoTrains",
-                        operatingCompany.value().getId(), Bank.format(this, 0)));
+                        operatingCompany.value().getId(), Bank.format(this, 0));
             }
 
             break;
@@ -2664,9 +2664,9 @@ public class OperatingRound extends Round implements Observer {
             part = roundShareholderPayout (pricePerShare, shares, Rounding.UP, Multiplication.BEFORE_ROUNDING);
 
             String partText = Currency.fromBank(part, recipient);
-            ReportBuffer.add(this, LocalText.getText("Payout",
+            ReportBuffer.addText(this, "Payout",
                     recipient.getId(), partText, shares,
-                    operatingCompany.value().getShareUnit()));
+                    operatingCompany.value().getShareUnit());
         }
 
         // Move the token
@@ -2731,8 +2731,8 @@ public class OperatingRound extends Round implements Observer {
         StockSpace newSpace = company.getCurrentSpace();
         if (newSpace.closesCompany() && company.canClose()) {
             company.setClosed();
-            ReportBuffer.add(this, LocalText.getText("CompanyClosesAt",
-                    company.getId(), newSpace.getId()));
+            ReportBuffer.addText(this, "CompanyClosesAt",
+                    company.getId(), newSpace.getId());
             finishTurn();
         }
     }
@@ -2757,8 +2757,8 @@ public class OperatingRound extends Round implements Observer {
             String withheldText =
                     Currency.fromBank(withheld, operatingCompany.value());
 
-            ReportBuffer.add(this, LocalText.getText("RECEIVES",
-                    operatingCompany.value().getId(), withheldText));
+            ReportBuffer.addText(this, "RECEIVES",
+                    operatingCompany.value().getId(), withheldText);
 
             // Payout the remainder
             int payed = amount - withheld;
@@ -2916,8 +2916,8 @@ public class OperatingRound extends Round implements Observer {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this,
-                    LocalText.getText("OCExecutionError", companyName, errMsg));
+            DisplayBuffer.addText(this,
+                    "OCExecutionError", companyName, errMsg);
             return false;
         }
 
@@ -2932,8 +2932,8 @@ public class OperatingRound extends Round implements Observer {
 
         if (typeOC == OperatingCost.OCType.LAY_TILE) {
             operatingCompany.value().layTilenNoMapMode(amount);
-            ReportBuffer.add(this, LocalText.getText("OCLayTileExecuted",
-                    operatingCompany.value().getId(), cashText));
+            ReportBuffer.addText(this, "OCLayTileExecuted",
+                    operatingCompany.value().getId(), cashText);
         }
         if (typeOC == OperatingCost.OCType.LAY_BASE_TOKEN) {
             // move token to Bank
@@ -2946,8 +2946,8 @@ public class OperatingRound extends Round implements Observer {
                 // (bank.getUnavailable().addBonusToken(token));
             }
             operatingCompany.value().layBaseTokennNoMapMode(amount);
-            ReportBuffer.add(this, LocalText.getText("OCLayBaseTokenExecuted",
-                    operatingCompany.value().getId(), cashText));
+            ReportBuffer.addText(this, "OCLayBaseTokenExecuted",
+                    operatingCompany.value().getId(), cashText);
         }
 
         return true;
@@ -3105,8 +3105,8 @@ public class OperatingRound extends Round implements Observer {
             int cashToRaise = Math.max(0, trainPrice - companyCash);
             if (emergency || cashToRaise > 0) { // Not all games set emergency yet
                 if (willBankruptcyOccur(company, cashToRaise)) {
-                    DisplayBuffer.add(this, LocalText.getText("YouMustRaiseCashButCannot",
-                            Bank.format(this, cashToRaise)));
+                    DisplayBuffer.addText(this, "YouMustRaiseCashButCannot",
+                            Bank.format(this, cashToRaise));
                     if (GameDef.getParmAsBoolean(this, GameDef.Parm.EMERGENCY_COMPANY_BANKRUPTCY)) {
                         company.setBankrupt();
                         gameManager.registerCompanyBankruptcy(company);
@@ -3234,10 +3234,10 @@ public class OperatingRound extends Round implements Observer {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(
+            DisplayBuffer.addText(
                     this,
-                    LocalText.getText("CannotBuyTrainFor", companyName,
-                            train.toText(), Bank.format(this, trainPrice), errMsg));
+                    "CannotBuyTrainFor", companyName,
+                            train.toText(), Bank.format(this, trainPrice), errMsg);
             return false;
         }
 
@@ -3261,9 +3261,9 @@ public class OperatingRound extends Round implements Observer {
             String cashText =
                     Currency.wire(currentPlayer, actualPresidentCash,
                             operatingCompany.value());
-            ReportBuffer.add(this, LocalText.getText("PresidentAddsCash",
+            ReportBuffer.addText(this, "PresidentAddsCash",
                     operatingCompany.value().getId(), currentPlayer.getId(),
-                    cashText));
+                    cashText);
         }
 
         Owner oldOwner = train.getCard().getOwner();
@@ -3273,16 +3273,16 @@ public class OperatingRound extends Round implements Observer {
                     operatingCompany.value().getPortfolioModel().getTrainOfType(
                             exchangedTrain.getType());
             (train.isObsolete() ? scrapHeap : pool).addTrainCard(oldTrain.getCard());
-            ReportBuffer.add(this, LocalText.getText("ExchangesTrain",
+            ReportBuffer.addText(this, "ExchangesTrain",
                     companyName, exchangedTrain.toText(), train.toText(),
-                    oldOwner.getId(), Bank.format(this, trainPrice)));
+                    oldOwner.getId(), Bank.format(this, trainPrice));
         } else if (stb == null) {
-            ReportBuffer.add(this, LocalText.getText("BuysTrain", companyName,
-                    train.toText(), oldOwner.getId(), Bank.format(this, trainPrice)));
+            ReportBuffer.addText(this, "BuysTrain", companyName,
+                    train.toText(), oldOwner.getId(), Bank.format(this, trainPrice));
         } else {
-            ReportBuffer.add(this, LocalText.getText("BuysTrainUsingSP",
+            ReportBuffer.addText(this, "BuysTrainUsingSP",
                     companyName, train.toText(), oldOwner.getId(),
-                    Bank.format(this, trainPrice), stb.getOriginalCompany().getId()));
+                    Bank.format(this, trainPrice), stb.getOriginalCompany().getId());
         }
 
         train.getCard().setActualTrain(train); // Needed for dual trains bought from
@@ -3768,8 +3768,8 @@ public class OperatingRound extends Round implements Observer {
             //Dont export Permanent Trains; MBR: 030102021
             if (train.getCardType().isPermanent()) return;
                    scrapHeap.addTrainCard(train.getCard());
-            ReportBuffer.add(this,
-                    LocalText.getText("RemoveTrain", train.toText()));
+            ReportBuffer.addText(this,
+                    "RemoveTrain", train.toText());
             //MBr: 03012021 Trains were not made available after export prior
             trainManager.checkTrainAvailability(train,bank.getIpo());
             //MBr: 02012021 - 18Chesapeake Remove a non permanent train before every Stockround
@@ -3782,8 +3782,8 @@ public class OperatingRound extends Round implements Observer {
                 if (train.getCardType().hasInfiniteQuantity()) return;
                 scrapHeap.addTrainCard(train.getCard());
                 trainManager.checkTrainAvailability(train, bank.getIpo());
-                ReportBuffer.add(this,
-                        LocalText.getText("RemoveTrain", train.toText()));
+                ReportBuffer.addText(this,
+                        "RemoveTrain", train.toText());
             }
         else { //MBr: 03012021 export a train if one has been sold....
                 if (GameDef.getParmAsBoolean(this, GameDef.Parm.REMOVE_TRAIN_BEFORE_SR)
@@ -3792,8 +3792,8 @@ public class OperatingRound extends Round implements Observer {
                             Iterables.get(trainManager.getAvailableNewTrains(), 0);
                     if (train.getCardType().hasInfiniteQuantity()) return;
                     scrapHeap.addTrainCard(train.getCard());
-                    ReportBuffer.add(this,
-                            LocalText.getText("RemoveTrain", train.toText()));
+                    ReportBuffer.addText(this,
+                            "RemoveTrain", train.toText());
                     //MBr: 03012021 Trains were not made available after export prior
                     trainManager.checkTrainAvailability(train, bank.getIpo());
                 }
@@ -3828,6 +3828,17 @@ public class OperatingRound extends Round implements Observer {
         prepareStep();
     }
 
+    @Override
+    public void changed(Supplier<String> text) {
+        // the text of the step is not used
+        prepareStep();
+    }
+
+    @Override
+    public boolean isEngineObserver() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return "OperatingRound " + thisOrNumber;
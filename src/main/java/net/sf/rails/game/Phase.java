@@ -299,7 +299,7 @@ public class Phase extends RailsModel implements Configurable {
      * Called when a phase gets activated
      */
     public void activate() {
-        ReportBuffer.add(this, LocalText.getText("StartOfPhase", getId()));
+        ReportBuffer.addText(this, "StartOfPhase", getId());
 
         // Report any extra info
         if (Util.hasValue(extraInfo)) {
@@ -11,7 +11,6 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Ordering;
 
 import net.sf.rails.common.DisplayBuffer;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.common.parser.Configurable;
 import net.sf.rails.common.parser.ConfigurationException;
@@ -88,14 +87,14 @@ public class PlayerManager extends RailsManager implements Configurable {
             playerModel.playerOrder.add(player);
             playerNamesBuilder.put(player.getId(), player);
             cashText = Currency.fromBank(startCash, player);
-            ReportBuffer.add(this, LocalText.getText("PlayerIs",
+            ReportBuffer.addText(this, "PlayerIs",
                     playerIndex,
-                    player.getId()));
+                    player.getId());
         }
         this.playerNames = Collections.unmodifiableMap(playerNamesBuilder);
 
-        ReportBuffer.add(this, LocalText.getText("PlayerCash", cashText));
-        ReportBuffer.add(this, LocalText.getText("BankHas", Bank.format(this, bank.getCash())));
+        ReportBuffer.addText(this, "PlayerCash", cashText);
+        ReportBuffer.addText(this, "BankHas", Bank.format(this, bank.getCash()));
 
         // sets initial priority player and certificate limits
         priorityPlayer.set(playerModel.playerOrder.get(0));
@@ -157,7 +156,7 @@ public class PlayerManager extends RailsManager implements Configurable {
         // transfer messages for the next player to the display buffer
         // TODO: refactor nextPlayerMessages inside DisplayBuffer
         if (getCurrentPlayer() != player && !nextPlayerMessages.isEmpty()) {
-            DisplayBuffer.add(this, LocalText.getText("NextPlayerMessage", getCurrentPlayer().getId()));
+            DisplayBuffer.addText(this, "NextPlayerMessage", getCurrentPlayer().getId());
             for (String s : nextPlayerMessages.view())
                 DisplayBuffer.add(this, s);
             nextPlayerMessages.clear();
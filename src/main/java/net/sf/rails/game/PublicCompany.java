@@ -1479,11 +1479,11 @@ public class PublicCompany extends RailsAbstractItem implements Company, RailsMo
         if (jumps > 0) {
             getRoot().getStockMarket().payOut(this, jumps);
         } else {
-            ReportBuffer.add(this, LocalText.getText("PRICE_STAYS_LOG",
+            ReportBuffer.addText(this, "PRICE_STAYS_LOG",
                     this.getId(),
                     Bank.format(this,
                             price),
-                            getCurrentSpace().getId()));
+                            getCurrentSpace().getId());
         }
 
 
@@ -1636,17 +1636,17 @@ public class PublicCompany extends RailsAbstractItem implements Company, RailsMo
             if (buyerShare > presShare) {
                 pres.getPortfolioModel().swapPresidentCertificate(this,
                         buyer.getPortfolioModel(), 0);
-                ReportBuffer.add(this, LocalText.getText("IS_NOW_PRES_OF",
+                ReportBuffer.addText(this, "IS_NOW_PRES_OF",
                         buyer.getId(),
-                        getId()));
+                        getId());
             }
         } else {
             // No president, then it must be in the Pool (18Scan)
             getRoot().getBank().getPool().getPortfolioModel()
                     .swapPresidentCertificate(this, buyer.getPortfolioModel(), 2);
-            ReportBuffer.add(this, LocalText.getText("IS_NOW_PRES_OF",
+            ReportBuffer.addText(this, "IS_NOW_PRES_OF",
                     buyer.getId(),
-                    getId()));
+                    getId());
         }
     }
 
@@ -1656,9 +1656,9 @@ public class PublicCompany extends RailsAbstractItem implements Company, RailsMo
             // No president, then pres.share must be in the Pool
             getRoot().getBank().getPool().getPortfolioModel()
                     .swapPresidentCertificate(this, dumpedPlayer.getPortfolioModel(), 2);
-            ReportBuffer.add(this, LocalText.getText("IS_NOW_PRES_OF",
+            ReportBuffer.addText(this, "IS_NOW_PRES_OF",
                     dumpedPlayer.getId(),
-                    getId()));
+                    getId());
             return true;
 
         } else {
@@ -1680,9 +1680,9 @@ public class PublicCompany extends RailsAbstractItem implements Company, RailsMo
         // otherwise Hand presidency to the player with the highest share
         getPresident().getPortfolioModel().swapPresidentCertificate(this,
                 nextPotentialPresident.getPortfolioModel(), 2);
-        ReportBuffer.add(this, LocalText.getText("IS_NOW_PRES_OF",
+        ReportBuffer.addText(this, "IS_NOW_PRES_OF",
                 nextPotentialPresident.getId(),
-                getId()));
+                getId());
         return true;
     }
 
@@ -1806,11 +1806,11 @@ public class PublicCompany extends RailsAbstractItem implements Company, RailsMo
         if (from != getRoot().getBank().getIpo()) {
             // The initial buy is reported from StartRound. This message should also
             // move to elsewhere.
-            ReportBuffer.add(this, LocalText.getText("BuysPrivateFromFor",
+            ReportBuffer.addText(this, "BuysPrivateFromFor",
                     getId(),
                     privateCompany.getId(),
                     from.getId(),
-                    Bank.format(this, price)));
+                    Bank.format(this, price));
         }
 
         // Move the private certificate
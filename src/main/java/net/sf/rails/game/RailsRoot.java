@@ -3,18 +3,19 @@ package net.sf.rails.game;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import net.sf.rails.algorithms.NetworkManager;
 import net.sf.rails.algorithms.RevenueManager;
 import net.sf.rails.common.Config;
 import net.sf.rails.common.DisplayBuffer;
 import net.sf.rails.common.GameData;
 import net.sf.rails.common.GameOptionsSet;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.common.ReportManager;
 import net.sf.rails.common.ResourceLoader;
 import net.sf.rails.common.parser.ComponentManager;
 import net.sf.rails.common.parser.Configurable;
 import net.sf.rails.common.parser.ConfigurationException;
+import net.sf.rails.common.parser.GameDefinitionCache;
 import net.sf.rails.common.parser.Tag;
 import net.sf.rails.common.parser.XMLTags;
 import net.sf.rails.game.financial.Bank;
@@ -43,6 +44,7 @@ public class RailsRoot extends Root implements RailsItem {
     private MapManager mapManager;
     private TileManager tileManager;
     private RevenueManager revenueManager;
+    private NetworkManager networkManager;
     private Bank bank;
     private CertificateManager certificateManager;
     private PortfolioManager portfolioManager;
@@ -109,7 +111,7 @@ public class RailsRoot extends Root implements RailsItem {
     private void initGameFromXML() throws ConfigurationException {
         String directory = "data" + ResourceLoader.SEPARATOR + gameData.getGameName();
 
-        Tag componentManagerTag = Tag.findTopTagInFile(
+        Tag componentManagerTag = GameDefinitionCache.findTopTagInFile(
                 GAME_XML_FILE, directory, XMLTags.COMPONENT_MANAGER_ELEMENT_ID, gameData.getGameOptions() );
 
         ComponentManager componentManager = new ComponentManager();
@@ -132,7 +134,7 @@ public class RailsRoot extends Root implements RailsItem {
         }
         log.info("Rails version {}", Config.getVersion());
 
-        ReportBuffer.add(this, LocalText.getText("GameIs", gameData.getGameName()));
+        ReportBuffer.addText(this, "GameIs", gameData.getGameName());
 
         playerManager.initPlayers(gameData.getPlayers(), bank);
         gameManager.init();
@@ -156,6 +158,8 @@ public class RailsRoot extends Root implements RailsItem {
 
             if (revenueManager != null)
                 revenueManager.finishConfiguration(this);
+
+            networkManager = NetworkManager.create(this);
         } catch (ConfigurationException e) {
             log.error(e.getMessage(), e);
             DisplayBuffer.add(this, e.getMessage());
@@ -216,6 +220,10 @@ public class RailsRoot extends Root implements RailsItem {
         return revenueManager;
     }
 
+    public NetworkManager getNetworkManager() {
+        return networkManager;
+    }
+
     public Bank getBank() {
         return bank;
     }
@@ -264,12 +264,12 @@ public abstract class Round extends RailsAbstractItem implements RoundFacade {
 
         if (cash > 0) {
             String cashText = Currency.fromBank(cash, company);
-            ReportBuffer.add(this, LocalText.getText("FloatsWithCash",
+            ReportBuffer.addText(this, "FloatsWithCash",
                     company.getId(),
-                    cashText));
+                    cashText);
         } else {
-            ReportBuffer.add(this, LocalText.getText("Floats",
-                    company.getId()));
+            ReportBuffer.addText(this, "Floats",
+                    company.getId());
         }
 
         if (capitalisationMode == PublicCompany.CAPITALISE_INCREMENTAL
@@ -287,14 +287,14 @@ public abstract class Round extends RailsAbstractItem implements RoundFacade {
         ReportBuffer.add(this, "");
         for (PublicCompany c : companyManager.getAllPublicCompanies()) {
             if (c.hasFloated() && !c.isClosed()) {
-                ReportBuffer.add(this, LocalText.getText("Has", c.getId(),
-                        Bank.format(this, c.getCash())));
+                ReportBuffer.addText(this, "Has", c.getId(),
+                        Bank.format(this, c.getCash()));
             }
         }
         for (Player p : playerManager.getPlayers()) {
             if (!p.isBankrupt()) {
-                ReportBuffer.add(this, LocalText.getText("Has", p.getId(),
-                        Bank.format(this, p.getCashValue())));
+                ReportBuffer.addText(this, "Has", p.getId(),
+                        Bank.format(this, p.getCashValue()));
             }
         }
         // Inform GameManager
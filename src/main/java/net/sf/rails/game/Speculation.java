@@ -0,0 +1,115 @@
+package net.sf.rails.game;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import net.sf.rails.common.DisplayBuffer;
+import net.sf.rails.common.GuiHints;
+import net.sf.rails.game.round.RoundFacade;
+import net.sf.rails.game.state.ChangeStack;
+import rails.game.action.GameAction;
+import rails.game.action.PossibleAction;
+import rails.game.action.PossibleActions;
+
+/**
+ * Speculative execution of actions by the rules engine, e.g. for bots or "what if" analysis
+ * <p>
+ * A speculation opens a checkpoint of the ChangeStack, actions are processed by the GameManager as usual
+ * and the results can be read from the game state. Closing the speculation rolls back all changes
+ * and restores the possible actions, the display messages and the visibility hints.
+ * No reports, recovery saves or updates of (non-engine) observers are created in between.
+ * <pre>
+ * try (Speculation speculation = Speculation.open(root)) {
+ *     if (speculation.process(action)) {
+ *         int price = company.getCurrentSpace().getPrice();
+ *     }
+ * }
+ * </pre>
+ * Speculations can be nested, but have to be closed in reverse order.
+ * Only the state of the game is rolled back: the candidate actions are modified by processing
+ * (e.g. {@link PossibleAction#setActed()}), thus copies should be processed if they are used again.
+ */
+public final class Speculation implements AutoCloseable {
+
+    private final GameManager gameManager;
+    private final ChangeStack changeStack;
+    private final ChangeStack.Checkpoint checkpoint;
+
+    // non-state fields of the engine, which are restored on close
+    private final ImmutableList<PossibleAction> possibleActions;
+    private final String[] displayMessages;
+    private final ImmutableList<GuiHints.VisibilityHint> visibilityHints;
+    private final RoundFacade interruptedRound;
+
+    private boolean closed = false;
+
+    private Speculation(RailsRoot root) {
+        gameManager = root.getGameManager();
+        changeStack = root.getStateManager().getChangeStack();
+
+        possibleActions = gameManager.getPossibleActions().getList();
+        displayMessages = root.getReportManager().getDisplayBuffer().get();
+        List<GuiHints.VisibilityHint> hints = gameManager.getUIHints().getVisibilityHints();
+        visibilityHints = hints == null ? ImmutableList.of() : ImmutableList.copyOf(hints);
+        interruptedRound = gameManager.interruptedRound;
+
+        checkpoint = changeStack.openCheckpoint();
+    }
+
+    /**
+     * Opens a speculation at the current state of the game
+     */
+    public static Speculation open(RailsRoot root) {
+        return new Speculation(root);
+    }
+
+    /**
+     * Processes the action by the GameManager
+     * @param action one of the current possible actions, undo/redo and other game actions are not allowed
+     * @return true if the action was processed successfully
+     */
+    public boolean process(PossibleAction action) {
+        checkState(!closed, "Speculation is closed");
+        checkArgument(!(action instanceof GameAction), "Game actions cannot be processed speculatively");
+        return gameManager.process(action);
+    }
+
+    /**
+     * @return the number of ChangeSets closed since the speculation was opened
+     */
+    public int getDepth() {
+        return changeStack.getCurrentIndex() - checkpoint.getIndex();
+    }
+
+    /**
+     * Rolls back all changes since the speculation was opened
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        changeStack.rollback(checkpoint);
+
+        PossibleActions actions = gameManager.getPossibleActions();
+        actions.clear();
+        actions.addAll(possibleActions);
+
+        DisplayBuffer displayBuffer = gameManager.getRoot().getReportManager().getDisplayBuffer();
+        displayBuffer.clear();
+        displayBuffer.restore(displayMessages);
+
+        GuiHints guiHints = gameManager.getUIHints();
+        guiHints.clearVisibilityHints();
+        for (GuiHints.VisibilityHint hint : visibilityHints) {
+            guiHints.setVisibilityHint(hint.getType(), hint.isVisible());
+        }
+
+        gameManager.interruptedRound = interruptedRound;
+    }
+
+}
@@ -103,9 +103,9 @@ public abstract class StartRound extends Round {
         // init current with priority player
         startPlayer = playerManager.setCurrentToPriorityPlayer();
 
-        ReportBuffer.add(this, LocalText.getText("StartOfInitialRound", getStartRoundNumber()));
-        ReportBuffer.add(this, LocalText.getText("HasPriority",
-                startPlayer.getId()));
+        ReportBuffer.addText(this, "StartOfInitialRound", getStartRoundNumber());
+        ReportBuffer.addText(this, "HasPriority",
+                startPlayer.getId());
     }
 
     public int getStartRoundNumber() {
@@ -150,8 +150,8 @@ public abstract class StartRound extends Round {
             }
         } else {
 
-            DisplayBuffer.add(this, LocalText.getText("UnexpectedAction",
-                    action.toString()));
+            DisplayBuffer.addText(this, "UnexpectedAction",
+                    action.toString());
         }
 
         startPacketChecks();
@@ -235,10 +235,10 @@ public abstract class StartRound extends Round {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantBuyItem",
+            DisplayBuffer.addText(this, "CantBuyItem",
                     playerName,
                     item.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -268,17 +268,17 @@ public abstract class StartRound extends Round {
                               int sharePrice) {
         Certificate primary = item.getPrimary();
         String priceText = Currency.toBank(player, price);
-        ReportBuffer.add(this, LocalText.getText("BuysItemFor",
+        ReportBuffer.addText(this, "BuysItemFor",
                 player.getId(),
                 primary.toText(),
-                priceText));
+                priceText);
         primary.moveTo(player);
         checksOnBuying(primary, sharePrice);
         if (item.hasSecondary()) {
             Certificate extra = item.getSecondary();
-            ReportBuffer.add(this, LocalText.getText("ALSO_GETS",
+            ReportBuffer.addText(this, "ALSO_GETS",
                     player.getId(),
-                    extra.toText()));
+                    extra.toText());
             extra.moveTo(player);
             checksOnBuying(extra, sharePrice);
         }
@@ -116,8 +116,8 @@ public class StartRound_1830 extends StartRound {
                             assignItem(item.getBidder(), item, item.getBid(), 0);
                         }
                     } else if (item.getActiveBidders() > 1) {
-                        ReportBuffer.add(this, LocalText.getText("TO_AUCTION",
-                                item.getId()));
+                        ReportBuffer.addText(this, "TO_AUCTION",
+                                item.getId());
                         // Start left of the currently highest bidder
                         if (item.getStatus() != StartItem.AUCTIONED) {
                             setNextBiddingPlayer(item, item.getBidder());
@@ -243,10 +243,10 @@ public class StartRound_1830 extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("InvalidBid",
+            DisplayBuffer.addText(this, "InvalidBid",
                     playerName,
                     item.getId(),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -255,11 +255,11 @@ public class StartRound_1830 extends StartRound {
         item.setBid(bidAmount, player);
         if (previousBid > 0) player.unblockCash(previousBid);
         player.blockCash(bidAmount);
-        ReportBuffer.add(this, LocalText.getText("BID_ITEM_LOG",
+        ReportBuffer.addText(this, "BID_ITEM_LOG",
                 playerName,
                 Bank.format(this, bidAmount),
                 item.getId(),
-                Bank.format(this, player.getFreeCash()) ));
+                Bank.format(this, player.getFreeCash()) );
 
         if (bidItem.getStatus() != StartItem.AUCTIONED) {
             playerManager.setPriorityPlayerToNext();
@@ -303,13 +303,13 @@ public class StartRound_1830 extends StartRound {
             }
 
             if (errMsg != null) {
-                DisplayBuffer.add(this, LocalText.getText("InvalidPass",
+                DisplayBuffer.addText(this, "InvalidPass",
                         playerName,
-                        errMsg ));
+                        errMsg );
                 return false;
             }
 
-            ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+            ReportBuffer.addText(this, "PASSES", playerName);
 
             numPasses.add(1);
             if (auctionItem != null) {
@@ -347,10 +347,10 @@ public class StartRound_1830 extends StartRound {
                     // It the first item has not been sold yet, reduce its price by 5.
                     if (startPacket.getFirstItem() == startPacket.getFirstUnsoldItem() || startPacket.getFirstUnsoldItem().getReduceable()) {
                         startPacket.getFirstUnsoldItem().reduceBasePriceBy(5);
-                        ReportBuffer.add(this, LocalText.getText(
+                        ReportBuffer.addText(this,
                                 "ITEM_PRICE_REDUCED",
                                         startPacket.getFirstUnsoldItem().getId(),
-                                        Bank.format(this, startPacket.getFirstUnsoldItem().getBasePrice()) ));
+                                        Bank.format(this, startPacket.getFirstUnsoldItem().getBasePrice()) );
                         numPasses.set(0);
                         if (startPacket.getFirstUnsoldItem().getBasePrice() == 0) {
                             getRoot().getPlayerManager().setCurrentToNextPlayer();
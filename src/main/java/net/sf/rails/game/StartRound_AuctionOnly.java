@@ -147,11 +147,11 @@ public abstract class StartRound_AuctionOnly extends StartRound {
 
         player.blockCash(bidAmount);
 
-        ReportBuffer.add(
+        ReportBuffer.addText(
                 this,
-                LocalText.getText("BID_ITEM_LOG", playerName,
+                "BID_ITEM_LOG", playerName,
                         Bank.format(this, bidAmount), item.getId(),
-                        Bank.format(this, player.getFreeCash())));
+                        Bank.format(this, player.getFreeCash()));
 
         setNextBiddingPlayer(item);
         numPasses.set(0);
@@ -227,8 +227,8 @@ public abstract class StartRound_AuctionOnly extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("InvalidBid", playerName,
-                    item.getId(), errMsg));
+            DisplayBuffer.addText(this, "InvalidBid", playerName,
+                    item.getId(), errMsg);
             return false;
         }
         return true;
@@ -243,7 +243,7 @@ public abstract class StartRound_AuctionOnly extends StartRound {
         Player player = playerManager.getCurrentPlayer();
         numPasses.add(1);
 
-        ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+        ReportBuffer.addText(this, "PASSES", playerName);
         if (currentAuctionItem() != null) {
             // An item is currently up for bid
             StartItem auctionItem = currentAuctionItem();
@@ -291,8 +291,8 @@ public abstract class StartRound_AuctionOnly extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this,
-                    LocalText.getText("InvalidPass", playerName, errMsg));
+            DisplayBuffer.addText(this,
+                    "InvalidPass", playerName, errMsg);
             return false;
         }
 
@@ -16,6 +16,7 @@ import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ResourceLoader;
 import net.sf.rails.common.parser.Configurable;
 import net.sf.rails.common.parser.ConfigurationException;
+import net.sf.rails.common.parser.GameDefinitionCache;
 import net.sf.rails.common.parser.Tag;
 
 
@@ -55,7 +56,7 @@ public class TileManager extends RailsManager implements Configurable {
 
         String directory = "data" + ResourceLoader.SEPARATOR + getRoot().getGameName();
         Tag tileDefTop =
-            Tag.findTopTagInFile(tileDefFileName, directory, "Tiles", getRoot().getGameOptions());
+            GameDefinitionCache.findTopTagInFile(tileDefFileName, directory, "Tiles", getRoot().getGameOptions());
         if (tileDefTop == null)
             throw new ConfigurationException(LocalText.getText("NoTilesTag"));
 
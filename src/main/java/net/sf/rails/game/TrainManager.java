@@ -8,7 +8,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.common.parser.Configurable;
 import net.sf.rails.common.parser.ConfigurationException;
@@ -395,8 +394,8 @@ public class TrainManager extends RailsManager implements Configurable {
         int trainIndex = boughtType.getNumberBoughtFromIPO();
         if (trainIndex == 1) {
             // First train of a new type bought
-            ReportBuffer.add(this, LocalText.getText("FirstTrainBought",
-                    boughtType.toText()));
+            ReportBuffer.addText(this, "FirstTrainBought",
+                    boughtType.toText());
         }
 
         // New style phase changes, can be triggered by any bought train.
@@ -418,8 +417,8 @@ public class TrainManager extends RailsManager implements Configurable {
             makeTrainsAvailable(cardType);
             trainAvailabilityChanged.set(true);
             if (reportIt) { // No reporting of the initial release (don't break test reports)
-                ReportBuffer.add(this, LocalText.getText(
-                        "NewTrainAvailable", boughtType.toText(), cardType.toText()));
+                ReportBuffer.addText(this,
+                        "NewTrainAvailable", boughtType.toText(), cardType.toText());
             }
         }
         alsoReleasedTypes = cardType.getAlsoReleased();
@@ -429,8 +428,8 @@ public class TrainManager extends RailsManager implements Configurable {
                     makeTrainsAvailable(alsoReleasedType);
                     trainAvailabilityChanged.set(true);
                     if (reportIt) {
-                        ReportBuffer.add(this, LocalText.getText(
-                                "NewTrainAlsoAvailable", alsoReleasedType.toText()));
+                        ReportBuffer.addText(this,
+                                "NewTrainAlsoAvailable", alsoReleasedType.toText());
                     }
                 }
             }
@@ -489,9 +488,9 @@ public class TrainManager extends RailsManager implements Configurable {
         }
         // report about event
         if (type.isObsoleting()) {
-            ReportBuffer.add(this, LocalText.getText("TrainsObsolete." + obsoleteTrainFor, type.getId()));
+            ReportBuffer.addText(this, "TrainsObsolete." + obsoleteTrainFor, type.getId());
         } else {
-            ReportBuffer.add(this, LocalText.getText("TrainsRusted", type.getId()));
+            ReportBuffer.addText(this, "TrainsRusted", type.getId());
         }
     }
 
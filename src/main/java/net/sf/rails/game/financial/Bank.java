@@ -137,7 +137,7 @@ public class Bank extends RailsManager implements CurrencyOwner, RailsMoneyOwner
     @Override
     public void finishConfiguration(RailsRoot root) {
 
-        ReportBuffer.add(this, LocalText.getText("BankSizeIs", currency.format(cash.value())));
+        ReportBuffer.addText(this, "BankSizeIs", currency.format(cash.value()));
 
         // finish configuration of BankPortfolios
         ipo.finishConfiguration();
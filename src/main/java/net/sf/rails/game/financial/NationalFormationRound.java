@@ -78,7 +78,7 @@ public class NationalFormationRound extends StockRound {
         forcedStart = "4+4".equals(phase.getId()) || forcedMerge;//TODO Make setable
         mergeNational = !nationalIsComplete(gameManager, nationalToFound.getId());
 
-        ReportBuffer.add(this, LocalText.getText("StartFormationRound", nationalToFound.getId()));
+        ReportBuffer.addText(this, "StartFormationRound", nationalToFound.getId());
         log.debug("StartNational={} forcedStart={} mergeNational={} forcedMerge={}", startNational, forcedStart, mergeNational, forcedMerge);
 
         step = startNational ? Step.START : Step.MERGE;
@@ -155,9 +155,9 @@ public class NationalFormationRound extends StockRound {
             Player startingMinorOwner = nationalStartingMinor.getPresident();
             startingPlayer = startingMinorOwner;
             setCurrentPlayer(startingMinorOwner);
-            ReportBuffer.add(this, LocalText.getText("StartingPlayer",
+            ReportBuffer.addText(this, "StartingPlayer",
                     playerManager.getCurrentPlayer().getId()
-                    ));
+                    );
 
             possibleActions.add(new FoldIntoNational(nationalStartingMinor));
 
@@ -252,10 +252,10 @@ public class NationalFormationRound extends StockRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotMerge",
+            DisplayBuffer.addText(this, "CannotMerge",
                     action.getFoldedCompanyNames(),
                     nationalToFound.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -285,12 +285,12 @@ public class NationalFormationRound extends StockRound {
 
         if (cash > 0) {
             String cashText = Currency.fromBank(cash, nationalToFound);
-            ReportBuffer.add(this, LocalText.getText("FloatsWithCash",
+            ReportBuffer.addText(this, "FloatsWithCash",
                 nationalToFound.getId(),
-                cashText ));
+                cashText );
         } else {
-            ReportBuffer.add(this, LocalText.getText("Floats",
-                    nationalToFound.getId()));
+            ReportBuffer.addText(this, "Floats",
+                    nationalToFound.getId());
         }
 
         executeExchange (Arrays.asList(new Company[]{nationalStartingMinor}), true, false);
@@ -313,10 +313,10 @@ public class NationalFormationRound extends StockRound {
         // TODO: This is now dead code, but won't be when some sensible validations exist
         /*
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotMerge",
+            DisplayBuffer.addText(this, "CannotMerge",
                     action.getFoldedCompanyNames(),
                     PR_ID,
-                    errMsg));
+                    errMsg);
             return false;
         }
         */
@@ -442,10 +442,10 @@ public class NationalFormationRound extends StockRound {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotDiscardTrain",
+            DisplayBuffer.addText(this, "CannotDiscardTrain",
                     company.getId(),
                     (train != null ?train.toText() : "?"),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -471,10 +471,10 @@ public class NationalFormationRound extends StockRound {
         RoundFacade interruptedRound = gameManager.getInterruptedRound();
         ReportBuffer.add(this, " ");
         if (interruptedRound != null) {
-            ReportBuffer.add(this, LocalText.getText("EndOfFormationRound", nationalToFound.getId(),
-                    interruptedRound.getRoundName()));
+            ReportBuffer.addText(this, "EndOfFormationRound", nationalToFound.getId(),
+                    interruptedRound.getRoundName());
         } else {
-            ReportBuffer.add(this, LocalText.getText("EndOfFormationRoundNoInterrupt", nationalToFound.getId()));
+            ReportBuffer.addText(this, "EndOfFormationRoundNoInterrupt", nationalToFound.getId());
         }
 
         if (nationalToFound.hasStarted()) nationalToFound.checkPresidency();
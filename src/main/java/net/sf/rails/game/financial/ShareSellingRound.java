@@ -53,9 +53,9 @@ public class ShareSellingRound extends StockRound {
         String companyName = cashNeedingCompany.getId();
         log.info("Share selling round started, company={}, seller={} cash={}",
                 companyName, sellingPlayer.getId(), cashToRaise);
-        ReportBuffer.add(this, LocalText.getText("PlayerMustSellShares",
+        ReportBuffer.addText(this, "PlayerMustSellShares",
                 sellingPlayer.getId(),
-                Bank.format(this, cashToRaise)));
+                Bank.format(this, cashToRaise));
         this.parentRound = parentRound;
         currentPlayer = this.sellingPlayer = sellingPlayer;
         this.cashNeedingCompany = cashNeedingCompany;
@@ -452,11 +452,11 @@ public class ShareSellingRound extends StockRound {
 
         int numberSold = action.getNumber();
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantSell",
+            DisplayBuffer.addText(this, "CantSell",
                     playerName,
                     numberSold,
                     companyName,
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -475,19 +475,19 @@ public class ShareSellingRound extends StockRound {
         String cashText = Currency.fromBank(cashAmount, currentPlayer);
 
         if (numberSold == 1) {
-            ReportBuffer.add(this, LocalText.getText("SELL_SHARE_LOG",
+            ReportBuffer.addText(this, "SELL_SHARE_LOG",
                     playerName,
                     company.getShareUnit() * shareSizeToSell,
                     companyName,
-                    cashText));
+                    cashText);
         } else {
-            ReportBuffer.add(this, LocalText.getText("SELL_SHARES_LOG",
+            ReportBuffer.addText(this, "SELL_SHARES_LOG",
                     playerName,
                     numberSold,
                     company.getShareUnit() * shareSizeToSell,
                     numberSold * company.getShareUnit() * shareSizeToSell,
                     companyName,
-                    cashText));
+                    cashText);
         }
 
         adjustSharePrice(company, currentPlayer, numberSold, soldBefore);
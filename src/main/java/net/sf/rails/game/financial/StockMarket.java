@@ -358,24 +358,24 @@ public class StockMarket extends RailsManager implements Configurable {
                                StockSpace to) {
         // To be written to a log file in the future.
         if (from != null && from == to) {
-            ReportBuffer.add(this, LocalText.getText("PRICE_STAYS_LOG",
+            ReportBuffer.addText(this, "PRICE_STAYS_LOG",
                     company.getId(),
                     Bank.format(this, from.getPrice()),
-                    from.getId()));
+                    from.getId());
             return;
         } else if (from == null && to != null) {
 
         } else if (from != null && to != null) {
-            ReportBuffer.add(this, LocalText.getText("PRICE_MOVES_LOG",
+            ReportBuffer.addText(this, "PRICE_MOVES_LOG",
                     company.getId(),
                     Bank.format(this, from.getPrice()),
                     from.getId(),
                     Bank.format(this, to.getPrice()),
-                    to.getId()));
+                    to.getId());
 
             /* Check for rails.game closure */
             if (to.endsGame()) {
-                ReportBuffer.add(this, LocalText.getText("GAME_OVER"));
+                ReportBuffer.addText(this, "GAME_OVER");
                 getRoot().getGameManager().registerMaxedSharePrice(company, to);
             }
 
@@ -134,26 +134,26 @@ public class StockRound extends Round {
     // NationalFormationRound, PrussianFormationRound
     public void start() {
 
-        ReportBuffer.add(this, LocalText.getText("StartStockRound",
-                getStockRoundNumber()));
+        ReportBuffer.addText(this, "StartStockRound",
+                getStockRoundNumber());
 
         Player priorityPlayer = playerManager.getPriorityPlayer();
         boolean initial = true;
         while (priorityPlayer.isBankrupt()) {
             if (initial) {
-                ReportBuffer.add(this, LocalText.getText("PriorityPlayerIsBankrupt",
-                        priorityPlayer.getId()));
+                ReportBuffer.addText(this, "PriorityPlayerIsBankrupt",
+                        priorityPlayer.getId());
                 initial = false;
             } else {
-                ReportBuffer.add(this, LocalText.getText("PlayerIsBankrupt",
-                        priorityPlayer.getId()));
+                ReportBuffer.addText(this, "PlayerIsBankrupt",
+                        priorityPlayer.getId());
             }
             priorityPlayer = playerManager.setPriorityPlayerToNext();
         }
         playerManager.setCurrentToPriorityPlayer();
         startingPlayer = playerManager.getCurrentPlayer(); // For the Report
-        ReportBuffer.add(this, LocalText.getText("HasPriority",
-                startingPlayer.getId()));
+        ReportBuffer.addText(this, "HasPriority",
+                startingPlayer.getId());
 
         initPlayer();
         releaseRules = companyManager.getReleaseRules();
@@ -717,10 +717,10 @@ public class StockRound extends Round {
         }
 
         if (isOverLimits) {
-            DisplayBuffer.add(this, LocalText.getText("ExceedCertificateLimit"
+            DisplayBuffer.addText(this, "ExceedCertificateLimit"
                     , currentPlayer.getId()
                     , violations.toString()
-            ));
+            );
         }
     }
 
@@ -802,8 +802,8 @@ public class StockRound extends Round {
 
         } else {
 
-            DisplayBuffer.add(this, LocalText.getText("UnexpectedAction",
-                    action.toString()));
+            DisplayBuffer.addText(this, "UnexpectedAction",
+                    action.toString());
         }
 
         return result;
@@ -919,11 +919,11 @@ public class StockRound extends Round {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantStart",
+            DisplayBuffer.addText(this, "CantStart",
                     playerName,
                     companyName,
                     Bank.format(this, price),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -947,14 +947,14 @@ public class StockRound extends Round {
         // Pay for these shares
         String costText = Currency.wire(currentPlayer, cost, priceRecipient);
 
-        ReportBuffer.add(this, LocalText.getText("START_COMPANY_LOG",
+        ReportBuffer.addText(this, "START_COMPANY_LOG",
                 playerName,
                 companyName,
                 bank.getCurrency().format(price), // TODO: Do this nicer
                 costText,
                 shares,
                 cert.getShare(),
-                priceRecipient.getId()));
+                priceRecipient.getId());
 
         checkFlotation(company);
 
@@ -1107,12 +1107,12 @@ public class StockRound extends Round {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantBuy",
+            DisplayBuffer.addText(this, "CantBuy",
                     playerName,
                     shares,
                     companyName,
                     from.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -1123,26 +1123,26 @@ public class StockRound extends Round {
 
         if (number == 1) {
             String key = president ? "BuyPresidentLog" : "BUY_SHARE_LOG";
-            ReportBuffer.add(this, LocalText.getText(key,
+            ReportBuffer.addText(this, key,
                     playerName,
                     share,
                     companyName,
                     from.getName(),
-                    Bank.format(this, cost)));
+                    Bank.format(this, cost));
             cert.moveTo(currentPlayer);
             if (president) {
                 ReportBuffer.add (this, LocalText.getText("IS_NOW_PRES_OF",
                         playerName, companyName));
             }
         } else {
-            ReportBuffer.add(this, LocalText.getText("BUY_SHARES_LOG",
+            ReportBuffer.addText(this, "BUY_SHARES_LOG",
                     playerName,
                     number,
                     share,
                     shares,
                     companyName,
                     from.getName(),
-                    Bank.format(this, cost)));
+                    Bank.format(this, cost));
             PublicCertificate cert2;
             for (int i = 0; i < number; i++) {
                 cert = from.findCertificate(company, sharePerCert / shareUnit, false);
@@ -1156,9 +1156,9 @@ public class StockRound extends Round {
 
         String costText = Currency.wire(currentPlayer, cost, priceRecipient);
         if (priceRecipient != from.getMoneyOwner()) {
-            ReportBuffer.add(this, LocalText.getText("PriceIsPaidTo",
+            ReportBuffer.addText(this, "PriceIsPaidTo",
                     costText,
-                    priceRecipient.getId()));
+                    priceRecipient.getId());
         }
 
         companyBoughtThisTurnWrapper.set(company);
@@ -1432,11 +1432,11 @@ public class StockRound extends Round {
 
         int numberSold = action.getNumber();
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantSell",
+            DisplayBuffer.addText(this, "CantSell",
                     playerName,
                     numberSold,
                     companyName,
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -1455,19 +1455,19 @@ public class StockRound extends Round {
 
         String cashText = Currency.fromBank(cashAmount, currentPlayer);
         if (numberSold == 1) {
-            ReportBuffer.add(this, LocalText.getText("SELL_SHARE_LOG",
+            ReportBuffer.addText(this, "SELL_SHARE_LOG",
                     playerName,
                     company.getShareUnit() * shareSizeToSell,
                     companyName,
-                    cashText));
+                    cashText);
         } else {
-            ReportBuffer.add(this, LocalText.getText("SELL_SHARES_LOG",
+            ReportBuffer.addText(this, "SELL_SHARES_LOG",
                     playerName,
                     numberSold,
                     company.getShareUnit() * shareSizeToSell,
                     numberSold * company.getShareUnit() * shareSizeToSell,
                     companyName,
-                    cashText));
+                    cashText);
         }
 
         adjustSharePrice(company, currentPlayer, numberSold, soldBefore);
@@ -1511,9 +1511,9 @@ public class StockRound extends Round {
             PlayerShareUtils.executePresidentTransferAfterDump(company, dumpedPlayer, bankTo,
                     presSharesToSell);
 
-            ReportBuffer.add(this, LocalText.getText("IS_NOW_PRES_OF",
+            ReportBuffer.addText(this, "IS_NOW_PRES_OF",
                     dumpedPlayer.getId(),
-                    company.getId()));
+                    company.getId());
             swapped = true;
 
         }
@@ -1580,9 +1580,9 @@ public class StockRound extends Round {
 
         if (newSpace.closesCompany() && company.canClose()) {
             company.setClosed();
-            ReportBuffer.add(this, LocalText.getText("CompanyClosesAt",
+            ReportBuffer.addText(this, "CompanyClosesAt",
                     company.getId(),
-                    newSpace.getId()));
+                    newSpace.getId());
        }
     }
 
@@ -1654,13 +1654,13 @@ public class StockRound extends Round {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText(
+            DisplayBuffer.addText(this,
                     "CannotSwapPrivateForCertificate",
                     player.getId(),
                     privateCompany.getId(),
                     sp.getShare(),
                     publicCompany.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -1670,11 +1670,11 @@ public class StockRound extends Round {
                         false) : pool.findCertificate(publicCompany,
                         false);
         cert.moveTo(player);
-        ReportBuffer.add(this, LocalText.getText("SwapsPrivateForCertificate",
+        ReportBuffer.addText(this, "SwapsPrivateForCertificate",
                 player.getId(),
                 privateCompany.getId(),
                 sp.getShare(),
-                publicCompany.getId()));
+                publicCompany.getId());
         sp.setExercised();
         privateCompany.setClosed();
 
@@ -1702,7 +1702,7 @@ public class StockRound extends Round {
         //currentPlayer = getCurrentPlayer();
 
         if (!playerName.equals(currentPlayer.getId())) {
-            DisplayBuffer.add(this, LocalText.getText("WrongPlayer", playerName, currentPlayer.getId()));
+            DisplayBuffer.addText(this, "WrongPlayer", playerName, currentPlayer.getId());
             return false;
         }
 
@@ -1716,11 +1716,11 @@ public class StockRound extends Round {
                     setAutopass(currentPlayer, true);
                     setCanRequestTurn(currentPlayer, true);
                 }
-                ReportBuffer.add(this, LocalText.getText("Autopasses",
-                        currentPlayer.getId()));
+                ReportBuffer.addText(this, "Autopasses",
+                        currentPlayer.getId());
             } else {
-                ReportBuffer.add(this, LocalText.getText("PASSES",
-                        currentPlayer.getId()));
+                ReportBuffer.addText(this, "PASSES",
+                        currentPlayer.getId());
             }
         }
 
@@ -1748,8 +1748,8 @@ public class StockRound extends Round {
     protected void finishRound() {
 
         ReportBuffer.add(this, " ");
-        ReportBuffer.add(this, LocalText.getText("END_SR",
-                String.valueOf(getStockRoundNumber())));
+        ReportBuffer.addText(this, "END_SR",
+                String.valueOf(getStockRoundNumber()));
 
         if (raiseIfSoldOut) {
             /* Check if any companies are sold out. */
@@ -1759,17 +1759,17 @@ public class StockRound extends Round {
                     stockMarket.soldOut(company);
                     StockSpace newSpace = company.getCurrentSpace();
                     if (newSpace != oldSpace) {
-                        ReportBuffer.add(this, LocalText.getText("SoldOut",
+                        ReportBuffer.addText(this, "SoldOut",
                                 company.getId(),
                                 Bank.format(this, oldSpace.getPrice()),
                                 oldSpace.getId(),
                                 Bank.format(this, newSpace.getPrice()),
-                                newSpace.getId()));
+                                newSpace.getId());
                     } else {
-                        ReportBuffer.add(this, LocalText.getText("SoldOutNoRaise",
+                        ReportBuffer.addText(this, "SoldOutNoRaise",
                                 company.getId(),
                                 Bank.format(this, newSpace.getPrice()),
-                                newSpace.getId()));
+                                newSpace.getId());
                     }
                 }
             }
@@ -1795,8 +1795,8 @@ public class StockRound extends Round {
         boolean result = canRequestTurn(requestingPlayer);
 
         if (!result) {
-            DisplayBuffer.add(this, LocalText.getText("CannotRequestTurn",
-                    requestingPlayer.getId()));
+            DisplayBuffer.addText(this, "CannotRequestTurn",
+                    requestingPlayer.getId());
             return false;
         }
 
@@ -323,12 +323,12 @@ public class TreasuryShareRound extends StockRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantBuy",
+            DisplayBuffer.addText(this, "CantBuy",
                     companyName,
                     shares,
                     companyName,
                     from.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -338,21 +338,21 @@ public class TreasuryShareRound extends StockRound {
         int cashAmount = shares * price;
         String cashText = Currency.toBank(company, cashAmount);
         if (number == 1) {
-            ReportBuffer.add(this, LocalText.getText("BUY_SHARE_LOG",
+            ReportBuffer.addText(this, "BUY_SHARE_LOG",
                     companyName,
                     shareUnit,
                     companyName,
                     from.getName(),
-                    cashText));
+                    cashText);
         } else {
-            ReportBuffer.add(this, LocalText.getText("BUY_SHARES_LOG",
+            ReportBuffer.addText(this, "BUY_SHARES_LOG",
                     companyName,
                     number,
                     shareUnit,
                     number * shareUnit,
                     companyName,
                     from.getName(),
-                    cashText));
+                    cashText);
         }
 
         PublicCertificate cert2;
@@ -455,11 +455,11 @@ public class TreasuryShareRound extends StockRound {
 
         int numberSold = action.getNumber();
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantSell",
+            DisplayBuffer.addText(this, "CantSell",
                     companyName,
                     numberSold,
                     companyName,
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -479,13 +479,13 @@ public class TreasuryShareRound extends StockRound {
 
         int cashAmount = numberSold * price;
         String cashText = Currency.fromBank(cashAmount, company);
-        ReportBuffer.add(this, LocalText.getText("SELL_SHARES_LOG",
+        ReportBuffer.addText(this, "SELL_SHARES_LOG",
                 companyName,
                 numberSold,
                 company.getShareUnit(),
                 (numberSold * company.getShareUnit()),
                 companyName,
-                cashText));
+                cashText);
 
         // Transfer the sold certificates
         Portfolio.moveAll(certsToSell, pool.getParent());
@@ -517,7 +517,7 @@ public class TreasuryShareRound extends StockRound {
         currentPlayer = playerManager.getCurrentPlayer();
 
         if (!playerName.equals(currentPlayer.getId())) {
-            DisplayBuffer.add(this, LocalText.getText("WrongPlayer", playerName, currentPlayer.getId()));
+            DisplayBuffer.addText(this, "WrongPlayer", playerName, currentPlayer.getId());
             return false;
         }
 
@@ -6,9 +6,6 @@ import net.sf.rails.game.PublicCompany;
 import net.sf.rails.game.RailsOwner;
 import net.sf.rails.game.financial.PublicCertificate;
 import net.sf.rails.game.state.PortfolioMap;
-import org.paukov.combinatorics.CombinatoricsFactory;
-import org.paukov.combinatorics.Generator;
-import org.paukov.combinatorics.ICombinatoricsVector;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -174,54 +171,15 @@ public class CertificatesModel extends RailsModel implements Iterable<PublicCert
     public static SortedSet<Integer> shareNumberCombinations(Collection<PublicCertificate> certificates,
                                                              int maxShareNumber,
                                                              boolean includePresident) {
-
-        // create vector for combinatorics
-        ICombinatoricsVector<PublicCertificate> certVector = CombinatoricsFactory.createVector(certificates);
-
-        // create generator for subsets
-        Generator<PublicCertificate> certGenerator = CombinatoricsFactory.createSubSetGenerator(certVector);
-
-        ImmutableSortedSet.Builder<Integer> numbers = ImmutableSortedSet.naturalOrder();
-        for (ICombinatoricsVector<PublicCertificate> certSubSet : certGenerator) {
-            int sum = 0;
-            for (PublicCertificate cert : certSubSet) {
-                if (cert.isPresidentShare() && !includePresident) continue;
-                sum += cert.getShares();
-                if (sum > maxShareNumber) {
-                    break;
-                }
-            }
-            if (sum <= maxShareNumber) {
-                numbers.add(sum);
-            }
-        }
-
-        return numbers.build();
+        return ShareCombinations.shareNumbers(certificates, maxShareNumber, includePresident);
     }
 
+    /**
+     * @param certificates list of certificates
+     * @param shareNumber  share number that is to achieved
+     * @return combinations of certificates with the share number, one combination per number of certificates
+     */
     public static SortedSet<PublicCertificate.Combination> certificateCombinations(Collection<PublicCertificate> certificates, int shareNumber) {
-
-        // create vector for combinatorics
-        ICombinatoricsVector<PublicCertificate> certVector = CombinatoricsFactory.createVector(certificates);
-
-        // create generator for subsets
-        Generator<PublicCertificate> certGenerator = CombinatoricsFactory.createSubSetGenerator(certVector);
-
-        // add all subset that equal the share number to the set of combinations
-        ImmutableSortedSet.Builder<PublicCertificate.Combination> combinations = ImmutableSortedSet.naturalOrder();
-
-        for (ICombinatoricsVector<PublicCertificate> certSubSet : certGenerator) {
-            int sum = 0;
-            for (PublicCertificate cert : certSubSet) {
-                sum += cert.getShares();
-                if (sum > shareNumber) {
-                    break;
-                }
-            }
-            if (sum == shareNumber) {
-                combinations.add(PublicCertificate.Combination.create(certSubSet));
-            }
-        }
-        return combinations.build();
+        return ShareCombinations.combinations(certificates, shareNumber);
     }
 }
@@ -2,7 +2,6 @@ package net.sf.rails.game.model;
 
 import java.util.*;
 
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.*;
 import net.sf.rails.game.financial.Bank;
@@ -504,7 +503,7 @@ public class PortfolioModel extends RailsModel {
         // Need to separate selection and execution,
         // otherwise we get a ConcurrentModificationException on trains.
         for (Train train : trainsToRust) {
-            ReportBuffer.add(this, LocalText.getText("TrainsObsoleteRusted", train.toText(), getParent().getId()));
+            ReportBuffer.addText(this, "TrainsObsoleteRusted", train.toText(), getParent().getId());
             log.debug("Obsolete train {} (owned by {}) rusted", train.getId(), getParent().getId());
             train.setRusted();
         }
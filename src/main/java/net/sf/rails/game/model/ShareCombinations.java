@@ -0,0 +1,120 @@
+package net.sf.rails.game.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+
+import net.sf.rails.game.financial.PublicCertificate;
+
+/**
+ * ShareCombinations computes the share numbers and certificate combinations
+ * that can be formed from a collection of certificates
+ * <p>
+ * Both are knapsack calculations over the share numbers, polynomial in the number of certificates:
+ * <ul>
+ * <li>The share numbers group the certificates by their share number (bounded knapsack).</li>
+ * <li>The combinations are selected from a table of (certificates, count, share number)
+ * that are reachable from the first certificates of the collection.</li>
+ * </ul>
+ * The results are identical to an enumeration of all subsets in binary order
+ * (the first certificate being the lowest bit): For each number of certificates the combination
+ * is the first subset with that size and share number.
+ */
+final class ShareCombinations {
+
+    private ShareCombinations() {}
+
+    /**
+     * @see CertificatesModel#shareNumberCombinations(Collection, int, boolean)
+     */
+    static SortedSet<Integer> shareNumbers(Collection<PublicCertificate> certificates, int maxShareNumber,
+            boolean includePresident) {
+        if (maxShareNumber < 0) return ImmutableSortedSet.of();
+
+        // number of certificates by share number
+        SortedMap<Integer, Integer> counts = new TreeMap<>();
+        for (PublicCertificate cert : certificates) {
+            if (cert.isPresidentShare() && !includePresident) continue;
+            int shares = cert.getShares();
+            if (shares <= 0 || shares > maxShareNumber) continue;
+            counts.merge(shares, 1, Integer::sum);
+        }
+
+        boolean[] reachable = new boolean[maxShareNumber + 1];
+        reachable[0] = true;
+        // certificates of the current share number used to reach a share number
+        int[] used = new int[maxShareNumber + 1];
+        for (int shares : counts.keySet()) {
+            int count = counts.get(shares);
+            for (int sum = 0; sum <= maxShareNumber; sum++) {
+                used[sum] = 0;
+            }
+            for (int sum = shares; sum <= maxShareNumber; sum++) {
+                if (!reachable[sum] && reachable[sum - shares] && used[sum - shares] < count) {
+                    reachable[sum] = true;
+                    used[sum] = used[sum - shares] + 1;
+                }
+            }
+        }
+
+        ImmutableSortedSet.Builder<Integer> numbers = ImmutableSortedSet.naturalOrder();
+        for (int sum = 0; sum <= maxShareNumber; sum++) {
+            if (reachable[sum]) {
+                numbers.add(sum);
+            }
+        }
+        return numbers.build();
+    }
+
+    /**
+     * @see CertificatesModel#certificateCombinations(Collection, int)
+     */
+    static SortedSet<PublicCertificate.Combination> combinations(Collection<PublicCertificate> certificates,
+            int shareNumber) {
+        if (shareNumber < 0) return ImmutableSortedSet.of();
+
+        List<PublicCertificate> certs = ImmutableList.copyOf(certificates);
+        int n = certs.size();
+
+        // reachable[i][k][s]: k certificates out of the first i certificates sum up to s shares
+        boolean[][][] reachable = new boolean[n + 1][n + 1][shareNumber + 1];
+        reachable[0][0][0] = true;
+        for (int i = 1; i <= n; i++) {
+            int shares = certs.get(i - 1).getShares();
+            for (int k = 0; k < i; k++) {
+                for (int sum = 0; sum <= shareNumber; sum++) {
+                    if (!reachable[i - 1][k][sum]) continue;
+                    reachable[i][k][sum] = true;
+                    if (sum + shares <= shareNumber) {
+                        reachable[i][k + 1][sum + shares] = true;
+                    }
+                }
+            }
+        }
+
+        ImmutableSortedSet.Builder<PublicCertificate.Combination> combinations = ImmutableSortedSet.naturalOrder();
+        for (int size = 0; size <= n; size++) {
+            if (!reachable[n][size][shareNumber]) continue;
+            // the first subset in binary order avoids the last certificates where possible
+            List<PublicCertificate> combination = Lists.newArrayListWithCapacity(size);
+            int k = size;
+            int sum = shareNumber;
+            for (int i = n; i > 0; i--) {
+                if (reachable[i - 1][k][sum]) continue;
+                PublicCertificate cert = certs.get(i - 1);
+                combination.add(cert);
+                k--;
+                sum -= cert.getShares();
+            }
+            combinations.add(PublicCertificate.Combination.create(combination));
+        }
+        return combinations.build();
+    }
+
+}
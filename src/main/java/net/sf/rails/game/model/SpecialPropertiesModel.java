@@ -1,6 +1,5 @@
 package net.sf.rails.game.model;
 
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.Bonus;
 import net.sf.rails.game.PublicCompany;
@@ -63,11 +62,11 @@ public class SpecialPropertiesModel extends RailsModel implements Triggerable {
             LocatedBonus locBonus = (LocatedBonus)property;
             Bonus bonus = new Bonus(company, locBonus.getId(), locBonus.getValue(), locBonus.getLocations());
             company.addBonus(bonus);
-            ReportBuffer.add(this, LocalText.getText("AcquiresBonus",
+            ReportBuffer.addText(this, "AcquiresBonus",
                     getParent().getId(),
                     locBonus.getName(),
                     Bank.format(company, locBonus.getValue()),
-                    locBonus.getLocationNameString()));
+                    locBonus.getLocationNameString());
         }
     }
 
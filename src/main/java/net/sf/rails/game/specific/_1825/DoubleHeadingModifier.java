@@ -1,12 +1,14 @@
 package net.sf.rails.game.specific._1825;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import net.sf.rails.algorithms.NetworkTrain;
 import net.sf.rails.algorithms.RevenueAdapter;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueTrainRun;
 import net.sf.rails.common.LocalText;
 
@@ -14,12 +16,15 @@ import net.sf.rails.common.LocalText;
  * Double heading modifier
  * Allows two trains to run as a longer train (double heading)
  */
-public class DoubleHeadingModifier implements RevenueDynamicModifier {
+public class DoubleHeadingModifier implements RevenueDynamicRunModifier {
 
     private static final String TRAIN_SINGLE = "2";
     private static final String DOUBLEHEAD_NAME = "2&2";
     private static final String TRAIN_DOUBLE = "3";
 
+    // reused buffer for the values of the 2-train runs during the calculation
+    private int[] train2Values = new int[4];
+
     @Override
     public boolean prepareModifier(RevenueAdapter revenueAdapter) {
         int nbTrain2 = 0;
@@ -47,7 +52,7 @@ public class DoubleHeadingModifier implements RevenueDynamicModifier {
      * the prediction value itself is zero, as the add value stems from the train above
      */
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         return 0;
     }
 
@@ -83,15 +88,34 @@ public class DoubleHeadingModifier implements RevenueDynamicModifier {
      * - allows doubleheading
      */
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
 
 
         if (optimalRuns) return 0; // optimalRuns are adjusted
 
-        // count the adjustments
+        // collect the values of the 2-trains and count the double heading trains with value
+        int nbTrain2 = 0;
+        int nbDoubleHeading = 0;
+        for (int i = 0; i < runs.size(); i++) {
+            RevenueRunView.TrainRunView run = runs.get(i);
+            String trainName = run.getTrain().getTrainName();
+            if (trainName.equals(TRAIN_SINGLE)) {
+                if (nbTrain2 == train2Values.length) {
+                    train2Values = Arrays.copyOf(train2Values, 2 * nbTrain2);
+                }
+                train2Values[nbTrain2++] = run.getRunValue();
+            } else if (trainName.equals(DOUBLEHEAD_NAME) && run.getRunValue() != 0) {
+                // two trains get removed
+                nbDoubleHeading += 2;
+            }
+        }
+        if (nbDoubleHeading == 0) return 0;
+
+        // the 2-trains with the lowest values run as double heading trains
+        Arrays.sort(train2Values, 0, nbTrain2);
         int changeRevenues = 0;
-        for (RevenueTrainRun run:identifyDoubleHeadingTrains(runs)) {
-            changeRevenues -= run.getRunValue();
+        for (int i = 0; i < Math.min(nbDoubleHeading, nbTrain2); i++) {
+            changeRevenues -= train2Values[i];
         }
         return changeRevenues;
     }
@@ -8,7 +8,6 @@ import org.slf4j.LoggerFactory;
 import rails.game.action.*;
 
 import net.sf.rails.common.DisplayBuffer;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.*;
 
@@ -105,7 +104,7 @@ public class StartRound_1825 extends StartRound {
     @Override
     public boolean bid(String playerName, BidStartItem item) {
 
-        DisplayBuffer.add(this, LocalText.getText("InvalidAction"));
+        DisplayBuffer.addText(this, "InvalidAction");
         return false;
     }
 
@@ -115,7 +114,7 @@ public class StartRound_1825 extends StartRound {
      */
     @Override
     public boolean pass(NullAction action, String playerName) {
-        ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+        ReportBuffer.addText(this, "PASSES", playerName);
         numPasses.add(1);
         if (numPasses.value() >= playerManager.getNumberOfPlayers()) {
             //Everyone has passed
@@ -1,14 +1,14 @@
 package net.sf.rails.game.specific._1825;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import net.sf.rails.algorithms.RevenueAdapter;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueTrainRun;
 
 
-public class TerminateAtMajorModifier implements RevenueDynamicModifier {
+public class TerminateAtMajorModifier implements RevenueDynamicRunModifier {
 
     @Override
     public boolean prepareModifier(RevenueAdapter revenueAdapter) {
@@ -17,31 +17,28 @@ public class TerminateAtMajorModifier implements RevenueDynamicModifier {
     }
 
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         // cannot be predicted
         return 0;
     }
 
-    private List<RevenueTrainRun> identifyInvalidRuns(List<RevenueTrainRun> runs) {
+    private boolean isInvalidRun(RevenueRunView.TrainRunView run) {
         // check if runs end and start at major stations
-        List<RevenueTrainRun> invalidRuns = new ArrayList<>();
-        for (RevenueTrainRun run:runs) {
-            if (!run.hasAValidRun()) continue;
-            if (!run.getFirstVertex().isMajor() || !run.getLastVertex().isMajor()) {
-                invalidRuns.add(run);
-            }
-        }
-        return invalidRuns;
+        if (!run.hasAValidRun()) return false;
+        return !run.getFirstVertex().isMajor() || !run.getLastVertex().isMajor();
     }
 
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
         // optimal runs is already adjusted
         if (optimalRuns) return 0;
         // otherwise check invalid runs
         int changeRevenues = 0;
-        for (RevenueTrainRun run:identifyInvalidRuns(runs)) {
-            changeRevenues -= run.getRunValue();
+        for (int i = 0; i < runs.size(); i++) {
+            RevenueRunView.TrainRunView run = runs.get(i);
+            if (isInvalidRun(run)) {
+                changeRevenues -= run.getRunValue();
+            }
         }
         return changeRevenues;
     }
@@ -49,8 +46,10 @@ public class TerminateAtMajorModifier implements RevenueDynamicModifier {
     @Override
     public void adjustOptimalRun(List<RevenueTrainRun> optimalRuns) {
         // set invalid runs to be empty
-        for (RevenueTrainRun run:identifyInvalidRuns(optimalRuns)) {
-            run.getRunVertices().clear();
+        for (RevenueTrainRun run:optimalRuns) {
+            if (isInvalidRun(run)) {
+                run.getRunVertices().clear();
+            }
         }
     }
 
@@ -5,7 +5,8 @@ import java.util.List;
 
 import net.sf.rails.algorithms.NetworkTrain;
 import net.sf.rails.algorithms.RevenueAdapter;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueTrainRun;
 import net.sf.rails.common.LocalText;
 
@@ -15,7 +16,7 @@ import net.sf.rails.common.LocalText;
  * implementation allows several tgv trains
  * @author freystef
  */
-public class TGVModifier implements RevenueDynamicModifier {
+public class TGVModifier implements RevenueDynamicRunModifier {
 
     final private String TGV_NAME = "TGV";
 
@@ -50,13 +51,13 @@ public class TGVModifier implements RevenueDynamicModifier {
     }
 
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         // nothing to do here
         return 0;
     }
 
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
         // nothing to do here
         return 0;
     }
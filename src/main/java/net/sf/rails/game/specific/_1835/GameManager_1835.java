@@ -2,7 +2,6 @@ package net.sf.rails.game.specific._1835;
 
 import net.sf.rails.common.GameOption;
 import net.sf.rails.common.GuiDef;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.*;
 import net.sf.rails.game.financial.ShareSellingRound;
@@ -116,9 +115,9 @@ public class GameManager_1835 extends GameManager {
         // Otherwise, the priority holder will have to do it.
         if (newPresident == null) newPresident = pm.getPriorityPlayer();
 
-        ReportBuffer.add(this, LocalText.getText("IS_NOW_PRES_OF",
+        ReportBuffer.addText(this, "IS_NOW_PRES_OF",
                 newPresident.getId(),
-                company.getId()));
+                company.getId());
 
         return newPresident;
     }
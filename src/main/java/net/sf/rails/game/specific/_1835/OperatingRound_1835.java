@@ -81,10 +81,10 @@ public class OperatingRound_1835 extends OperatingRound {
                     int revenue = priv.getRevenueByPhase(Phase.getCurrent(this)); // sfy 1889: revenue by phase
                     if (count++ == 0) ReportBuffer.add(this, "");
                     String revText = Currency.fromBank(revenue, (MoneyOwner) recipient);
-                    ReportBuffer.add(this, LocalText.getText("ReceivesFor",
+                    ReportBuffer.addText(this, "ReceivesFor",
                             recipient.getId(),
                             revText,
-                            priv.getId()));
+                            priv.getId());
 
                     /* Register black private equivalent PR share value
                      * so it can be subtracted if PR operates */
@@ -135,10 +135,10 @@ public class OperatingRound_1835 extends OperatingRound {
                 int shares = share / operatingCompany.value().getShareUnit();
                 if (this.wasInterrupted()) { //Assuming that the interruption was cause by the Prussian Formation Round
                     sharesPerRecipient.put(player, sharesPerRecipient.get(player) - shares);
-                    ReportBuffer.add(this, LocalText.getText("NoIncomeForPreviousOperation",
+                    ReportBuffer.addText(this, "NoIncomeForPreviousOperation",
                             player.getId(),
                             share,
-                            GameManager_1835.PR_ID));
+                            GameManager_1835.PR_ID);
                 }
 
             }
@@ -253,12 +253,12 @@ public class OperatingRound_1835 extends OperatingRound {
         if (hasJustLaidExtraOBBTile) {
             if (hasLaidExtraOBBTile.value()) {
                 String errMsg = LocalText.getText("InvalidTileLay");
-                DisplayBuffer.add(this, LocalText.getText("CannotLayTileOn",
+                DisplayBuffer.addText(this, "CannotLayTileOn",
                         action.getCompanyName(),
                         action.getLaidTile().toText(),
                         action.getChosenHex().getId(),
                         Bank.format(this, 0),
-                        errMsg));
+                        errMsg);
                 return false;
             } else {
                 // Duplicate, but we have to
@@ -72,7 +72,7 @@ public class PrussianFormationRound extends StockRound {
         forcedStart = phase.getId().equals("4+4") || forcedMerge;
         mergePr = !prussianIsComplete(gameManager);
 
-        ReportBuffer.add(this, LocalText.getText("StartFormationRound", PR_ID));
+        ReportBuffer.addText(this, "StartFormationRound", PR_ID);
         log.debug("StartPr={} forcedStart={} mergePr={} forcedMerge={}", startPr, forcedStart, mergePr, forcedMerge);
 
         step = startPr ? Step.START : Step.MERGE;
@@ -130,8 +130,8 @@ public class PrussianFormationRound extends StockRound {
             Player m2Owner = m2.getPresident();
             startingPlayer = m2Owner;
             setCurrentPlayer(m2Owner);
-            ReportBuffer.add(this, LocalText.getText("StartingPlayer",
-                    playerManager.getCurrentPlayer().getId()));
+            ReportBuffer.addText(this, "StartingPlayer",
+                    playerManager.getCurrentPlayer().getId());
 
             possibleActions.add(new FoldIntoPrussian(m2));
 
@@ -247,10 +247,10 @@ public class PrussianFormationRound extends StockRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotMerge",
+            DisplayBuffer.addText(this, "CannotMerge",
                     action.getFoldedCompanyNames(),
                     PR_ID,
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -280,12 +280,12 @@ public class PrussianFormationRound extends StockRound {
 
         if (cash > 0) {
             String cashText = Currency.fromBank(cash, prussian);
-            ReportBuffer.add(this, LocalText.getText("FloatsWithCash",
+            ReportBuffer.addText(this, "FloatsWithCash",
                 prussian.getId(),
-                cashText ));
+                cashText );
         } else {
-            ReportBuffer.add(this, LocalText.getText("Floats",
-                    prussian.getId()));
+            ReportBuffer.addText(this, "Floats",
+                    prussian.getId());
         }
 
         executeExchange (Arrays.asList(new Company[]{m2}), true, false);
@@ -308,10 +308,10 @@ public class PrussianFormationRound extends StockRound {
         // TODO: This is now dead code, but won't be when some sensible validations exist
         /*
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotMerge",
+            DisplayBuffer.addText(this, "CannotMerge",
                     action.getFoldedCompanyNames(),
                     PR_ID,
-                    errMsg));
+                    errMsg);
             return false;
         }
         */
@@ -438,10 +438,10 @@ public class PrussianFormationRound extends StockRound {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotDiscardTrain",
+            DisplayBuffer.addText(this, "CannotDiscardTrain",
                     company.getId(),
                     (train != null ?train.toText() : "?"),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -465,10 +465,10 @@ public class PrussianFormationRound extends StockRound {
         RoundFacade interruptedRound = gameManager.getInterruptedRound();
         ReportBuffer.add(this, " ");
         if (interruptedRound != null) {
-            ReportBuffer.add(this, LocalText.getText("EndOfFormationRound", PR_ID,
-                    interruptedRound.getRoundName()));
+            ReportBuffer.addText(this, "EndOfFormationRound", PR_ID,
+                    interruptedRound.getRoundName());
         } else {
-            ReportBuffer.add(this, LocalText.getText("EndOfFormationRoundNoInterrupt", PR_ID));
+            ReportBuffer.addText(this, "EndOfFormationRoundNoInterrupt", PR_ID);
         }
 
         if (prussian.hasStarted()) prussian.checkPresidency();
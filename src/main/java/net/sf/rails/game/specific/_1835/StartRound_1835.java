@@ -204,13 +204,13 @@ public class StartRound_1835 extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("InvalidPass",
+            DisplayBuffer.addText(this, "InvalidPass",
                     playerName,
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
-        ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+        ReportBuffer.addText(this, "PASSES", playerName);
 
         numPasses.add(1);
 
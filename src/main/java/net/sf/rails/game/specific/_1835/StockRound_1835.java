@@ -19,7 +19,6 @@ import net.sf.rails.game.model.CertificatesModel;
 import net.sf.rails.game.state.Owner;
 import rails.game.action.BuyCertificate;
 import rails.game.action.NullAction;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.*;
 import net.sf.rails.game.model.PortfolioModel;
@@ -210,9 +209,9 @@ public class StockRound_1835 extends StockRound {
         if (dumpedPlayer != null && presSharesToSell > 0) {
             executePresidentTransferAfterDump(company, new TreeSet<>(certsToSell), dumpedPlayer, presSharesToSell, company.getPresident(), bankTo);
 
-            ReportBuffer.add(this, LocalText.getText("IS_NOW_PRES_OF",
+            ReportBuffer.addText(this, "IS_NOW_PRES_OF",
                     dumpedPlayer.getId(),
-                    company.getId()));
+                    company.getId());
             swapped = true;
 
         }
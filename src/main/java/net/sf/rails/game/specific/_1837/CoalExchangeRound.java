@@ -243,11 +243,11 @@ public class CoalExchangeRound extends StockRound_1837 {
         // Report not (yet) merged coal companies
         List<PublicCompany> remainingMinors = coalCompsPerMajor.get(currentMajor.value());
         if (!remainingMinors.isEmpty()) {
-            ReportBuffer.add(this, LocalText.getText("PlayerDoesNoWantToMerge",
+            ReportBuffer.addText(this, "PlayerDoesNoWantToMerge",
                     playerName,
                     // Remove the square brackets from the minors list
                     remainingMinors.toString().replaceAll("[\\[\\]]", ""),
-                    currentMajor.value()));
+                    currentMajor.value());
         }
 
         // Remove the player and his not chosen player actions
@@ -297,11 +297,11 @@ public class CoalExchangeRound extends StockRound_1837 {
                     for (Train train : minor.getPortfolioModel().getTrainList()) {
                         discardableTrains.put(train.getType(), train);
                     }
-                    DisplayBuffer.add(this,
-                            LocalText.getText("AutoMergeMinorLog",
+                    DisplayBuffer.addText(this,
+                            "AutoMergeMinorLog",
                             minor, major,
                             Bank.format(this, minor.getCash()),
-                            minor.getPortfolioModel().getTrainList().size()));
+                            minor.getPortfolioModel().getTrainList().size());
                     mergeCompanies(minor, major);
                     closedMinors.add(minor);
                 }
@@ -424,22 +424,22 @@ public class CoalExchangeRound extends StockRound_1837 {
     @Override
     protected void finishRound() {
         ReportBuffer.add(this, " ");
-        ReportBuffer.add(
+        ReportBuffer.addText(
                 this,
-                LocalText.getText("EndOfCoalExchangeRound", cerNumber));
+                "EndOfCoalExchangeRound", cerNumber);
 
         // Report financials
         // TODO: This is a standard procedure, IMO it should not appear here (EV)
         ReportBuffer.add(this, "");
         for (PublicCompany c : companyManager.getAllPublicCompanies()) {
             if (c.hasFloated() && !c.isClosed()) {
-                ReportBuffer.add(this, LocalText.getText("Has", c.getId(),
-                        Bank.format(this, c.getCash())));
+                ReportBuffer.addText(this, "Has", c.getId(),
+                        Bank.format(this, c.getCash()));
             }
         }
         for (Player p : playerManager.getPlayers()) {
-            ReportBuffer.add(this, LocalText.getText("Has", p.getId(),
-                    Bank.format(this, p.getCashValue())));
+            ReportBuffer.addText(this, "Has", p.getId(),
+                    Bank.format(this, p.getCashValue()));
         }
         // Inform GameManager
         gameManager.nextRound(this);
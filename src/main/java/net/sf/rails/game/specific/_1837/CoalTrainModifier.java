@@ -5,7 +5,8 @@ import java.util.List;
 
 import net.sf.rails.algorithms.NetworkTrain;
 import net.sf.rails.algorithms.RevenueAdapter;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueTrainRun;
 import net.sf.rails.common.LocalText;
 
@@ -16,7 +17,7 @@ import net.sf.rails.common.LocalText;
  * @author MBrumm
  * ///// NOT USED /////
  */
-public class CoalTrainModifier implements RevenueDynamicModifier {
+public class CoalTrainModifier implements RevenueDynamicRunModifier {
 
         private int nbCOAL = 0; // store the number of Coal Trains
 
@@ -49,13 +50,13 @@ public class CoalTrainModifier implements RevenueDynamicModifier {
     }
 
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         // nothing to do here
         return 0;
     }
 
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
         // nothing to do here
         return 0;
     }
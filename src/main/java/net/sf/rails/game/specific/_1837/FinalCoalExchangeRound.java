@@ -6,7 +6,6 @@ import java.util.List;
 import rails.game.action.MergeCompanies;
 import rails.game.action.NullAction;
 import net.sf.rails.common.GuiDef;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.GameManager;
 import net.sf.rails.game.Player;
@@ -28,12 +27,12 @@ public class FinalCoalExchangeRound extends StockRound_1837 {
 
     public void start(Player playerToStartFCERound) {
         ReportBuffer.add(this, "");
-        ReportBuffer.add(this, LocalText.getText("StartFinalCoalExchangeRound"));
+        ReportBuffer.addText(this, "StartFinalCoalExchangeRound");
 
         playerManager.setCurrentPlayer(playerToStartFCERound);
         initPlayer();
-        ReportBuffer.add(this, LocalText.getText("HasFirstTurn",
-                playerToStartFCERound.getId() ));
+        ReportBuffer.addText(this, "HasFirstTurn",
+                playerToStartFCERound.getId() );
     }
 
     /*----- General methods -----*/
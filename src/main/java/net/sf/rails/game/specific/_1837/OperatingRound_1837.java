@@ -122,10 +122,10 @@ public class OperatingRound_1837 extends OperatingRound {
                 int share = deniedIncomeShare.get(player,operatingCompany.value());
                 int shares = share / operatingCompany.value().getShareUnit();
                 sharesPerRecipient.put (player, sharesPerRecipient.get(player) - shares);
-                ReportBuffer.add(this, LocalText.getText("NoIncomeForPreviousOperation",
+                ReportBuffer.addText(this, "NoIncomeForPreviousOperation",
                         player.getId(),
                         share,
-                        GameDef_1837.Sd));
+                        GameDef_1837.Sd);
             }
         }
 
@@ -327,9 +327,9 @@ public class OperatingRound_1837 extends OperatingRound {
             }
 
             if (amount == 0 && operatingCompany.value().getNumberOfTrains() == 0) {
-                DisplayBuffer.add(this, LocalText.getText("RevenueWithNoTrains",
+                DisplayBuffer.addText(this, "RevenueWithNoTrains",
                         operatingCompany.value().getId(),
-                        Bank.format(this, 0) ));
+                        Bank.format(this, 0) );
             }
 
             break;
@@ -347,8 +347,8 @@ public class OperatingRound_1837 extends OperatingRound {
             int withheld = calculateCompanyIncomeFromSplit(amount);
             String withheldText = Currency.fromBank(withheld, operatingCompany.value());
 
-            ReportBuffer.add(this, LocalText.getText("Receives",
-                    operatingCompany.value().getId(), withheldText));
+            ReportBuffer.addText(this, "Receives",
+                    operatingCompany.value().getId(), withheldText);
             // Payout the remainder
             int payed = amount - withheld;
             payout(payed, true);
@@ -386,11 +386,11 @@ public class OperatingRound_1837 extends OperatingRound {
             part = calculateShareholderPayout(payoutPerShare, shares);
 
             String partText = Currency.fromBank(part, recipient);
-            ReportBuffer.add(this, LocalText.getText("Payout",
+            ReportBuffer.addText(this, "Payout",
                     recipient.getId(),
                     partText,
                     shares,
-                    operatingCompany.value().getShareUnit()));
+                    operatingCompany.value().getShareUnit());
         }
 
         // Move the token
@@ -413,11 +413,11 @@ public class OperatingRound_1837 extends OperatingRound {
         if (specialRevenue > 0) {
             dividend -= specialRevenue;
             company.setLastDirectIncome(specialRevenue);
-            ReportBuffer.add(this, LocalText.getText("CompanyDividesEarnings",
+            ReportBuffer.addText(this, "CompanyDividesEarnings",
                     company,
                     Bank.format(this, earnings),
                     Bank.format(this, dividend),
-                    Bank.format(this, specialRevenue)));
+                    Bank.format(this, specialRevenue));
             Currency.fromBank(specialRevenue, company);
         }
         company.setLastDividend(dividend);
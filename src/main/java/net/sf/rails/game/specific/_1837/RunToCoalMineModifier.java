@@ -1,11 +1,11 @@
 package net.sf.rails.game.specific._1837;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import net.sf.rails.algorithms.RevenueAdapter;
 import net.sf.rails.algorithms.RevenueCalculatorModifier;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueTrainRun;
 import net.sf.rails.game.Access;
 import net.sf.rails.game.Phase;
@@ -21,11 +21,13 @@ import org.slf4j.LoggerFactory;
  * - passenger trains <b>may not</b> run from or to any mine.
  */
 public class RunToCoalMineModifier
-        implements RevenueDynamicModifier, RevenueCalculatorModifier {
+        implements RevenueDynamicRunModifier, RevenueCalculatorModifier {
 
     private static final Logger log = LoggerFactory.getLogger(RunToCoalMineModifier.class);
 
     private int directRevenueFromMines;
+    // revenue of the mines of the runs checked so far
+    private int totalMineRevenue;
     //private boolean evaluateMine;
 
     @Override
@@ -36,101 +38,100 @@ public class RunToCoalMineModifier
     }
 
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         // cannot be predicted
         return 0;
     }
 
-    private List<RevenueTrainRun> identifyInvalidRuns(List<RevenueTrainRun> runs) {
-
-        //if (evaluateMine) directRevenueFromMines = 0; // Prevent later overwriting by 0
-        int totalMineRevenue = 0;
+    /**
+     * Checks the run and adds the revenue of a valid mine run to totalMineRevenue
+     */
+    private boolean isInvalidRun(RevenueRunView.TrainRunView run, int i) {
 
-        List<RevenueTrainRun> invalidRuns = new ArrayList<>();
-        int i = 0;
-        log.debug ("--------------------------------------------------");
-        for (RevenueTrainRun run:runs) {
-            log.debug ("Run {}: {}", ++i,
-                    run.prettyPrint(true)
-                            .replaceAll("\\n+", "")
-                            .replaceAll("\\s+", " "));
-            if (!run.hasAValidRun()) {
-                log.debug ("Invalid run");
-                continue;
-            }
-            String trainCategory = run.getTrain().getRailsTrain().getCategory();
-            if (!Util.hasValue(trainCategory)) {
-                log.debug("No category");
-                continue;
-            }
+        if (log.isDebugEnabled()) {
+            log.debug ("Run {}: {} {}", i, run.getTrain(), run.getRunVertices());
+        }
+        if (!run.hasAValidRun()) {
+            log.debug ("Invalid run");
+            return false;
+        }
+        String trainCategory = run.getTrain().getRailsTrain().getCategory();
+        if (!Util.hasValue(trainCategory)) {
+            log.debug("No category");
+            return false;
+        }
 
-            // check if runs do not start or end at a coal mine
-            // for a train category that is not allowed to do so
-            // (this part of the modifier is not specific for 1837)
-            Stop firstStop = run.getFirstVertex().getStop();
-            Station firstStation = firstStop.getRelatedStation();
-            boolean firstStationIsMine = firstStation.getType() == Stop.Type.MINE;
-            Access firstStationAccess = firstStation.getAccess();
-            Stop lastStop = run.getLastVertex().getStop();
-            Station lastStation = lastStop.getRelatedStation();
-            boolean lastStationIsMine = lastStation.getType() == Stop.Type.MINE;
-            Access lastStationAccess = lastStation.getAccess();
-
-            if (firstStationIsMine && !(firstStationAccess == null
-                        || firstStationAccess.getRunToTrainCategories().contains(trainCategory))) {
-                invalidRuns.add(run);
-                log.debug("Invalid first stop: access={} or wrong category");
-                continue;
-            }
-            if (lastStationIsMine && !(lastStationAccess == null
-                    || lastStationAccess.getRunToTrainCategories().contains(trainCategory))) {
-                invalidRuns.add(run);
-                log.debug("Invalid last stop: access={} or wrong category");
-                continue;
-            }
-            // Coal train runs must include just one mine
-            // (note: this makes the mutexId check redundant)
-            // "goods" may be 1837-specific
-            if (trainCategory.equalsIgnoreCase("goods")) {
-                if (firstStationIsMine == lastStationIsMine) {
-                    log.debug("Invalid, GT mines: {}, {}",firstStationIsMine,lastStationIsMine);
-                    invalidRuns.add(run);
-                } else /*if (evaluateMine)*/ {
-                    // Save the revenue from the mine(s), which in 1837
-                    // becomes 'direct revenue' into the company treasury.
-                    Stop mine = (firstStationIsMine ? firstStop : lastStop);
-                    Phase phase = run.getTrain().getRailsTrain().getRoot().getPhaseManager().getCurrentPhase();
-                    int mineRevenue = mine.getParent().getCurrentValueForPhase(phase);
-                    //directRevenueFromMines += mineRevenue;
-                    totalMineRevenue += mineRevenue;
-                }
+        // check if runs do not start or end at a coal mine
+        // for a train category that is not allowed to do so
+        // (this part of the modifier is not specific for 1837)
+        Stop firstStop = run.getFirstVertex().getStop();
+        Station firstStation = firstStop.getRelatedStation();
+        boolean firstStationIsMine = firstStation.getType() == Stop.Type.MINE;
+        Access firstStationAccess = firstStation.getAccess();
+        Stop lastStop = run.getLastVertex().getStop();
+        Station lastStation = lastStop.getRelatedStation();
+        boolean lastStationIsMine = lastStation.getType() == Stop.Type.MINE;
+        Access lastStationAccess = lastStation.getAccess();
+
+        if (firstStationIsMine && !(firstStationAccess == null
+                    || firstStationAccess.getRunToTrainCategories().contains(trainCategory))) {
+            log.debug("Invalid first stop: access={} or wrong category");
+            return true;
+        }
+        if (lastStationIsMine && !(lastStationAccess == null
+                || lastStationAccess.getRunToTrainCategories().contains(trainCategory))) {
+            log.debug("Invalid last stop: access={} or wrong category");
+            return true;
+        }
+        // Coal train runs must include just one mine
+        // (note: this makes the mutexId check redundant)
+        // "goods" may be 1837-specific
+        if (trainCategory.equalsIgnoreCase("goods")) {
+            if (firstStationIsMine == lastStationIsMine) {
+                log.debug("Invalid, GT mines: {}, {}",firstStationIsMine,lastStationIsMine);
+                return true;
+            } else {
+                // Save the revenue from the mine(s), which in 1837
+                // becomes 'direct revenue' into the company treasury.
+                Stop mine = (firstStationIsMine ? firstStop : lastStop);
+                Phase phase = run.getTrain().getRailsTrain().getRoot().getPhaseManager().getCurrentPhase();
+                totalMineRevenue += mine.getParent().getCurrentValueForPhase(phase);
             }
-
         }
-        //evaluateMine = false;
-        // Maximize the mine revenue (not sure if this is optimal).
-        directRevenueFromMines = Math.max (directRevenueFromMines, totalMineRevenue);
-        return invalidRuns;
+        return false;
     }
 
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
         // optimal runs is already adjusted
         if (optimalRuns) return 0;
         // otherwise check invalid runs
+        log.debug ("--------------------------------------------------");
+        totalMineRevenue = 0;
         int changeRevenues = 0;
-        for (RevenueTrainRun run:identifyInvalidRuns(runs)) {
-            changeRevenues -= run.getRunValue();
+        for (int i = 0; i < runs.size(); i++) {
+            RevenueRunView.TrainRunView run = runs.get(i);
+            if (isInvalidRun(run, i + 1)) {
+                changeRevenues -= run.getRunValue();
+            }
         }
+        // Maximize the mine revenue (not sure if this is optimal).
+        directRevenueFromMines = Math.max (directRevenueFromMines, totalMineRevenue);
         return changeRevenues;
     }
 
     @Override
     public void adjustOptimalRun(List<RevenueTrainRun> optimalRuns) {
         // set invalid runs to be empty
-        for (RevenueTrainRun run:identifyInvalidRuns(optimalRuns)) {
-            run.getRunVertices().clear();
+        log.debug ("--------------------------------------------------");
+        totalMineRevenue = 0;
+        for (int i = 0; i < optimalRuns.size(); i++) {
+            RevenueTrainRun run = optimalRuns.get(i);
+            if (isInvalidRun(run, i + 1)) {
+                run.getRunVertices().clear();
+            }
         }
+        directRevenueFromMines = Math.max (directRevenueFromMines, totalMineRevenue);
     }
 
     public boolean providesOwnCalculateRevenue() {  // not used??
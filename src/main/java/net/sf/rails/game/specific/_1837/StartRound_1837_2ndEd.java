@@ -156,10 +156,10 @@ public class StartRound_1837_2ndEd extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantBuyItem",
+            DisplayBuffer.addText(this, "CantBuyItem",
                     playerName,
                     item.getId(),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -238,10 +238,10 @@ public class StartRound_1837_2ndEd extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("InvalidBid",
+            DisplayBuffer.addText(this, "InvalidBid",
                     playerName,
                     item.getId(),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -261,9 +261,9 @@ public class StartRound_1837_2ndEd extends StartRound {
             }
 
             ReportBuffer.add(this, " ");
-            ReportBuffer.add(this, LocalText.getText("SelectForAuctioning",
+            ReportBuffer.addText(this, "SelectForAuctioning",
                     playerName,
-                    item.getId() ));
+                    item.getId() );
         }
 
         if (bidAmount > 0) {
@@ -271,10 +271,10 @@ public class StartRound_1837_2ndEd extends StartRound {
             item.setMinimumBid(bidAmount + 5);
             currentStep.set(BID_STEP);
 
-            ReportBuffer.add(this, LocalText.getText("BID_ITEM",
+            ReportBuffer.addText(this, "BID_ITEM",
                     playerName,
                     Bank.format(this, bidAmount),
-                    item.getId() ));
+                    item.getId() );
         }
 
         switch (currentStep.value()) {
@@ -313,16 +313,16 @@ public class StartRound_1837_2ndEd extends StartRound {
         switch (currentStep.value()) {
         case OPEN_STEP:
         case BUY_STEP:
-            ReportBuffer.add(this, LocalText.getText("DeclinedToBid", playerName));
+            ReportBuffer.addText(this, "DeclinedToBid", playerName);
 
             Player currentPlayer = playerManager.setCurrentToNextPlayer();
             if (currentPlayer == selectingPlayer.value()) {
                 // All have passed, now lower the buy price
                 currentBuyPrice.add(-10);
                 auctionedItem.setMinimumBid(currentBuyPrice.value());
-                ReportBuffer.add(this, LocalText.getText("ITEM_PRICE_REDUCED",
+                ReportBuffer.addText(this, "ITEM_PRICE_REDUCED",
                         auctionedItem.getId(),
-                        Bank.format(this, currentBuyPrice.value()) ));
+                        Bank.format(this, currentBuyPrice.value()) );
                 currentStep.set(BUY_STEP);
 
                 if (currentBuyPrice.value() == 0) {
@@ -338,7 +338,7 @@ public class StartRound_1837_2ndEd extends StartRound {
             break;
 
         case BID_STEP:
-            ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+            ReportBuffer.addText(this, "PASSES", playerName);
 
             auctionedItem.setPass(playerManager.getCurrentPlayer());
 
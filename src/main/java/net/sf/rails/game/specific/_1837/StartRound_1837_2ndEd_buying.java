@@ -43,10 +43,10 @@ public class StartRound_1837_2ndEd_buying extends StartRound_1837_2ndEd {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantBuyItem",
+            DisplayBuffer.addText(this, "CantBuyItem",
                     playerName,
                     item.getId(),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -62,9 +62,9 @@ public class StartRound_1837_v1 extends StartRound {
         // init current with priority player
         startPlayer = playerManager.setCurrentToPriorityPlayer();
 
-        ReportBuffer.add(this, LocalText.getText("StartOfStartRound",getStartRoundName()));
-        ReportBuffer.add(this, LocalText.getText("HasPriority",
-                startPlayer.getId()));
+        ReportBuffer.addText(this, "StartOfStartRound",getStartRoundName());
+        ReportBuffer.addText(this, "HasPriority",
+                startPlayer.getId());
 
         if (!setPossibleActions()) {
             /*
@@ -173,7 +173,7 @@ public class StartRound_1837_v1 extends StartRound {
     @Override
     public boolean bid(String playerName, BidStartItem item) {
 
-        DisplayBuffer.add(this, LocalText.getText("InvalidAction"));
+        DisplayBuffer.addText(this, "InvalidAction");
         return false;
     }
 
@@ -201,12 +201,12 @@ public class StartRound_1837_v1 extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this,
-                    LocalText.getText("InvalidPass", playerName, errMsg));
+            DisplayBuffer.addText(this,
+                    "InvalidPass", playerName, errMsg);
             return false;
         }
 
-        ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+        ReportBuffer.addText(this, "PASSES", playerName);
 
         numPasses.add(1);
 
@@ -215,7 +215,7 @@ public class StartRound_1837_v1 extends StartRound {
             // The next open top row papers in either column will be reduced by
             // price
             // TBD
-            ReportBuffer.add(this, LocalText.getText("ALL_PASSED"));
+            ReportBuffer.addText(this, "ALL_PASSED");
             for (StartItem item : startPacket.getItems()) {
                 if ((item.getStatus() == 2) && (item.getBasePrice() != 0)) {
                     if (item.getBasePrice() >=10) {
@@ -223,11 +223,11 @@ public class StartRound_1837_v1 extends StartRound {
                     } else { //Assumption only 5 G remain
                         item.reduceBasePriceBy(5);
                     }
-                    ReportBuffer.add(
+                    ReportBuffer.addText(
                             this,
-                            LocalText.getText("ITEM_PRICE_REDUCED",
+                            "ITEM_PRICE_REDUCED",
                                     item.getId(),
-                                    Bank.format(this, item.getBasePrice())));
+                                    Bank.format(this, item.getBasePrice()));
                 }
             }
 
@@ -274,8 +274,8 @@ public class StartRound_1837_v1 extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantBuyItem",
-                    playerName, item.getId(), errMsg));
+            DisplayBuffer.addText(this, "CantBuyItem",
+                    playerName, item.getId(), errMsg);
             return false;
         }
 
@@ -339,9 +339,9 @@ public class StartRound_1837_v1 extends StartRound {
                 result = buy(playerName, buyAction);
             } else {
 
-                DisplayBuffer.add(
+                DisplayBuffer.addText(
                         this,
-                        LocalText.getText("UnexpectedAction", action.toString()));
+                        "UnexpectedAction", action.toString());
             }
         }
         if ((startPacket.areAllSold())) {
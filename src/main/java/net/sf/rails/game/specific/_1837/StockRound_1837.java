@@ -166,22 +166,22 @@ public class StockRound_1837 extends StockRound {
 
         ReportBuffer.add(this, "");
         if (autoMerge) {
-            ReportBuffer.add(this, LocalText.getText("AutoMergeMinorLog",
+            ReportBuffer.addText(this, "AutoMergeMinorLog",
                     minor.getId(), major.getId(),
-                    Bank.format(this, minorCash), minorTrains));
+                    Bank.format(this, minorCash), minorTrains);
         } else {
-            ReportBuffer.add(this, LocalText.getText("MERGE_MINOR_LOG",
+            ReportBuffer.addText(this, "MERGE_MINOR_LOG",
                     minorPres, minor.getId(), major.getId(),
-                    Bank.format(this, minorCash), minorTrains));
+                    Bank.format(this, minorCash), minorTrains);
         }
         // FIXME: CHeck if this still works correctly
-        ReportBuffer.add(this, LocalText.getText("GetShareForMinor",
+        ReportBuffer.addText(this, "GetShareForMinor",
                 minorPres, cert.getShare(), major.getId(),
-                minor.getId()));
+                minor.getId());
         cert.moveTo(minorPres);
 
         minor.setClosed();
-        ReportBuffer.add(this, LocalText.getText("MinorCloses", minor.getId()));
+        ReportBuffer.addText(this, "MinorCloses", minor.getId());
         checkFlotation(major);
 
         hasActed.set(true);
@@ -237,10 +237,10 @@ public class StockRound_1837 extends StockRound {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(
+            DisplayBuffer.addText(
                     this,
-                    LocalText.getText("CannotDiscardTrain", companyName,
-                            train.toText(), errMsg));
+                    "CannotDiscardTrain", companyName,
+                            train.toText(), errMsg);
             return false;
         }
 
@@ -7,7 +7,6 @@ import org.slf4j.LoggerFactory;
 
 import rails.game.action.*;
 import net.sf.rails.common.DisplayBuffer;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.game.*;
 
 
@@ -93,7 +92,7 @@ public class StartRound_1851 extends StartRound {
     @Override
     public boolean bid(String playerName, BidStartItem item) {
 
-        DisplayBuffer.add(this, LocalText.getText("InvalidAction"));
+        DisplayBuffer.addText(this, "InvalidAction");
         return false;
     }
 
@@ -71,10 +71,10 @@ public class CGRFormationRound extends SwitchableUIRound {
         // store starting player
         this.startingPlayer = startingPlayer;
 
-        ReportBuffer.add(this, LocalText.getText("StartFormationRound",
-                PublicCompany_CGR.NAME));
-        ReportBuffer.add(this, LocalText.getText("StartingPlayer",
-                startingPlayer.getId()));
+        ReportBuffer.addText(this, "StartFormationRound",
+                PublicCompany_CGR.NAME);
+        ReportBuffer.addText(this, "StartingPlayer",
+                startingPlayer.getId());
 
         guiHints.setCurrentRoundType(getClass());
 
@@ -86,7 +86,7 @@ public class CGRFormationRound extends SwitchableUIRound {
         }
 
         if (companiesToRepayLoans.isEmpty()) {
-            ReportBuffer.add(this, LocalText.getText("DoesNotForm", cgr.toText()));
+            ReportBuffer.addText(this, "DoesNotForm", cgr.toText());
             finishRound();
             return;
         }
@@ -236,22 +236,22 @@ public class CGRFormationRound extends SwitchableUIRound {
             company.addLoans(-numberRepaid);
             if (repaymentByCompany > 0) {
                 String repayCompanyText = Currency.toBank(company, repaymentByCompany);
-                ReportBuffer.add(this, LocalText.getText("CompanyRepaysLoans",
+                ReportBuffer.addText(this, "CompanyRepaysLoans",
                         company.getId(),
                         repayCompanyText,
                         numberRepaid,
-                        Bank.format(this, company.getValuePerLoan()))); // TODO: Make this nicer
+                        Bank.format(this, company.getValuePerLoan())); // TODO: Make this nicer
             }
             if (repaymentByPresident > 0) {
                 Player president = company.getPresident();
                 String repayPresidentText = Currency.toBank(president, repaymentByPresident);
-                ReportBuffer.add(this, LocalText.getText("CompanyRepaysLoansWithPresCash",
+                ReportBuffer.addText(this, "CompanyRepaysLoansWithPresCash",
                         company.getId(),
                         repayPresidentText,
                         Bank.format(this, repayment),
                         numberRepaid,
                         Bank.format(this, company.getValuePerLoan()),
-                        president.getId()));
+                        president.getId());
             }
         }
 
@@ -461,7 +461,7 @@ public class CGRFormationRound extends SwitchableUIRound {
             }
         }
         cgr.setFloated();
-        ReportBuffer.add(this, LocalText.getText("Floats", PublicCompany_CGR.NAME));
+        ReportBuffer.addText(this, "Floats", PublicCompany_CGR.NAME);
 
         // Collect the old token spots, and move cash and trains
         List<BaseToken> homeTokens = new ArrayList<BaseToken>();
@@ -539,9 +539,9 @@ public class CGRFormationRound extends SwitchableUIRound {
             token.moveTo(token.getParent());
             if (hex.layBaseToken(cgr, stop)) {
                 /* TODO: the false return value must be impossible. */
-                ReportBuffer.add(this, LocalText.getText("ExchangesBaseToken",
+                ReportBuffer.addText(this, "ExchangesBaseToken",
                         cgr.toText(), token.getParent().getId(),
-                        stop.getSpecificId()));
+                        stop.getSpecificId());
                 cgr.layBaseToken(hex, 0);
             }
         }
@@ -555,9 +555,9 @@ public class CGRFormationRound extends SwitchableUIRound {
                 for (BaseToken token2 : otherTokens) {
                     if (token2.getParent() == cgr
                             || nonHomeTokens.contains(token2) && token2 != token) {
-                        ReportBuffer.add(this, LocalText.getText("DiscardsBaseToken",
+                        ReportBuffer.addText(this, "DiscardsBaseToken",
                                 cgr.toText(), token.getParent().getId(),
-                                stop.getSpecificId()));
+                                stop.getSpecificId());
                         // return token to home
                         token.moveTo(token.getParent());
                         nonHomeTokens.remove(token);
@@ -755,10 +755,10 @@ public class CGRFormationRound extends SwitchableUIRound {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotDiscardTrain",
+            DisplayBuffer.addText(this, "CannotDiscardTrain",
                     companyName,
                     train.toText(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -798,10 +798,10 @@ public class CGRFormationRound extends SwitchableUIRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotExchangeTokens",
+            DisplayBuffer.addText(this, "CannotExchangeTokens",
                     action.getCompany(),
                     action.toString(),
-                    errMsg));
+                    errMsg);
 
             return false;
         }
@@ -837,17 +837,17 @@ public class CGRFormationRound extends SwitchableUIRound {
                     // This is true in the 1856 CGR formation.
                     if (hex.layBaseToken(comp, stop)) {
                         /* TODO: the false return value must be impossible. */
-                        ReportBuffer.add(this, LocalText.getText("ExchangesBaseToken",
+                        ReportBuffer.addText(this, "ExchangesBaseToken",
                                 comp.getId(),
                                 token.getOldCompanyName(),
-                                stop.getSpecificId()));
+                                stop.getSpecificId());
                         comp.layBaseToken(hex, 0);
                     }
                 } else {
-                    ReportBuffer.add(this, LocalText.getText("NoBaseTokenExchange",
+                    ReportBuffer.addText(this, "NoBaseTokenExchange",
                             comp.getId(),
                             token.getOldCompanyName(),
-                            stop.getSpecificId()));
+                            stop.getSpecificId());
                 }
             }
         }
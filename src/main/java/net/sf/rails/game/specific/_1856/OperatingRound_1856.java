@@ -83,11 +83,11 @@ public class OperatingRound_1856 extends OperatingRound {
 
 
                 if (soldPercentage < floatPercentage) {
-                    DisplayBuffer.add(this, LocalText.getText("MayNotYetOperate",
+                    DisplayBuffer.addText(this, "MayNotYetOperate",
                             operatingCompany.value().getId(),
                             String.valueOf(soldPercentage),
                             String.valueOf(floatPercentage)
-                    ));
+                    );
                     // Company may not yet operate
                     continue;
                 }
@@ -107,8 +107,8 @@ public class OperatingRound_1856 extends OperatingRound {
 
             if (operatingCompany.value() instanceof PublicCompany_CGR
                     && !((PublicCompany_CGR) operatingCompany.value()).hadPermanentTrain()) {
-                DisplayBuffer.add(this, LocalText.getText("MustWithholdUntilPermanent",
-                        PublicCompany_CGR.NAME));
+                DisplayBuffer.addText(this, "MustWithholdUntilPermanent",
+                        PublicCompany_CGR.NAME);
                 possibleActions.add(new SetDividend(getRoot(),
                         operatingCompany.value().getLastRevenue(), true,
                         new int[]{SetDividend.WITHHOLD}));
@@ -217,14 +217,14 @@ public class OperatingRound_1856 extends OperatingRound {
         if (payment > 0) {
             String paymentText = Currency.toBank(operatingCompany.value(), payment);
             if (payment == due) {
-                ReportBuffer.add(this, LocalText.getText("InterestPaidFromTreasury",
+                ReportBuffer.addText(this, "InterestPaidFromTreasury",
                         operatingCompany.value().getId(),
-                        paymentText));
+                        paymentText);
             } else {
-                ReportBuffer.add(this, LocalText.getText("InterestPartlyPaidFromTreasury",
+                ReportBuffer.addText(this, "InterestPartlyPaidFromTreasury",
                         operatingCompany.value().getId(),
                         paymentText,
-                        bank.getCurrency().format(due))); // TODO: Do this nicer
+                        bank.getCurrency().format(due)); // TODO: Do this nicer
             }
             remainder -= payment;
         }
@@ -235,10 +235,10 @@ public class OperatingRound_1856 extends OperatingRound {
         if (payment > 0) {
             // Payment money remains in the bank
             remainder -= payment;
-            ReportBuffer.add(this, LocalText.getText("InterestPaidFromRevenue",
+            ReportBuffer.addText(this, "InterestPaidFromRevenue",
                     operatingCompany.value().getId(),
                     Bank.format(this, payment),
-                    Bank.format(this, due)));
+                    Bank.format(this, due));
             // This reduces train income
             amount -= payment;
         }
@@ -257,11 +257,11 @@ public class OperatingRound_1856 extends OperatingRound {
 
             payment = remainder;
             String paymentText = Currency.toBank(president, payment);
-            ReportBuffer.add(this, LocalText.getText("InterestPaidFromPresidentCash",
+            ReportBuffer.addText(this, "InterestPaidFromPresidentCash",
                     operatingCompany.value().getId(),
                     paymentText,
                     bank.getCurrency().format(due), // TODO: Do this nicer
-                    president.getId()));
+                    president.getId());
         }
 
         return amount;
@@ -291,9 +291,9 @@ public class OperatingRound_1856 extends OperatingRound {
             int cashInEscrow = comp.getMoneyInEscrow();
             if (cashInEscrow > 0) {
                 String cashText = Currency.fromBank(cashInEscrow, company);
-                ReportBuffer.add(this, LocalText.getText("ReleasedFromEscrow",
+                ReportBuffer.addText(this, "ReleasedFromEscrow",
                         company.getId(),
-                        cashText));
+                        cashText);
             }
         }
 
@@ -334,11 +334,11 @@ public class OperatingRound_1856 extends OperatingRound {
 
                 if (minNumber > 0) {
                     // Mandatory repayment
-                    DisplayBuffer.add(this, LocalText.getText("MustRepayLoans",
+                    DisplayBuffer.addText(this, "MustRepayLoans",
                             operatingCompany.value().getId(),
                             minNumber,
                             Bank.format(this, operatingCompany.value().getValuePerLoan()),
-                            Bank.format(this, minNumber * operatingCompany.value().getValuePerLoan())));
+                            Bank.format(this, minNumber * operatingCompany.value().getValuePerLoan()));
                 }
                 possibleActions.add(new RepayLoans(operatingCompany.value(),
                         minNumber, maxNumber, operatingCompany.value().getValuePerLoan()));
@@ -529,9 +529,9 @@ public class OperatingRound_1856 extends OperatingRound {
             message = LocalText.getText("DoesNotForm", cgr.getId());
             roundFinished = !setNextOperatingCompany(false);
         }
-        ReportBuffer.add(this, LocalText.getText("EndOfFormationRound",
+        ReportBuffer.addText(this, "EndOfFormationRound",
                 cgr.getId(),
-                getRoundName()));
+                getRoundName());
         ReportBuffer.add(this, message);
         DisplayBuffer.add(this, message);
 
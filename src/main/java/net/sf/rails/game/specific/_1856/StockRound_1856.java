@@ -5,7 +5,6 @@ import org.slf4j.LoggerFactory;
 
 import rails.game.action.BuyCertificate;
 import net.sf.rails.common.DisplayBuffer;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.GameManager;
 import net.sf.rails.game.Player;
@@ -120,10 +119,10 @@ public class StockRound_1856 extends StockRound {
                     comp.addMoneyInEscrow(price);
                     // FIXME (Rails2.0): This used to be addWaiting in ReportBuffer
                     // potentially the reporting is now incorrect
-                    ReportBuffer.add(this, LocalText.getText("HoldMoneyInEscrow",
+                    ReportBuffer.addText(this, "HoldMoneyInEscrow",
                             Bank.format(this, price),
                             Bank.format(this, comp.getMoneyInEscrow()),
-                            comp.getId() ));
+                            comp.getId() );
                     break;
                 }
                 // fall through
@@ -198,10 +197,10 @@ public class StockRound_1856 extends StockRound {
                 price2 = cgr.getCurrentPriceModel().getPrice().getPrice();
                 if (price2 < lowestPrice) lowestPrice = price2;
             }
-            DisplayBuffer.add(this, LocalText.getText("MustBuyExtraShareAsPresident",
+            DisplayBuffer.addText(this, "MustBuyExtraShareAsPresident",
                     currentPlayer.getId(),
                     cgr.getId(),
-                    cgr.getShareUnit()));
+                    cgr.getShareUnit());
             if (lowestPrice > cash) {
                 gameManager.startShareSellingRound(currentPlayer,
                         lowestPrice - cash, cgr, false);
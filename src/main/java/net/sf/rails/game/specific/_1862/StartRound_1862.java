@@ -3,7 +3,6 @@ package net.sf.rails.game.specific._1862;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.GameManager;
 import net.sf.rails.game.Player;
@@ -36,10 +35,10 @@ public class StartRound_1862 extends StartRound_AuctionOnly {
         PublicCertificate primary = company.getPresidentsShare();
         primary.moveTo(player);
         String priceText = Currency.toBank(player, price + (3 * sharePrice));
-        ReportBuffer.add(
+        ReportBuffer.addText(
                 this,
-                LocalText.getText("BuysItemFor", player.getId(),
-                        primary.toText(), priceText));
+                "BuysItemFor", player.getId(),
+                        primary.toText(), priceText);
 
         item.setSold(player, price);
     }
@@ -1,21 +1,23 @@
 package net.sf.rails.game.specific._1880;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Ordering;
 
 import net.sf.rails.algorithms.NetworkTrain;
 import net.sf.rails.algorithms.NetworkVertex;
 import net.sf.rails.algorithms.RevenueAdapter;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueTrainRun;
 
-    public class ExpressTrainModifier implements RevenueDynamicModifier {
+    public class ExpressTrainModifier implements RevenueDynamicRunModifier {
 
         private static final String TRAIN_6E = "6E";
         private static final String TRAIN_8E = "8E";
@@ -39,21 +41,42 @@ import net.sf.rails.algorithms.RevenueTrainRun;
         }
 
 
-        private List<NetworkVertex> extractExpressRun(RevenueTrainRun run, int length) {
+        // reused buffers for the evaluation during the calculation
+        private NetworkVertex[] sortedVertices = new NetworkVertex[16];
+        private final List<NetworkVertex> expressVertices = new ArrayList<NetworkVertex>();
+
+        private final Comparator<NetworkVertex> valueOrder = new NetworkVertex.ValueOrder();
+
+        /**
+         * Fills expressVertices with the base vertex and the most valuable stations of the run
+         * @return false if the train has no valid run
+         */
+        private boolean extractExpressRun(RevenueRunView.TrainRunView run, int length) {
+            expressVertices.clear();
 
             // check for valid run first
-            if (!run.hasAValidRun()) return new ArrayList<NetworkVertex>();
+            if (!run.hasAValidRun()) return false;
 
-            // create a sorted list of the run vertices
-            List<NetworkVertex> sortedVertices =
-                    Ordering.from(new NetworkVertex.ValueOrder()).immutableSortedCopy(run.getUniqueVertices());
+            // sort the run vertices, duplicates are adjacent thereafter
+            List<NetworkVertex> runVertices = run.getRunVertices();
+            int nbVertices = runVertices.size();
+            if (sortedVertices.length < nbVertices) {
+                sortedVertices = new NetworkVertex[Math.max(nbVertices, 2 * sortedVertices.length)];
+            }
+            for (int i = 0; i < nbVertices; i++) {
+                sortedVertices[i] = runVertices.get(i);
+            }
+            Arrays.sort(sortedVertices, 0, nbVertices, valueOrder);
 
-            ImmutableList.Builder<NetworkVertex> expressVertices = ImmutableList.builder();
             NetworkVertex baseVertex = run.getBaseVertex();
             expressVertices.add(baseVertex);
 
             int inRunNumber = 1;
-            for (NetworkVertex vertex:sortedVertices) {
+            NetworkVertex previous = null;
+            for (int i = 0; i < nbVertices; i++) {
+                NetworkVertex vertex = sortedVertices[i];
+                if (vertex == previous) continue;
+                previous = vertex;
                 if (vertex != baseVertex) {
                     if (!vertex.isStation()) {
                         // keep ferry malus vertices
@@ -65,38 +88,42 @@ import net.sf.rails.algorithms.RevenueTrainRun;
                     }
                 }
             }
+            Arrays.fill(sortedVertices, 0, nbVertices, null);
+            return true;
+        }
 
-            return expressVertices.build();
+        private static int expressLength(NetworkTrain train) {
+            if (TRAIN_6E.equals(train.getTrainName())) {
+                return 6;
+            } else if (TRAIN_8E.equals(train.getTrainName())) {
+                return 8;
+            }
+            return 0;
         }
 
-        private int valueChange(List<RevenueTrainRun> runs, boolean optimalRuns) {
+        private int valueChange(RevenueRunView runs, boolean optimalRuns) {
             int value = 0;
             //Find out which Express Train is involved
-            for (RevenueTrainRun run:runs) {
-                if (TRAIN_6E.equals(run.getTrain().getTrainName())) {
-                    if (optimalRuns) log.debug("Express Long Run = {}", run.getRunVertices());
-                    List<NetworkVertex> expressRun = extractExpressRun(run, 6);
-                    if (optimalRuns) log.debug("Express Best Run = {}", expressRun);
-                    int expressRunValue = run.getRunValueForVertices(expressRun);
-                    value += expressRunValue - run.getRunValue();
-                } else if (TRAIN_8E.equals(run.getTrain().getTrainName())) {
-                    if (optimalRuns) log.debug("Express Long Run = {}", run.getRunVertices());
-                    List<NetworkVertex> expressRun = extractExpressRun(run, 8);
-                    if (optimalRuns) log.debug("Express Best Run = {}", expressRun);
-                    int expressRunValue = run.getRunValueForVertices(expressRun);
-                    value += expressRunValue - run.getRunValue();
-                }
+            for (int i = 0; i < runs.size(); i++) {
+                RevenueRunView.TrainRunView run = runs.get(i);
+                int length = expressLength(run.getTrain());
+                if (length == 0) continue;
+                if (optimalRuns) log.debug("Express Long Run = {}", run.getRunVertices());
+                extractExpressRun(run, length);
+                if (optimalRuns) log.debug("Express Best Run = {}", expressVertices);
+                int expressRunValue = run.getRunValueForVertices(expressVertices);
+                value += expressRunValue - run.getRunValue();
             }
             return value;
         }
 
         @Override
-        public int predictionValue(List<RevenueTrainRun> runs) {
+        public int predictionValue(RevenueRunView runs) {
             return valueChange(runs, false);
         }
 
         @Override
-        public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+        public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
             return valueChange(runs, optimalRuns);
         }
 
@@ -104,12 +131,10 @@ import net.sf.rails.algorithms.RevenueTrainRun;
         public void adjustOptimalRun(List<RevenueTrainRun> optimalRuns) {
             //Find out which Express Train is involved
             for (RevenueTrainRun run:optimalRuns) {
-                if (TRAIN_6E.equals(run.getTrain().getTrainName())) {
-                    run.getRunVertices().retainAll(extractExpressRun(run, 6));
-                }
-                if (TRAIN_8E.equals(run.getTrain().getTrainName())) {
-                    run.getRunVertices().retainAll(extractExpressRun(run, 8));
-                }
+                int length = expressLength(run.getTrain());
+                if (length == 0) continue;
+                extractExpressRun(run, length);
+                run.getRunVertices().retainAll(ImmutableList.copyOf(expressVertices));
             }
 
         }
@@ -159,7 +159,7 @@ public class OperatingRound_1880 extends OperatingRound {
     public void start() {
         thisOrNumber = gameManager.getORId();
 
-        ReportBuffer.add(this, LocalText.getText("START_OR", thisOrNumber));
+        ReportBuffer.addText(this, "START_OR", thisOrNumber);
 
         for (Player player : getRoot().getPlayerManager().getPlayers()) {
             player.setWorthAtORStart();
@@ -238,8 +238,8 @@ public class OperatingRound_1880 extends OperatingRound {
                       }
                       for (Train train : trainsToDiscard) {
                           train.discard();
-                          ReportBuffer.add(this,LocalText.getText("CompanyDiscardsTrain",
-                                  excessTrainCompany.getLongName(), train.getId()));
+                          ReportBuffer.addText(this,"CompanyDiscardsTrain",
+                                  excessTrainCompany.getLongName(), train.getId());
                       }
                 }
               }
@@ -546,8 +546,8 @@ public class OperatingRound_1880 extends OperatingRound {
 
                 int penalty = (additionalDebt / 2);
 
-                ReportBuffer.add(this, LocalText.getText("DebtPenalty", player.getId(),
-                        Bank.format(this, penalty)));
+                ReportBuffer.addText(this, "DebtPenalty", player.getId(),
+                        Bank.format(this, penalty));
                 Currency.wire(player, penalty, getRoot().getBank());
                 }
         }
@@ -581,11 +581,11 @@ public class OperatingRound_1880 extends OperatingRound {
             part = (int) Math.ceil(amount * shares * operatingCompany.value().getShareUnit() / 100.0);
 
             String partText = Currency.fromBank(part, recipient);
-            ReportBuffer.add(this,LocalText.getText("Payout",
+            ReportBuffer.addText(this,"Payout",
                     recipient.getId(),
                     partText,
                     shares,
-                    operatingCompany.value().getShareUnit()));
+                    operatingCompany.value().getShareUnit());
         }
 
         // Move the token
@@ -600,24 +600,24 @@ public class OperatingRound_1880 extends OperatingRound {
         Player investorOwner = investor.getPresident();
         PublicCompany_1880 linkedCompany =
                 (PublicCompany_1880) investor.getLinkedCompany();
-        ReportBuffer.add(this, LocalText.getText("FIConnected", investor.getId(),
-                linkedCompany.getId()));
+        ReportBuffer.addText(this, "FIConnected", investor.getId(),
+                linkedCompany.getId());
 
         // The owner gets $50
-        ReportBuffer.add(this, LocalText.getText("FIConnectedPayout",
-                investorOwner.getId()));
+        ReportBuffer.addText(this, "FIConnectedPayout",
+                investorOwner.getId());
         Currency.wire(bank, 50, investorOwner);
 
         // Pick where the treasury goes
         if (closeInvestorAction.getTreasuryToLinkedCompany() == true) {
-            ReportBuffer.add(this, LocalText.getText("FIConnectedTreasuryToCompany",
+            ReportBuffer.addText(this, "FIConnectedTreasuryToCompany",
                     linkedCompany.getId(), investor.getId(),
-                    investor.getCash()));
+                    investor.getCash());
             Currency.wireAll(investor,linkedCompany);
         } else {
-            ReportBuffer.add(this, LocalText.getText("FIConnectedTreasuryToOwner",
+            ReportBuffer.addText(this, "FIConnectedTreasuryToOwner",
                     investorOwner.getId(), investor.getId(),
-                    (investor.getCash() / 5)));
+                    (investor.getCash() / 5));
             Currency.wire(investor, (investor.getCash() / 5), investorOwner);
             Currency.toBankAll(investor);
         }
@@ -630,19 +630,19 @@ public class OperatingRound_1880 extends OperatingRound {
         // Pick if the token gets replaced
         if (closeInvestorAction.getReplaceToken() == true) {
             if (hex.layBaseToken(linkedCompany, city)) {
-                ReportBuffer.add(this, LocalText.getText("FIConnectedReplaceToken",
-                        linkedCompany.getId(), investor.getId()));
+                ReportBuffer.addText(this, "FIConnectedReplaceToken",
+                        linkedCompany.getId(), investor.getId());
                 linkedCompany.layBaseToken(hex, 0); // (should this be
                                                     // city.getNumber as well?)
             }
         } else {
-            ReportBuffer.add(this, LocalText.getText("FIConnectedDontReplaceToken",
-                    linkedCompany.getId(), investor.getId()));
+            ReportBuffer.addText(this, "FIConnectedDontReplaceToken",
+                    linkedCompany.getId(), investor.getId());
         }
         // Move the certificate
-        ReportBuffer.add(this, LocalText.getText("FIConnectedMoveCert",
+        ReportBuffer.addText(this, "FIConnectedMoveCert",
                 investorOwner.getId(), linkedCompany.getId(),
-                investor.getId()));
+                investor.getId());
         PortfolioModel investorPortfolio = investor.getPortfolioModel();
         Set<PublicCertificate> investorCerts =
                 investorPortfolio.getCertificates();
@@ -822,9 +822,9 @@ public class OperatingRound_1880 extends OperatingRound {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotLayTileOn", companyName,
+            DisplayBuffer.addText(this, "CannotLayTileOn", companyName,
                     tile.toText(), hex.getId(), Bank.format(this, cost),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -834,13 +834,13 @@ public class OperatingRound_1880 extends OperatingRound {
             operatingCompany.value().layTile(hex, tile, orientation, cost);
 
             if (cost == 0) {
-                ReportBuffer.add(this, LocalText.getText("LaysTileAt", companyName,
+                ReportBuffer.addText(this, "LaysTileAt", companyName,
                         tile.toText(), hex.getId(),
-                        hex.getOrientationName(orientation)));
+                        hex.getOrientationName(orientation));
             } else {
-                ReportBuffer.add(this, LocalText.getText("LaysTileAtFor",
+                ReportBuffer.addText(this, "LaysTileAtFor",
                         companyName, tile.toText(), hex.getId(),
-                        hex.getOrientationName(orientation), Bank.format(this, cost)));
+                        hex.getOrientationName(orientation), Bank.format(this, cost));
             }
             hex.upgrade(action);
 
@@ -948,8 +948,8 @@ public class OperatingRound_1880 extends OperatingRound {
 
     private boolean exchangeForCash(ExchangeForCash action) {
         if (action.getExchangeCompany() == true) {
-            ReportBuffer.add(this, LocalText.getText("WrExchanged",
-                    action.getOwnerName(), action.getCashValue()));
+            ReportBuffer.addText(this, "WrExchanged",
+                    action.getOwnerName(), action.getCashValue());
             Player player =
                     playerManager.getPlayerByName(action.getOwnerName());
             Currency.wire (bank, action.getCashValue(), player);
@@ -994,7 +994,7 @@ public class OperatingRound_1880 extends OperatingRound {
                 action.addCompanyWithNoSpace(company);
             }
         } else {
-            ReportBuffer.add(this, LocalText.getText("RocketLost", rocketOwner));
+            ReportBuffer.addText(this, "RocketLost", rocketOwner);
             rocket.close();
         }
         manditoryNextAction = action;
@@ -1015,10 +1015,10 @@ public class OperatingRound_1880 extends OperatingRound {
         }
 
         if (replacementTrain != null) {
-            ReportBuffer.add(this, LocalText.getText("RocketPlacedScrappingTrain", company.getId(), trainNameToReplace));
+            ReportBuffer.addText(this, "RocketPlacedScrappingTrain", company.getId(), trainNameToReplace);
             replacementTrain.moveTo(scrapHeap);
         } else {
-            ReportBuffer.add(this, LocalText.getText("RocketPlaced", company.getId()));
+            ReportBuffer.addText(this, "RocketPlaced", company.getId());
         }
 
         company.buyTrain(train, 0);
@@ -1039,7 +1039,7 @@ public class OperatingRound_1880 extends OperatingRound {
         AddBuildingPermit addPermit = (AddBuildingPermit) ((UseSpecialProperty) action).getSpecialProperty();
         ((PublicCompany_1880) operatingCompany.value()).addBuildingPermit(addPermit.getPermitName());
         addPermit.setExercised();
-        ReportBuffer.add(this, LocalText.getText("AddedRights", operatingCompany.value().getId(), addPermit.getPermitName()));
+        ReportBuffer.addText(this, "AddedRights", operatingCompany.value().getId(), addPermit.getPermitName());
         return true;
     }
 
@@ -27,7 +27,6 @@ import net.sf.rails.game.state.Currency;
 import net.sf.rails.game.state.IntegerState;
 import net.sf.rails.game.state.Owner;
 import net.sf.rails.common.GuiDef;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 
 
@@ -312,9 +311,9 @@ public class PublicCompany_1880 extends PublicCompany implements RevenueStaticMo
         if ((hasFloated() == true) && (sharesInIpo() <= 5) && (fullCapitalAvailable.value() == true) && (getFloatPercentage() != 60)) {
             fullyCapitalized.set(true);
             Currency.wire(getRoot().getBank(),extraCapital,this);
-            ReportBuffer.add(this, LocalText.getText("ReceivesCashforRemainingShares",
+            ReportBuffer.addText(this, "ReceivesCashforRemainingShares",
                     this.getLongName(),
-                    Bank.format(this, extraCapital) ));
+                    Bank.format(this, extraCapital) );
             return true;
         }
         return false;
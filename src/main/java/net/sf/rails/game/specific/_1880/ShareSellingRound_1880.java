@@ -195,11 +195,11 @@ public class ShareSellingRound_1880 extends ShareSellingRound {
 
         int numberSold = action.getNumber();
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantSell",
+            DisplayBuffer.addText(this, "CantSell",
                     playerName,
                     numberSold,
                     companyName,
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -220,13 +220,13 @@ public class ShareSellingRound_1880 extends ShareSellingRound {
 
         // FIXME: changeStack.linkToPreviousMoveSet();
         String cashText = Currency.fromBank(cashAmount, currentPlayer);
-        ReportBuffer.add(this, LocalText.getText("SELL_SHARES_LOG",
+        ReportBuffer.addText(this, "SELL_SHARES_LOG",
                 playerName,
                 numberSold,
                 company.getShareUnit(),
                 numberSold * company.getShareUnit(),
                 companyName,
-                cashText ));
+                cashText );
 
         boolean soldBefore = sellPrices.containsKey(company);
 
@@ -70,9 +70,9 @@ public class StartRound_Investors_1880 extends StartRound {
         
         playerManager.setCurrentToNextPlayer();
         
-        ReportBuffer.add(this, LocalText.getText("ChoosesInvestor",
+        ReportBuffer.addText(this, "ChoosesInvestor",
                 player.getId(),
-                investor.getId() ));
+                investor.getId() );
         
         // If this player is the owner of the BCR, link it to this investor
         PublicCompany_1880 bcr =(PublicCompany_1880) companyManager.getPublicCompany("BCR");
@@ -98,10 +98,10 @@ public class StartRound_Investors_1880 extends StartRound {
         StartItem item = boughtItem.getStartItem();
 
         if (item.getStatus() != StartItem.BUYABLE) {
-            DisplayBuffer.add(this,LocalText.getText("CantBuyItem",
+            DisplayBuffer.addText(this,"CantBuyItem",
                     playerName,
                     item.getId(),
-                    LocalText.getText("NotForSale") ));
+                    LocalText.getText("NotForSale") );
             return false;
         }
         return true;
@@ -5,7 +5,6 @@ import java.util.List;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
 
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.GameManager;
 import net.sf.rails.game.Player;
@@ -39,8 +38,8 @@ public class StartRound_Privates_1880 extends StartRound_Sequential {
             Player player = playerManager.getCurrentPlayer();
             
             pendingCertificate.value().moveTo(player);
-            ReportBuffer.add(this, LocalText.getText("ALSO_GETS", player.getId(),
-                    pendingCertificate.value().toText()));
+            ReportBuffer.addText(this, "ALSO_GETS", player.getId(),
+                    pendingCertificate.value().toText());
             
             PublicCompany_1880 company =
                     (PublicCompany_1880) castAction.getCompany();
@@ -48,16 +47,16 @@ public class StartRound_Privates_1880 extends StartRound_Sequential {
             
             ((GameManager_1880) gameManager).getParSlotManager().setCompanyAtIndex(
                     company, castAction.getParSlotIndex());
-            ReportBuffer.add(this, LocalText.getText("BuildingRightsChosen",
+            ReportBuffer.addText(this, "BuildingRightsChosen",
                     player.getId(), castAction.getBuildRightsString(),
-                    company.getId()));
-            ReportBuffer.add(this, LocalText.getText("ParSlotChosen",
+                    company.getId());
+            ReportBuffer.addText(this, "ParSlotChosen",
                     player.getId(), (castAction.getParSlotIndex() + 1),
-                    company.getId()));
+                    company.getId());
             company.start(castAction.getPrice());
             company.setFloated();
             Currency.wire(bank, 500, company);
-            ReportBuffer.add(this, LocalText.getText("FloatsWithCash",company.getId(), Bank.format(this, 500)));
+            ReportBuffer.addText(this, "FloatsWithCash",company.getId(), Bank.format(this, 500));
             
             pendingAction.set(null);
             return true;
@@ -107,7 +106,7 @@ public class StartRound_Privates_1880 extends StartRound_Sequential {
             playerNames.add(player.getId());
         }
         String players = Joiner.on(", ").join(playerNames);
-        ReportBuffer.add(this, LocalText.getText("PlayersReordered", players));
+        ReportBuffer.addText(this, "PlayersReordered", players);
         super.finishRound();
     }
 
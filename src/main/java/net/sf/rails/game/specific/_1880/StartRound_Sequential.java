@@ -115,11 +115,11 @@ public class StartRound_Sequential extends StartRound {
         currentItem.value().setBid(bidAmount, player);
         player.blockCash(bidAmount);
 
-        ReportBuffer.add(this, LocalText.getText("BID_ITEM_LOG",
+        ReportBuffer.addText(this, "BID_ITEM_LOG",
                 playerName,
                 Bank.format(this,bidAmount),
                 bidItem.getStartItem().getId(),
-                Bank.format(this,player.getFreeCash())));
+                Bank.format(this,player.getFreeCash()));
 
         if ((passedPlayers.size() == (getRoot().getPlayerManager().getNumberOfPlayers() - 1))
             && (currentItem.value().getBidder() != null)) {
@@ -191,10 +191,10 @@ public class StartRound_Sequential extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("InvalidBid",
+            DisplayBuffer.addText(this, "InvalidBid",
                     playerName,
                     currentItem.value().getId(),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -209,7 +209,7 @@ public class StartRound_Sequential extends StartRound {
             return false;
         }
 
-        ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+        ReportBuffer.addText(this, "PASSES", playerName);
 
         if (currentItem.value().getBid(player) > 0) {
             player.unblockCash(currentItem.value().getBid(player));
@@ -220,17 +220,17 @@ public class StartRound_Sequential extends StartRound {
 
         if (passedPlayers.size() == playerManager.getNumberOfPlayers()) {
         // All players have passed - reduce price or run an operating round
-            ReportBuffer.add(this, LocalText.getText("ALL_PASSED"));
+            ReportBuffer.addText(this, "ALL_PASSED");
             if (currentItem.value().getNoBidsReaction() == StartItem.NoBidsReaction.REDUCE_AND_REBID) {
                 currentItem.value().reduceBasePriceBy(5); // TODO: Make not 5
                 // If the price was reduced to 0, assign the company to the starting bidder instead
                 if (currentItem.value().getBasePrice() == 0) {
                     assignItem((Player) startingPlayer.value(), currentItem.value(), 0);
                 } else {
-                    ReportBuffer.add(this, LocalText.getText(
+                    ReportBuffer.addText(this,
                             "ITEM_PRICE_REDUCED",
                                     currentItem.value().getId(),
-                                    Bank.format(this, startPacket.getFirstItem().getBasePrice()) ));
+                                    Bank.format(this, startPacket.getFirstItem().getBasePrice()) );
                     currentItem.value().setMinimumBid(currentItem.value().getBasePrice());
                     passedPlayers.clear();
                     setNextBiddingPlayer();
@@ -253,8 +253,8 @@ public class StartRound_Sequential extends StartRound {
 
     private boolean validatePass(String playerName) {
         if (!playerName.equals(playerManager.getCurrentPlayer().getId())) {
-                DisplayBuffer.add(this, LocalText.getText("InvalidPass", playerName,
-                        LocalText.getText("WrongPlayer", playerName, playerManager.getCurrentPlayer().getId())));
+                DisplayBuffer.addText(this, "InvalidPass", playerName,
+                        LocalText.getText("WrongPlayer", playerName, playerManager.getCurrentPlayer().getId()));
                 return false;
             }
         return true;
@@ -265,10 +265,10 @@ public class StartRound_Sequential extends StartRound {
         Currency.toBank(player, price);
         primary.moveTo(player);
         item.setSold(player, price);
-        ReportBuffer.add(this, LocalText.getText("BuysItemFor",
+        ReportBuffer.addText(this, "BuysItemFor",
                 player.getId(),
                 primary.toText(),
-                Bank.format(this, price) ));
+                Bank.format(this, price) );
         itemAssigned(player, item, price);
     }
 
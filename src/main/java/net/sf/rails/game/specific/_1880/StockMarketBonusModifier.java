@@ -3,7 +3,8 @@ package net.sf.rails.game.specific._1880;
 import java.util.List;
 
 import net.sf.rails.algorithms.RevenueAdapter;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueTrainRun;
 import net.sf.rails.common.LocalText;
 import net.sf.rails.game.PublicCompany;
@@ -13,7 +14,7 @@ import net.sf.rails.game.PublicCompany;
  * implement as a dynamic ex-post modifier
  */
 
-public class StockMarketBonusModifier implements RevenueDynamicModifier {
+public class StockMarketBonusModifier implements RevenueDynamicRunModifier {
 
     private int bonusValue;
 
@@ -29,12 +30,12 @@ public class StockMarketBonusModifier implements RevenueDynamicModifier {
     }
 
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         return bonusValue;
     }
 
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
         return bonusValue;
     }
 
@@ -4,7 +4,6 @@
  */
 package net.sf.rails.game.specific._1880;
 
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.GameManager;
 import net.sf.rails.game.Player;
@@ -113,12 +112,12 @@ public class StockRound_1880 extends StockRound {
 
         if (cash > 0) {
             Currency.wire(bank, cash, company);
-            ReportBuffer.add(this,LocalText.getText("FloatsWithCash",
+            ReportBuffer.addText(this,"FloatsWithCash",
                     company.getLongName(),
-                    Bank.format(this,cash) ));
+                    Bank.format(this,cash) );
         } else {
-            ReportBuffer.add(this,LocalText.getText("Floats",
-                    company.getLongName()));
+            ReportBuffer.addText(this,"Floats",
+                    company.getLongName());
         }
 
     }
@@ -313,8 +312,8 @@ public class StockRound_1880 extends StockRound {
     @Override
     protected void finishRound() {
         ReportBuffer.add(this," ");
-        ReportBuffer.add(this, LocalText.getText("END_SR",
-                String.valueOf(getStockRoundNumber())));
+        ReportBuffer.addText(this, "END_SR",
+                String.valueOf(getStockRoundNumber()));
 
         if (raiseIfSoldOut) {
             /* Check if any companies are sold out. */
@@ -325,17 +324,17 @@ public class StockRound_1880 extends StockRound {
                     stockMarket.soldOut(company);
                     StockSpace newSpace = company.getCurrentSpace();
                     if (newSpace != oldSpace) {
-                        ReportBuffer.add(this,LocalText.getText("SoldOut",
+                        ReportBuffer.addText(this,"SoldOut",
                                 company.getLongName(),
                                 Bank.format(this, oldSpace.getPrice()),
                                 oldSpace.getId(),
                                 Bank.format(this, newSpace.getPrice()),
-                                newSpace.getId()));
+                                newSpace.getId());
                     } else {
-                        ReportBuffer.add(this,LocalText.getText("SoldOutNoRaise",
+                        ReportBuffer.addText(this,"SoldOutNoRaise",
                                 company.getLongName(),
                                 Bank.format(this, newSpace.getPrice()),
-                                newSpace.getId()));
+                                newSpace.getId());
                     }
                 }
             }
@@ -358,8 +357,8 @@ public class StockRound_1880 extends StockRound {
         for (Player p : playerManager.getPlayers()) {
             if (p.getCash() <0 ) {
                 int fine = Math.abs(p.getCash() / 2);
-                ReportBuffer.add(this, LocalText.getText("DebtPenaltyStockRound", p.getId(),
-                       Bank.format(this,fine)));
+                ReportBuffer.addText(this, "DebtPenaltyStockRound", p.getId(),
+                       Bank.format(this,fine));
                 Currency.wire(p,fine,bank);
             }
         }
@@ -371,13 +370,13 @@ public class StockRound_1880 extends StockRound {
         ReportBuffer.add(this, "");
         for (PublicCompany c : companyManager.getAllPublicCompanies()) {
             if (c.hasFloated() && !c.isClosed()) {
-                ReportBuffer.add(this, LocalText.getText("Has", c.getLongName(),
-                        Bank.format(this, c.getCash())));
+                ReportBuffer.addText(this, "Has", c.getLongName(),
+                        Bank.format(this, c.getCash()));
             }
         }
         for (Player p : playerManager.getPlayers()) {
-            ReportBuffer.add(this, LocalText.getText("Has", p.getId(),
-                    Bank.format(this, p.getCash())));
+            ReportBuffer.addText(this, "Has", p.getId(),
+                    Bank.format(this, p.getCash()));
         }
         // change: end
 
@@ -404,7 +403,7 @@ public class StockRound_1880 extends StockRound {
             int numberSold=action.getNumber();
             int sellingfee = 5*numberSold;
             String feeText = Currency.wire(currentPlayer, sellingfee, bank); //Deduct the Money for selling those Shares !
-            ReportBuffer.add(this, LocalText.getText("1880BrokerageFee", currentPlayer.getId(), feeText, numberSold));
+            ReportBuffer.addText(this, "1880BrokerageFee", currentPlayer.getId(), feeText, numberSold);
             return true;
         }
         else
@@ -485,8 +484,8 @@ public class StockRound_1880 extends StockRound {
         ((GameManager_1880) gameManager).getParSlotManager().setCompanyAtIndex(company, action.getParSlotIndex());
         
         // report about company opening
-        ReportBuffer.add(this, LocalText.getText("1880StartCompanyBuildingRights", company, action.getBuildingRights()));
-        ReportBuffer.add(this, LocalText.getText("1880StartCompanyParSlotIndex", company, action.getParSlotIndex()));
+        ReportBuffer.addText(this, "1880StartCompanyBuildingRights", company, action.getBuildingRights());
+        ReportBuffer.addText(this, "1880StartCompanyParSlotIndex", company, action.getParSlotIndex());
         
 
         // If this player's investor doesn't have a linked company yet - this is it
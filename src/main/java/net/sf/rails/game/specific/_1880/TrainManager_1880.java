@@ -1,6 +1,5 @@
 package net.sf.rails.game.specific._1880;
 
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.Phase;
 import net.sf.rails.game.RailsRoot;
@@ -75,8 +74,8 @@ public class TrainManager_1880 extends TrainManager {
         }
         if (trainIndex == 1) {
             // First train of a new type bought
-            ReportBuffer.add(this, LocalText.getText("FirstTrainBought",
-                    boughtType.getId()));
+            ReportBuffer.addText(this, "FirstTrainBought",
+                    boughtType.getId());
         } 
         
         // New style phase changes, can be triggered by any bought train.
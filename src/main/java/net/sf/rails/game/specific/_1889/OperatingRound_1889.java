@@ -10,7 +10,6 @@ import rails.game.action.PossibleAction;
 import rails.game.action.UseSpecialProperty;
 import net.sf.rails.common.DisplayBuffer;
 import net.sf.rails.common.GameOption;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.game.GameDef;
 import net.sf.rails.game.GameManager;
 import net.sf.rails.game.OperatingRound;
@@ -69,7 +68,7 @@ public class OperatingRound_1889 extends OperatingRound {
                         possibleActions.clear();
                         possibleActions.add(layTile);
                         possibleActions.add(new NullAction(getRoot(), NullAction.Mode.SKIP));
-                        DisplayBuffer.add(this, LocalText.getText("1889PrivateBactive", privB.getOwner()));
+                        DisplayBuffer.addText(this, "1889PrivateBactive", privB.getOwner());
                     }
                 }
             }
@@ -85,7 +84,7 @@ public class OperatingRound_1889 extends OperatingRound {
                 possibleActions.clear();
                 possibleActions.add(layTile);
                 possibleActions.add(new NullAction(getRoot(), NullAction.Mode.SKIP));
-                DisplayBuffer.add(this, LocalText.getText("1889PrivateCactive", previousOwnerName));
+                DisplayBuffer.addText(this, "1889PrivateCactive", previousOwnerName);
             }
         }
     }
@@ -7,7 +7,8 @@ import net.sf.rails.algorithms.NetworkTrain;
 import net.sf.rails.algorithms.NetworkVertex;
 import net.sf.rails.algorithms.RevenueAdapter;
 import net.sf.rails.algorithms.RevenueBonus;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueStaticModifier;
 import net.sf.rails.algorithms.RevenueTrainRun;
 import net.sf.rails.common.GameOption;
@@ -19,7 +20,7 @@ import net.sf.rails.game.RailsRoot;
 import net.sf.rails.game.Train;
 
 
-public class NamedTrainRevenueModifier implements RevenueStaticModifier, RevenueDynamicModifier, Configurable {
+public class NamedTrainRevenueModifier implements RevenueStaticModifier, RevenueDynamicRunModifier, Configurable {
 
     private boolean dynamic;
     private List<RevenueBonus> bonuses;
@@ -106,17 +107,17 @@ public class NamedTrainRevenueModifier implements RevenueStaticModifier, Revenue
     }
 
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         return bonusMaximum;
     }
 
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
         int bonusValue = 0;
         // due to the geography (off-map areas!) each train can only score one bonus
         for (RevenueBonus bonus:bonuses) {
-            for (RevenueTrainRun run:runs) {
-                if (run.getUniqueVertices().containsAll(bonus.getVertices())) {
+            for (int i = 0; i < runs.size(); i++) {
+                if (runs.get(i).getRunVertices().containsAll(bonus.getVertices())) {
                     bonusValue += bonus.getValue();
                     continue; // each bonus can only be scored once
                 }
@@ -7,7 +7,6 @@ import java.util.Set;
 import rails.game.action.LayBaseToken;
 import rails.game.action.PossibleAction;
 import net.sf.rails.common.GameOption;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.*;
 import net.sf.rails.game.state.Currency;
@@ -72,10 +71,10 @@ public class OperatingRound_18AL extends OperatingRound {
                 if (oldToken != newToken) {
                     trains.get(i).setNameToken(newToken);
                     if (newToken != null) {
-                        ReportBuffer.add(this, LocalText.getText("NamesTrain",
+                        ReportBuffer.addText(this, "NamesTrain",
                                 operatingCompany.value().getId(),
                                 trains.get(i).toText(),
-                                newToken.getLongName() ));
+                                newToken.getLongName() );
                     }
                 }
             }
@@ -93,10 +92,10 @@ public class OperatingRound_18AL extends OperatingRound {
             if (hex == operatingCompany.value().getDestinationHex()) {
                 int payout = 100;
                 String payoutText = Currency.fromBank(payout, operatingCompany.value());
-                ReportBuffer.add(this, LocalText.getText("DestinationReachedByToken",
+                ReportBuffer.addText(this, "DestinationReachedByToken",
                         operatingCompany.value().getId(),
                         payoutText,
-                        hex.getId() ));
+                        hex.getId() );
             }
             return true;
         } else {
@@ -7,7 +7,6 @@ import rails.game.action.MergeCompanies;
 import rails.game.action.NullAction;
 
 import net.sf.rails.common.GuiDef;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.*;
 
@@ -38,7 +37,7 @@ public final class FinalMinorExchangeRound extends StockRound_18EU {
 
     public void start(Player playerToStartFMERound) {
         ReportBuffer.add(this, "");
-        ReportBuffer.add(this, LocalText.getText("StartFinalMinorExchangeRound"));
+        ReportBuffer.addText(this, "StartFinalMinorExchangeRound");
 
         // Check if the starting player is still active;
         // if not, get the next one
@@ -46,19 +45,19 @@ public final class FinalMinorExchangeRound extends StockRound_18EU {
         boolean initial = true;
         while (startingPlayer.isBankrupt()) {
             if (initial) {
-                ReportBuffer.add(this, LocalText.getText("FirstPlayerIsBankrupt",
-                        startingPlayer.getId()));
+                ReportBuffer.addText(this, "FirstPlayerIsBankrupt",
+                        startingPlayer.getId());
                 initial = false;
             } else {
-                ReportBuffer.add(this, LocalText.getText("PlayerIsBankrupt",
-                        startingPlayer.getId()));
+                ReportBuffer.addText(this, "PlayerIsBankrupt",
+                        startingPlayer.getId());
             }
             startingPlayer = playerManager.getNextPlayer();
         }
         playerManager.setCurrentPlayer(startingPlayer);
         initPlayer();
-        ReportBuffer.add(this, LocalText.getText("HasFirstTurn",
-                startingPlayer.getId() ));
+        ReportBuffer.addText(this, "HasFirstTurn",
+                startingPlayer.getId() );
     }
 
     /*----- General methods -----*/
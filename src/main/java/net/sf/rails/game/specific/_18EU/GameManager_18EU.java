@@ -3,7 +3,6 @@ package net.sf.rails.game.specific._18EU;
 import java.util.ArrayList;
 import java.util.List;
 
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.*;
 import net.sf.rails.game.financial.PublicCertificate;
@@ -57,7 +56,7 @@ public class GameManager_18EU extends GameManager {
     @Override
     protected Player processCompanyAfterPlayerBankruptcy(Player player, PublicCompany company) {
         company.setClosed();  // This also makes majors restartable
-        ReportBuffer.add(this, LocalText.getText("CompanyCloses", company.getId()));
+        ReportBuffer.addText(this, "CompanyCloses", company.getId());
         return null;
     }
 
@@ -6,12 +6,13 @@ import java.util.List;
 import net.sf.rails.algorithms.NetworkTrain;
 import net.sf.rails.algorithms.NetworkVertex;
 import net.sf.rails.algorithms.RevenueAdapter;
-import net.sf.rails.algorithms.RevenueDynamicModifier;
+import net.sf.rails.algorithms.RevenueDynamicRunModifier;
+import net.sf.rails.algorithms.RevenueRunView;
 import net.sf.rails.algorithms.RevenueTrainRun;
 import net.sf.rails.common.LocalText;
 
 
-public class PullmanRevenueModifier implements RevenueDynamicModifier {
+public class PullmanRevenueModifier implements RevenueDynamicRunModifier {
 
     private boolean hasPullman;
     private int maxValue;
@@ -36,21 +37,21 @@ public class PullmanRevenueModifier implements RevenueDynamicModifier {
     }
 
     @Override
-    public int evaluationValue(List<RevenueTrainRun> runs, boolean optimalRuns) {
+    public int evaluationValue(RevenueRunView runs, boolean optimalRuns) {
         return pullmanValue(runs);
     }
 
-    private int pullmanValue(List<RevenueTrainRun> trainRuns) {
+    private int pullmanValue(RevenueRunView trainRuns) {
         int maximum = 0;
-        for (RevenueTrainRun trainRun:trainRuns) {
-            maximum = Math.max(maximum, maximumMajorValue(trainRun.getRunVertices()));
+        for (int i = 0; i < trainRuns.size(); i++) {
+            maximum = Math.max(maximum, maximumMajorValue(trainRuns.get(i).getRunVertices()));
             if (maximum == maxValue) break;
         }
         return maximum;
     }
 
     @Override
-    public int predictionValue(List<RevenueTrainRun> runs) {
+    public int predictionValue(RevenueRunView runs) {
         return maxValue;
     }
 
@@ -70,7 +71,17 @@ public class PullmanRevenueModifier implements RevenueDynamicModifier {
 
     @Override
     public String prettyPrint(RevenueAdapter revenueAdapter) {
-        return LocalText.getText("Pullman") + " = " + pullmanValue(revenueAdapter.getOptimalRun());
+        return LocalText.getText("Pullman") + " = " + pullmanValue(RevenueRunView.of(revenueAdapter.getOptimalRun()));
+    }
+
+    private int maximumMajorValue(List<NetworkVertex> vertices) {
+        int maximum = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            NetworkVertex vertex = vertices.get(i);
+            if (!vertex.isMajor()) continue;
+            maximum= Math.max(maximum, vertex.getValue());
+        }
+        return maximum;
     }
 
     private int maximumMajorValue(Collection<NetworkVertex> vertices) {
@@ -116,10 +116,10 @@ public class StartRound_18EU extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantBuyItem",
+            DisplayBuffer.addText(this, "CantBuyItem",
                     playerName,
                     item.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -183,7 +183,7 @@ public class StartRound_18EU extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("InvalidBid", playerName, item.getId(), errMsg));
+            DisplayBuffer.addText(this, "InvalidBid", playerName, item.getId(), errMsg);
             return false;
         }
 
@@ -202,7 +202,7 @@ public class StartRound_18EU extends StartRound {
             }
 
             ReportBuffer.add(this, " ");
-            ReportBuffer.add(this, LocalText.getText("SelectForAuctioning", playerName, item.getId()));
+            ReportBuffer.addText(this, "SelectForAuctioning", playerName, item.getId());
         }
 
         if (bidAmount > 0) {
@@ -210,7 +210,7 @@ public class StartRound_18EU extends StartRound {
             item.setMinimumBid(bidAmount + 5);
             currentStep.set(BID_STEP);
 
-            ReportBuffer.add(this, LocalText.getText("BID_ITEM", playerName, Bank.format(this, bidAmount), item.getId()));
+            ReportBuffer.addText(this, "BID_ITEM", playerName, Bank.format(this, bidAmount), item.getId());
         }
 
         switch (currentStep.value()) {
@@ -249,16 +249,16 @@ public class StartRound_18EU extends StartRound {
         switch (currentStep.value()) {
             case OPEN_STEP:
             case BUY_STEP:
-                ReportBuffer.add(this, LocalText.getText("DeclinedToBid", playerName));
+                ReportBuffer.addText(this, "DeclinedToBid", playerName);
 
                 Player currentPlayer = playerManager.setCurrentToNextPlayer();
                 if (currentPlayer == selectingPlayer.value()) {
                     // All have passed, now lower the buy price
                     currentBuyPrice.add(-10);
                     auctionedItem.setMinimumBid(currentBuyPrice.value());
-                    ReportBuffer.add(this, LocalText.getText("ITEM_PRICE_REDUCED",
+                    ReportBuffer.addText(this, "ITEM_PRICE_REDUCED",
                             auctionedItem.getId(),
-                            Bank.format(this, currentBuyPrice.value())));
+                            Bank.format(this, currentBuyPrice.value()));
                     currentStep.set(BUY_STEP);
 
                     if (currentBuyPrice.value() == 0) {
@@ -274,7 +274,7 @@ public class StartRound_18EU extends StartRound {
                 break;
 
             case BID_STEP:
-                ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+                ReportBuffer.addText(this, "PASSES", playerName);
 
                 auctionedItem.setPass(playerManager.getCurrentPlayer());
 
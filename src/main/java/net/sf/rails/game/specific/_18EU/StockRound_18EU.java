@@ -396,11 +396,11 @@ public class StockRound_18EU extends StockRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantStart",
+            DisplayBuffer.addText(this, "CantStart",
                     playerName,
                     companyName,
                     Bank.format(this, price),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -422,14 +422,14 @@ public class StockRound_18EU extends StockRound {
         company.setHomeCityNumber(homeCityNumber);
 
         company.start(startSpace);
-        ReportBuffer.add(this, LocalText.getText("START_COMPANY_LOG",
+        ReportBuffer.addText(this, "START_COMPANY_LOG",
                 playerName,
                 companyName,
                 Bank.format(this, price),
                 Bank.format(this, shares * price),
                 shares,
                 cert.getShare(),
-                company.getId()));
+                company.getId());
 
         // Transfer the President's certificate
         cert.moveTo(currentPlayer);
@@ -444,38 +444,38 @@ public class StockRound_18EU extends StockRound {
             int minorTrains = minor.getPortfolioModel().getTrainList().size();
             company.transferAssetsFrom(minor);
             minor.setClosed();
-            ReportBuffer.add(this, LocalText.getText("MERGE_MINOR_LOG",
+            ReportBuffer.addText(this, "MERGE_MINOR_LOG",
                     currentPlayer.getId(),
                     minor.getId(),
                     company.getId(),
                     Bank.format(this, minorCash),
-                    minorTrains));
-            ReportBuffer.add(this, LocalText.getText("GetShareForMinor",
+                    minorTrains);
+            ReportBuffer.addText(this, "GetShareForMinor",
                     currentPlayer.getId(),
                     cert2.getShare(),
                     company.getId(),
                     ipo.getParent().getId(),
-                    minor.getId()));
+                    minor.getId());
         } else {
-            ReportBuffer.add(this, LocalText.getText("SelectedHomeBase",
+            ReportBuffer.addText(this, "SelectedHomeBase",
                     company.getId(),
-                    selectedHomeCity.toText()));
+                    selectedHomeCity.toText());
         }
 
         // Move the remaining certificates to the company treasury
         Portfolio.moveAll(ipo.getCertificates(company), company);
 
-        ReportBuffer.add(this, LocalText.getText("SharesPutInTreasury",
+        ReportBuffer.addText(this, "SharesPutInTreasury",
                 company.getPortfolioModel().getShare(company),
-                company.getId()));
+                company.getId());
 
         // TODO must get this amount from XML
         int tokensCost = 100;
         String costText = Currency.toBank(company, tokensCost);
-        ReportBuffer.add(this, LocalText.getText("PaysForTokens",
+        ReportBuffer.addText(this, "PaysForTokens",
                 company.getId(),
                 costText,
-                company.getNumberOfBaseTokens()));
+                company.getNumberOfBaseTokens());
 
         companyBoughtThisTurnWrapper.set(company);
         hasActed.set(true);
@@ -581,32 +581,32 @@ public class StockRound_18EU extends StockRound {
 
         if (cert != null) {
             ReportBuffer.add(this, "");
-            ReportBuffer.add(this, LocalText.getText("MERGE_MINOR_LOG",
+            ReportBuffer.addText(this, "MERGE_MINOR_LOG",
                     currentPlayer.getId(),
                     minor.getId(),
                     major.getId(),
                     Bank.format(this, minorCash),
-                    minorTrains));
+                    minorTrains);
             // FIXME: CHeck if this still works correctly
-            ReportBuffer.add(this, LocalText.getText("GetShareForMinor",
+            ReportBuffer.addText(this, "GetShareForMinor",
                     currentPlayer.getId(),
                     cert.getShare(),
                     major.getId(),
                     cert.getOwner().getId(),
-                    minor.getId()));
+                    minor.getId());
             if (action.getReplaceToken()) {
-                ReportBuffer.add(this, LocalText.getText("ExchangesBaseToken",
+                ReportBuffer.addText(this, "ExchangesBaseToken",
                         major.getId(),
                         minor.getId(),
-                        homeHex.getId()));
+                        homeHex.getId());
             } else {
-                ReportBuffer.add(this, LocalText.getText("NoBaseTokenExchange",
+                ReportBuffer.addText(this, "NoBaseTokenExchange",
                         major.getId(),
                         minor.getId(),
-                        homeHex.getId()));
+                        homeHex.getId());
             }
             cert.moveTo(currentPlayer);
-            ReportBuffer.add(this, LocalText.getText("MinorCloses", minor.getId()));
+            ReportBuffer.addText(this, "MinorCloses", minor.getId());
             checkFlotation(major);
 
             if (pullmannToDiscard != null) {
@@ -614,11 +614,11 @@ public class StockRound_18EU extends StockRound {
             }
         } else {
             ReportBuffer.add(this, "");
-            ReportBuffer.add(this, LocalText.getText("CLOSE_MINOR_LOG",
+            ReportBuffer.addText(this, "CLOSE_MINOR_LOG",
                     currentPlayer.getId(),
                     minor.getId(),
                     Bank.format(this, minorCash),
-                    minorTrains));
+                    minorTrains);
         }
         hasActed.set(true);
 
@@ -643,7 +643,7 @@ public class StockRound_18EU extends StockRound {
     protected void floatCompany(PublicCompany company) {
 
         company.setFloated();
-        ReportBuffer.add(this, LocalText.getText("Floats", company.getId()));
+        ReportBuffer.addText(this, "Floats", company.getId());
 
         // Before phase 5, no other actions are required.
 
@@ -654,9 +654,9 @@ public class StockRound_18EU extends StockRound {
             company.getPortfolioModel().moveAllCertificates(pool.getParent());
             int cash = 5 * company.getMarketPrice();
             String cashText = Currency.fromBank(cash, company);
-            ReportBuffer.add(this, LocalText.getText("MonetiseTreasuryShares",
+            ReportBuffer.addText(this, "MonetiseTreasuryShares",
                     company.getId(),
-                    cashText));
+                    cashText);
 
         }
     }
@@ -698,10 +698,10 @@ public class StockRound_18EU extends StockRound {
             break;
         }
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CannotDiscardTrain",
+            DisplayBuffer.addText(this, "CannotDiscardTrain",
                     companyName,
                     train.toText(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
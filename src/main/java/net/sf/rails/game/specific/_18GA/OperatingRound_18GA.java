@@ -1,7 +1,6 @@
 package net.sf.rails.game.specific._18GA;
 
 import rails.game.action.BuyPrivate;
-import net.sf.rails.common.LocalText;
 import net.sf.rails.common.ReportBuffer;
 import net.sf.rails.game.*;
 
@@ -31,9 +30,9 @@ public class OperatingRound_18GA extends OperatingRound {
                 TrainCard card = trainManager.cloneTrain(certType);
                 company.getPortfolioModel().addTrainCard(card);
                 card.setTradeable(false);
-                ReportBuffer.add(this, LocalText.getText("GetsExtraTrain",
+                ReportBuffer.addText(this, "GetsExtraTrain",
                         company.getId(),
-                        OS_EXTRA_TRAIN_TYPE));
+                        OS_EXTRA_TRAIN_TYPE);
                 // TODO: do we need a replacement for this?
                 // company.getPortfolioModel().getTrainsModel().update();
             }
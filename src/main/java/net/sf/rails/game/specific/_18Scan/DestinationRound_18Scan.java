@@ -47,8 +47,8 @@ public class DestinationRound_18Scan extends OperatingRound {
 
         setStep(GameDef.OrStep.INITIAL);
 
-        ReportBuffer.add(this, LocalText.getText("DestinationRoundStart", company));
-        DisplayBuffer.add(this, LocalText.getText("DestinationRoundStart", company));
+        ReportBuffer.addText(this, "DestinationRoundStart", company);
+        DisplayBuffer.addText(this, "DestinationRoundStart", company);
 
         // Company may lay a token if it has one left, and if there is room or if the tile is yellow.
         if (company.hasBaseTokens() &&
@@ -222,13 +222,13 @@ public class OperatingRound_18Scan extends OperatingRound {
                 }
             }
 
-            ReportBuffer.add(this,
-                    LocalText.getText("MinorTransfers",
+            ReportBuffer.addText(this,
+                    "MinorTransfers",
                     minor.getId(),
                     Bank.format(this, cash),
                     trains,
                     bonusTokens,
-                    SJ));
+                    SJ);
 
             // Exchange minor tokens for SJ tokens
             for (BaseToken token : minor.getBaseTokensModel().getLaidTokens()) {
@@ -255,9 +255,9 @@ public class OperatingRound_18Scan extends OperatingRound {
         checkFlotation(sj);
         if (sj.hasFloated()) {
             sj.checkPresidency();
-            DisplayBuffer.add(this, LocalText.getText("HasFormedAndFloated", SJ));
+            DisplayBuffer.addText(this, "HasFormedAndFloated", SJ);
         } else {
-            DisplayBuffer.add(this, LocalText.getText("HasFormedNotFloated", SJ));
+            DisplayBuffer.addText(this, "HasFormedNotFloated", SJ);
         }
 
         // Any unsold bonus tokens must now be paid to the Bank
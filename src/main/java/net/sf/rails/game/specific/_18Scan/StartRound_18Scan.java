@@ -202,10 +202,10 @@ public class StartRound_18Scan  extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("InvalidBid",
+            DisplayBuffer.addText(this, "InvalidBid",
                     player.getId(),
                     bidItem.toString(),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
@@ -217,10 +217,10 @@ public class StartRound_18Scan  extends StartRound {
         // TODO: check blocked cash logic in Player, we might not need both blocked and free cash
         if (previousBid > 0) currentPlayer.unblockCash(previousBid);
         currentPlayer.blockCash(bidAmount);
-        ReportBuffer.add(this, LocalText.getText("BID_BUY_RIGHT_LOG",
+        ReportBuffer.addText(this, "BID_BUY_RIGHT_LOG",
                 playerName,
                 Bank.format(this, bidAmount),
-                Bank.format(this, currentPlayer.getFreeCash()) ));
+                Bank.format(this, currentPlayer.getFreeCash()) );
 
         setNextBiddingPlayer(currentPlayer);
         minimumBid.set(bidAmount + minimumIncrement);
@@ -271,13 +271,13 @@ public class StartRound_18Scan  extends StartRound {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("InvalidPass",
+            DisplayBuffer.addText(this, "InvalidPass",
                     playerName,
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
-        ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+        ReportBuffer.addText(this, "PASSES", playerName);
 
         numPasses.add(1);
         isActive.put(player, false);
@@ -310,14 +310,14 @@ public class StartRound_18Scan  extends StartRound {
         gameManager.reportAllPlayersPassed();
         Player player = playerManager.getCurrentPlayer();
         if (forcedBuy) {
-           ReportBuffer.add(this, LocalText.getText("IsForcedToBuyItem",
-                    player.getId()));
+           ReportBuffer.addText(this, "IsForcedToBuyItem",
+                    player.getId());
         } else {
             int amount = currentBid.value();
             String priceText = Currency.toBank(player, amount);
-            ReportBuffer.add(this, LocalText.getText("PaysForBuyRight",
+            ReportBuffer.addText(this, "PaysForBuyRight",
                     player.getId(),
-                    priceText));
+                    priceText);
         }
 
         buying.set(true);
@@ -295,21 +295,21 @@ public class StartRound_SOH extends StartRound {
 
         if (errMsg != null) {
             log.error (errMsg);
-            DisplayBuffer.add(this, LocalText.getText("InvalidBid",
+            DisplayBuffer.addText(this, "InvalidBid",
                     playerName,
                     item.getId(),
-                    errMsg ));
+                    errMsg );
             return false;
         }
 
         item.setBid(bidAmount, currentPlayer);
         if (previousBid > 0) currentPlayer.unblockCash(previousBid);
         currentPlayer.blockCash(bidAmount);
-        ReportBuffer.add(this, LocalText.getText("BID_ITEM_LOG",
+        ReportBuffer.addText(this, "BID_ITEM_LOG",
                 playerName,
                 Bank.format(this, bidAmount),
                 item.getId(),
-                Bank.format(this, currentPlayer.getFreeCash()) ));
+                Bank.format(this, currentPlayer.getFreeCash()) );
 
         // Set next bidding player
         setNextBiddingPlayer(item);
@@ -338,10 +338,10 @@ public class StartRound_SOH extends StartRound {
 
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CantBuyItem",
+            DisplayBuffer.addText(this, "CantBuyItem",
                     playerName,
                     item.getId(),
-                    errMsg));
+                    errMsg);
             return false;
         }
 
@@ -365,7 +365,7 @@ public class StartRound_SOH extends StartRound {
     protected boolean pass(NullAction action, String playerName) {
 
         Player player = playerManager.getCurrentPlayer();
-        ReportBuffer.add(this, LocalText.getText("PASSES", playerName));
+        ReportBuffer.addText(this, "PASSES", playerName);
 
         if (procedure == Procedure.SELECT) {
             if (setNextSelectingPlayer()) {
@@ -392,8 +392,8 @@ public class StartRound_SOH extends StartRound {
         if (activePlayers == 0) {
             // All players have passed, discard this item
             auctionedItem.getPrimary().moveTo(bank.getScrapHeap());
-            ReportBuffer.add(this, LocalText.getText("ALL_PASSED"));
-            ReportBuffer.add(this, LocalText.getText("PrivateIsDiscarded", auctionedItem.getId()));
+            ReportBuffer.addText(this, "ALL_PASSED");
+            ReportBuffer.addText(this, "PrivateIsDiscarded", auctionedItem.getId());
 
         } else if (activePlayers == 1 && auctionedItem.getBidder() != null) {
             // Only one active player is left (all but one have passed)
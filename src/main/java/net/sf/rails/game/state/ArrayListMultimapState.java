@@ -3,6 +3,7 @@ package net.sf.rails.game.state;
 import java.util.List;
 
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 
 public final class ArrayListMultimapState<K,V> extends State {
 
@@ -53,6 +54,13 @@ public final class ArrayListMultimapState<K,V> extends State {
         return map.isEmpty();
     }
 
+    /**
+     * @return immutable view of the multimap
+     */
+    public ImmutableListMultimap<K,V> view() {
+        return ImmutableListMultimap.copyOf(map);
+    }
+
     @Override
     public String toText() {
         return map.toString();
@@ -20,7 +20,10 @@ public class ChangeStack {
     private final StateManager stateManager;
 
     private final Deque<ChangeSet> undoStack = Lists.newLinkedList();
-    private final Deque<ChangeSet> redoStack = Lists.newLinkedList();
+    private Deque<ChangeSet> redoStack = Lists.newLinkedList();
+
+    // open speculative checkpoints, the innermost last
+    private final Deque<Checkpoint> checkpoints = Lists.newLinkedList();
 
     private ChangeReporter reporter; // assigned once
 
@@ -86,7 +89,7 @@ public class ChangeStack {
             undoStack.addLast(closeSet);
             redoStack.clear();
 
-            if (reporter != null) {
+            if (reporter != null && !isSpeculative()) {
                 reporter.updateOnClose();
             }
 
@@ -108,8 +111,11 @@ public class ChangeStack {
         stateManager.updateObservers(states);
     }
 
-    // is undo possible (protect first index)
+    // is undo possible (protect first index and the ChangeSets before a speculative checkpoint)
     public boolean isUndoPossible() {
+        if (isSpeculative()) {
+            return undoStack.size() > checkpoints.peekLast().index;
+        }
         return (!undoStack.isEmpty() && undoStack.size() != 1);
     }
 
@@ -127,7 +133,7 @@ public class ChangeStack {
         restart();
         updateObservers(undoSet.getStates());
 
-        if (reporter != null) {
+        if (reporter != null && !isSpeculative()) {
             reporter.updateAfterUndoRedo();
         }
     }
@@ -139,13 +145,14 @@ public class ChangeStack {
 
     public void undo(int index) {
         checkState(isUndoPossible() && index < undoStack.size() , "Undo not possible");
+        checkState(!isSpeculative() || index >= checkpoints.peekLast().index, "Undo not possible");
         ImmutableSet.Builder<State> states = ImmutableSet.builder();
         while (undoStack.size() > index) {
             states.addAll(executeUndo().getStates());
         }
         restart();
         updateObservers(states.build());
-        if (reporter != null) {
+        if (reporter != null && !isSpeculative()) {
             reporter.updateAfterUndoRedo();
         }
     }
@@ -156,7 +163,7 @@ public class ChangeStack {
         undoSet.unexecute();
         redoStack.addFirst(undoSet);
 
-        if (reporter != null) {
+        if (reporter != null && !isSpeculative()) {
             reporter.informOnUndo();
         }
 
@@ -183,7 +190,7 @@ public class ChangeStack {
         ChangeSet redoSet = executeRedo();
         restart();
         updateObservers(redoSet.getStates());
-        if (reporter != null) {
+        if (reporter != null && !isSpeculative()) {
             reporter.updateAfterUndoRedo();
         }
     }
@@ -198,7 +205,7 @@ public class ChangeStack {
         }
         restart();
         updateObservers(states.build());
-        if (reporter != null) {
+        if (reporter != null && !isSpeculative()) {
             reporter.updateAfterUndoRedo();
         }
     }
@@ -209,7 +216,7 @@ public class ChangeStack {
         redoSet.reexecute();
         undoStack.addLast(redoSet);
 
-        if (reporter != null) {
+        if (reporter != null && !isSpeculative()) {
             reporter.informOnRedo();
         }
 
@@ -230,4 +237,81 @@ public class ChangeStack {
         return redoStack.size() + undoStack.size();
     }
 
+    /**
+     * Opens a speculative checkpoint, all changes afterwards can be rolled back by {@link #rollback(Checkpoint)}.
+     * <p>
+     * While a checkpoint is open the ChangeReporter is not informed, only engine observers are updated
+     * (see {@link Observer#isEngineObserver()}) and undo/redo is restricted to the ChangeSets after the checkpoint.
+     * The open changes and the redo stack are kept aside, thus checkpoints are cheap to open and can be nested.
+     * @return the new checkpoint
+     */
+    public Checkpoint openCheckpoint() {
+        Checkpoint checkpoint = new Checkpoint(undoStack.size(), changeBuilder, redoStack);
+        checkpoints.addLast(checkpoint);
+        restart();
+        redoStack = Lists.newLinkedList();
+        stateManager.beginSpeculation();
+        log.debug("Opened checkpoint at index {}", checkpoint.index);
+        return checkpoint;
+    }
+
+    /**
+     * Rolls back all changes since the checkpoint was opened, and restores the open changes and the redo stack.
+     * The cost is proportional to the number of changes after the checkpoint.
+     * @throws IllegalStateException if the checkpoint is not the innermost open checkpoint
+     */
+    public void rollback(Checkpoint checkpoint) {
+        checkState(checkpoints.peekLast() == checkpoint, "Checkpoint is not the innermost open checkpoint");
+
+        ImmutableSet.Builder<State> states = ImmutableSet.builder();
+        // open changes first, in reverse order
+        ImmutableList<Change> openChanges = changeBuilder.build();
+        for (Change change : openChanges.reverse()) {
+            change.undo();
+            states.add(change.getState());
+        }
+        while (undoStack.size() > checkpoint.index) {
+            ChangeSet undoSet = undoStack.pollLast();
+            undoSet.unexecute();
+            states.addAll(undoSet.getStates());
+        }
+
+        checkpoints.removeLast();
+        changeBuilder = checkpoint.changeBuilder;
+        redoStack = checkpoint.redoStack;
+        // engine observers have seen the speculative changes, thus have to be updated again
+        updateObservers(states.build());
+        stateManager.endSpeculation();
+        log.debug("Rolled back to checkpoint at index {}", checkpoint.index);
+    }
+
+    /**
+     * @return true if there is an open speculative checkpoint
+     */
+    public boolean isSpeculative() {
+        return !checkpoints.isEmpty();
+    }
+
+    /**
+     * Checkpoint of a speculative execution (see {@link ChangeStack#openCheckpoint()})
+     */
+    public static final class Checkpoint {
+        private final int index;
+        private final ImmutableList.Builder<Change> changeBuilder;
+        private final Deque<ChangeSet> redoStack;
+
+        private Checkpoint(int index, ImmutableList.Builder<Change> changeBuilder, Deque<ChangeSet> redoStack) {
+            this.index = index;
+            this.changeBuilder = changeBuilder;
+            this.redoStack = redoStack;
+        }
+
+        /**
+         * @return index of the ChangeStack when the checkpoint was opened
+         */
+        public int getIndex() {
+            return index;
+        }
+    }
+
 }
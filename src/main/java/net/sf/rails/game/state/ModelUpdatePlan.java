@@ -0,0 +1,162 @@
+package net.sf.rails.game.state;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.ImmutableMultimap;
+
+/**
+ * ModelUpdatePlan is the compiled dependency graph of observables and models
+ * <p>
+ * All models are ranked once in topological order. The downstream models of an observable
+ * are computed on first request and cached as an array sorted by rank.
+ * A plan is valid for one version of the dependency graph only, see {@link StateManager}.
+ */
+final class ModelUpdatePlan {
+
+    private static final Model[] NO_MODELS = new Model[0];
+
+    private final int version;
+    private final ImmutableSetMultimap<Observable, Model> graph;
+
+    // topological rank of each model and models by rank
+    private final Map<Model, Integer> ranks = new IdentityHashMap<>();
+    private final Model[] models;
+    // downstream models of each observable, sorted by rank
+    private final Map<Observable, Model[]> downstream = new IdentityHashMap<>();
+
+    // visited set, stamped by the epoch of the search and indexed by rank
+    private final int[] visited;
+    private int epoch = 0;
+    // ranks found by a search over several observables
+    private final int[] merged;
+
+    private ModelUpdatePlan(int version, ImmutableSetMultimap<Observable, Model> graph) {
+        this.version = version;
+        this.graph = graph;
+
+        LinkedList<Model> topoList = topoSort(graph);
+        this.models = topoList.toArray(NO_MODELS);
+        for (int rank = 0; rank < models.length; rank++) {
+            ranks.put(models[rank], rank);
+        }
+        this.visited = new int[models.length];
+        this.merged = new int[models.length];
+    }
+
+    /**
+     * @param version of the dependency graph
+     * @param graph dependencies from observables to the models they update
+     * @throws IllegalStateException if the graph contains a cycle
+     */
+    static ModelUpdatePlan create(int version, ImmutableMultimap<Observable, Model> graph) {
+        return new ModelUpdatePlan(version, ImmutableSetMultimap.copyOf(graph));
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    private enum Color {GREY, BLACK}
+
+    // topological sort based on DFS (reverse post order)
+    private static LinkedList<Model> topoSort(ImmutableSetMultimap<Observable, Model> graph) {
+        Map<Observable, Color> colors = new IdentityHashMap<>();
+        LinkedList<Model> topoList = new LinkedList<>();
+        for (Observable observable : graph.keySet()) {
+            if (!colors.containsKey(observable)) {
+                topoSort(graph, observable, colors, topoList);
+            }
+        }
+        return topoList;
+    }
+
+    private static void topoSort(ImmutableSetMultimap<Observable, Model> graph, Observable v,
+            Map<Observable, Color> colors, LinkedList<Model> topoList) {
+        colors.put(v, Color.GREY);
+        for (Model m : graph.get(v)) {
+            if (!colors.containsKey(m)) {
+                topoSort(graph, m, colors, topoList);
+            } else if (colors.get(m) == Color.GREY) {
+                throw new IllegalStateException("Graph of Observables contains Cycle");
+            }
+        }
+        colors.put(v, Color.BLACK);
+        if (v instanceof Model) topoList.addFirst((Model) v);
+    }
+
+    private int nextEpoch() {
+        if (++epoch == 0) {
+            // overflow: reset all stamps
+            Arrays.fill(visited, 0);
+            epoch = 1;
+        }
+        return epoch;
+    }
+
+    /**
+     * @return all models (directly or indirectly) updated by the observable in topological order,
+     * the array is shared and must not be modified
+     */
+    Model[] getModelsToUpdate(Observable observable) {
+        if (!graph.containsKey(observable)) return NO_MODELS;
+        Model[] updates = downstream.get(observable);
+        if (updates == null) {
+            int stamp = nextEpoch();
+            int[] found = new int[models.length];
+            int size = collect(observable, stamp, found, 0);
+            updates = toModels(found, size);
+            downstream.put(observable, updates);
+        }
+        return updates;
+    }
+
+    // adds the ranks of all models reachable from the observable
+    private int collect(Observable observable, int stamp, int[] found, int size) {
+        for (Model model : graph.get(observable)) {
+            int rank = ranks.get(model);
+            if (visited[rank] == stamp) continue;
+            visited[rank] = stamp;
+            found[size++] = rank;
+            size = collect(model, stamp, found, size);
+        }
+        return size;
+    }
+
+    private Model[] toModels(int[] found, int size) {
+        Arrays.sort(found, 0, size);
+        Model[] sorted = new Model[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = models[found[i]];
+        }
+        return sorted;
+    }
+
+    /**
+     * @return all models updated by the observables in topological order
+     */
+    ImmutableList<Model> getModelsToUpdate(Collection<? extends Observable> observables) {
+        // compile the downstream models first, as this requires its own search
+        for (Observable observable : observables) {
+            getModelsToUpdate(observable);
+        }
+        int stamp = nextEpoch();
+        int size = 0;
+        for (Observable observable : observables) {
+            for (Model model : getModelsToUpdate(observable)) {
+                int rank = ranks.get(model);
+                if (visited[rank] == stamp) continue;
+                visited[rank] = stamp;
+                merged[size++] = rank;
+            }
+        }
+        if (size == 0) return ImmutableList.of();
+        return ImmutableList.copyOf(toModels(merged, size));
+    }
+
+}
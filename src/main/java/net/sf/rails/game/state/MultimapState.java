@@ -13,6 +13,9 @@ import com.google.common.collect.Multimap;
  * Abstract class of stateful Multimap
  */
 public abstract class MultimapState<K,V> extends State implements Iterable<V> {
+
+    // number of changes, includes undo and redo
+    private int modificationCount = 0;
     
     protected MultimapState(Item parent, String id) {
         super(parent, id);
@@ -102,7 +105,15 @@ public abstract class MultimapState<K,V> extends State implements Iterable<V> {
         return getMap().toString();
     }
     
+    /**
+     * @return number of modifications of the multimap, including undo and redo
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+
     void change(K key, V value, boolean addToMap) {
+        modificationCount++;
         if (addToMap) {
             getMap().put(key, value);
         } else {
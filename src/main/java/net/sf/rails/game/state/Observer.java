@@ -1,5 +1,7 @@
 package net.sf.rails.game.state;
 
+import com.google.common.base.Supplier;
+
 /**
  * An interface defining an Observer to Observable classes
  */
@@ -9,4 +11,23 @@ public interface Observer{
     
     public Observable getObservable();
     
+    /**
+     * Called by the StateManager if the observable has changed.
+     * The text of the observable is only created if the observer pulls it from the supplier
+     * (at most once for all observers of the observable).
+     * The default implementation pulls the text and calls {@link #update(String)}
+     */
+    default void changed(Supplier<String> text) {
+        update(text.get());
+    }
+
+    /**
+     * Engine observers are part of the game engine (e.g. the OperatingRound) and are updated immediately,
+     * even if the observer updates are suspended (see {@link StateManager#suspendObserverUpdates()})
+     * @return true for engine observers, false (default) for user interface and other observers
+     */
+    default boolean isEngineObserver() {
+        return false;
+    }
+    
 }
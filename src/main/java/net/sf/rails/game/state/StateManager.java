@@ -1,19 +1,22 @@
 package net.sf.rails.game.state;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 public final class StateManager extends Manager {
@@ -31,6 +34,16 @@ public final class StateManager extends Manager {
     // gui eleemnts do not have a state of their own (with respect to the game engine)
     private final HashMultimap<Observable, Observer> observers = HashMultimap.create();
 
+    // nesting level of suspended observer updates and the observers marked while suspended
+    private int suspended = 0;
+    private final Map<Observer, Observable> dirtyObservers = new LinkedHashMap<>();
+
+    // nesting level of speculative executions (see ChangeStack.openCheckpoint)
+    private int speculative = 0;
+
+    // compiled update plan of the models, rebuilt after changes of the models
+    private ModelUpdatePlan updatePlan = null;
+
     // initialized later in init()
     private PortfolioManager portfolioManager;
     private WalletManager walletManager;
@@ -141,13 +154,8 @@ public final class StateManager extends Manager {
             log.debug("State {} sends change to Trigger {}", state, t);
         }
 
-        // check if there are models
-        ImmutableSet<Model> initModels = getModels(state);
-        if (initModels.isEmpty()) return;
-        ImmutableList<Model> allModels = getModelsToUpdate(initModels);
-
         // Inform indirect triggers
-        for (Model m:allModels) {
+        for (Model m:getUpdatePlan().getModelsToUpdate(state)) {
             for (Triggerable t:getTriggers(m)) {
                 t.triggered(m, change);
                 log.debug("Model {} sends change to Trigger {}", m, t);
@@ -155,66 +163,137 @@ public final class StateManager extends Manager {
         }
     }
 
+    /**
+     * @return the update plan for the current models, compiled again if the models have changed
+     * (by addModel, removeModel or undo/redo of those)
+     */
+    private ModelUpdatePlan getUpdatePlan() {
+        int version = models.getModificationCount();
+        if (updatePlan == null || updatePlan.getVersion() != version) {
+            updatePlan = ModelUpdatePlan.create(version, models.view());
+            log.debug("Compiled model update plan version {}", version);
+        }
+        return updatePlan;
+    }
+
     /**
      * A set of observables is given as input
      * and then calculates all observer to update in the correct sequence
      *
-     * It uses a topological sort based on DFS
+     * It uses the topological order of the compiled update plan
      *
      * @param observables that have been updated
      * @return sorted list of all models to be updated
      */
     ImmutableList<Model> getModelsToUpdate(Collection<? extends Observable> observables) {
-        // Topological sort
-        // Initialize (we do not use WHITE explicitly, but implicit)
-        final Map<Observable, Color> colors = Maps.newHashMap();
-        final LinkedList<Model> topoList = Lists.newLinkedList();
-
-        // For all states
-        for (Observable s: observables) {
-            topoSort(s, colors, topoList);
+        return getUpdatePlan().getModelsToUpdate(observables);
+    }
+
+    /**
+     * Updates the observers of the states and of the models depending on them.
+     * Each observer is updated at most once, the text of an observable is only created if an observer pulls it.
+     * While observer updates are suspended, only engine observers are updated, all others are marked as dirty.
+     * During a speculative execution all other observers are skipped, as the changes are rolled back.
+     */
+    void updateObservers(Set<State> states) {
+        if (observers.isEmpty()) return;
+        
+        // all direct observers
+        for (State s:states){
+            notifyObservers(s);
+        }
+
+        // all indirect observers
+        for (Model m:getModelsToUpdate(states)) {
+            notifyObservers(m);
         }
-        return ImmutableList.copyOf(topoList);
     }
 
-    private static enum Color {WHITE, GREY, BLACK};
-    private void topoSort(final Observable v, final Map<Observable, Color> colors, final LinkedList<Model> topoList) {
-        colors.put(v, Color.GREY);
-        for (Model m:getModels(v)) {
-            if (!colors.containsKey(m)) {
-                topoSort(m, colors, topoList);
-            } else if (colors.get(m) == Color.GREY) {
-                throw new IllegalStateException("Graph of Observables contains Cycle");
+    private void notifyObservers(Observable observable) {
+        Set<Observer> observers = getObservers(observable);
+        if (observers.isEmpty()) return;
+        // the text is created once for all observers
+        Supplier<String> text = textSupplier(observable);
+        for (Observer o:observers) {
+            if (speculative > 0 && !o.isEngineObserver()) {
+                continue;
+            }
+            if (suspended > 0 && !o.isEngineObserver()) {
+                // last observable wins, observers are kept in order of their first change
+                dirtyObservers.put(o, observable);
+                log.debug("Observable {} marks observer {}", observable, o);
+            } else {
+                o.changed(text);
+                log.debug("Observable {} updates observer {}", observable, o);
             }
         }
-        colors.put(v, Color.BLACK);
-        if (v instanceof Model) topoList.addFirst((Model)v);
     }
 
+    private static Supplier<String> textSupplier(final Observable observable) {
+        return Suppliers.memoize(observable::toText);
+    }
 
-    void updateObservers(Set<State> states) {
-        // all direct observers
-        for (State s:states){
-            Set<Observer> observers = getObservers(s);
-            if (observers.isEmpty()) continue;
-            // cache StateText
-            String stateText = s.toText();
-            for (Observer o:observers) {
-                o.update(stateText);
-                log.debug("State {} updates observer {}", s, o);
-            }
+    /**
+     * Suspends the updates of all observers except engine observers (see {@link Observer#isEngineObserver()}).
+     * Instead the observers are marked as dirty and updated once by {@link #resumeObserverUpdates()}.
+     * Calls can be nested, e.g. for bulk operations like replay or undo of several actions.
+     */
+    public void suspendObserverUpdates() {
+        suspended++;
+    }
+
+    /**
+     * Resumes the observer updates and updates all dirty observers,
+     * if this ends the outermost suspension
+     */
+    public void resumeObserverUpdates() {
+        checkState(suspended > 0, "Observer updates are not suspended");
+        if (--suspended == 0) {
+            updateDirtyObservers(takeDirtyObservers());
         }
+    }
 
-        // all indirect observers
-        for (Model m:getModelsToUpdate(states)) {
-            Set<Observer> observers = getObservers(m);
-            if (observers.isEmpty()) continue;
-            // cache ModelText
-            String modelText = m.toText();
-            for (Observer o:observers) {
-                o.update(modelText);
-                log.debug("Model {} updates observer {}", m, o);
+    public boolean isSuspended() {
+        return suspended > 0;
+    }
+
+    void beginSpeculation() {
+        speculative++;
+    }
+
+    void endSpeculation() {
+        checkState(speculative > 0, "No speculative execution");
+        speculative--;
+    }
+
+    /**
+     * Returns the observers marked as dirty while updates are suspended, without updating them.
+     * This allows to update the observers outside of the thread of the game engine
+     * (see {@link #updateDirtyObservers(Map)}).
+     * @return the dirty observers with the observable that changed, in order of their first change
+     */
+    public ImmutableMap<Observer, Observable> takeDirtyObservers() {
+        ImmutableMap<Observer, Observable> dirty = ImmutableMap.copyOf(dirtyObservers);
+        dirtyObservers.clear();
+        return dirty;
+    }
+
+    /**
+     * Updates the given observers, which are still registered at their observable
+     * @param dirty observers with the observable that changed (see {@link #takeDirtyObservers()})
+     */
+    public void updateDirtyObservers(Map<Observer, Observable> dirty) {
+        // one text supplier per observable
+        Map<Observable, Supplier<String>> texts = Maps.newHashMap();
+        for (Map.Entry<Observer, Observable> entry : dirty.entrySet()) {
+            Observable observable = entry.getValue();
+            if (!observers.containsEntry(observable, entry.getKey())) continue;
+            Supplier<String> text = texts.get(observable);
+            if (text == null) {
+                text = textSupplier(observable);
+                texts.put(observable, text);
             }
+            entry.getKey().changed(text);
         }
     }
 
@@ -0,0 +1,538 @@
+package net.sf.rails.game.state;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * StateSnapshot stores the values of all states registered at the StateManager
+ * <p>
+ * States are identified by their fullURI. Items inside states are stored by their fullURI,
+ * objects of the external list (e.g. the executed actions) by their index in that list.
+ * Other values are only supported if they are immutable (strings, numbers, booleans, enums, classes).
+ * <p>
+ * Items created during the game (e.g. rounds) are recreated at restore by their (parent, id) constructor.
+ * The states of the StateManager, PortfolioManager and WalletManager are not stored,
+ * as they are rebuilt by the creation of the items.
+ * <p>
+ * A restore does not create changes and does not inform triggers, thus it has to be applied to
+ * a newly created root. After a failed restore the root has to be discarded.
+ */
+public final class StateSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger log = LoggerFactory.getLogger(StateSnapshot.class);
+
+    // encoded values of the states, by fullURI of the state
+    private final HashMap<String, Object> values;
+    // class names of the states, by fullURI of the state
+    private final HashMap<String, String> stateClasses;
+    // items that own states or are referenced by states, by fullURI of the item
+    private final HashMap<String, ItemInfo> items;
+
+    private StateSnapshot(HashMap<String, Object> values, HashMap<String, String> stateClasses,
+            HashMap<String, ItemInfo> items) {
+        this.values = values;
+        this.stateClasses = stateClasses;
+        this.items = items;
+    }
+
+    /**
+     * Thrown if a state or value cannot be stored or restored
+     */
+    private static final class SnapshotException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private SnapshotException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Information required to recreate an item
+     */
+    private static final class ItemInfo implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+        private final String parentURI;
+        private final String id;
+        private final int depth;
+
+        private ItemInfo(Item item) {
+            this.className = item.getClass().getName();
+            this.parentURI = item.getParent().getFullURI();
+            this.id = item.getId();
+            int depth = 0;
+            for (Item parent = item.getParent(); !(parent instanceof Root); parent = parent.getParent()) {
+                depth++;
+            }
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Reference to an item
+     */
+    private static final class ItemRef implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String uri;
+
+        private ItemRef(String uri) {
+            this.uri = uri;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ItemRef && uri.equals(((ItemRef) other).uri);
+        }
+
+        @Override
+        public int hashCode() {
+            return uri.hashCode();
+        }
+    }
+
+    /**
+     * Reference to an element of the external list
+     */
+    private static final class ExternalRef implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private ExternalRef(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ExternalRef && index == ((ExternalRef) other).index;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+    }
+
+    /**
+     * Reference to a class
+     */
+    private static final class ClassRef implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+
+        private ClassRef(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ClassRef && name.equals(((ClassRef) other).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+    /**
+     * Encodes values relative to a root and an external list
+     */
+    private static final class Encoder {
+        private final Root root;
+        private final Map<Object, Integer> externals = new IdentityHashMap<>();
+        private final HashMap<String, ItemInfo> items;
+
+        private Encoder(Root root, List<?> externals, HashMap<String, ItemInfo> items) {
+            this.root = root;
+            for (int index = 0; index < externals.size(); index++) {
+                this.externals.put(externals.get(index), index);
+            }
+            this.items = items;
+        }
+
+        private void addItem(Item item) throws SnapshotException {
+            while (!(item instanceof Root) && !items.containsKey(item.getFullURI())) {
+                if (root.locateFullURI(item.getFullURI()) != item) {
+                    throw new SnapshotException("Item " + item.getFullURI() + " is not registered at the root");
+                }
+                // states are recreated by their parents
+                if (!(item instanceof State)) {
+                    items.put(item.getFullURI(), new ItemInfo(item));
+                }
+                item = item.getParent();
+            }
+        }
+
+        private Object encode(Object value) throws SnapshotException {
+            if (value == null || value instanceof String || value instanceof Number
+                    || value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+                return value;
+            }
+            Integer index = externals.get(value);
+            if (index != null) {
+                return new ExternalRef(index);
+            }
+            if (value instanceof Item) {
+                addItem((Item) value);
+                return new ItemRef(((Item) value).getFullURI());
+            }
+            if (value instanceof Class) {
+                return new ClassRef(((Class<?>) value).getName());
+            }
+            throw new SnapshotException("Unsupported value of " + value.getClass().getName());
+        }
+
+        private ArrayList<Object> encodeList(Collection<?> collection) throws SnapshotException {
+            ArrayList<Object> list = Lists.newArrayListWithCapacity(collection.size());
+            for (Object element : collection) {
+                list.add(encode(element));
+            }
+            return list;
+        }
+
+        private HashSet<Object> encodeSet(Collection<?> collection) throws SnapshotException {
+            HashSet<Object> set = new HashSet<>();
+            for (Object element : collection) {
+                set.add(encode(element));
+            }
+            return set;
+        }
+
+        private Object encodeState(State state) throws SnapshotException {
+            if (state instanceof GenericState) {
+                return encode(((GenericState<?>) state).value());
+            } else if (state instanceof IntegerState) {
+                return ((IntegerState) state).value();
+            } else if (state instanceof BooleanState) {
+                return ((BooleanState) state).value();
+            } else if (state instanceof StringState) {
+                return ((StringState) state).value();
+            } else if (state instanceof ArrayListState) {
+                return encodeList(((ArrayListState<?>) state).view());
+            } else if (state instanceof SetState) {
+                return encodeSet(((SetState<?>) state).view());
+            } else if (state instanceof MapState) {
+                HashMap<Object, Object> map = new HashMap<>();
+                for (Map.Entry<?, ?> entry : ((MapState<?, ?>) state).view().entrySet()) {
+                    map.put(encode(entry.getKey()), encode(entry.getValue()));
+                }
+                return map;
+            } else if (state instanceof MultimapState) {
+                HashMap<Object, Object> map = new HashMap<>();
+                for (Map.Entry<?, ? extends Collection<?>> entry : ((MultimapState<?, ?>) state).view().asMap().entrySet()) {
+                    map.put(encode(entry.getKey()), encodeSet(entry.getValue()));
+                }
+                return map;
+            } else if (state instanceof ArrayListMultimapState) {
+                HashMap<Object, Object> map = new HashMap<>();
+                for (Map.Entry<?, ? extends Collection<?>> entry : ((ArrayListMultimapState<?, ?>) state).view().asMap().entrySet()) {
+                    map.put(encode(entry.getKey()), encodeList(entry.getValue()));
+                }
+                return map;
+            } else if (state instanceof WalletSet) {
+                HashMap<Object, Object> map = new HashMap<>();
+                for (Map.Entry<?, Integer> entry : ((WalletSet<?>) state).view().entrySet()) {
+                    // items with zero amount remain in the wallet, but are not relevant
+                    if (entry.getValue() != 0) {
+                        map.put(encode(entry.getKey()), entry.getValue());
+                    }
+                }
+                return map;
+            } else if (state instanceof WalletBag || state instanceof Purse) {
+                return ((Wallet<?>) state).value();
+            }
+            throw new SnapshotException("Unsupported state class " + state.getClass().getName());
+        }
+    }
+
+    /**
+     * Decodes values relative to a root and an external list
+     */
+    private static final class Decoder {
+        private final Root root;
+        private final List<?> externals;
+
+        private Decoder(Root root, List<?> externals) {
+            this.root = root;
+            this.externals = externals;
+        }
+
+        private Object decode(Object value) throws SnapshotException {
+            if (value instanceof ItemRef) {
+                Item item = root.locateFullURI(((ItemRef) value).uri);
+                if (item == null) {
+                    throw new SnapshotException("Item " + ((ItemRef) value).uri + " does not exist");
+                }
+                return item;
+            } else if (value instanceof ExternalRef) {
+                int index = ((ExternalRef) value).index;
+                if (index >= externals.size()) {
+                    throw new SnapshotException("External object " + index + " does not exist");
+                }
+                return externals.get(index);
+            } else if (value instanceof ClassRef) {
+                try {
+                    return Class.forName(((ClassRef) value).name);
+                } catch (ClassNotFoundException e) {
+                    throw new SnapshotException("Class " + ((ClassRef) value).name + " does not exist");
+                }
+            }
+            return value;
+        }
+
+        private List<Object> decodeList(Object value) throws SnapshotException {
+            List<Object> list = Lists.newArrayList();
+            for (Object element : (Collection<?>) value) {
+                list.add(decode(element));
+            }
+            return list;
+        }
+
+        private Map<Object, Object> decodeMap(Object value) throws SnapshotException {
+            Map<Object, Object> map = Maps.newHashMap();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(decode(entry.getKey()), entry.getValue());
+            }
+            return map;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void restoreState(State state, Object value) throws SnapshotException {
+            if (state instanceof GenericState) {
+                ((GenericState<Object>) state).change(decode(value));
+            } else if (state instanceof IntegerState) {
+                ((IntegerState) state).change((Integer) value);
+            } else if (state instanceof BooleanState) {
+                ((BooleanState) state).change((Boolean) value);
+            } else if (state instanceof StringState) {
+                ((StringState) state).change((String) value);
+            } else if (state instanceof ArrayListState) {
+                ArrayListState<Object> list = (ArrayListState<Object>) state;
+                for (int index = list.size() - 1; index >= 0; index--) {
+                    list.change(list.get(index), index, false);
+                }
+                int index = 0;
+                for (Object element : decodeList(value)) {
+                    list.change(element, index++, true);
+                }
+            } else if (state instanceof SetState) {
+                SetState<Object> set = (SetState<Object>) state;
+                for (Object element : set.view()) {
+                    set.change(element, false);
+                }
+                for (Object element : decodeList(value)) {
+                    set.change(element, true);
+                }
+            } else if (state instanceof MapState) {
+                // remove all first, as a HashBiMap does not allow values bound to another key
+                MapState<Object, Object> map = (MapState<Object, Object>) state;
+                for (Object key : map.viewKeySet()) {
+                    map.change(key, null, true);
+                }
+                for (Map.Entry<Object, Object> entry : decodeMap(value).entrySet()) {
+                    map.change(entry.getKey(), decode(entry.getValue()), false);
+                }
+            } else if (state instanceof MultimapState) {
+                MultimapState<Object, Object> map = (MultimapState<Object, Object>) state;
+                for (Map.Entry<Object, Object> entry : map.view().entries()) {
+                    map.change(entry.getKey(), entry.getValue(), false);
+                }
+                for (Map.Entry<Object, Object> entry : decodeMap(value).entrySet()) {
+                    for (Object element : decodeList(entry.getValue())) {
+                        map.change(entry.getKey(), element, true);
+                    }
+                }
+            } else if (state instanceof ArrayListMultimapState) {
+                ArrayListMultimapState<Object, Object> map = (ArrayListMultimapState<Object, Object>) state;
+                for (Object key : map.view().keySet()) {
+                    for (int index = map.get(key).size() - 1; index >= 0; index--) {
+                        map.change(key, null, index, false);
+                    }
+                }
+                for (Map.Entry<Object, Object> entry : decodeMap(value).entrySet()) {
+                    int index = 0;
+                    for (Object element : decodeList(entry.getValue())) {
+                        map.change(entry.getKey(), element, index++, true);
+                    }
+                }
+            } else if (state instanceof WalletSet) {
+                WalletSet<Countable> wallet = (WalletSet<Countable>) state;
+                Map<Object, Object> amounts = decodeMap(value);
+                for (Countable item : wallet.view().keySet()) {
+                    if (!amounts.containsKey(item)) {
+                        wallet.change(item, -wallet.value(item));
+                    }
+                }
+                for (Map.Entry<Object, Object> entry : amounts.entrySet()) {
+                    Countable item = (Countable) entry.getKey();
+                    wallet.change(item, (Integer) entry.getValue() - wallet.value(item));
+                }
+            } else if (state instanceof WalletBag || state instanceof Purse) {
+                // wallets with a single item ignore the item argument
+                Wallet<Countable> wallet = (Wallet<Countable>) state;
+                wallet.change(null, (Integer) value - wallet.value());
+            } else {
+                throw new SnapshotException("Unsupported state class " + state.getClass().getName());
+            }
+        }
+    }
+
+    // states of the framework itself are rebuilt by the creation of items
+    private static boolean isFrameworkState(State state) {
+        Item parent = state.getParent();
+        return parent instanceof Root || parent instanceof StateManager
+                || parent instanceof PortfolioManager || parent instanceof WalletManager;
+    }
+
+    /**
+     * Captures the current values of all states
+     * @param root of the states
+     * @param externals objects that are referenced by their index (e.g. actions)
+     * @return the snapshot, null if any state contains a value that cannot be stored
+     */
+    public static StateSnapshot capture(Root root, List<?> externals) {
+        HashMap<String, Object> values = new HashMap<>();
+        HashMap<String, String> stateClasses = new HashMap<>();
+        HashMap<String, ItemInfo> items = new HashMap<>();
+        Encoder encoder = new Encoder(root, externals, items);
+
+        for (State state : root.getStateManager().getAllStates()) {
+            if (isFrameworkState(state)) continue;
+            try {
+                values.put(state.getFullURI(), encoder.encodeState(state));
+                stateClasses.put(state.getFullURI(), state.getClass().getName());
+                encoder.addItem(state.getParent());
+            } catch (SnapshotException | RuntimeException e) {
+                log.info("No snapshot possible, state {}: {}", state.getFullURI(), e.getMessage());
+                return null;
+            }
+        }
+        log.debug("Captured snapshot of {} states and {} items", values.size(), items.size());
+        return new StateSnapshot(values, stateClasses, items);
+    }
+
+    /**
+     * Restores the values of all states
+     * @param root of the states, which has to be newly created with the same game data
+     * @param externals objects that are referenced by their index (e.g. actions)
+     * @return true if the restore was successful, otherwise the root has to be discarded
+     */
+    public boolean restore(Root root, List<?> externals) {
+        try {
+            recreateItems(root);
+
+            Decoder decoder = new Decoder(root, externals);
+            ImmutableSet.Builder<State> restored = ImmutableSet.builder();
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                Item item = root.locateFullURI(entry.getKey());
+                if (!(item instanceof State) || !item.getClass().getName().equals(stateClasses.get(entry.getKey()))) {
+                    throw new SnapshotException("State " + entry.getKey() + " does not exist");
+                }
+                decoder.restoreState((State) item, entry.getValue());
+                restored.add((State) item);
+            }
+
+            // the restored values have to be identical to the captured values
+            StateSnapshot check = capture(root, externals);
+            if (check == null || !values.equals(check.values)) {
+                throw new SnapshotException("Restored states differ from snapshot");
+            }
+
+            root.getStateManager().getChangeStack().updateObservers(restored.build());
+        } catch (SnapshotException | RuntimeException e) {
+            log.warn("Restore of snapshot failed: {}", e.getMessage());
+            log.debug("Restore of snapshot failed", e);
+            return false;
+        }
+        log.debug("Restored snapshot of {} states", values.size());
+        return true;
+    }
+
+    // creates the items that do not exist in the root, parents first
+    private void recreateItems(Root root) throws SnapshotException {
+        List<ItemInfo> missing = Lists.newArrayList();
+        for (Map.Entry<String, ItemInfo> entry : items.entrySet()) {
+            if (root.locateFullURI(entry.getKey()) == null) {
+                missing.add(entry.getValue());
+            }
+        }
+        Collections.sort(missing, Comparator.comparingInt((ItemInfo info) -> info.depth));
+
+        for (ItemInfo info : missing) {
+            Item parent = root.locateFullURI(info.parentURI);
+            if (parent == null) {
+                throw new SnapshotException("Parent " + info.parentURI + " of " + info.id + " does not exist");
+            }
+            Item item = createItem(info, parent);
+            if (root.locateFullURI(item.getFullURI()) != item) {
+                throw new SnapshotException("Item " + item.getFullURI() + " was not registered");
+            }
+            log.debug("Recreated item {}", item.getFullURI());
+        }
+    }
+
+    private static Item createItem(ItemInfo info, Item parent) throws SnapshotException {
+        try {
+            Class<?> clazz = Class.forName(info.className);
+            for (Constructor<?> constructor : clazz.getConstructors()) {
+                Class<?>[] parameters = constructor.getParameterTypes();
+                if (parameters.length == 2 && parameters[0].isInstance(parent)
+                        && parameters[1] == String.class) {
+                    return (Item) constructor.newInstance(parent, info.id);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new SnapshotException("Cannot create " + info.className + ": " + e.getMessage());
+        }
+        throw new SnapshotException("Class " + info.className + " has no (parent, id) constructor");
+    }
+
+    /**
+     * @return number of stored states
+     */
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof StateSnapshot)) return false;
+        StateSnapshot snapshot = (StateSnapshot) other;
+        return values.equals(snapshot.values) && stateClasses.equals(snapshot.stateClasses);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(values, stateClasses);
+    }
+
+    @Override
+    public String toString() {
+        return "StateSnapshot: " + values.size() + " states, " + items.size() + " items";
+    }
+
+}
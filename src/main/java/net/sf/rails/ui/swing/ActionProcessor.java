@@ -0,0 +1,203 @@
+package net.sf.rails.ui.swing;
+
+import java.awt.SecondaryLoop;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.swing.SwingUtilities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+import net.sf.rails.common.ReportBuffer;
+import net.sf.rails.game.RailsRoot;
+import net.sf.rails.game.state.Observable;
+import net.sf.rails.game.state.Observer;
+import net.sf.rails.game.state.StateManager;
+import rails.game.action.PossibleAction;
+
+/**
+ * ActionProcessor processes the actions of the game by a dedicated engine thread
+ * <p>
+ * While an action is processed, the event dispatch thread continues to dispatch events
+ * (e.g. to repaint), but the input to all windows is locked. The observer updates are suspended
+ * while the action is processed, the dirty observers and the report updates caused by the action
+ * are returned as a {@link GameUpdate}, which is applied on the event dispatch thread afterwards.
+ */
+final class ActionProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ActionProcessor.class);
+
+    private final RailsRoot root;
+    private final ExecutorService executor;
+
+    // true while an action is processed by the engine thread
+    private boolean processing = false;
+
+    ActionProcessor(RailsRoot root) {
+        this.root = root;
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "GameEngine");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Processes the action by the GameManager and applies the resulting updates
+     * @return result of the action processing, false if another action is processed already
+     */
+    boolean process(PossibleAction action) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            // nothing to keep responsive, process directly
+            return root.getGameManager().process(action);
+        }
+        if (processing) {
+            log.warn("Action {} ignored, as another action is processed", action);
+            return false;
+        }
+
+        GameUpdate update;
+        processing = true;
+        List<Window> lockedWindows = lockInput();
+        ReportBuffer reportBuffer = root.getReportManager().getReportBuffer();
+        ReportBuffer.Observer reportObserver = reportBuffer.getObserver();
+        ReportRecorder reportRecorder = null;
+        if (reportObserver != null) {
+            reportRecorder = new ReportRecorder(reportObserver);
+            reportBuffer.addObserver(reportRecorder);
+        }
+        try {
+            update = processOnEngine(action, reportRecorder);
+        } finally {
+            if (reportObserver != null) {
+                reportBuffer.addObserver(reportObserver);
+            }
+            unlockInput(lockedWindows);
+            processing = false;
+        }
+
+        update.apply();
+        if (update.getFailure() != null) {
+            throw update.getFailure();
+        }
+        return update.getResult();
+    }
+
+    // runs the action on the engine thread, while the event dispatch thread dispatches further events
+    private GameUpdate processOnEngine(final PossibleAction action, final ReportRecorder reportRecorder) {
+        final SecondaryLoop loop = Toolkit.getDefaultToolkit().getSystemEventQueue().createSecondaryLoop();
+        Future<GameUpdate> future = executor.submit(() -> {
+            try {
+                return execute(action, reportRecorder);
+            } finally {
+                // executed inside the secondary loop, even if the engine finishes before it is entered
+                SwingUtilities.invokeLater(loop::exit);
+            }
+        });
+        loop.enter();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing " + action, e);
+        } catch (ExecutionException e) {
+            // execute catches all runtime exceptions, so this is an error
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // executed by the engine thread
+    private GameUpdate execute(PossibleAction action, ReportRecorder reportRecorder) {
+        StateManager stateManager = root.getStateManager();
+        stateManager.suspendObserverUpdates();
+        boolean result = false;
+        RuntimeException failure = null;
+        ImmutableMap<Observer, Observable> dirtyObservers;
+        try {
+            result = root.getGameManager().process(action);
+        } catch (RuntimeException e) {
+            log.error("Processing of action {} failed", action, e);
+            failure = e;
+        } finally {
+            // the dirty observers are updated by the event dispatch thread
+            dirtyObservers = stateManager.takeDirtyObservers();
+            stateManager.resumeObserverUpdates();
+        }
+        ImmutableList<Runnable> reportUpdates = reportRecorder == null ? ImmutableList.<Runnable>of()
+                : reportRecorder.getUpdates();
+        return new GameUpdate(action, result, failure, stateManager, dirtyObservers, reportUpdates);
+    }
+
+    // disables all enabled windows, returns the disabled windows
+    private static List<Window> lockInput() {
+        List<Window> lockedWindows = Lists.newArrayList();
+        for (Window window : Window.getWindows()) {
+            if (window.isDisplayable() && window.isEnabled()) {
+                window.setEnabled(false);
+                lockedWindows.add(window);
+            }
+        }
+        return lockedWindows;
+    }
+
+    private static void unlockInput(List<Window> lockedWindows) {
+        for (Window window : lockedWindows) {
+            window.setEnabled(true);
+        }
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Records the calls of the ReportBuffer to replay them on the event dispatch thread
+     */
+    private static final class ReportRecorder implements ReportBuffer.Observer {
+
+        private final ReportBuffer.Observer observer;
+        private final List<Runnable> updates = Lists.newArrayList();
+
+        private ReportRecorder(ReportBuffer.Observer observer) {
+            this.observer = observer;
+        }
+
+        private ImmutableList<Runnable> getUpdates() {
+            return ImmutableList.copyOf(updates);
+        }
+
+        @Override
+        public void update(final String newText) {
+            updates.add(() -> observer.update(newText));
+        }
+
+        @Override
+        public void set(final int index, final String text) {
+            updates.add(() -> observer.set(index, text));
+        }
+
+        @Override
+        public void removeFrom(final int index) {
+            updates.add(() -> observer.removeFrom(index));
+        }
+
+        @Override
+        public void setActive(final int index) {
+            updates.add(() -> observer.setActive(index));
+        }
+    }
+
+}
@@ -51,6 +51,9 @@ import net.sf.rails.ui.swing.elements.DialogOwner;
 import net.sf.rails.ui.swing.elements.MessageDialog;
 import net.sf.rails.ui.swing.elements.NonModalDialog;
 import net.sf.rails.ui.swing.elements.RadioButtonDialog;
+import net.sf.rails.util.GameLoader;
+import net.sf.rails.util.GameSaver;
+import net.sf.rails.util.SystemOS;
 import net.sf.rails.util.Util;
 import rails.game.action.DiscardTrain;
 import rails.game.action.ExchangeTokens;
@@ -149,6 +152,9 @@ public class GameUIManager implements DialogOwner {
 
     private SplashWindow splashWindow = null;
 
+    // processes the actions off the event dispatch thread
+    private ActionProcessor actionProcessor = null;
+
     public GameUIManager() {
     }
 
@@ -157,6 +163,7 @@ public class GameUIManager implements DialogOwner {
         splashWindow.notifyOfStep(SplashWindow.STEP_INIT_UI);
 
         this.railsRoot = root;
+        actionProcessor = new ActionProcessor(root);
         uiHints = railsRoot.getGameManager().getUIHints();
         savePrefix = railsRoot.getGameName();
         gameWasLoaded = wasLoaded;
@@ -227,6 +234,9 @@ public class GameUIManager implements DialogOwner {
             autoLoadPoller.setActive(false);
             autoLoadPoller.close();
         }
+        if ( actionProcessor != null ) {
+            actionProcessor.shutdown();
+        }
         // TODO: terminate things like Discord
 
         // clean up config items that are game play specific (ie like Discord)
@@ -377,6 +387,13 @@ public class GameUIManager implements DialogOwner {
         // In some cases an Undo requires a different follow-up
         lastAction = action;
 
+        if (action instanceof GameAction
+                && railsRoot.getGameManager().isHistoryRebuildRequired((GameAction) action)) {
+            // The game was restored from a snapshot, undo requires a full replay
+            rebuildHistory();
+            return true;
+        }
+
         if (action == null) {
             // If the action is null, we can skip processing
             // and continue with following up a previous action.
@@ -467,8 +484,8 @@ public class GameUIManager implements DialogOwner {
 
         log.debug("==Passing to server: {}", action);
 
-        // Process the action on the server
-        result = railsRoot.getGameManager().process(action);
+        // Process the action on the server, the UI stays responsive meanwhile
+        result = actionProcessor.process(action);
 
         // Follow-up the result
         log.debug("==Result from server: {}", result);
@@ -1054,6 +1071,36 @@ public class GameUIManager implements DialogOwner {
         }
     }
 
+    /**
+     * Replaces the game by a full replay of its executed actions, which provides the complete undo history.
+     * The actions are stored in a temporary file of the autosave folder.
+     */
+    protected void rebuildHistory() {
+        final File rebuildFile;
+        try {
+            File directory = SystemOS.get().getConfigurationFolder(GameSaver.AUTOSAVE_FOLDER, true);
+            rebuildFile = new File(directory, "18xx_rebuild." + DEFAULT_SAVE_EXTENSION);
+            new GameSaver(railsRoot.getGameData(), railsRoot.getGameManager().getExecutedActions())
+                    .saveGame(rebuildFile);
+        } catch (IOException e) {
+            log.error("Rebuild of undo history failed", e);
+            getDisplayBuffer().add(LocalText.getText("SaveFailed", e.getMessage()));
+            return;
+        }
+        log.info("Rebuilding undo history by a full replay");
+
+        final String currentDirectory = saveDirectory;
+        final String currentFilename = lastSavedFilename;
+        // start in new thread so that swing thread is not used for game setup
+        new Thread(() -> {
+            closeGame();
+            GameUIManager gameUIManager = GameLoader.loadAndStartGame(rebuildFile, false);
+            if (gameUIManager != null && currentDirectory != null && currentFilename != null) {
+                gameUIManager.setGameFile(new File(currentDirectory, currentFilename));
+            }
+        }).start();
+    }
+
     public void reloadGame(GameAction reloadAction) {
         JFileChooser jfc = new JFileChooser();
         jfc.setCurrentDirectory(new File(saveDirectory));
@@ -0,0 +1,66 @@
+package net.sf.rails.ui.swing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import net.sf.rails.game.state.Observable;
+import net.sf.rails.game.state.Observer;
+import net.sf.rails.game.state.StateManager;
+import rails.game.action.PossibleAction;
+
+/**
+ * GameUpdate is the immutable result of an action processed by the game engine
+ * <p>
+ * It contains the observers marked as dirty and the updates of the report window,
+ * which are applied on the event dispatch thread in one pass (see {@link #apply()}).
+ */
+final class GameUpdate {
+
+    private final PossibleAction action;
+    private final boolean result;
+    private final RuntimeException failure;
+    private final StateManager stateManager;
+    private final ImmutableMap<Observer, Observable> dirtyObservers;
+    private final ImmutableList<Runnable> reportUpdates;
+
+    GameUpdate(PossibleAction action, boolean result, RuntimeException failure, StateManager stateManager,
+            ImmutableMap<Observer, Observable> dirtyObservers, ImmutableList<Runnable> reportUpdates) {
+        this.action = action;
+        this.result = result;
+        this.failure = failure;
+        this.stateManager = stateManager;
+        this.dirtyObservers = dirtyObservers;
+        this.reportUpdates = reportUpdates;
+    }
+
+    PossibleAction getAction() {
+        return action;
+    }
+
+    /**
+     * @return result of the action processing
+     */
+    boolean getResult() {
+        return result;
+    }
+
+    /**
+     * @return exception thrown by the game engine, null if there was none
+     */
+    RuntimeException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Updates the dirty observers and the report window
+     * <p>
+     * The texts of the observables are created here, as the game engine is idle after the action.
+     */
+    void apply() {
+        stateManager.updateDirtyObservers(dirtyObservers);
+        for (Runnable update : reportUpdates) {
+            update.run();
+        }
+    }
+
+}
@@ -1,8 +1,20 @@
 package net.sf.rails.ui.swing;
 
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.imageio.ImageIO;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -18,21 +30,46 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
 
 
 /**
  * This class handles loading our tile images. It provides BufferedImages to be
  * associated with the Hex.
+ * <p>
+ * Tile images are cached in two tiers, both keyed by the rendered width, so images
+ * remain valid if the zoom adjustment factor changes:
+ * <ul>
+ * <li>in memory: least recently used images up to the configured size in MB (map.tileCache.memory)</li>
+ * <li>on disk: PNG files in the tilecache folder of the configuration folder, named by the hash of
+ * the SVG content and the width (map.tileCache.disk), thus changed SVG files are rendered again</li>
+ * </ul>
+ * Tiles of the current game can be prerendered in the background by {@link #prerender(Collection, int)}.
  */
 public class ImageLoader {
     private static final Logger log = LoggerFactory.getLogger(ImageLoader.class);
 
+    private static final String CACHE_FOLDER = "tilecache";
+    private static final int DEFAULT_MEMORY_CACHE_MB = 64;
+
     private final DocumentBuilder svgDocBuilder;
 
-    private final Map<String, Document> svgMap = Maps.newHashMap();
-    private final HashBasedTable<String, Integer, BufferedImage> tileImages = HashBasedTable.create();
+    private final Map<String, SvgTile> svgMap = new ConcurrentHashMap<>();
+    private final Set<String> failedTiles = Sets.newConcurrentHashSet();
+
+    // tile images in order of access, guarded by itself
+    private final LinkedHashMap<String, BufferedImage> tileImages = new LinkedHashMap<>(256, 0.75f, true);
+    private long tileImagesBytes = 0;
+    private final long maxTileImagesBytes;
+
+    // null if there is no disk cache
+    private final File cacheFolder;
+
+    private final ExecutorService prerenderExecutor;
+    // incremented on each prerender request, outdated tasks are skipped
+    private final AtomicInteger prerenderGeneration = new AtomicInteger();
 
     private final double[] zoomFactors = new double[21];
 
@@ -72,46 +109,203 @@ public class ImageLoader {
             // do nothing
         }
         svgDocBuilder = db;
+
+        maxTileImagesBytes = Config.getInt("map.tileCache.memory", DEFAULT_MEMORY_CACHE_MB) * 1024L * 1024L;
+        if (Config.getBoolean("map.tileCache.disk", true)) {
+            cacheFolder = SystemOS.get().getConfigurationFolder(CACHE_FOLDER, true);
+        } else {
+            cacheFolder = null;
+        }
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        prerenderExecutor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "TilePrerender");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * SVG document of a tile with the hash of its content
+     */
+    private static class SvgTile {
+        private final Document document;
+        private final String hash;
+
+        private SvgTile(Document document, String hash) {
+            this.document = document;
+            this.hash = hash;
+        }
+    }
+
+    private SvgTile getSvgTile(String tileID) throws Exception {
+        SvgTile svgTile = svgMap.get(tileID);
+        if (svgTile == null) {
+            String fn = "tile" + tileID + ".svg";
+            byte[] content;
+            try (InputStream in = ResourceLoader.getInputStream(fn, directory)) {
+                if (in == null) throw new IOException("SVG file " + fn + " not found");
+                content = ByteStreams.toByteArray(in);
+            }
+            Document doc;
+            // Step 3: parse the input file to get a Document object
+            synchronized (svgDocBuilder) {
+                doc = svgDocBuilder.parse(new ByteArrayInputStream(content));
+            }
+            svgTile = new SvgTile(doc, Hashing.sha256().hashBytes(content).toString());
+            // Cache the doc
+            SvgTile previous = svgMap.putIfAbsent(tileID, svgTile);
+            if (previous != null) {
+                svgTile = previous;
+            }
+            log.trace("SVG document for tile id {} succeeded ", tileID);
+        }
+        return svgTile;
     }
 
     private BufferedImage getSVGTile(String tileID, double zoomFactor) {
-        String fn = "tile" + tileID + ".svg";
+        float width = (float) (svgWidth * zoomFactor);
+        String key = getKey(tileID, width);
 
         BufferedImage image;
 
         try {
-            if (!svgMap.containsKey(tileID)) {
-                 Document doc = null;
-
-                // Step 3: parse the input file to get a Document object
-                doc = svgDocBuilder.parse(ResourceLoader.getInputStream(fn, directory));
-                // Cache the doc
-                svgMap.put(tileID, doc);
-                log.trace("SVG document for tile id {} succeeded ", tileID);
+            SvgTile svgTile = getSvgTile(tileID);
+            // the document is used by one transcoder at a time
+            synchronized (svgTile) {
+                image = getCachedImage(key);
+                if (image != null) return image;
+
+                File cacheFile = getCacheFile(svgTile, width);
+                image = readCacheFile(cacheFile);
+                if (image == null) {
+                    BufferedImageTranscoder t = new BufferedImageTranscoder();
+                    t.addTranscodingHint(ImageTranscoder.KEY_MAX_WIDTH, width);
+                    t.addTranscodingHint(ImageTranscoder.KEY_MAX_HEIGHT, (float) (svgHeight * zoomFactor));
+                    TranscoderInput input = new TranscoderInput(svgTile.document);
+                    t.transcode(input, null);
+                    image = t.getImage();
+                    log.trace("SVG transcoding for tile id {} and zoomFactor {} succeeded", tileID, zoomFactor);
+                    writeCacheFile(cacheFile, image);
+                }
+                putCachedImage(key, image);
             }
-            BufferedImageTranscoder t = new BufferedImageTranscoder();
-            t.addTranscodingHint(ImageTranscoder.KEY_MAX_WIDTH, (float) (svgWidth * zoomFactor));
-            t.addTranscodingHint(ImageTranscoder.KEY_MAX_HEIGHT, (float) (svgHeight * zoomFactor));
-            TranscoderInput input = new TranscoderInput(svgMap.get(tileID));
-            t.transcode(input, null);
-            image = t.getImage();
-            log.trace("SVG transcoding for tile id {} and zoomFactor {} succeeded", tileID, zoomFactor);
-
         } catch (Exception e) {
-            log.error("SVG transcoding for tile id {} failed", tileID, e);
+            // report only once per tile
+            if (failedTiles.add(tileID)) {
+                log.error("SVG transcoding for tile id {} failed", tileID, e);
+            }
             return null;
         }
 
         return image;
     }
 
-    public BufferedImage getTile(String tileID, int zoomStep) {
-        if (tileImages.contains(tileID, zoomStep)) {
-            return tileImages.get(tileID, zoomStep);
-        } else {
-            BufferedImage image = getSVGTile(tileID, getZoomFactor(zoomStep));
-            tileImages.put(tileID, zoomStep, image);
+    private static String getKey(String tileID, float width) {
+        return tileID + "@" + Float.floatToIntBits(width);
+    }
+
+    private BufferedImage getCachedImage(String key) {
+        synchronized (tileImages) {
+            return tileImages.get(key);
+        }
+    }
+
+    private void putCachedImage(String key, BufferedImage image) {
+        synchronized (tileImages) {
+            BufferedImage previous = tileImages.put(key, image);
+            if (previous != null) {
+                tileImagesBytes -= imageBytes(previous);
+            }
+            tileImagesBytes += imageBytes(image);
+            // remove least recently used images, but keep the new one
+            Iterator<BufferedImage> iterator = tileImages.values().iterator();
+            while (tileImagesBytes > maxTileImagesBytes && tileImages.size() > 1) {
+                tileImagesBytes -= imageBytes(iterator.next());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static long imageBytes(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    private File getCacheFile(SvgTile svgTile, float width) {
+        if (cacheFolder == null) return null;
+        return new File(cacheFolder, svgTile.hash + "-" + Integer.toHexString(Float.floatToIntBits(width)) + ".png");
+    }
+
+    /**
+     * @return the image stored by {@link #writeCacheFile(File, BufferedImage)} as TYPE_INT_ARGB,
+     * null if the file does not exist or cannot be read
+     */
+    public static BufferedImage readCacheFile(File cacheFile) {
+        if (cacheFile == null || !cacheFile.isFile()) return null;
+        try {
+            BufferedImage stored = ImageIO.read(cacheFile);
+            if (stored == null) return null;
+            if (stored.getType() == BufferedImage.TYPE_INT_ARGB) return stored;
+            // same image type as transcoded images
+            BufferedImage image = new BufferedImage(stored.getWidth(), stored.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            g.drawImage(stored, 0, 0, null);
+            g.dispose();
             return image;
+        } catch (IOException e) {
+            log.warn("Unable to read cached image {}", cacheFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the image as PNG file, failures are logged only
+     */
+    public static void writeCacheFile(File cacheFile, BufferedImage image) {
+        if (cacheFile == null || image == null) return;
+        try {
+            // write to a temporary file first, so that no partial file is read by others
+            File tempFile = File.createTempFile("tile", ".tmp", cacheFile.getParentFile());
+            try {
+                ImageIO.write(image, "png", tempFile);
+                Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        } catch (IOException e) {
+            log.warn("Unable to write cached image {}", cacheFile, e);
+        }
+    }
+
+    public BufferedImage getTile(String tileID, int zoomStep) {
+        double zoomFactor = getZoomFactor(zoomStep);
+        BufferedImage image = getCachedImage(getKey(tileID, (float) (svgWidth * zoomFactor)));
+        if (image == null) {
+            image = getSVGTile(tileID, zoomFactor);
+        }
+        return image;
+    }
+
+    /**
+     * Renders the tiles in the background at the zoom step and its neighbouring zoom steps
+     * (in this order), previous requests not yet started are discarded
+     * @param tileIDs picture ids of the tiles
+     */
+    public void prerender(Collection<String> tileIDs, int zoomStep) {
+        int generation = prerenderGeneration.incrementAndGet();
+        for (int step : new int[] {zoomStep, zoomStep + 1, zoomStep - 1}) {
+            if (step < 0 || step >= zoomFactors.length) continue;
+            double zoomFactor = getZoomFactor(step);
+            for (String tileID : tileIDs) {
+                prerenderExecutor.execute(() -> {
+                    if (prerenderGeneration.get() != generation || failedTiles.contains(tileID)) return;
+                    if (getCachedImage(getKey(tileID, (float) (svgWidth * zoomFactor))) == null) {
+                        getSVGTile(tileID, zoomFactor);
+                    }
+                });
+            }
         }
     }
 
@@ -133,10 +327,8 @@ public class ImageLoader {
         this.zoomAdjustmentFactor = zoomAdjustmentFactor;
 
         //invalidate buffered zoom step zoom factors
+        //(the tile images are cached by width, outdated ones are removed as least recently used)
         Arrays.fill(zoomFactors, 0);
-
-        //invalidate buffered tile scalings
-        tileImages.clear();
     }
 
     public void resetAdjustmentFactor() {
@@ -1166,6 +1166,7 @@ implements ActionListener, KeyListener, RevenueListener {
             revenueThread = null;
         }
         if (revenueAdapter != null) {
+            revenueAdapter.cancel();
             revenueAdapter.removeRevenueListener();
             revenueAdapter = null;
         }
@@ -1184,6 +1185,7 @@ implements ActionListener, KeyListener, RevenueListener {
             RailsRoot root = orUIManager.getGameUIManager().getRoot();
             revenueAdapter = RevenueAdapter.createRevenueAdapter(root, orComp, root.getPhaseManager().getCurrentPhase());
             revenueAdapter.initRevenueCalculator(true);
+            revenueAdapter.setBudget(Config.getInt("map.revenue.timeLimit", 0) * 1000L, 0);
             revenueAdapter.addRevenueListener(this);
             revenueThread = new Thread(revenueAdapter);
             revenueThread.start();
@@ -1299,7 +1301,8 @@ implements ActionListener, KeyListener, RevenueListener {
                 revenueAdapter.drawOptimalRunAsPath(orUIManager.getMap());
 
                 if (isRevenueValueToBeSet) {
-                    orUIManager.getMessagePanel().setInformation("Best Run Value = " + bestRevenue +
+                    String notOptimal = revenueAdapter.isOptimal() ? "" : " " + LocalText.getText("RevenueNotOptimal");
+                    orUIManager.getMessagePanel().setInformation("Best Run Value = " + bestRevenue + notOptimal +
                             " with " + Util.convertToHtml(revenueAdapter.getOptimalRunPrettyPrint(false)));
                     orUIManager.getMessagePanel().setDetail(
                             Util.convertToHtml(revenueAdapter.getOptimalRunPrettyPrint(true)));
@@ -7,13 +7,18 @@ import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
 import java.net.URL;
 import java.util.List;
 
 import javax.swing.*;
 import javax.swing.event.HyperlinkEvent;
 import javax.swing.event.HyperlinkListener;
+import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.StyleConstants;
+import javax.swing.text.html.HTML;
 import javax.swing.text.html.HTMLDocument;
 
 import org.slf4j.Logger;
@@ -40,6 +45,10 @@ public class ReportWindow extends JFrame implements ActionListener, HyperlinkLis
 
     private final GameUIManager gameUIManager;
     private final ChangeStack changeStack;
+    private final ReportBuffer reportBuffer;
+
+    // index of the active ReportSet, -1 if unknown
+    private int activeIndex = -1;
 
     private JLabel message;
 
@@ -60,7 +69,7 @@ public class ReportWindow extends JFrame implements ActionListener, HyperlinkLis
         this.isStatic = isStaticWindow;
         timeWarpMode = false;
 
-        ReportBuffer reportBuffer = gameUIManager.getRoot().getReportManager().getReportBuffer();
+        reportBuffer = gameUIManager.getRoot().getReportManager().getReportBuffer();
         reportBuffer.addObserver(this);
         changeStack = gameUIManager.getRoot().getStateManager().getChangeStack();
 
@@ -226,6 +235,12 @@ public class ReportWindow extends JFrame implements ActionListener, HyperlinkLis
         // find the active message in the parsed html code (not identical to the position in the html string)
         // thus the message indicator is used
         SwingUtilities.invokeLater(() -> {
+            // use the element of the active ReportSet if known
+            Element active = activeIndex < 0 ? null : findReport(activeIndex, true);
+            if (active != null) {
+                editorPane.setCaretPosition(active.getStartOffset());
+                return;
+            }
             int caretPosition;
             try{
                 String docText = editorPane.getDocument().getText(0, editorPane.getDocument().getLength());
@@ -301,12 +316,6 @@ public class ReportWindow extends JFrame implements ActionListener, HyperlinkLis
 
     // ReportBuffer.Observer methods
 
-    // FIXME: Rails 2.0 Not used so far
-    @Override
-    public void append(String text) {
-        // do nothing
-    }
-
     @Override
     public void update(String text) {
         log.debug("Update dynamic report window");
@@ -315,4 +324,91 @@ public class ReportWindow extends JFrame implements ActionListener, HyperlinkLis
         scrollDown();
     }
 
+    @Override
+    public void set(int index, String text) {
+        HTMLDocument document = (HTMLDocument) editorPane.getDocument();
+        String paragraph = ReportBuffer.toParagraph(index, text);
+        try {
+            Element element = findReport(index, true);
+            if (element != null && paragraph != null) {
+                document.setOuterHTML(element, paragraph);
+            } else if (element != null) {
+                removeElement(document, element);
+            } else if (paragraph != null) {
+                Element previous = findReport(index, false);
+                if (previous != null) {
+                    document.insertAfterEnd(previous, paragraph);
+                } else {
+                    document.insertAfterStart(getBody(document), paragraph);
+                }
+            }
+        } catch (BadLocationException | IOException | RuntimeException e) {
+            log.warn("Incremental update of report window failed", e);
+            update(reportBuffer.getCurrentText());
+        }
+    }
+
+    @Override
+    public void removeFrom(int index) {
+        HTMLDocument document = (HTMLDocument) editorPane.getDocument();
+        try {
+            Element body = getBody(document);
+            for (int i = body.getElementCount() - 1; i >= 0; i--) {
+                Element element = body.getElement(i);
+                int elementIndex = getReportIndex(element);
+                if (elementIndex >= 0 && elementIndex < index) break;
+                if (elementIndex >= index) {
+                    removeElement(document, element);
+                }
+            }
+        } catch (BadLocationException | RuntimeException e) {
+            log.warn("Incremental update of report window failed", e);
+            update(reportBuffer.getCurrentText());
+        }
+    }
+
+    @Override
+    public void setActive(int index) {
+        activeIndex = index;
+        scrollDown();
+    }
+
+    private static void removeElement(HTMLDocument document, Element element) throws BadLocationException {
+        document.remove(element.getStartOffset(), element.getEndOffset() - element.getStartOffset());
+    }
+
+    private static Element getBody(HTMLDocument document) {
+        return document.getElement(document.getDefaultRootElement(), StyleConstants.NameAttribute, HTML.Tag.BODY);
+    }
+
+    /**
+     * @return index of the ReportSet of the element, -1 if it is not a ReportSet
+     */
+    private static int getReportIndex(Element element) {
+        AttributeSet attributes = element.getAttributes();
+        Object id = attributes.getAttribute(HTML.Attribute.ID);
+        if (id == null || !id.toString().startsWith(ReportBuffer.REPORT_ID_PREFIX)) return -1;
+        try {
+            return Integer.parseInt(id.toString().substring(ReportBuffer.REPORT_ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Searches the ReportSet elements backwards, as changes usually happen at the end of the report
+     * @param exact if true returns the element of the index, otherwise the last element before the index
+     */
+    private Element findReport(int index, boolean exact) {
+        Element body = getBody((HTMLDocument) editorPane.getDocument());
+        if (body == null) return null;
+        for (int i = body.getElementCount() - 1; i >= 0; i--) {
+            Element element = body.getElement(i);
+            int elementIndex = getReportIndex(element);
+            if (elementIndex == index && exact) return element;
+            if (elementIndex >= 0 && elementIndex < index) return exact ? null : element;
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,117 @@
+package net.sf.rails.ui.swing.hexmap;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import com.google.common.primitives.Ints;
+
+/**
+ * Spatial index of the bounds of the GUIHexes
+ * <p>
+ * The map area is divided into cells of fixed size, each cell stores the hexes whose bounds
+ * intersect it. Queries return the hexes in the order of the collection used to build the index.
+ * The index has to be rebuilt if the dimensions of the hexes change (e.g. zoom).
+ */
+final class GUIHexIndex {
+
+    private static final int CELL_SIZE = 128;
+
+    private final GUIHex[] hexes;
+
+    // origin and size of the grid of cells
+    private final int originX;
+    private final int originY;
+    private final int cols;
+    private final int rows;
+
+    // indices of the hexes by cell (row * cols + col), in ascending order
+    private final int[][] cells;
+
+    // hexes found by the current query
+    private final BitSet found = new BitSet();
+
+    GUIHexIndex(Collection<GUIHex> guiHexes) {
+        hexes = guiHexes.toArray(new GUIHex[0]);
+
+        Rectangle area = null;
+        for (GUIHex hex : hexes) {
+            if (area == null) {
+                area = new Rectangle(hex.getBounds());
+            } else {
+                area.add(hex.getBounds());
+            }
+        }
+        if (area == null) {
+            area = new Rectangle();
+        }
+        originX = area.x;
+        originY = area.y;
+        cols = Math.max(1, (area.width + CELL_SIZE - 1) / CELL_SIZE);
+        rows = Math.max(1, (area.height + CELL_SIZE - 1) / CELL_SIZE);
+
+        List<List<Integer>> cellLists = new ArrayList<>(cols * rows);
+        for (int c = 0; c < cols * rows; c++) {
+            cellLists.add(new ArrayList<>());
+        }
+        for (int i = 0; i < hexes.length; i++) {
+            Rectangle bounds = hexes[i].getBounds();
+            for (int row = row(bounds.y); row <= row(bounds.y + bounds.height - 1); row++) {
+                for (int col = col(bounds.x); col <= col(bounds.x + bounds.width - 1); col++) {
+                    cellLists.get(row * cols + col).add(i);
+                }
+            }
+        }
+        cells = new int[cols * rows][];
+        for (int c = 0; c < cells.length; c++) {
+            cells[c] = Ints.toArray(cellLists.get(c));
+        }
+    }
+
+    private int col(int x) {
+        return Math.max(0, Math.min(cols - 1, Math.floorDiv(x - originX, CELL_SIZE)));
+    }
+
+    private int row(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y - originY, CELL_SIZE)));
+    }
+
+    /**
+     * @return the hexes whose bounds intersect the area
+     */
+    synchronized List<GUIHex> getHexes(Rectangle area) {
+        List<GUIHex> result = new ArrayList<>();
+        if (area == null || area.isEmpty()) return result;
+
+        found.clear();
+        for (int row = row(area.y); row <= row(area.y + area.height - 1); row++) {
+            for (int col = col(area.x); col <= col(area.x + area.width - 1); col++) {
+                for (int index : cells[row * cols + col]) {
+                    if (!found.get(index) && hexes[index].getBounds().intersects(area)) {
+                        found.set(index);
+                    }
+                }
+            }
+        }
+        for (int index = found.nextSetBit(0); index >= 0; index = found.nextSetBit(index + 1)) {
+            result.add(hexes[index]);
+        }
+        return result;
+    }
+
+    /**
+     * @return the first hex that contains the point, null if there is none
+     */
+    GUIHex getHexContainingPoint(Point point) {
+        for (int index : cells[row(point.y) * cols + col(point.x)]) {
+            if (hexes[index].contains(point)) {
+                return hexes[index];
+            }
+        }
+        return null;
+    }
+
+}
@@ -15,6 +15,8 @@ import java.awt.geom.GeneralPath;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +43,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
 
 /**
@@ -56,126 +59,50 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
 
     private static final Logger log = LoggerFactory.getLogger(HexMap.class);
 
-    /**
-     * class for managing sets of rectangles. Apart from several convenience
-     * methods, this class aims at keeping the set as minimal as possible.
-     */
-    private static class RectangleSet {
-        private List<Rectangle> rs = ImmutableList.of();
+    private abstract static class HexLayer extends JComponent {
+        private static final long serialVersionUID = 1L;
 
-        /**
-         * @param rOp Rectangle to be added to the set. Only added if not
-         * contained in a rectangle of the set. If added, all of the set's
-         * rectangles which are a sub-area of this rectangle are dropped (in
-         * order to keep the rectangle list as small as possible).
+        // edge length of the image blocks of the layer
+        private static final int BLOCK_SIZE = 256;
+        // minimum number of cached blocks, otherwise twice the visible blocks are kept
+        private static final int MIN_CACHED_BLOCKS = 16;
+
+        protected final HexMap hexMap;
+
+        /*
+         * image blocks by their position, only blocks of painted regions are
+         * created, in access order to evict the least recently used blocks
          */
-        public void add(Rectangle rOp) {
-            // exit if rectangle already contained in set of rectangles
-            for (Rectangle r : rs) {
-                if (r.contains(rOp)) return;
-            }
+        private final LinkedHashMap<Long, Block> blocks = new LinkedHashMap<>(64, 0.75f, true);
 
-            // build new set (do not include rectangles contained by new
-            // rectangle)
-            ImmutableList.Builder<Rectangle> newRs = ImmutableList.builder();
-            for (Rectangle r : rs) {
-                if (!rOp.contains(r)) newRs.add(r);
-            }
-            newRs.add(rOp);
-            rs = newRs.build();
-        }
+        // size of the layer the blocks were created for
+        private int blocksWidth;
+        private int blocksHeight;
 
         /**
-         * As a side-effect, the area defined by the given rectangle is removed
-         * from the area defined by the set of rectangles. This might lead to
-         * splitting the set's rectangles if only parts of their areas become
-         * removed.
-         *
-         * @return The intersection between the given rectangle and the set of
-         * rectangles. Returns null if the intersection is empty.
+         * part of the layer image with its dirty region
          */
-        public Rectangle getIntersectionAndRemoveFromSet(Rectangle rOp) {
-            Rectangle intersection = null;
-            RectangleSet newRs = new RectangleSet();
-            for (Rectangle r : rs) {
-                Rectangle intersectionPart = null;
-
-                // check for the most common case: set's rectangle is a sub-area
-                // of the given rectangle (common because repaint creates
-                // unions)
-                // avoid further (complex) processing for this case
-                if (rOp.contains(r)) {
-                    intersectionPart = r;
-                } else if (r.intersects(rOp)) {
-                    // update intersection region
-                    intersectionPart = r.intersection(rOp);
-
-                    // adjust rectangle: potentially split into 4 sub-rectangles
-                    // ***************************
-                    // * | 3 | *
-                    // * ************* *
-                    // * 1 * rOp * 2 *
-                    // * ************* *
-                    // * | 4 | *
-                    // ***************************
-
-                    // region 1
-                    if (r.x < rOp.x && (r.x + r.width) > rOp.x) {
-                        newRs.add(new Rectangle(r.x, r.y, (rOp.x - r.x),
-                                r.height));
-                    }
-                    // region 2
-                    if ((r.x + r.width) > (rOp.x + rOp.width)
-                        && r.x < (rOp.x + rOp.width)) {
-                        newRs.add(new Rectangle((rOp.x + rOp.width), r.y,
-                                (r.x + r.width - rOp.x - rOp.width), r.height));
-                    }
-                    // region 3
-                    if (r.y < rOp.y) {
-                        int x1 = Math.max(r.x, rOp.x);
-                        int x2 = Math.min(r.x + r.width, rOp.x + rOp.width);
-                        if (x1 < x2)
-                            newRs.add(new Rectangle(x1, r.y, x2 - x1, rOp.y
-                                                                      - r.y));
-                    }
-                    // region 4
-                    if ((r.y + r.height) > (rOp.y + rOp.height)) {
-                        int x1 = Math.max(r.x, rOp.x);
-                        int x2 = Math.min(r.x + r.width, rOp.x + rOp.width);
-                        if (x1 < x2)
-                            newRs.add(new Rectangle(x1, (rOp.y + rOp.height),
-                                    x2 - x1,
-                                    (r.y + r.height - rOp.y - rOp.height)));
-                    }
-                }
+        private static final class Block {
+            private final Rectangle bounds;
+            private final BufferedImage image;
+            /*
+             * region for which the image is dirty (in layer coordinates), null if valid
+             */
+            private Rectangle dirtyRegion;
+
+            private Block(Rectangle bounds) {
+                this.bounds = bounds;
+                image = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB);
+                // since the image is empty, it has to be completely drawn
+                dirtyRegion = bounds;
+            }
 
-                if (intersectionPart == null) {
-                    // if no intersection part, this rectangle remains unchanged
-                    // in the set
-                    newRs.add(r);
-                } else {
-                    // expand the intersection region if intersection part found
-                    if (intersection == null) {
-                        intersection = (Rectangle) intersectionPart.clone();
-                    } else {
-                        intersection.add(intersectionPart);
-                    }
-                }
+            private void invalidate(Rectangle r) {
+                Rectangle region = r == null ? bounds : bounds.intersection(r);
+                if (region.isEmpty()) return;
+                dirtyRegion = dirtyRegion == null ? region : dirtyRegion.union(region);
             }
-            rs = newRs.rs;
-            return intersection;
         }
-    }
-
-    private abstract static class HexLayer extends JComponent {
-        private static final long serialVersionUID = 1L;
-        protected final HexMap hexMap;
-
-        private BufferedImage bufferedImage;
-        /*
-         * list of regions for which the layer's image buffer is dirty
-         */
-        private RectangleSet bufferDirtyRegions = new RectangleSet();
 
         protected abstract void paintImage(Graphics2D g);
 
@@ -187,16 +114,85 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
 
         @Override
         public final void repaint() {
-            bufferDirtyRegions.add(new Rectangle(0, 0, getWidth(), getHeight()));
+            invalidateBlocks(null);
             super.repaint();
         }
 
         @Override
         public void repaint(Rectangle r) {
-            bufferDirtyRegions.add(r);
+            invalidateBlocks(r);
             super.repaint(r);
         }
 
+        /**
+         * @param r region to invalidate, null for the whole layer
+         */
+        private void invalidateBlocks(Rectangle r) {
+            // repaint can be called by the constructor of JComponent
+            if (blocks == null) return;
+            synchronized (HexLayer.this) {
+                for (Block block : blocks.values()) {
+                    block.invalidate(r);
+                }
+            }
+        }
+
+        private Block getBlock(int col, int row) {
+            long key = ((long) col << 32) | row;
+            Block block = blocks.get(key);
+            if (block == null) {
+                int x = col * BLOCK_SIZE;
+                int y = row * BLOCK_SIZE;
+                block = new Block(new Rectangle(x, y, Math.min(BLOCK_SIZE, getWidth() - x),
+                        Math.min(BLOCK_SIZE, getHeight() - y)));
+                blocks.put(key, block);
+            }
+            return block;
+        }
+
+        private void paintBlock(Block block) {
+            Rectangle dirtyRegion = block.dirtyRegion;
+            Graphics2D imageGraphics = block.image.createGraphics();
+
+            // the layer is painted in its coordinates
+            imageGraphics.translate(-block.bounds.x, -block.bounds.y);
+
+            // apply the dirty region as clip of the image
+            imageGraphics.setClip(dirtyRegion.x, dirtyRegion.y,
+                    dirtyRegion.width, dirtyRegion.height);
+
+            // set the background to transparent so that only drawn parts
+            // of the block will be taken over
+            imageGraphics.setBackground(new Color(0, 0, 0, 0));
+            imageGraphics.setColor(Color.BLACK);
+
+            // clear the clip (for a non-virtual graphic, this would have been
+            // done by super.paintComponent)
+            imageGraphics.clearRect(dirtyRegion.x, dirtyRegion.y,
+                    dirtyRegion.width, dirtyRegion.height);
+
+            // paint within the block
+            paintImage(imageGraphics);
+
+            imageGraphics.dispose();
+            block.dirtyRegion = null;
+        }
+
+        /**
+         * removes the least recently used blocks, the number of blocks kept depends on the
+         * visible part of the layer only (and not on the zoom)
+         */
+        private void evictBlocks() {
+            Rectangle visible = getVisibleRect();
+            int visibleBlocks = (visible.width / BLOCK_SIZE + 2) * (visible.height / BLOCK_SIZE + 2);
+            int maxBlocks = Math.max(MIN_CACHED_BLOCKS, 2 * visibleBlocks);
+            Iterator<Block> it = blocks.values().iterator();
+            while (blocks.size() > maxBlocks && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+
         @Override
         public final void paintComponent(Graphics g) {
             super.paintComponent(g);
@@ -208,63 +204,32 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
                 Rectangle rectClip = g.getClipBounds();
                 if (rectClip == null) return;
 
-                // ensure that image buffer of this layer is valid
-                if (bufferedImage == null
-                    || bufferedImage.getWidth() != getWidth()
-                    || bufferedImage.getHeight() != getHeight()) {
-                    // create new buffer image
-                    bufferedImage =
-                            new BufferedImage(getWidth(), getHeight(),
-                                    BufferedImage.TYPE_INT_ARGB);
-
-                    // clear information of the image buffer's dirty regions
-                    bufferDirtyRegions = new RectangleSet();
-
-                    bufferDirtyRegions.add(new Rectangle(0, 0, getWidth(),
-                            getHeight()));
-
-                    // since the buffered image is empty, it has to be
-                    // completely redrawn
-                    rectClip = new Rectangle(0, 0, getWidth(), getHeight());
+                // the blocks are invalid if the size of the layer has changed (e.g. zoom)
+                if (blocksWidth != getWidth() || blocksHeight != getHeight()) {
+                    blocks.clear();
+                    blocksWidth = getWidth();
+                    blocksHeight = getHeight();
                 }
 
-                // determine which parts of the clip are dirty and have to be
-                // redrawn
-                Rectangle dirtyClipArea =
-                        bufferDirtyRegions.getIntersectionAndRemoveFromSet(rectClip);
-                if (dirtyClipArea != null) {
-                    // buffer redraw is necessary
-                    Graphics2D imageGraphics =
-                            (Graphics2D) bufferedImage.getGraphics();
-
-                    // apply the clip of the component's repaint to its image
-                    // buffer
-                    imageGraphics.setClip(dirtyClipArea.x, dirtyClipArea.y,
-                            dirtyClipArea.width, dirtyClipArea.height);
-
-                    // set the background to transparent so that only drawn
-                    // parts of the
-                    // buffer will be taken over
-                    imageGraphics.setBackground(new Color(0, 0, 0, 0));
-                    imageGraphics.setColor(Color.BLACK);
-
-                    // clear the clip (for a non-virtual graphic, this would
-                    // have been
-                    // done by super.paintComponent)
-                    imageGraphics.clearRect(dirtyClipArea.x, dirtyClipArea.y,
-                            dirtyClipArea.width, dirtyClipArea.height);
-
-                    // paint within the buffer
-                    paintImage(imageGraphics);
-
-                    imageGraphics.dispose();
+                rectClip = rectClip.intersection(new Rectangle(0, 0, getWidth(), getHeight()));
+                if (rectClip.isEmpty()) return;
+
+                // redraw the dirty parts of the blocks within the clip and draw them
+                int firstCol = rectClip.x / BLOCK_SIZE;
+                int lastCol = (rectClip.x + rectClip.width - 1) / BLOCK_SIZE;
+                int firstRow = rectClip.y / BLOCK_SIZE;
+                int lastRow = (rectClip.y + rectClip.height - 1) / BLOCK_SIZE;
+                for (int row = firstRow; row <= lastRow; row++) {
+                    for (int col = firstCol; col <= lastCol; col++) {
+                        Block block = getBlock(col, row);
+                        if (block.dirtyRegion != null) {
+                            paintBlock(block);
+                        }
+                        g.drawImage(block.image, block.bounds.x, block.bounds.y, null);
+                    }
                 }
 
-                // now buffer is valid and can be used
-                BufferedImage bufferedRect =
-                        bufferedImage.getSubimage(rectClip.x, rectClip.y,
-                                rectClip.width, rectClip.height);
-                g.drawImage(bufferedRect, rectClip.x, rectClip.y, null);
+                evictBlocks();
             }
         }
     }
@@ -282,24 +247,16 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
         @Override
         public void paintImage(Graphics2D g) {
             try {
-                // Paint tiles
-                for (GUIHex hex:hexMap.getHexes()) {
-                    Rectangle hexrect = hex.getBounds();
+                List<GUIHex> hexes = hexMap.getHexes(g.getClipBounds());
 
-                    if (g.hitClip(hexrect.x, hexrect.y, hexrect.width,
-                            hexrect.height)) {
-                        hex.paintTile(g);
-                    }
+                // Paint tiles
+                for (GUIHex hex:hexes) {
+                    hex.paintTile(g);
                 }
 
                 // Paint the impassability bars
-                for (GUIHex hex:hexMap.getHexes()) {
-                    Rectangle hexrect = hex.getBounds();
-
-                    if (g.hitClip(hexrect.x, hexrect.y, hexrect.width,
-                            hexrect.height)) {
-                        hex.paintBars(g);
-                    }
+                for (GUIHex hex:hexes) {
+                    hex.paintBars(g);
                 }
 
             } catch (NullPointerException ex) {
@@ -428,13 +385,8 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
                 }
 
                 // Paint tiles
-                for (GUIHex hex : hexMap.getHexes()) {
-                    Rectangle hexrect = hex.getBounds();
-
-                    if (g.hitClip(hexrect.x, hexrect.y, hexrect.width,
-                            hexrect.height)) {
-                        hex.paintMarks(g);
-                    }
+                for (GUIHex hex : hexMap.getHexes(rectClip)) {
+                    hex.paintMarks(g);
                 }
 
             } catch (NullPointerException ex) {
@@ -490,14 +442,9 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
                 }
 
                 // Paint station tokens and texts
-                for (GUIHex hex : hexMap.getHexes()) {
+                for (GUIHex hex : hexMap.getHexes(rectClip)) {
                     log.trace("hex ={}", hex);
-                    Rectangle hexrect = hex.getBounds();
-
-                    if (g.hitClip(hexrect.x, hexrect.y, hexrect.width,
-                            hexrect.height)) {
-                        hex.paintTokensAndText(g);
-                    }
+                    hex.paintTokensAndText(g);
                 }
 
                 // paint coordinates
@@ -542,6 +489,9 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
     private ORUIManager orUIManager;
     private MapManager mapManager;
 
+    // picture ids of all tiles of the game, prerendered on zoom
+    private ImmutableSet<String> tilePictureIds = ImmutableSet.of();
+
     // layers
     private TilesLayer tilesLayer;
     private RoutesLayer routesLayer;
@@ -552,6 +502,9 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
 
     protected Map<MapHex, GUIHex> hex2gui;
 
+    // spatial index of the hex bounds, rebuilt on zoom
+    private GUIHexIndex hexIndex;
+
     // dynamic variables
 
 
@@ -629,6 +582,7 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
         setScale();
         setupHexes();
         setOriginalSize();
+        setupTilePictureIds();
 
         currentSize = (Dimension) originalSize.clone();
         setPreferredSize(originalSize);
@@ -670,12 +624,14 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
             hexMapBuilder.put(hex, guiHex);
         }
         hex2gui = hexMapBuilder.build();
+        hexIndex = new GUIHexIndex(hex2gui.values());
     }
 
     protected void scaleHexesGUI() {
         for (GUIHex hex:hex2gui.values()) {
             hex.setDimensions(scale, zoomFactor);
         }
+        hexIndex = new GUIHexIndex(hex2gui.values());
     }
 
     private String getNumberLabel(int index) {
@@ -708,12 +664,7 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
     }
 
     GUIHex getHexContainingPoint(Point point) {
-        for (GUIHex hex : hex2gui.values()) {
-            if (hex.contains(point)) {
-                return hex;
-            }
-        }
-        return null;
+        return hexIndex.getHexContainingPoint(point);
     }
 
     public GUIHex getHex(MapHex hex) {
@@ -724,6 +675,13 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
         return hex2gui.values();
     }
 
+    /**
+     * @return the hexes whose bounds intersect the area
+     */
+    public List<GUIHex> getHexes(Rectangle area) {
+        return hexIndex.getHexes(area);
+    }
+
     public boolean hasMapImage() {
         return displayMapImage;
     }
@@ -762,6 +720,21 @@ public abstract class HexMap implements MouseListener, MouseMotionListener {
         currentSize.width = (int) (originalSize.width * zoomFactor);
         currentSize.height = (int) (originalSize.height * zoomFactor);
         setPreferredSize(currentSize);
+        ImageLoader.getInstance().prerender(tilePictureIds, zoomStep);
+    }
+
+    private void setupTilePictureIds() {
+        ImmutableSet.Builder<String> pictureIds = ImmutableSet.builder();
+        // preprinted tiles can have a picture id of the hex
+        for (MapHex hex : mapManager.getHexes()) {
+            if (hex.getCurrentTile() != null) {
+                pictureIds.add(hex.getPictureId(hex.getCurrentTile()));
+            }
+        }
+        for (Tile tile : mapManager.getRoot().getTileManager().getTiles()) {
+            pictureIds.add(tile.getPictureId());
+        }
+        tilePictureIds = pictureIds.build();
     }
 
     protected void setScale() {
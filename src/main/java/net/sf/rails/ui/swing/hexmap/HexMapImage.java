@@ -2,26 +2,31 @@ package net.sf.rails.ui.swing.hexmap;
 
 import java.awt.Dimension;
 import java.awt.Graphics;
-import java.awt.geom.AffineTransform;
+import java.awt.Graphics2D;
+import java.io.InputStream;
+import java.net.URL;
+
+import javax.swing.JComponent;
 
 import net.sf.rails.common.Config;
 import net.sf.rails.game.MapManager;
-import net.sf.rails.ui.swing.GameUIManager;
 import net.sf.rails.ui.swing.ImageLoader;
 import net.sf.rails.util.Util;
 
-import org.apache.batik.swing.JSVGCanvas;
-import org.apache.batik.swing.gvt.GVTTreeRendererAdapter;
-import org.apache.batik.swing.gvt.GVTTreeRendererEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.io.ByteStreams;
+
 
 /**
  * Class to display a full map image. This class has been split off from HexMap to allow
  * it to be displayed in a lower layer of a LayeredPane.
+ * <p>
+ * The map image is painted from a raster pyramid (see {@link MapImagePyramid}), thus zooming
+ * shows a scaled preview at once, which is sharpened as soon as the tiles are rendered.
  */
-public final class HexMapImage extends JSVGCanvas  {
+public final class HexMapImage extends JComponent {
 
     // TODO: Is this still compatible
     private static final long serialVersionUID = 1L;
@@ -30,18 +35,16 @@ public final class HexMapImage extends JSVGCanvas  {
 
     private MapManager mapManager;
     private HexMap hexMap;
+    private MapImagePyramid pyramid;
     private double zoomFactor = 1;  // defined dynamically if zoomStep changed
     private int zoomStep = 10; // default value, can be overwritten in config
-    private boolean initialized = false;
 
     public void init(MapManager mapManager,HexMap hexMap) {
        this.mapManager = mapManager;
        this.hexMap = hexMap;
 
-       this.setRecenterOnResize(false);
-
-       initializeSettings();
        loadMap();
+       initializeSettings();
     }
 
     /**
@@ -66,56 +69,31 @@ public final class HexMapImage extends JSVGCanvas  {
     private void loadMap() {
 
         try {
-//             File imageFile = new File (mapManager.getMapImageFilepath());
-//             setURI(imageFile.toURI().toString());
-//             log.debug("ImageFile="+ imageFile.getName());
-            setURI(getClass().getResource(mapManager.getMapImageFilepath()).toString());
+            URL url = getClass().getResource(mapManager.getMapImageFilepath());
+            byte[] content;
+            try (InputStream in = url.openStream()) {
+                content = ByteStreams.toByteArray(in);
+            }
+            pyramid = new MapImagePyramid(this, url.toString(), content, hexMap.getOriginalSize());
+            placeMap();
         } catch (Exception e) {
             log.error("Cannot load map image file {}", mapManager.getMapImageFilepath(), e);
         }
-
-        addGVTTreeRendererListener (new GVTTreeRendererAdapter() {
-            //prepare: map scaling has to occur before displaying it for the first time
-            public void gvtRenderingPrepare(GVTTreeRendererEvent e) {
-                if (!initialized) {
-                    // store the rendering Transform
-                    initialTransform = getRenderingTransform();
-                    initialized = true;
-
-                    //catch up on setting the bounds (if bounds setting were called before rendering prepare)
-                    setBoundsAndResize(hexMap.getCurrentSize(),hexMap.getZoomStep());
-                }
-                addGVTTreeRendererListener(null);
-            }
-        });
-
     }
 
-    private void scaleMap () {
-        AffineTransform at = new AffineTransform();
-
-        log.debug("MapImage zoomFactor{}", zoomFactor);
-        at.scale (zoomFactor, zoomFactor);
-
+    private void placeMap () {
+        if (pyramid == null) return;
         log.debug("MapImage XOffset = {}, YOffset = {}", mapManager.getMapXOffset(), mapManager.getMapYOffset());
-        at.translate(mapManager.getMapXOffset(), mapManager.getMapYOffset());
-
-        double mapScale = mapManager.getMapScale();
         log.debug("MapImage MapScale = {}", mapManager.getMapScale());
-        at.scale(mapScale, mapScale);
-
-        log.debug("MapImage Affine Transform {}", at);
-        setRenderingTransform (at, true);
+        pyramid.setPlacement(mapManager.getMapXOffset(), mapManager.getMapYOffset(), mapManager.getMapScale());
     }
 
     public void setBoundsAndResize (Dimension currentMapSize,int zoomStep) {
-        if (initialized) {
-            setBounds(0, 0, currentMapSize.width, currentMapSize.height);
-            setPreferredSize(currentMapSize);
-            zoom(zoomStep);
-        } else {
-        }
+        setBounds(0, 0, currentMapSize.width, currentMapSize.height);
+        setPreferredSize(currentMapSize);
+        zoom(zoomStep);
     }
+
     public void zoom (boolean in) {
         if (in) zoomStep++; else zoomStep--;
         zoom();
@@ -130,7 +108,9 @@ public final class HexMapImage extends JSVGCanvas  {
         zoomFactor = ImageLoader.getInstance().getZoomFactor(zoomStep);
         log.debug("ImageMap zoomStep = {}", zoomStep);
         log.debug("ImageMap zoomFactor = {}", zoomFactor);
-        scaleMap();
+        // the placement can be changed by the map calibration
+        placeMap();
+        repaint();
     }
 
     public int getZoomStep () {
@@ -146,6 +126,9 @@ public final class HexMapImage extends JSVGCanvas  {
     public void paintComponent(Graphics g) {
         synchronized (hexMap) {
             super.paintComponent(g);
+            if (pyramid != null) {
+                pyramid.paint((Graphics2D) g, g.getClipBounds(), zoomFactor, zoomStep);
+            }
         }
     }
 
@@ -0,0 +1,412 @@
+package net.sf.rails.ui.swing.hexmap;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+import org.apache.batik.anim.dom.SAXSVGDocumentFactory;
+import org.apache.batik.bridge.BridgeContext;
+import org.apache.batik.bridge.DocumentLoader;
+import org.apache.batik.bridge.GVTBuilder;
+import org.apache.batik.bridge.UserAgentAdapter;
+import org.apache.batik.ext.awt.RenderingHintsKeyExt;
+import org.apache.batik.gvt.GraphicsNode;
+import org.apache.batik.util.XMLResourceDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+
+import com.google.common.hash.Hashing;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.ui.swing.ImageLoader;
+import net.sf.rails.util.SystemOS;
+
+/**
+ * Raster pyramid of the background map image
+ * <p>
+ * The SVG is rendered in tiles of fixed size for each zoom factor, on background threads and
+ * for the visible region only. Until a tile is available a scaled preview is painted: an
+ * overview image of the whole map, covered by the tiles of the previous zoom factor.
+ * The tiles of the neighbouring zoom steps of the visible region are prerendered.
+ * <p>
+ * Tiles are kept in memory (least recently used) and, if the tile cache on disk is enabled
+ * (map.tileCache.disk), stored as PNG files named by the hash of the SVG content, the map
+ * placement and the zoom factor.
+ */
+final class MapImagePyramid {
+
+    private static final Logger log = LoggerFactory.getLogger(MapImagePyramid.class);
+
+    private static final int TILE_SIZE = 512;
+    // maximum width or height of the overview image
+    private static final int OVERVIEW_SIZE = 1024;
+    // memory for tiles, increased if the visible tiles require more
+    private static final long MEMORY_CACHE_BYTES = 64L * 1024L * 1024L;
+    private static final String CACHE_FOLDER = "mapcache";
+
+    /**
+     * Placement of the map image on the hex map (see MapManager), with the hash used for the cache keys
+     */
+    private static final class Placement {
+        private final int xOffset;
+        private final int yOffset;
+        private final float mapScale;
+        private final String hash;
+
+        private Placement(String contentHash, int xOffset, int yOffset, float mapScale) {
+            this.xOffset = xOffset;
+            this.yOffset = yOffset;
+            this.mapScale = mapScale;
+            this.hash = Hashing.sha256().newHasher().putUnencodedChars(contentHash)
+                    .putInt(xOffset).putInt(yOffset).putFloat(mapScale).hash().toString();
+        }
+
+        private boolean isAt(int xOffset, int yOffset, float mapScale) {
+            return this.xOffset == xOffset && this.yOffset == yOffset && this.mapScale == mapScale;
+        }
+
+        private AffineTransform getTransform(double zoomFactor) {
+            AffineTransform at = new AffineTransform();
+            at.scale(zoomFactor, zoomFactor);
+            at.translate(xOffset, yOffset);
+            at.scale(mapScale, mapScale);
+            return at;
+        }
+    }
+
+    private final JComponent component;
+    private final String uri;
+    private final byte[] content;
+    private final String contentHash;
+    private final Dimension originalSize;
+
+    // null if there is no disk cache
+    private final File cacheFolder;
+
+    // the graphics nodes are not thread-safe, thus each render thread builds its own
+    private final ThreadLocal<GraphicsNode> graphicsNodes = new ThreadLocal<>();
+    private final ThreadPoolExecutor renderExecutor;
+    // set if the SVG cannot be rendered, reported only once
+    private volatile boolean renderFailed = false;
+
+    private volatile Placement placement;
+    // incremented if the zoom or the placement changes, outdated render tasks are skipped
+    private final AtomicInteger generation = new AtomicInteger();
+
+    // tiles in order of access, guarded by itself
+    private final LinkedHashMap<String, BufferedImage> tiles = new LinkedHashMap<>(64, 0.75f, true);
+    private long tilesBytes = 0;
+    private long maxTilesBytes = MEMORY_CACHE_BYTES;
+    private final Set<String> pendingTiles = ConcurrentHashMap.newKeySet();
+
+    private final double overviewZoom;
+    private volatile BufferedImage overview;
+
+    // zoom factors used by the event dispatch thread
+    private volatile double currentZoom = 0;
+    private double previousZoom = 0;
+
+    /**
+     * @param component the component to repaint if a tile is available
+     * @param uri the location of the SVG, used to resolve references
+     * @param content the SVG content
+     * @param originalSize the size of the map at zoom factor 1
+     */
+    MapImagePyramid(JComponent component, String uri, byte[] content, Dimension originalSize) {
+        this.component = component;
+        this.uri = uri;
+        this.content = content;
+        this.contentHash = Hashing.sha256().hashBytes(content).toString();
+        this.originalSize = originalSize;
+        overviewZoom = (double) OVERVIEW_SIZE / Math.max(1, Math.max(originalSize.width, originalSize.height));
+
+        if (Config.getBoolean("map.tileCache.disk", true)) {
+            cacheFolder = SystemOS.get().getConfigurationFolder(CACHE_FOLDER, true);
+        } else {
+            cacheFolder = null;
+        }
+
+        int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+        renderExecutor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "MapImageRender");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        // idle threads release their graphics nodes
+        renderExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets the placement of the map image, the tiles are rendered again if it changes
+     */
+    void setPlacement(int xOffset, int yOffset, float mapScale) {
+        Placement current = placement;
+        if (current != null && current.isAt(xOffset, yOffset, mapScale)) return;
+
+        Placement newPlacement = new Placement(contentHash, xOffset, yOffset, mapScale);
+        placement = newPlacement;
+        generation.incrementAndGet();
+        synchronized (tiles) {
+            tiles.clear();
+            tilesBytes = 0;
+        }
+        overview = null;
+        previousZoom = 0;
+
+        renderExecutor.execute(() -> {
+            if (placement != newPlacement) return;
+            Rectangle bounds = getLevelBounds(overviewZoom);
+            File cacheFile = getCacheFile(newPlacement, "overview-" + zoomKey(overviewZoom));
+            BufferedImage image = ImageLoader.readCacheFile(cacheFile);
+            if (image == null) {
+                image = render(newPlacement, overviewZoom, bounds);
+                ImageLoader.writeCacheFile(cacheFile, image);
+            }
+            if (image == null || placement != newPlacement) return;
+            overview = image;
+            SwingUtilities.invokeLater(component::repaint);
+        });
+    }
+
+    private static String zoomKey(double zoomFactor) {
+        return Integer.toHexString(Float.floatToIntBits((float) zoomFactor));
+    }
+
+    private static String tileKey(Placement placement, double zoomFactor, int col, int row) {
+        return placement.hash + "-" + zoomKey(zoomFactor) + "-" + col + "-" + row;
+    }
+
+    private File getCacheFile(Placement placement, String name) {
+        if (cacheFolder == null) return null;
+        return new File(cacheFolder, placement.hash + "-" + name + ".png");
+    }
+
+    private Rectangle getLevelBounds(double zoomFactor) {
+        return new Rectangle(0, 0, (int) Math.ceil(originalSize.width * zoomFactor),
+                (int) Math.ceil(originalSize.height * zoomFactor));
+    }
+
+    private static Rectangle getTileBounds(Rectangle level, int col, int row) {
+        return new Rectangle(col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE).intersection(level);
+    }
+
+    private BufferedImage getTile(String key) {
+        synchronized (tiles) {
+            return tiles.get(key);
+        }
+    }
+
+    private void putTile(String key, BufferedImage image) {
+        synchronized (tiles) {
+            BufferedImage previous = tiles.put(key, image);
+            if (previous != null) {
+                tilesBytes -= imageBytes(previous);
+            }
+            tilesBytes += imageBytes(image);
+            // remove least recently used tiles, but keep the new one
+            Iterator<BufferedImage> iterator = tiles.values().iterator();
+            while (tilesBytes > maxTilesBytes && tiles.size() > 1) {
+                tilesBytes -= imageBytes(iterator.next());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static long imageBytes(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    /**
+     * Paints the map image within the clip at the zoom factor of the zoom step
+     */
+    void paint(Graphics2D g, Rectangle clip, double zoomFactor, int zoomStep) {
+        Placement current = placement;
+        if (current == null || clip == null) return;
+
+        if (zoomFactor != currentZoom) {
+            previousZoom = currentZoom;
+            currentZoom = zoomFactor;
+            generation.incrementAndGet();
+        }
+        int currentGeneration = generation.get();
+
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+        Rectangle level = getLevelBounds(zoomFactor);
+        Rectangle area = clip.intersection(level);
+        if (area.isEmpty()) return;
+
+        int firstCol = area.x / TILE_SIZE;
+        int lastCol = (area.x + area.width - 1) / TILE_SIZE;
+        int firstRow = area.y / TILE_SIZE;
+        int lastRow = (area.y + area.height - 1) / TILE_SIZE;
+
+        // the visible tiles have to fit into the memory
+        int visibleTiles = (lastCol - firstCol + 1) * (lastRow - firstRow + 1);
+        long visibleBytes = 4L * TILE_SIZE * TILE_SIZE * visibleTiles;
+        synchronized (tiles) {
+            maxTilesBytes = Math.max(MEMORY_CACHE_BYTES, 2 * visibleBytes);
+        }
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                Rectangle bounds = getTileBounds(level, col, row);
+                BufferedImage image = getTile(tileKey(current, zoomFactor, col, row));
+                if (image != null) {
+                    g.drawImage(image, bounds.x, bounds.y, null);
+                } else {
+                    paintPreview(g, current, bounds, zoomFactor);
+                    requestTile(current, currentGeneration, zoomFactor, level, col, row);
+                }
+            }
+        }
+
+        // prerender the neighbouring zoom steps if they fit into the memory as well
+        if (3 * visibleBytes > MEMORY_CACHE_BYTES) return;
+        for (int step : new int[] {zoomStep + 1, zoomStep - 1}) {
+            double stepZoom = ImageLoader.getInstance().getZoomFactor(step);
+            if (stepZoom == zoomFactor) continue;
+            double factor = stepZoom / zoomFactor;
+            Rectangle stepLevel = getLevelBounds(stepZoom);
+            Rectangle stepArea = new Rectangle((int) (area.x * factor), (int) (area.y * factor),
+                    (int) Math.ceil(area.width * factor), (int) Math.ceil(area.height * factor))
+                    .intersection(stepLevel);
+            if (stepArea.isEmpty()) continue;
+            for (int row = stepArea.y / TILE_SIZE; row <= (stepArea.y + stepArea.height - 1) / TILE_SIZE; row++) {
+                for (int col = stepArea.x / TILE_SIZE; col <= (stepArea.x + stepArea.width - 1) / TILE_SIZE; col++) {
+                    requestTile(current, currentGeneration, stepZoom, stepLevel, col, row);
+                }
+            }
+        }
+    }
+
+    /**
+     * Paints the overview and the available tiles of the previous zoom factor scaled into the bounds
+     */
+    private void paintPreview(Graphics2D g, Placement current, Rectangle bounds, double zoomFactor) {
+        Graphics2D pg = (Graphics2D) g.create();
+        pg.clip(bounds);
+
+        BufferedImage overviewImage = overview;
+        if (overviewImage != null) {
+            double factor = zoomFactor / overviewZoom;
+            pg.drawImage(overviewImage, 0, 0, (int) Math.ceil(overviewImage.getWidth() * factor),
+                    (int) Math.ceil(overviewImage.getHeight() * factor), null);
+        }
+
+        if (previousZoom > 0 && previousZoom != zoomFactor) {
+            double factor = previousZoom / zoomFactor;
+            Rectangle previousLevel = getLevelBounds(previousZoom);
+            Rectangle area = new Rectangle((int) (bounds.x * factor), (int) (bounds.y * factor),
+                    (int) Math.ceil(bounds.width * factor), (int) Math.ceil(bounds.height * factor))
+                    .intersection(previousLevel);
+            if (!area.isEmpty()) {
+                for (int row = area.y / TILE_SIZE; row <= (area.y + area.height - 1) / TILE_SIZE; row++) {
+                    for (int col = area.x / TILE_SIZE; col <= (area.x + area.width - 1) / TILE_SIZE; col++) {
+                        BufferedImage image = getTile(tileKey(current, previousZoom, col, row));
+                        if (image == null) continue;
+                        Rectangle tile = getTileBounds(previousLevel, col, row);
+                        int x1 = (int) Math.floor(tile.x / factor);
+                        int y1 = (int) Math.floor(tile.y / factor);
+                        int x2 = (int) Math.ceil((tile.x + tile.width) / factor);
+                        int y2 = (int) Math.ceil((tile.y + tile.height) / factor);
+                        pg.drawImage(image, x1, y1, x2 - x1, y2 - y1, null);
+                    }
+                }
+            }
+        }
+        pg.dispose();
+    }
+
+    private void requestTile(Placement current, int requestGeneration, double zoomFactor, Rectangle level,
+            int col, int row) {
+        String key = tileKey(current, zoomFactor, col, row);
+        if (getTile(key) != null || !pendingTiles.add(key)) return;
+
+        renderExecutor.execute(() -> {
+            try {
+                if (generation.get() != requestGeneration) return;
+                Rectangle bounds = getTileBounds(level, col, row);
+                File cacheFile = getCacheFile(current, zoomKey(zoomFactor) + "-" + col + "-" + row);
+                BufferedImage image = ImageLoader.readCacheFile(cacheFile);
+                if (image == null) {
+                    image = render(current, zoomFactor, bounds);
+                    ImageLoader.writeCacheFile(cacheFile, image);
+                }
+                if (image == null || placement != current) return;
+                putTile(key, image);
+                SwingUtilities.invokeLater(() -> {
+                    if (currentZoom == zoomFactor) {
+                        component.repaint(bounds);
+                    }
+                });
+            } finally {
+                pendingTiles.remove(key);
+            }
+        });
+    }
+
+    private GraphicsNode getGraphicsNode() throws Exception {
+        GraphicsNode node = graphicsNodes.get();
+        if (node == null) {
+            SAXSVGDocumentFactory factory = new SAXSVGDocumentFactory(XMLResourceDescriptor.getXMLParserClassName());
+            Document document = factory.createSVGDocument(uri, new ByteArrayInputStream(content));
+            UserAgentAdapter userAgent = new UserAgentAdapter();
+            BridgeContext context = new BridgeContext(userAgent, new DocumentLoader(userAgent));
+            context.setDynamicState(BridgeContext.STATIC);
+            node = new GVTBuilder().build(context, document);
+            graphicsNodes.set(node);
+        }
+        return node;
+    }
+
+    /**
+     * @return the part of the map image within the bounds at the zoom factor, null if rendering fails
+     */
+    private BufferedImage render(Placement current, double zoomFactor, Rectangle bounds) {
+        if (renderFailed) return null;
+        try {
+            GraphicsNode node = getGraphicsNode();
+            BufferedImage image = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHintsKeyExt.KEY_BUFFERED_IMAGE, new WeakReference<>(image));
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.translate(-bounds.x, -bounds.y);
+            g.transform(current.getTransform(zoomFactor));
+            node.paint(g);
+            g.dispose();
+            log.trace("Rendered map image {} at zoomFactor {}", bounds, zoomFactor);
+            return image;
+        } catch (Exception e) {
+            if (!renderFailed) {
+                renderFailed = true;
+                log.error("Cannot render map image {}", uri, e);
+            }
+            return null;
+        }
+    }
+
+}
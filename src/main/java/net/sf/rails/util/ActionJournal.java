@@ -0,0 +1,252 @@
+package net.sf.rails.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.rails.common.GameData;
+import rails.game.action.PossibleAction;
+
+/**
+ * ActionJournal is an append-only recovery file of a running game
+ * <p>
+ * The journal starts with a magic number and the format version, followed by records.
+ * Each record consists of the length (int), the CRC32 checksum (int) and the serialized data.
+ * The first record contains the header of a saved game (see {@link GameSaver}),
+ * each following record one executed action.
+ * <p>
+ * Actions are appended, actions removed by undo are truncated from the end of the file.
+ * The file is forced to disk after a number of records, after each truncation and on close.
+ * On reading a torn or corrupted final record is ignored.
+ * <p>
+ * The journal is only used for recovery, the export format remains the saved game file.
+ */
+public final class ActionJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ActionJournal.class);
+
+    private static final int MAGIC = 0x524A4E4C; // "RJNL"
+    private static final int FORMAT_VERSION = 1;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    public static final int DEFAULT_SYNC_INTERVAL = 8;
+
+    private final File file;
+    private final FileChannel channel;
+    private final int syncInterval;
+
+    // journaled actions (compared by identity) and the file position of their records
+    private final List<PossibleAction> actions = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+
+    private long endPosition;
+    private int unsyncedRecords;
+
+    private ActionJournal(File file, FileChannel channel, int syncInterval) {
+        this.file = file;
+        this.channel = channel;
+        this.syncInterval = syncInterval;
+    }
+
+    /**
+     * Creates a new journal, an existing file becomes the backup file
+     * @param file of the journal
+     * @param gameData of the game, stored in the header record
+     * @param syncInterval number of records after which the file is forced to disk
+     */
+    public static ActionJournal create(File file, GameData gameData, int syncInterval) throws IOException {
+        if (file.exists()) {
+            File backupFile = new File(file.getParentFile(), file.getName() + ".bak");
+            Files.deleteIfExists(backupFile.toPath());
+            if ( ! file.renameTo(backupFile) ) {
+                log.warn("Unable to rename journal file {}", file);
+            }
+        }
+
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ActionJournal journal = new ActionJournal(file, channel, Math.max(syncInterval, 1));
+        try {
+            ByteBuffer start = ByteBuffer.allocate(8);
+            start.putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+            journal.write(start);
+
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(header)) {
+                new GameSaver(gameData, Collections.<PossibleAction>emptyList()).writeHeader(oos);
+            }
+            journal.writeRecord(header.toByteArray());
+            journal.sync();
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        }
+        log.debug("Created journal at {}", file.getPath());
+        return journal;
+    }
+
+    /**
+     * Updates the journal to the list of executed actions:
+     * Actions that are no longer executed (undo) are truncated, new actions are appended
+     */
+    public void synchronize(List<PossibleAction> executedActions) throws IOException {
+        int common = 0;
+        int maxCommon = Math.min(actions.size(), executedActions.size());
+        while (common < maxCommon && actions.get(common) == executedActions.get(common)) {
+            common++;
+        }
+        if (common < actions.size()) {
+            truncate(common);
+        }
+        for (int index = common; index < executedActions.size(); index++) {
+            append(executedActions.get(index));
+        }
+        if (unsyncedRecords >= syncInterval) {
+            sync();
+        }
+    }
+
+    private void append(PossibleAction action) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(data)) {
+            oos.writeObject(action);
+        }
+        positions.add(endPosition);
+        actions.add(action);
+        writeRecord(data.toByteArray());
+        unsyncedRecords++;
+    }
+
+    private void truncate(int nbActions) throws IOException {
+        long position = positions.get(nbActions);
+        channel.truncate(position);
+        endPosition = position;
+        actions.subList(nbActions, actions.size()).clear();
+        positions.subList(nbActions, positions.size()).clear();
+        log.debug("Journal truncated to {} actions", nbActions);
+        sync();
+    }
+
+    private void writeRecord(byte[] data) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + data.length);
+        record.putInt(data.length).putInt((int) crc.getValue()).put(data).flip();
+        write(record);
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            endPosition += channel.write(buffer, endPosition);
+        }
+    }
+
+    /**
+     * Forces all records to disk
+     */
+    public void sync() throws IOException {
+        channel.force(false);
+        unsyncedRecords = 0;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return number of journaled actions
+     */
+    public int size() {
+        return actions.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) return;
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * @return true if the file starts with the journal magic number
+     */
+    public static boolean isJournal(File file) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file.toPath()))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads all valid records of a journal, reading stops at a torn or corrupted record
+     * @return the data of the records, the first one is the header
+     */
+    public static List<byte[]> readRecords(File file) throws IOException {
+        List<byte[]> records = new ArrayList<>();
+        long remaining = file.length();
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file.toPath()))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("File " + file.getName() + " is not a journal");
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Journal version " + version + " is incompatible with current version "
+                        + FORMAT_VERSION);
+            }
+            remaining -= 8;
+            while (remaining > 0) {
+                byte[] data = readRecord(in, remaining);
+                if (data == null) break;
+                records.add(data);
+                remaining -= RECORD_HEADER_SIZE + data.length;
+            }
+        }
+        if (records.isEmpty()) {
+            throw new IOException("Journal " + file.getName() + " contains no header");
+        }
+        log.debug("Read {} records from journal {}", records.size(), file.getName());
+        return records;
+    }
+
+    // returns null for a torn or corrupted record
+    private static byte[] readRecord(DataInputStream in, long remaining) throws IOException {
+        if (remaining < RECORD_HEADER_SIZE) {
+            log.warn("Journal ends with a torn record");
+            return null;
+        }
+        int length = in.readInt();
+        int checksum = in.readInt();
+        if (length < 0 || length > remaining - RECORD_HEADER_SIZE) {
+            log.warn("Journal ends with a torn record");
+            return null;
+        }
+        byte[] data = new byte[length];
+        in.readFully(data);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        if ((int) crc.getValue() != checksum) {
+            log.warn("Journal record with invalid checksum, ignoring the remaining records");
+            return null;
+        }
+        return data;
+    }
+
+}
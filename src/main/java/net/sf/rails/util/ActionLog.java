@@ -0,0 +1,333 @@
+package net.sf.rails.util;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+/**
+ * ActionLog defines the compact binary format of the actions of a saved game
+ * <p>
+ * The file starts with the magic number, the format version and the header of a saved game
+ * (see {@link GameSaver}), followed by one record per action and a footer.
+ * <p>
+ * The actions are stored by a schema: for each action class the serializable fields of each class level
+ * are defined once (as {@link ObjectStreamClass}), each record contains only the field values.
+ * Numbers are stored as varints, strings (e.g. ids of companies, hexes, tiles and trains) are interned:
+ * each string is defined once and referenced by its index afterwards.
+ * The definitions of new strings and schemas precede the action in the record that uses them first,
+ * so the file can be read as a stream.
+ * <p>
+ * The footer contains the file positions of all records and the complete tables of strings and schemas,
+ * which allows random access by action index. A file without footer (e.g. not closed) can still be read
+ * as a stream.
+ * <p>
+ * Actions are written by {@link ActionLogWriter} and read by {@link ActionLogReader}: the fields are set
+ * and the readObject methods of the actions are called as for Java serialization,
+ * thus the actions resolve their names to the objects of the game as usual.
+ */
+public final class ActionLog {
+
+    public static final String FILE_EXTENSION = "rlog";
+
+    static final int MAGIC = 0x524C4F47; // "RLOG"
+    static final int FORMAT_VERSION = 1;
+    static final int END_MAGIC = 0x524C4F45; // "RLOE"
+    // size of the trailer: footer position (long) and end magic (int)
+    static final int TRAILER_SIZE = 12;
+
+    // record tags
+    static final int RECORD_END = 0;
+    static final int RECORD_ACTION = 1;
+
+    // value tags of object fields
+    static final int NULL = 0;
+    static final int STRING = 1;
+    static final int INTEGER = 2;
+    static final int LONG = 3;
+    static final int BOOLEAN = 4;
+    static final int INT_ARRAY = 5;
+    static final int STRING_ARRAY = 6;
+    static final int ARRAY_LIST = 7;
+    static final int HASH_MAP = 8;
+    static final int LINKED_HASH_MAP = 9;
+    static final int HASH_SET = 10;
+    static final int ENUM = 11;
+    // fallback: value stored by Java serialization
+    static final int SERIALIZED = 12;
+
+    private ActionLog() {
+        // static only
+    }
+
+    /**
+     * @return true if the file starts with the action log magic number
+     */
+    public static boolean isActionLog(File file) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file.toPath()))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if the file name has the extension of action logs
+     */
+    public static boolean hasActionLogExtension(File file) {
+        return file.getName().endsWith("." + FILE_EXTENSION);
+    }
+
+    /**
+     * Schema of an action class: the serializable fields of each class level,
+     * starting with the topmost serializable superclass
+     */
+    static final class ClassSchema {
+        private final String className;
+        private final ImmutableList<LevelSchema> levels;
+
+        ClassSchema(String className, ImmutableList<LevelSchema> levels) {
+            this.className = className;
+            this.levels = levels;
+        }
+
+        static ClassSchema of(Class<?> cls) {
+            List<LevelSchema> levels = Lists.newArrayList();
+            for (Class<?> level = cls; level != null && Serializable.class.isAssignableFrom(level);
+                    level = level.getSuperclass()) {
+                ObjectStreamClass streamClass = ObjectStreamClass.lookup(level);
+                if (streamClass == null) break;
+                ObjectStreamField[] fields = streamClass.getFields();
+                String[] names = new String[fields.length];
+                char[] typeCodes = new char[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    names[i] = fields[i].getName();
+                    typeCodes[i] = fields[i].getTypeCode();
+                }
+                levels.add(0, new LevelSchema(level.getName(), names, typeCodes));
+            }
+            return new ClassSchema(cls.getName(), ImmutableList.copyOf(levels));
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        ImmutableList<LevelSchema> getLevels() {
+            return levels;
+        }
+    }
+
+    /**
+     * Serializable fields of one class level in the order of {@link ObjectStreamClass#getFields()}
+     */
+    static final class LevelSchema {
+        private final String className;
+        private final String[] fieldNames;
+        private final char[] typeCodes;
+
+        LevelSchema(String className, String[] fieldNames, char[] typeCodes) {
+            this.className = className;
+            this.fieldNames = fieldNames;
+            this.typeCodes = typeCodes;
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        int size() {
+            return fieldNames.length;
+        }
+
+        String getFieldName(int index) {
+            return fieldNames[index];
+        }
+
+        char getTypeCode(int index) {
+            return typeCodes[index];
+        }
+
+        int indexOf(String fieldName) {
+            return Arrays.asList(fieldNames).indexOf(fieldName);
+        }
+    }
+
+    /**
+     * Growable buffer to encode records
+     */
+    static final class Output {
+        private byte[] data = new byte[256];
+        private int size = 0;
+
+        private void ensure(int length) {
+            if (size + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + length));
+            }
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            data[size++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes, int offset, int length) {
+            ensure(length);
+            System.arraycopy(bytes, offset, data, size, length);
+            size += length;
+        }
+
+        void writeBytes(Output other) {
+            writeBytes(other.data, 0, other.size);
+        }
+
+        void writeVarint(int value) {
+            writeVarlong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarlong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                data[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[size++] = (byte) value;
+        }
+
+        void writeSignedVarint(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+
+        void writeSignedVarlong(long value) {
+            writeVarlong((value << 1) ^ (value >> 63));
+        }
+
+        void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                writeByte((int) (value >>> shift));
+            }
+        }
+
+        void writeInt(int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                writeByte(value >>> shift);
+            }
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] getData() {
+            return data;
+        }
+
+        void reset() {
+            size = 0;
+        }
+    }
+
+    /**
+     * Reads encoded data from a byte array
+     */
+    static final class Input {
+        private final byte[] data;
+        private int position;
+        private final int end;
+
+        Input(byte[] data) {
+            this(data, 0, data.length);
+        }
+
+        Input(byte[] data, int offset, int length) {
+            this.data = data;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        int readByte() throws EOFException {
+            if (position >= end) throw new EOFException("Unexpected end of action log record");
+            return data[position++] & 0xFF;
+        }
+
+        byte[] readBytes(int length) throws EOFException {
+            if (length < 0 || position + length > end) throw new EOFException("Unexpected end of action log record");
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        int readVarint() throws EOFException {
+            return (int) readVarlong();
+        }
+
+        long readVarlong() throws EOFException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new EOFException("Malformed varint in action log");
+        }
+
+        int readSignedVarint() throws EOFException {
+            int value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        long readSignedVarlong() throws EOFException {
+            long value = readVarlong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readInt() throws EOFException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        long readLong() throws EOFException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        String readString() throws EOFException {
+            int length = readVarint();
+            if (length < 0 || position + length > end) throw new EOFException("Unexpected end of action log record");
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        int getPosition() {
+            return position;
+        }
+
+        boolean hasRemaining() {
+            return position < end;
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+package net.sf.rails.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.ConfigManager;
+import net.sf.rails.common.GameContext;
+import rails.game.action.PossibleAction;
+
+/**
+ * Converts saved games (.rails) to action logs (.rlog, see {@link ActionLog}) and back
+ * <p>
+ * The conversion is verified: the converted file is loaded again and its actions are compared
+ * with the original ones. The file sizes and the times to read the actions are listed.
+ * <p>
+ * Arguments: input files, the output is written next to the input with the other extension
+ */
+public final class ActionLogConverter {
+
+    private static final Logger log = LoggerFactory.getLogger(ActionLogConverter.class);
+
+    private ActionLogConverter() {
+        // static only
+    }
+
+    /**
+     * @return the file with the other extension of the format of the file
+     */
+    public static File getConvertedFile(File file, boolean toActionLog) {
+        String name = file.getName();
+        int dot = name.lastIndexOf('.');
+        String baseName = dot < 0 ? name : name.substring(0, dot);
+        String extension = toActionLog ? ActionLog.FILE_EXTENSION : Config.get("save.filename.extension");
+        return new File(file.getParentFile(), baseName + "." + extension);
+    }
+
+    // loads the game and reads the actions of the file without executing them
+    private static GameLoader open(File file) throws IOException {
+        GameLoader gameLoader = new GameLoader();
+        if (!gameLoader.startFromFile(file)) {
+            throw new IOException("Unable to load " + file + ": " + gameLoader.getException(), gameLoader.getException());
+        }
+        return gameLoader;
+    }
+
+    /**
+     * Converts the file into the other format and verifies the result
+     * @return the converted file
+     */
+    public static File convert(File input, File output) throws IOException {
+        GameLoader original = open(input);
+        long readTime = original.getPhaseTime(GameLoader.Phase.LOAD_DATA) + original.getPhaseTime(GameLoader.Phase.START);
+
+        GameSaver saver = new GameSaver(original.getGameIOData());
+        if (ActionLog.isActionLog(input)) {
+            saver.saveGame(output);
+        } else {
+            saver.saveActionLog(output);
+        }
+
+        GameLoader converted = open(output);
+        long convertedTime = converted.getPhaseTime(GameLoader.Phase.LOAD_DATA) + converted.getPhaseTime(GameLoader.Phase.START);
+        String difference = compare(original.getActions(), converted.getActions());
+        if (difference != null) {
+            throw new IOException("Conversion of " + input + " is not lossless: " + difference);
+        }
+        log.info("Converted {} ({} bytes, {} ms) to {} ({} bytes, {} ms)", input.getName(), input.length(),
+                readTime / 1000000, output.getName(), output.length(), convertedTime / 1000000);
+        return output;
+    }
+
+    /**
+     * @return description of the first difference, null if the actions are identical
+     */
+    static String compare(List<PossibleAction> expected, List<PossibleAction> actual) {
+        if (expected.size() != actual.size()) {
+            return "number of actions " + actual.size() + " instead of " + expected.size();
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            PossibleAction action = expected.get(i);
+            PossibleAction other = actual.get(i);
+            if (action.getClass() != other.getClass() || !action.equalsAsAction(other)
+                    || !action.toString().equals(other.toString())) {
+                return "action " + (i + 1) + " differs: " + other + " instead of " + action;
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) {
+        ConfigManager.initConfiguration(false);
+
+        int failed = 0;
+        for (String arg : args) {
+            File input = new File(arg);
+            File output = getConvertedFile(input, !ActionLog.isActionLog(input));
+            // each game has its own context, e.g. for the configuration stored in the saved file
+            GameContext context = GameContext.create(input.getName(), null);
+            try {
+                context.call(() -> convert(input, output));
+                System.out.println(String.format("%s (%d bytes) -> %s (%d bytes)", input.getName(), input.length(),
+                        output.getName(), output.length()));
+            } catch (Exception e) {
+                failed++;
+                System.out.println(input.getName() + ": " + e.getMessage());
+            }
+        }
+        System.exit(failed == 0 ? 0 : 1);
+    }
+
+}
@@ -0,0 +1,163 @@
+package net.sf.rails.util;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.NotActiveException;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Field;
+
+import net.sf.rails.util.ActionLog.LevelSchema;
+
+/**
+ * Provides the field values of one class level of an action to its readObject method
+ * <p>
+ * The action reads its fields by {@link #defaultReadObject()} or {@link #readFields()} as from
+ * Java serialization, other reads are not supported.
+ */
+final class ActionLogInputStream extends GameLoader.RailsObjectInputStream {
+
+    // current class level
+    private Object object;
+    private Class<?> levelClass;
+    private LevelSchema schema;
+    private Field[] fields;
+    private Object[] values;
+
+    ActionLogInputStream(GameLoader loader) throws IOException {
+        super(loader);
+    }
+
+    /**
+     * Sets the current class level of the object
+     * @param fields the local fields of the stored fields, null if there is no local field
+     */
+    void setLevel(Object object, Class<?> levelClass, LevelSchema schema, Field[] fields, Object[] values) {
+        this.object = object;
+        this.levelClass = levelClass;
+        this.schema = schema;
+        this.fields = fields;
+        this.values = values;
+    }
+
+    void clearLevel() {
+        setLevel(null, null, null, null, null);
+    }
+
+    /**
+     * Sets the local fields of the current level to the stored values
+     */
+    @Override
+    public void defaultReadObject() throws IOException {
+        if (object == null) throw new NotActiveException("not in call to readObject");
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) continue;
+            try {
+                fields[i].set(object, values[i]);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new InvalidObjectException("Unable to set field " + fields[i] + ": " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public GetField readFields() throws IOException {
+        if (object == null) throw new NotActiveException("not in call to readObject");
+        return new LevelFields(levelClass, schema, values);
+    }
+
+    @Override
+    protected Object readObjectOverride() throws IOException {
+        throw new InvalidObjectException("Action log provides only the fields of the actions");
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+
+    /**
+     * Stored field values of a class level
+     */
+    private static final class LevelFields extends GetField {
+
+        private final Class<?> levelClass;
+        private final LevelSchema schema;
+        private final Object[] values;
+
+        private LevelFields(Class<?> levelClass, LevelSchema schema, Object[] values) {
+            this.levelClass = levelClass;
+            this.schema = schema;
+            this.values = values;
+        }
+
+        @Override
+        public ObjectStreamClass getObjectStreamClass() {
+            return ObjectStreamClass.lookup(levelClass);
+        }
+
+        @Override
+        public boolean defaulted(String name) {
+            return schema.indexOf(name) < 0;
+        }
+
+        // returns the stored value, or null if the field was not stored
+        private Object get(String name) {
+            int index = schema.indexOf(name);
+            return index < 0 ? null : values[index];
+        }
+
+        @Override
+        public boolean get(String name, boolean val) {
+            Object value = get(name);
+            return value == null ? val : (Boolean) value;
+        }
+
+        @Override
+        public byte get(String name, byte val) {
+            Object value = get(name);
+            return value == null ? val : (Byte) value;
+        }
+
+        @Override
+        public char get(String name, char val) {
+            Object value = get(name);
+            return value == null ? val : (Character) value;
+        }
+
+        @Override
+        public short get(String name, short val) {
+            Object value = get(name);
+            return value == null ? val : (Short) value;
+        }
+
+        @Override
+        public int get(String name, int val) {
+            Object value = get(name);
+            return value == null ? val : (Integer) value;
+        }
+
+        @Override
+        public long get(String name, long val) {
+            Object value = get(name);
+            return value == null ? val : (Long) value;
+        }
+
+        @Override
+        public float get(String name, float val) {
+            Object value = get(name);
+            return value == null ? val : (Float) value;
+        }
+
+        @Override
+        public double get(String name, double val) {
+            Object value = get(name);
+            return value == null ? val : (Double) value;
+        }
+
+        @Override
+        public Object get(String name, Object val) {
+            return defaulted(name) ? val : get(name);
+        }
+    }
+
+}
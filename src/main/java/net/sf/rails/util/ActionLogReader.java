@@ -0,0 +1,572 @@
+package net.sf.rails.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import net.sf.rails.util.ActionLog.ClassSchema;
+import net.sf.rails.util.ActionLog.LevelSchema;
+import rails.game.action.PossibleAction;
+import sun.reflect.ReflectionFactory;
+
+/**
+ * ActionLogReader reads the actions of a file in the format of {@link ActionLog}
+ * <p>
+ * Actions can be read as a stream ({@link #next()}) or by their index ({@link #read(int)}).
+ * Reading actions requires the RailsRoot of the game loader, as the actions resolve their names
+ * to the objects of the game. The header is available before.
+ */
+public final class ActionLogReader implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ActionLogReader.class);
+
+    private final File file;
+    private final FileChannel channel;
+    // the file is mapped into memory, records are read on demand
+    private final MappedByteBuffer data;
+    private final long fileSize;
+    private final GameLoader loader;
+    private final byte[] header;
+
+    // string and schema tables, complete if the footer was read
+    private final List<String> stringTable = Lists.newArrayList();
+    private final List<ClassSchema> schemaTable = Lists.newArrayList();
+    private final List<LocalClass> localClasses = Lists.newArrayList();
+
+    // positions of the known action records
+    private final List<Long> positions = Lists.newArrayList();
+    // position of the footer, or the end of the readable records
+    private long endPosition;
+    private boolean indexed;
+
+    // position of the record after the last known record
+    private long scanPosition;
+    // index of the next action of the stream
+    private int nextIndex = 0;
+
+    private ActionLogInputStream stream;
+
+    private ActionLogReader(File file, FileChannel channel, GameLoader loader) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.data = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        this.loader = loader;
+
+        ActionLog.Input input = new ActionLog.Input(read(0, 18));
+        if (input.readInt() != ActionLog.MAGIC) {
+            throw new StreamCorruptedException("File " + file.getName() + " is not an action log");
+        }
+        int version = input.readInt();
+        if (version != ActionLog.FORMAT_VERSION) {
+            throw new InvalidClassException("Action log version " + version
+                    + " is incompatible with current version " + ActionLog.FORMAT_VERSION);
+        }
+        int headerLength = input.readVarint();
+        long headerPosition = input.getPosition();
+        this.header = read(headerPosition, headerLength);
+        if (header.length < headerLength) {
+            throw new EOFException("Action log " + file.getName() + " contains no header");
+        }
+        this.scanPosition = headerPosition + headerLength;
+        this.endPosition = fileSize;
+
+        readFooter();
+    }
+
+    /**
+     * Opens the action log and reads its header
+     * @param loader of the game, its root is used to read the actions
+     */
+    public static ActionLogReader open(File file, GameLoader loader) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return new ActionLogReader(file, channel, loader);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the header of a saved game (see {@link GameSaver#getHeaderData()})
+     */
+    public byte[] getHeader() {
+        return header;
+    }
+
+    // reads up to length bytes at the position
+    private byte[] read(long position, int length) {
+        int available = (int) Math.max(0, Math.min(length, fileSize - position));
+        byte[] bytes = new byte[available];
+        ByteBuffer view = data.duplicate();
+        view.position((int) position);
+        view.get(bytes);
+        return bytes;
+    }
+
+    private void readFooter() throws IOException {
+        if (fileSize < scanPosition + ActionLog.TRAILER_SIZE) return;
+        ActionLog.Input trailer = new ActionLog.Input(read(fileSize - ActionLog.TRAILER_SIZE, ActionLog.TRAILER_SIZE));
+        long footerPosition = trailer.readLong();
+        if (trailer.readInt() != ActionLog.END_MAGIC || footerPosition < scanPosition
+                || footerPosition > fileSize - ActionLog.TRAILER_SIZE) {
+            log.warn("Action log {} has no index, it is read as a stream", file.getName());
+            return;
+        }
+        ActionLog.Input footer = new ActionLog.Input(
+                read(footerPosition, (int) (fileSize - ActionLog.TRAILER_SIZE - footerPosition)));
+        if (footer.readByte() != ActionLog.RECORD_END) {
+            throw new StreamCorruptedException("Invalid footer of action log " + file.getName());
+        }
+        int count = footer.readVarint();
+        long position = 0;
+        for (int i = 0; i < count; i++) {
+            position += footer.readVarlong();
+            positions.add(position);
+        }
+        readDefinitions(footer);
+        endPosition = footerPosition;
+        indexed = true;
+    }
+
+    private void readDefinitions(ActionLog.Input input) throws IOException {
+        int firstString = input.readVarint();
+        int nbStrings = input.readVarint();
+        for (int i = 0; i < nbStrings; i++) {
+            String string = input.readString();
+            define(stringTable, firstString + i, string);
+        }
+        int firstSchema = input.readVarint();
+        int nbSchemas = input.readVarint();
+        for (int i = 0; i < nbSchemas; i++) {
+            ClassSchema schema = readSchema(input);
+            if (define(schemaTable, firstSchema + i, schema)) {
+                localClasses.add(null);
+            }
+        }
+    }
+
+    // adds the definition, if it is not known yet
+    private static <T> boolean define(List<T> table, int index, T definition) throws StreamCorruptedException {
+        if (index < table.size()) return false;
+        if (index > table.size()) {
+            throw new StreamCorruptedException("Missing definition " + table.size() + " in action log");
+        }
+        table.add(definition);
+        return true;
+    }
+
+    private String string(int index) throws StreamCorruptedException {
+        if (index < 0 || index >= stringTable.size()) {
+            throw new StreamCorruptedException("Undefined string " + index + " in action log");
+        }
+        return stringTable.get(index);
+    }
+
+    private ClassSchema readSchema(ActionLog.Input input) throws IOException {
+        String className = string(input.readVarint());
+        int nbLevels = input.readVarint();
+        ImmutableList.Builder<LevelSchema> levels = ImmutableList.builder();
+        for (int l = 0; l < nbLevels; l++) {
+            String levelName = string(input.readVarint());
+            int nbFields = input.readVarint();
+            String[] names = new String[nbFields];
+            char[] typeCodes = new char[nbFields];
+            for (int i = 0; i < nbFields; i++) {
+                names[i] = string(input.readVarint());
+                typeCodes[i] = (char) input.readByte();
+            }
+            levels.add(new LevelSchema(levelName, names, typeCodes));
+        }
+        return new ClassSchema(className, levels.build());
+    }
+
+    /**
+     * @return true if the file has an index (footer), which allows random access without reading the file
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    /**
+     * @return number of actions, for a file without index all records are scanned
+     */
+    public int size() throws IOException {
+        if (!indexed) {
+            while (scanNext()) {
+                // only the definitions and positions are read
+            }
+        }
+        return positions.size();
+    }
+
+    /**
+     * @return the next action of the stream, null at the end of the actions
+     */
+    public PossibleAction next() throws IOException, ClassNotFoundException {
+        if (nextIndex >= positions.size() && !scanNext()) return null;
+        return readRecord(positions.get(nextIndex++));
+    }
+
+    /**
+     * @return the action with the index (starting with 0)
+     */
+    public PossibleAction read(int index) throws IOException, ClassNotFoundException {
+        while (index >= positions.size() && scanNext()) {
+            // scan forward to the record
+        }
+        if (index < 0 || index >= positions.size()) {
+            throw new IndexOutOfBoundsException("Action " + index + " not in action log " + file.getName());
+        }
+        return readRecord(positions.get(index));
+    }
+
+    /**
+     * @return all actions, from the current position of the stream
+     */
+    public List<PossibleAction> readAll() throws IOException, ClassNotFoundException {
+        List<PossibleAction> actions = Lists.newArrayList();
+        for (PossibleAction action = next(); action != null; action = next()) {
+            actions.add(action);
+        }
+        return actions;
+    }
+
+    // reads the definitions of the record after the last known record, returns false at the end
+    private boolean scanNext() throws IOException {
+        if (indexed || scanPosition >= endPosition) return false;
+        Record record = readRecordData(scanPosition);
+        if (record == null) {
+            endPosition = scanPosition;
+            return false;
+        }
+        readDefinitions(record.input);
+        positions.add(scanPosition);
+        scanPosition = record.end;
+        return true;
+    }
+
+    /**
+     * Payload of a record
+     */
+    private static final class Record {
+        private final ActionLog.Input input;
+        private final long end;
+
+        private Record(ActionLog.Input input, long end) {
+            this.input = input;
+            this.end = end;
+        }
+    }
+
+    // returns null at the end of the records or for a torn record
+    private Record readRecordData(long position) throws IOException {
+        ActionLog.Input prefix = new ActionLog.Input(read(position, 11));
+        if (!prefix.hasRemaining() || prefix.readByte() != ActionLog.RECORD_ACTION) return null;
+        int length;
+        try {
+            length = prefix.readVarint();
+        } catch (EOFException e) {
+            log.warn("Action log {} ends with a torn record", file.getName());
+            return null;
+        }
+        long start = position + prefix.getPosition();
+        byte[] payload = read(start, length);
+        if (length < 0 || payload.length < length) {
+            log.warn("Action log {} ends with a torn record", file.getName());
+            return null;
+        }
+        return new Record(new ActionLog.Input(payload), start + length);
+    }
+
+    private PossibleAction readRecord(long position) throws IOException, ClassNotFoundException {
+        Record record = readRecordData(position);
+        if (record == null) {
+            throw new EOFException("Invalid action record at " + position + " in action log " + file.getName());
+        }
+        // definitions are known already, if the file is indexed or was scanned
+        readDefinitions(record.input);
+        return readAction(record.input);
+    }
+
+    private PossibleAction readAction(ActionLog.Input input) throws IOException, ClassNotFoundException {
+        int schemaIndex = input.readVarint();
+        if (schemaIndex < 0 || schemaIndex >= schemaTable.size()) {
+            throw new StreamCorruptedException("Undefined schema " + schemaIndex + " in action log");
+        }
+        LocalClass localClass = localClasses.get(schemaIndex);
+        if (localClass == null) {
+            localClass = new LocalClass(schemaTable.get(schemaIndex));
+            localClasses.set(schemaIndex, localClass);
+        }
+
+        // read the values of all levels
+        ImmutableList<LevelSchema> levels = localClass.schema.getLevels();
+        Object[][] values = new Object[levels.size()][];
+        for (int l = 0; l < levels.size(); l++) {
+            LevelSchema level = levels.get(l);
+            values[l] = new Object[level.size()];
+            for (int i = 0; i < level.size(); i++) {
+                values[l][i] = readField(input, level.getTypeCode(i));
+            }
+        }
+
+        // create the action and set the fields level by level, as by Java serialization
+        Object action = localClass.newInstance();
+        if (stream == null) {
+            stream = new ActionLogInputStream(loader);
+        }
+        for (int l = 0; l < levels.size(); l++) {
+            LocalLevel localLevel = localClass.levels[l];
+            if (localLevel == null) continue;
+            stream.setLevel(action, localLevel.cls, levels.get(l), localLevel.fields, values[l]);
+            try {
+                if (localLevel.readObject != null) {
+                    localLevel.readObject.invoke(action, stream);
+                } else {
+                    stream.defaultReadObject();
+                }
+            } catch (IllegalAccessException e) {
+                throw new InvalidClassException(localLevel.cls.getName(), e.getMessage());
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) throw (IOException) cause;
+                if (cause instanceof ClassNotFoundException) throw (ClassNotFoundException) cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new InvalidObjectException(String.valueOf(cause));
+            } finally {
+                stream.clearLevel();
+            }
+        }
+        if (!(action instanceof PossibleAction)) {
+            throw new InvalidClassException(localClass.schema.getClassName(), "not an action");
+        }
+        return (PossibleAction) action;
+    }
+
+    private Object readField(ActionLog.Input input, char typeCode) throws IOException, ClassNotFoundException {
+        switch (typeCode) {
+            case 'Z':
+                return input.readByte() != 0;
+            case 'B':
+                return (byte) input.readByte();
+            case 'C':
+                return (char) input.readVarint();
+            case 'S':
+                return (short) input.readSignedVarint();
+            case 'I':
+                return input.readSignedVarint();
+            case 'J':
+                return input.readSignedVarlong();
+            case 'F':
+                return Float.intBitsToFloat(input.readInt());
+            case 'D':
+                return Double.longBitsToDouble(input.readLong());
+            default:
+                return readValue(input);
+        }
+    }
+
+    private String readString(ActionLog.Input input) throws IOException {
+        int index = input.readVarint();
+        return index == 0 ? null : string(index - 1);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object readValue(ActionLog.Input input) throws IOException, ClassNotFoundException {
+        int tag = input.readByte();
+        switch (tag) {
+            case ActionLog.NULL:
+                return null;
+            case ActionLog.STRING:
+                return string(input.readVarint());
+            case ActionLog.INTEGER:
+                return input.readSignedVarint();
+            case ActionLog.LONG:
+                return input.readSignedVarlong();
+            case ActionLog.BOOLEAN:
+                return input.readByte() != 0;
+            case ActionLog.INT_ARRAY: {
+                int[] array = new int[input.readVarint()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readSignedVarint();
+                }
+                return array;
+            }
+            case ActionLog.STRING_ARRAY: {
+                String[] array = new String[input.readVarint()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readString(input);
+                }
+                return array;
+            }
+            case ActionLog.ARRAY_LIST: {
+                int size = input.readVarint();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(input));
+                }
+                return list;
+            }
+            case ActionLog.HASH_MAP:
+            case ActionLog.LINKED_HASH_MAP: {
+                int size = input.readVarint();
+                Map<Object, Object> map = tag == ActionLog.HASH_MAP ? new HashMap<>() : new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    Object key = readValue(input);
+                    map.put(key, readValue(input));
+                }
+                return map;
+            }
+            case ActionLog.HASH_SET: {
+                int size = input.readVarint();
+                Set<Object> set = new HashSet<>();
+                for (int i = 0; i < size; i++) {
+                    set.add(readValue(input));
+                }
+                return set;
+            }
+            case ActionLog.ENUM: {
+                Class<?> enumClass = Class.forName(string(input.readVarint()));
+                String name = string(input.readVarint());
+                if (!enumClass.isEnum()) throw new InvalidClassException(enumClass.getName(), "not an enum");
+                return Enum.valueOf((Class) enumClass, name);
+            }
+            case ActionLog.SERIALIZED: {
+                byte[] bytes = input.readBytes(input.readVarint());
+                try (ObjectInputStream ois = new GameLoader.RailsObjectInputStream(loader, new ByteArrayInputStream(bytes))) {
+                    return ois.readObject();
+                }
+            }
+            default:
+                throw new StreamCorruptedException("Invalid value tag " + tag + " in action log");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Local class of a schema, created on first use
+     */
+    private static final class LocalClass {
+        private final ClassSchema schema;
+        private final Constructor<?> constructor;
+        // local levels of the stored levels, null if the level does not exist locally
+        private final LocalLevel[] levels;
+
+        private LocalClass(ClassSchema schema) throws ClassNotFoundException, InvalidClassException {
+            this.schema = schema;
+            Class<?> cls = Class.forName(schema.getClassName());
+            if (!Serializable.class.isAssignableFrom(cls)) {
+                throw new InvalidClassException(cls.getName(), "not serializable");
+            }
+            // as Java serialization: the constructor of the first superclass that is not serializable is called
+            Class<?> base = cls;
+            while (base != null && Serializable.class.isAssignableFrom(base)) {
+                base = base.getSuperclass();
+            }
+            try {
+                Constructor<?> baseConstructor = (base == null ? Object.class : base).getDeclaredConstructor();
+                constructor = ReflectionFactory.getReflectionFactory().newConstructorForSerialization(cls, baseConstructor);
+            } catch (NoSuchMethodException e) {
+                throw new InvalidClassException(cls.getName(), "no valid constructor");
+            }
+
+            levels = new LocalLevel[schema.getLevels().size()];
+            for (int l = 0; l < levels.length; l++) {
+                LevelSchema level = schema.getLevels().get(l);
+                for (Class<?> local = cls; local != null; local = local.getSuperclass()) {
+                    if (local.getName().equals(level.getClassName())) {
+                        levels[l] = new LocalLevel(local, level);
+                        break;
+                    }
+                }
+            }
+        }
+
+        private Object newInstance() throws InvalidObjectException {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new InvalidObjectException("Unable to create " + schema.getClassName() + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Local fields and readObject method of a stored class level
+     */
+    private static final class LocalLevel {
+        private final Class<?> cls;
+        private final Field[] fields;
+        private final Method readObject;
+
+        private LocalLevel(Class<?> cls, LevelSchema level) {
+            this.cls = cls;
+            ObjectStreamClass streamClass = ObjectStreamClass.lookup(cls);
+            fields = new Field[level.size()];
+            for (int i = 0; i < level.size(); i++) {
+                String name = level.getFieldName(i);
+                if (streamClass == null || streamClass.getField(name) == null
+                        || streamClass.getField(name).getTypeCode() != level.getTypeCode(i)) {
+                    // field does not exist anymore or has a different type, only available by readFields
+                    continue;
+                }
+                try {
+                    fields[i] = cls.getDeclaredField(name);
+                    fields[i].setAccessible(true);
+                } catch (NoSuchFieldException e) {
+                    fields[i] = null;
+                }
+            }
+            Method method = null;
+            try {
+                method = cls.getDeclaredMethod("readObject", ObjectInputStream.class);
+                if (Modifier.isStatic(method.getModifiers()) || !Modifier.isPrivate(method.getModifiers())) {
+                    method = null;
+                } else {
+                    method.setAccessible(true);
+                }
+            } catch (NoSuchMethodException e) {
+                method = null;
+            }
+            readObject = method;
+        }
+    }
+
+}
@@ -0,0 +1,345 @@
+package net.sf.rails.util;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import net.sf.rails.util.ActionLog.ClassSchema;
+import net.sf.rails.util.ActionLog.LevelSchema;
+import rails.game.action.PossibleAction;
+
+/**
+ * ActionLogWriter writes the actions of a game as a stream in the format of {@link ActionLog}
+ * <p>
+ * The footer is written on {@link #close()}.
+ */
+public final class ActionLogWriter implements Closeable {
+
+    private final OutputStream out;
+    private long position;
+
+    // interned strings and schemas with their index
+    private final Map<String, Integer> strings = Maps.newHashMap();
+    private final List<String> stringTable = Lists.newArrayList();
+    private final Map<Class<?>, Integer> schemas = Maps.newHashMap();
+    private final List<ClassSchema> schemaTable = Lists.newArrayList();
+    // fields of the class levels by action class, in the order of the schema
+    private final Map<Class<?>, Field[][]> classFields = Maps.newHashMap();
+
+    // file positions of the action records
+    private final List<Long> positions = Lists.newArrayList();
+
+    // buffers of the current record
+    private final ActionLog.Output record = new ActionLog.Output();
+    private final ActionLog.Output body = new ActionLog.Output();
+
+    private boolean closed = false;
+
+    private ActionLogWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Creates a new action log
+     * @param header the header of a saved game (see {@link GameSaver#getHeaderData()})
+     */
+    public static ActionLogWriter create(OutputStream out, byte[] header) throws IOException {
+        ActionLogWriter writer = new ActionLogWriter(out);
+        ActionLog.Output start = new ActionLog.Output();
+        start.writeInt(ActionLog.MAGIC);
+        start.writeInt(ActionLog.FORMAT_VERSION);
+        start.writeVarint(header.length);
+        start.writeBytes(header, 0, header.length);
+        writer.write(start);
+        return writer;
+    }
+
+    public static ActionLogWriter create(File file, byte[] header) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+        try {
+            return create(out, header);
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the action
+     */
+    public void write(PossibleAction action) throws IOException {
+        if (closed) throw new IOException("Action log is closed");
+        int firstString = stringTable.size();
+        int firstSchema = schemaTable.size();
+
+        body.reset();
+        writeAction(action, body);
+
+        // new strings and schemas precede the action
+        record.reset();
+        record.writeByte(ActionLog.RECORD_ACTION);
+        ActionLog.Output payload = new ActionLog.Output();
+        writeDefinitions(payload, firstString, firstSchema);
+        payload.writeBytes(body);
+        record.writeVarint(payload.size());
+        record.writeBytes(payload);
+
+        positions.add(position);
+        write(record);
+    }
+
+    private void writeDefinitions(ActionLog.Output output, int firstString, int firstSchema) {
+        output.writeVarint(firstString);
+        output.writeVarint(stringTable.size() - firstString);
+        for (String string : stringTable.subList(firstString, stringTable.size())) {
+            output.writeString(string);
+        }
+        output.writeVarint(firstSchema);
+        output.writeVarint(schemaTable.size() - firstSchema);
+        for (ClassSchema schema : schemaTable.subList(firstSchema, schemaTable.size())) {
+            writeSchema(output, schema);
+        }
+    }
+
+    private void writeSchema(ActionLog.Output output, ClassSchema schema) {
+        output.writeVarint(strings.get(schema.getClassName()));
+        output.writeVarint(schema.getLevels().size());
+        for (LevelSchema level : schema.getLevels()) {
+            output.writeVarint(strings.get(level.getClassName()));
+            output.writeVarint(level.size());
+            for (int i = 0; i < level.size(); i++) {
+                output.writeVarint(strings.get(level.getFieldName(i)));
+                output.writeByte(level.getTypeCode(i));
+            }
+        }
+    }
+
+    private int intern(String string) {
+        Integer index = strings.get(string);
+        if (index == null) {
+            index = stringTable.size();
+            strings.put(string, index);
+            stringTable.add(string);
+        }
+        return index;
+    }
+
+    private int schemaIndex(Class<?> cls) throws IOException {
+        Integer index = schemas.get(cls);
+        if (index != null) return index;
+
+        ClassSchema schema = ClassSchema.of(cls);
+        Field[][] fields = new Field[schema.getLevels().size()][];
+        Class<?> level = cls;
+        for (int l = fields.length - 1; l >= 0; l--, level = level.getSuperclass()) {
+            LevelSchema levelSchema = schema.getLevels().get(l);
+            fields[l] = new Field[levelSchema.size()];
+            for (int i = 0; i < levelSchema.size(); i++) {
+                try {
+                    fields[l][i] = level.getDeclaredField(levelSchema.getFieldName(i));
+                } catch (NoSuchFieldException e) {
+                    throw new NotSerializableException(cls.getName() + " has no field " + levelSchema.getFieldName(i));
+                }
+                fields[l][i].setAccessible(true);
+            }
+        }
+        // all names are defined before the schema
+        intern(schema.getClassName());
+        for (LevelSchema levelSchema : schema.getLevels()) {
+            intern(levelSchema.getClassName());
+            for (int i = 0; i < levelSchema.size(); i++) {
+                intern(levelSchema.getFieldName(i));
+            }
+        }
+        index = schemaTable.size();
+        schemas.put(cls, index);
+        schemaTable.add(schema);
+        classFields.put(cls, fields);
+        return index;
+    }
+
+    private void writeAction(PossibleAction action, ActionLog.Output output) throws IOException {
+        Class<?> cls = action.getClass();
+        output.writeVarint(schemaIndex(cls));
+        ClassSchema schema = schemaTable.get(schemas.get(cls));
+        Field[][] fields = classFields.get(cls);
+        try {
+            for (int l = 0; l < fields.length; l++) {
+                LevelSchema level = schema.getLevels().get(l);
+                for (int i = 0; i < fields[l].length; i++) {
+                    writeField(output, level.getTypeCode(i), fields[l][i], action);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new NotSerializableException(cls.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private void writeField(ActionLog.Output output, char typeCode, Field field, Object object)
+            throws IllegalAccessException, IOException {
+        switch (typeCode) {
+            case 'Z':
+                output.writeByte(field.getBoolean(object) ? 1 : 0);
+                break;
+            case 'B':
+                output.writeByte(field.getByte(object));
+                break;
+            case 'C':
+                output.writeVarint(field.getChar(object));
+                break;
+            case 'S':
+                output.writeSignedVarint(field.getShort(object));
+                break;
+            case 'I':
+                output.writeSignedVarint(field.getInt(object));
+                break;
+            case 'J':
+                output.writeSignedVarlong(field.getLong(object));
+                break;
+            case 'F':
+                output.writeInt(Float.floatToIntBits(field.getFloat(object)));
+                break;
+            case 'D':
+                output.writeLong(Double.doubleToLongBits(field.getDouble(object)));
+                break;
+            default:
+                writeValue(output, field.get(object));
+        }
+    }
+
+    private void writeString(ActionLog.Output output, String value) {
+        // 0 is null
+        output.writeVarint(value == null ? 0 : intern(value) + 1);
+    }
+
+    private void writeValue(ActionLog.Output output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(ActionLog.NULL);
+        } else if (value instanceof String) {
+            output.writeByte(ActionLog.STRING);
+            output.writeVarint(intern((String) value));
+        } else if (value instanceof Integer) {
+            output.writeByte(ActionLog.INTEGER);
+            output.writeSignedVarint((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(ActionLog.LONG);
+            output.writeSignedVarlong((Long) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(ActionLog.BOOLEAN);
+            output.writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            output.writeByte(ActionLog.INT_ARRAY);
+            output.writeVarint(array.length);
+            for (int element : array) {
+                output.writeSignedVarint(element);
+            }
+        } else if (value.getClass() == String[].class) {
+            String[] array = (String[]) value;
+            output.writeByte(ActionLog.STRING_ARRAY);
+            output.writeVarint(array.length);
+            for (String element : array) {
+                writeString(output, element);
+            }
+        } else if (value.getClass() == ArrayList.class) {
+            List<?> list = (List<?>) value;
+            output.writeByte(ActionLog.ARRAY_LIST);
+            output.writeVarint(list.size());
+            for (Object element : list) {
+                writeValue(output, element);
+            }
+        } else if (value.getClass() == HashMap.class || value.getClass() == LinkedHashMap.class) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            output.writeByte(value.getClass() == HashMap.class ? ActionLog.HASH_MAP : ActionLog.LINKED_HASH_MAP);
+            output.writeVarint(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(output, entry.getKey());
+                writeValue(output, entry.getValue());
+            }
+        } else if (value.getClass() == HashSet.class) {
+            HashSet<?> set = (HashSet<?>) value;
+            output.writeByte(ActionLog.HASH_SET);
+            output.writeVarint(set.size());
+            for (Object element : set) {
+                writeValue(output, element);
+            }
+        } else if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            output.writeByte(ActionLog.ENUM);
+            output.writeVarint(intern(constant.getDeclaringClass().getName()));
+            output.writeVarint(intern(constant.name()));
+        } else if (value instanceof Serializable) {
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(data)) {
+                oos.writeObject(value);
+            }
+            byte[] bytes = data.toByteArray();
+            output.writeByte(ActionLog.SERIALIZED);
+            output.writeVarint(bytes.length);
+            output.writeBytes(bytes, 0, bytes.length);
+        } else {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+
+    private void write(ActionLog.Output output) throws IOException {
+        out.write(output.getData(), 0, output.size());
+        position += output.size();
+    }
+
+    /**
+     * @return number of written actions
+     */
+    public int size() {
+        return positions.size();
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Writes the footer and closes the stream
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            long footerPosition = position;
+            ActionLog.Output footer = new ActionLog.Output();
+            footer.writeByte(ActionLog.RECORD_END);
+            footer.writeVarint(positions.size());
+            long previous = 0;
+            for (long recordPosition : positions) {
+                footer.writeVarlong(recordPosition - previous);
+                previous = recordPosition;
+            }
+            writeDefinitions(footer, 0, 0);
+            footer.writeLong(footerPosition);
+            footer.writeInt(ActionLog.END_MAGIC);
+            write(footer);
+            out.flush();
+        } finally {
+            out.close();
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import net.sf.rails.common.parser.GameOptionsParser;
 import net.sf.rails.game.GameManager;
 import net.sf.rails.game.RailsRoot;
 import net.sf.rails.game.TrainCard;
+import net.sf.rails.game.state.StateManager;
 import net.sf.rails.ui.swing.GameUIManager;
 import net.sf.rails.ui.swing.SplashWindow;
 
@@ -37,14 +38,75 @@ public class GameLoader {
 
     // object data
     private ObjectInputStream ois = null;
+    // action records, if loaded from an ActionJournal
+    private List<byte[]> journalRecords = null;
+    // reader of the actions, if loaded from an ActionLog
+    private ActionLogReader actionLogReader = null;
     private RailsRoot railsRoot = null;
     private Exception exception = null;
 
+    // optional listener for the replay of the actions
+    private ReplayListener replayListener = null;
+
+    // restore the states from a snapshot next to the saved game, if available
+    private boolean useSnapshot = true;
+
+    // replay all actions except the final one in bulk mode (see GameManager.setBulkReplay)
+    private boolean bulkReplay = true;
+
+    /**
+     * Phases of loading a game, timed by the GameLoader
+     */
+    public enum Phase {
+        /** reading the saved file and the game options */
+        LOAD_DATA,
+        /** creation of the RailsRoot from the game configuration XML */
+        CREATE_ROOT,
+        /** reading the actions and start of the game */
+        START,
+        /** snapshot restore and replay of the actions */
+        REPLAY
+    }
+
+    // time in nanoseconds spent in each phase
+    private final long[] phaseTimes = new long[Phase.values().length];
+
+    /**
+     * ReplayListener is informed after each action that was processed during the replay
+     */
+    public interface ReplayListener {
+        void actionProcessed(RailsRoot root, PossibleAction action);
+    }
+
     public GameLoader() {
         // do nothing
     }
 
+    public void setReplayListener(ReplayListener replayListener) {
+        this.replayListener = replayListener;
+    }
+
+    public void setUseSnapshot(boolean useSnapshot) {
+        this.useSnapshot = useSnapshot;
+    }
+
+    /**
+     * @param bulkReplay false replays each action as during interactive play,
+     * the resulting state and report are identical
+     */
+    public void setBulkReplay(boolean bulkReplay) {
+        this.bulkReplay = bulkReplay;
+    }
+
     public static void loadAndStartGame(File gameFile) {
+        loadAndStartGame(gameFile, true);
+    }
+
+    /**
+     * @param useSnapshot false forces a full replay of the actions, which provides the complete undo history
+     * @return the GameUIManager of the started game, null if the game could not be started
+     */
+    public static GameUIManager loadAndStartGame(File gameFile, boolean useSnapshot) {
         SplashWindow splashWindow = new SplashWindow(true, gameFile.getAbsolutePath());
         splashWindow.notifyOfStep(SplashWindow.STEP_LOAD_GAME);
 
@@ -58,12 +120,13 @@ public class GameLoader {
             }
             catch (IOException e) {
                 log.warn("unable to load {}", gameFile);
-                return;
+                return null;
             }
         }
 
         // use gameLoader instance to start game
         GameLoader gameLoader = new GameLoader();
+        gameLoader.setUseSnapshot(useSnapshot);
         if (!gameLoader.createFromFile(gameFile)) {
             Exception e = gameLoader.getException();
             log.error("Game load failed", e);
@@ -76,7 +139,7 @@ public class GameLoader {
                 String message = LocalText.getText("LOAD_FAILED_MESSAGE", e.getMessage());
                 JOptionPane.showMessageDialog(splashWindow.getWindow(), message, title, JOptionPane.ERROR_MESSAGE);
                 // in this case start of game cannot continued
-                return;
+                return null;
             }
         }
 
@@ -87,6 +150,7 @@ public class GameLoader {
 
         splashWindow.finalizeGameInit();
         gameUIManager.notifyOfSplashFinalization();
+        return gameUIManager;
     }
 
     public static GameUIManager startGameUIManager(RailsRoot game, boolean wasLoaded, SplashWindow splashWindow) {
@@ -130,7 +194,20 @@ public class GameLoader {
         // FIXME: Removed the filename replacement expression
         // check if this still works
         // String filename = filePath.replaceAll(".*[/\\\\]", "");
-        ois = new RailsObjectInputStream(this, new FileInputStream(gameFile));
+        if (ActionJournal.isJournal(gameFile)) {
+            // the first record of a journal contains the same data as the start of a saved game
+            List<byte[]> records = ActionJournal.readRecords(gameFile);
+            ois = new RailsObjectInputStream(this, new ByteArrayInputStream(records.get(0)));
+            journalRecords = records.subList(1, records.size());
+        } else if (ActionLog.isActionLog(gameFile)) {
+            // the header of an action log contains the same data as the start of a saved game
+            actionLogReader = ActionLogReader.open(gameFile, this);
+            ois = new RailsObjectInputStream(this, new ByteArrayInputStream(actionLogReader.getHeader()));
+            journalRecords = null;
+        } else {
+            ois = new RailsObjectInputStream(this, new FileInputStream(gameFile));
+            journalRecords = null;
+        }
 
         Object object = ois.readObject();
         String version;
@@ -213,6 +290,14 @@ public class GameLoader {
      */
     @SuppressWarnings("unchecked")
     public void convertGameData() throws Exception {
+        if (journalRecords != null) {
+            convertJournalData();
+            return;
+        }
+        if (actionLogReader != null) {
+            convertActionLogData();
+            return;
+        }
         // Read game actions into gameData.listOfActions
         // read next object in stream
         Object actionObject = null;
@@ -271,27 +356,81 @@ public class GameLoader {
         ois = null;
     }
 
+    // each journal record contains one action
+    private void convertJournalData() throws IOException {
+        ois.close();
+        ois = null;
+
+        List<PossibleAction> actions = Lists.newArrayList();
+        for (byte[] record : journalRecords) {
+            try (ObjectInputStream recordStream = new RailsObjectInputStream(this, new ByteArrayInputStream(record))) {
+                actions.add((PossibleAction) recordStream.readObject());
+            } catch (ClassNotFoundException | ClassCastException e) {
+                log.warn("Journal record {} is not an action, ignoring the remaining records", actions.size() + 1, e);
+                break;
+            }
+            log.debug("Reading action {}: {}", actions.size(), actions.get(actions.size() - 1).getClass().getSimpleName());
+        }
+        gameIOData.setActions(actions);
+        journalRecords = null;
+    }
+
+    private void convertActionLogData() throws IOException, ClassNotFoundException {
+        ois.close();
+        ois = null;
+
+        try {
+            gameIOData.setActions(actionLogReader.readAll());
+            log.debug("Read {} actions from action log", gameIOData.getActions().size());
+        } finally {
+            actionLogReader.close();
+            actionLogReader = null;
+        }
+    }
+
     /**
      * @return false if exception occurred
      */
     public boolean replayGame() {
+        return replayGame(0);
+    }
+
+    /**
+     * @param start number of actions already executed (restored from a snapshot)
+     * @return false if exception occurred
+     */
+    private boolean replayGame(int start) {
         GameManager gameManager = railsRoot.getGameManager();
-        log.debug("Starting to execute loaded actions");
+        log.debug("Starting to execute loaded actions from action {}", start);
         gameManager.setReloading(true);
 
-        int count = 0;
-        if (gameIOData.getActions() != null) {
-            // set possible actions for first action
-            gameManager.getCurrentRound().setPossibleActions();
-            for (PossibleAction action : gameIOData.getActions()) {
-                count++;
-                if (!gameManager.processOnReload(action)) {
-                    log.warn("Replay of game interrupted at action "+count);
-                    String message = LocalText.getText("LoadInterrupted", count);
-                    exception = new RailsReplayException(message);
-                    break;
+        // observers (except the engine ones) are updated once after the replay
+        StateManager stateManager = railsRoot.getStateManager();
+        stateManager.suspendObserverUpdates();
+        int count = start;
+        try {
+            if (gameIOData.getActions() != null) {
+                // set possible actions for first action
+                gameManager.getCurrentRound().setPossibleActions();
+                List<PossibleAction> actions = gameIOData.getActions();
+                for (PossibleAction action : actions.subList(start, actions.size())) {
+                    count++;
+                    // the final action is processed as during interactive play
+                    applyBulkReplay(bulkReplay && count < actions.size());
+                    if (!gameManager.processOnReload(action)) {
+                        log.warn("Replay of game interrupted at action "+count);
+                        String message = LocalText.getText("LoadInterrupted", count);
+                        exception = new RailsReplayException(message);
+                        break;
+                    }
+                    if (replayListener != null) {
+                        replayListener.actionProcessed(railsRoot, action);
+                    }
                 }
             }
+        } finally {
+            applyBulkReplay(false);
+            stateManager.resumeObserverUpdates();
         }
 
         gameManager.setReloading(false);
@@ -305,10 +444,36 @@ public class GameLoader {
         return (exception == null);
     }
 
+    private void applyBulkReplay(boolean bulk) {
+        GameManager gameManager = railsRoot.getGameManager();
+        if (gameManager.isBulkReplay() == bulk) return;
+        gameManager.setBulkReplay(bulk);
+        ReportBuffer reportBuffer = railsRoot.getReportManager().getReportBuffer();
+        if (bulk) {
+            reportBuffer.suspendObserver();
+        } else {
+            reportBuffer.resumeObserver();
+        }
+    }
+
     public RailsRoot getRoot() {
         return railsRoot;
     }
 
+    // adds the time since the start of the phase, returns the current time
+    private long addPhaseTime(Phase phase, long phaseStart) {
+        long now = System.nanoTime();
+        phaseTimes[phase.ordinal()] += now - phaseStart;
+        return now;
+    }
+
+    /**
+     * @return time in nanoseconds spent in the phase of loading the game
+     */
+    public long getPhaseTime(Phase phase) {
+        return phaseTimes[phase.ordinal()];
+    }
+
     public Exception getException() {
         return exception;
     }
@@ -317,6 +482,10 @@ public class GameLoader {
         return gameIOData.getActions();
     }
 
+    GameIOData getGameIOData() {
+        return gameIOData;
+    }
+
     public String getGameDataAsText() {
         return gameIOData.metaDataAsText() + gameIOData.gameOptionsAsText() + gameIOData.playerNamesAsText();
     }
@@ -326,26 +495,69 @@ public class GameLoader {
      * @return false if exception occurred
      */
     public boolean createFromFile(File gameFile) {
+        GameSnapshot snapshot = null;
+        if (useSnapshot && !ActionJournal.isJournal(gameFile)) {
+            snapshot = GameSnapshot.load(gameFile);
+        }
+        if (!startFromFile(gameFile)) {
+            return false;
+        }
+
+        // 5th: restore snapshot, if it belongs to the loaded actions
+        long replayStart = System.nanoTime();
+        int start = 0;
+        if (snapshot != null && snapshot.matches(gameIOData.getGameData(), gameIOData.getActions())) {
+            List<PossibleAction> restoredActions = gameIOData.getActions().subList(0, snapshot.getActionCount());
+            if (snapshot.getStates().restore(railsRoot, restoredActions)) {
+                railsRoot.getGameManager().setSnapshotActions(snapshot.getActionCount());
+                start = snapshot.getActionCount();
+                log.info("Restored snapshot of {} actions", start);
+            } else {
+                // the root is in an undefined state after a failed restore
+                log.info("Snapshot restore failed, replaying all actions");
+                setUseSnapshot(false);
+                railsRoot = null;
+                addPhaseTime(Phase.REPLAY, replayStart);
+                return createFromFile(gameFile);
+            }
+        }
+
+        // 6th: replay game
+        boolean replayed = replayGame(start);
+        addPhaseTime(Phase.REPLAY, replayStart);
+        return replayed;
+    }
+
+    /**
+     * Creates and starts the game of the file without executing its actions
+     * (available by {@link #getActions()})
+     * @param gameFile
+     * @return false if exception occurred
+     */
+    public boolean startFromFile(File gameFile) {
         try {
             // 1st: loadGameData
+            long phaseStart = System.nanoTime();
             loadGameData(gameFile);
+            phaseStart = addPhaseTime(Phase.LOAD_DATA, phaseStart);
 
             // 2nd: create game
             railsRoot = RailsRoot.create(gameIOData.getGameData());
+            phaseStart = addPhaseTime(Phase.CREATE_ROOT, phaseStart);
 
             // 3rd: convert game data (retrieve actions)
             convertGameData();
 
             // 4th: start game
             railsRoot.start();
+            addPhaseTime(Phase.START, phaseStart);
 
         } catch (Exception e) {
             log.debug("Exception during createFromFile in gameLoader ", e);
             exception = e;
             return false;
         }
-        // 5th: replay game
-        return replayGame();
+        return true;
     }
 
     /**
@@ -368,6 +580,14 @@ public class GameLoader {
             this.loader = loader;
         }
 
+        /**
+         * For subclasses that implement the reading of objects completely (see {@link ObjectInputStream#ObjectInputStream()})
+         */
+        protected RailsObjectInputStream(GameLoader loader) throws IOException {
+            super();
+            this.loader = loader;
+        }
+
         public RailsRoot getRoot() {
             return loader.getRoot();
         }
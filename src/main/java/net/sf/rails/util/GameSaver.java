@@ -1,5 +1,6 @@
 package net.sf.rails.util;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
@@ -65,43 +66,90 @@ public class GameSaver {
         this(gameLoader.getRoot().getGameData(), gameLoader.getActions());
     }
 
+    /**
+     * Creates a new game saver that keeps the version and date of the loaded game data
+     */
+    GameSaver(GameIOData loadedData) {
+        this(loadedData.getGameData(), loadedData.getActions());
+        gameIOData.setVersion(loadedData.getVersion());
+        gameIOData.setDate(loadedData.getDate());
+    }
+
     /**
      * Stores the game to a file
      * @param file to save game to
      */
     public void saveGame(File file) throws IOException {
+        if (ActionLog.hasActionLogExtension(file)) {
+            saveActionLog(file);
+            return;
+        }
         log.info("Saving to {}", file.getAbsoluteFile());
 
         try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(file.toPath()))) {
-            oos.writeObject(gameIOData.getVersion());
-            oos.writeObject(gameIOData.getDate());
-            oos.writeObject(gameIOData.getFileVersionID());
-            oos.writeObject(gameIOData.getGameData().getGameName());
-            oos.writeObject(gameIOData.getGameData().getGameOptions().getOptions());
-            // save game play related options
-            Map<String, String> gameOptions = new HashMap<>();
-            for ( Map.Entry<String, List<ConfigItem>> entry : ConfigManager.getInstance().getConfigSections().entrySet() ) {
-                for ( ConfigItem config : entry.getValue() ) {
-                    if ( config.isGameRelated ) {
-                        String value = Config.get(config.name);
-                        if ( StringUtils.isNotBlank(value) ) {
-                            gameOptions.put(config.name, Config.get(config.name));
-                        }
-                    }
-                }
-            }
-            if ( !gameOptions.isEmpty() ) {
-                oos.writeObject(gameOptions);
+            writeHeader(oos);
+            for ( PossibleAction action : gameIOData.getActions() ) {
+                oos.writeObject(action);
             }
+        }
+        log.debug("File save successful");
+    }
+
+    /**
+     * Stores the game to a file in the format of {@link ActionLog}
+     * @param file to save game to
+     */
+    public void saveActionLog(File file) throws IOException {
+        log.info("Saving action log to {}", file.getAbsoluteFile());
 
-            oos.writeObject(gameIOData.getGameData().getPlayers());
+        try (ActionLogWriter writer = ActionLogWriter.create(file, getHeaderData())) {
             for ( PossibleAction action : gameIOData.getActions() ) {
-                oos.writeObject(action);
+                writer.write(action);
             }
         }
         log.debug("File save successful");
     }
 
+    /**
+     * @return all game data that precedes the actions, as written by {@link #writeHeader(ObjectOutputStream)}
+     */
+    byte[] getHeaderData() throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(header)) {
+            writeHeader(oos);
+        }
+        return header.toByteArray();
+    }
+
+    /**
+     * Writes all game data that precedes the actions
+     * @param oos stream to write to
+     */
+    void writeHeader(ObjectOutputStream oos) throws IOException {
+        oos.writeObject(gameIOData.getVersion());
+        oos.writeObject(gameIOData.getDate());
+        oos.writeObject(gameIOData.getFileVersionID());
+        oos.writeObject(gameIOData.getGameData().getGameName());
+        oos.writeObject(gameIOData.getGameData().getGameOptions().getOptions());
+        // save game play related options
+        Map<String, String> gameOptions = new HashMap<>();
+        for ( Map.Entry<String, List<ConfigItem>> entry : ConfigManager.getInstance().getConfigSections().entrySet() ) {
+            for ( ConfigItem config : entry.getValue() ) {
+                if ( config.isGameRelated ) {
+                    String value = Config.get(config.name);
+                    if ( StringUtils.isNotBlank(value) ) {
+                        gameOptions.put(config.name, Config.get(config.name));
+                    }
+                }
+            }
+        }
+        if ( !gameOptions.isEmpty() ) {
+            oos.writeObject(gameOptions);
+        }
+
+        oos.writeObject(gameIOData.getGameData().getPlayers());
+    }
+
     /**
      * stores game to autosave file
      * @throws IOException
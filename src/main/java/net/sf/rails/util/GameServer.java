@@ -0,0 +1,103 @@
+package net.sf.rails.util;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import net.sf.rails.common.GameContext;
+
+/**
+ * GameServer hosts several headless games in one JVM
+ * <p>
+ * Each game has its own {@link GameContext} (configuration and locale) and its own thread,
+ * so that games run in parallel without interference.
+ * The process-wide configuration has to be initialized before (see ConfigManager.initConfiguration).
+ */
+public final class GameServer {
+
+    private static final Logger log = LoggerFactory.getLogger(GameServer.class);
+
+    /**
+     * Configuration of each game context, unless replaced by the configuration of the game:
+     * no recovery journal, as all games would share the same file
+     */
+    public static final Map<String, String> DEFAULT_GAME_CONFIG = ImmutableMap.of(
+            "save.recovery.active", "no");
+
+    private final Map<String, HeadlessGame> games = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a game without content, the content is created by start, load or open of the game
+     * @param id of the game
+     * @param config configuration of the game, replacing the process-wide configuration
+     * @param localeCode locale of the game, null to use the configured locale
+     * @throws IllegalArgumentException if a game with that id exists already
+     */
+    public HeadlessGame createGame(String id, Map<String, String> config, String localeCode) {
+        GameContext context = GameContext.create(id, localeCode);
+        for (Map.Entry<String, String> entry : DEFAULT_GAME_CONFIG.entrySet()) {
+            context.setValue(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            context.setValue(entry.getKey(), entry.getValue());
+        }
+
+        HeadlessGame game = new HeadlessGame(context);
+        if (games.putIfAbsent(id, game) != null) {
+            game.shutdown();
+            throw new IllegalArgumentException("Game " + id + " exists already");
+        }
+        log.debug("Created game {}", id);
+        return game;
+    }
+
+    /**
+     * @return the game with the id, null if there is none
+     */
+    public HeadlessGame getGame(String id) {
+        return games.get(id);
+    }
+
+    public Set<String> getGameIds() {
+        return ImmutableSet.copyOf(games.keySet());
+    }
+
+    public int countOfGames() {
+        return games.size();
+    }
+
+    /**
+     * Removes the game, its thread stops after the submitted tasks are finished
+     */
+    public void closeGame(String id) {
+        HeadlessGame game = games.remove(id);
+        if (game != null) {
+            game.shutdown();
+            log.debug("Closed game {}", id);
+        }
+    }
+
+    /**
+     * Closes all games and waits for the submitted tasks to finish
+     * @return true if all games finished in time
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean finished = true;
+        for (String id : getGameIds()) {
+            HeadlessGame game = games.remove(id);
+            if (game == null) continue;
+            game.shutdown();
+            finished &= game.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+        return finished;
+    }
+
+}
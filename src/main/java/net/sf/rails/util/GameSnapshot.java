@@ -0,0 +1,172 @@
+package net.sf.rails.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.GameData;
+import net.sf.rails.game.RailsRoot;
+import net.sf.rails.game.state.StateSnapshot;
+import rails.game.action.PossibleAction;
+
+/**
+ * GameSnapshot stores the states of a game at a checkpoint next to the saved game file
+ * <p>
+ * The snapshot contains the number of actions executed at the checkpoint and a checksum of the
+ * game data and those actions. Loading restores the states and replays only the actions after the
+ * checkpoint (see {@link GameLoader#createFromFile(File)}).
+ * If the format version, the Rails version or the checksum do not match, the game is fully replayed.
+ */
+public final class GameSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger log = LoggerFactory.getLogger(GameSnapshot.class);
+
+    private static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".snapshot";
+
+    private final int formatVersion;
+    private final String railsVersion;
+    private final int actionCount;
+    private final byte[] checksum;
+    private final StateSnapshot states;
+
+    private GameSnapshot(int actionCount, byte[] checksum, StateSnapshot states) {
+        this.formatVersion = FORMAT_VERSION;
+        this.railsVersion = Config.getVersion();
+        this.actionCount = actionCount;
+        this.checksum = checksum;
+        this.states = states;
+    }
+
+    /**
+     * @return the snapshot file that belongs to a saved game file
+     */
+    public static File getFile(File gameFile) {
+        return new File(gameFile.getParentFile(), gameFile.getName() + FILE_EXTENSION);
+    }
+
+    /**
+     * Captures the states of the game and stores them next to the saved game file.
+     * An outdated snapshot file is removed if the states cannot be captured.
+     * @param gameFile the saved game file
+     * @param actions the executed actions, identical to the actions of the saved game file
+     * @return true if the snapshot was stored
+     */
+    public static boolean save(File gameFile, RailsRoot root, List<PossibleAction> actions) {
+        File file = getFile(gameFile);
+        try {
+            StateSnapshot states = StateSnapshot.capture(root, actions);
+            if (states == null) {
+                Files.deleteIfExists(file.toPath());
+                return false;
+            }
+            GameSnapshot snapshot = new GameSnapshot(actions.size(),
+                    createChecksum(root.getGameData(), actions, actions.size()), states);
+            try (ObjectOutputStream oos = new ObjectOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(file.toPath())))) {
+                oos.writeObject(snapshot);
+            }
+            log.debug("Saved snapshot of {} actions to {}", actions.size(), file.getPath());
+            return true;
+        } catch (IOException e) {
+            log.warn("Unable to save snapshot {}", file.getPath(), e);
+            return false;
+        }
+    }
+
+    /**
+     * @param gameFile the saved game file
+     * @return the snapshot stored next to the saved game file, null if there is none or it cannot be read
+     */
+    public static GameSnapshot load(File gameFile) {
+        File file = getFile(gameFile);
+        if (!file.isFile()) return null;
+        try (ObjectInputStream ois = new ObjectInputStream(new GZIPInputStream(Files.newInputStream(file.toPath())))) {
+            GameSnapshot snapshot = (GameSnapshot) ois.readObject();
+            if (snapshot.formatVersion != FORMAT_VERSION) {
+                log.info("Snapshot format {} is incompatible with current format {}", snapshot.formatVersion,
+                        FORMAT_VERSION);
+                return null;
+            }
+            return snapshot;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.info("Unable to read snapshot {}: {}", file.getPath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return true if the snapshot was taken from the same Rails version, game data and actions
+     */
+    public boolean matches(GameData gameData, List<PossibleAction> actions) {
+        if (!Config.getVersion().equals(railsVersion)) {
+            log.info("Snapshot of Rails {} does not match current version {}", railsVersion, Config.getVersion());
+            return false;
+        }
+        if (actions == null || actions.size() < actionCount) {
+            log.info("Snapshot contains more actions than the saved game");
+            return false;
+        }
+        try {
+            if (!Arrays.equals(checksum, createChecksum(gameData, actions, actionCount))) {
+                log.info("Snapshot checksum does not match the saved game");
+                return false;
+            }
+        } catch (IOException e) {
+            log.info("Unable to compute the checksum of the saved game: {}", e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    // SHA-256 over the game data and the serialized actions
+    private static byte[] createChecksum(GameData gameData, List<PossibleAction> actions, int count)
+            throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        try (ObjectOutputStream oos = new ObjectOutputStream(
+                new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            oos.writeObject(gameData.getGameName());
+            oos.writeObject(new TreeMap<>(gameData.getGameOptions().getOptions()));
+            oos.writeObject(gameData.getPlayers().toArray(new String[0]));
+            for (PossibleAction action : actions.subList(0, count)) {
+                oos.writeObject(action);
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * @return number of actions executed at the checkpoint
+     */
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    public StateSnapshot getStates() {
+        return states;
+    }
+
+}
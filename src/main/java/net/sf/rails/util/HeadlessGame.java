@@ -0,0 +1,179 @@
+package net.sf.rails.util;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.rails.common.GameContext;
+import net.sf.rails.common.GameData;
+import net.sf.rails.common.parser.ConfigurationException;
+import net.sf.rails.game.RailsRoot;
+import rails.game.action.NullAction;
+import rails.game.action.PossibleAction;
+
+/**
+ * HeadlessGame runs one game without user interface
+ * <p>
+ * All tasks of the game are executed one after the other by its own thread,
+ * which has the {@link GameContext} of the game bound. Therefore the game state
+ * must only be accessed by tasks submitted to the game (see {@link #submit(Function)}).
+ * <p>
+ * Games are created by the {@link GameServer}.
+ */
+public final class HeadlessGame {
+
+    private static final Logger log = LoggerFactory.getLogger(HeadlessGame.class);
+
+    private final GameContext context;
+    private final ExecutorService executor;
+
+    // only accessed by the game thread
+    private RailsRoot root;
+
+    HeadlessGame(final GameContext context) {
+        this.context = context;
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(() -> context.run(task), "Game-" + context.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public String getId() {
+        return context.getId();
+    }
+
+    public GameContext getContext() {
+        return context;
+    }
+
+    /**
+     * Creates and starts a new game
+     * @return the message of a failed start, null if the game was started
+     */
+    public Future<String> start(final GameData gameData) {
+        return executor.submit(() -> {
+            checkNotCreated();
+            RailsRoot newRoot;
+            try {
+                newRoot = RailsRoot.create(gameData);
+            } catch (ConfigurationException e) {
+                log.warn("Unable to create game {}", getId(), e);
+                return e.getMessage();
+            }
+            String message = newRoot.start();
+            if (message != null) return message;
+            root = newRoot;
+            processStartAction();
+            return null;
+        });
+    }
+
+    /**
+     * Creates the game from a saved game file and executes all its actions
+     * @return true if all actions of the file were executed
+     */
+    public Future<Boolean> load(final File gameFile) {
+        return executor.submit(() -> {
+            checkNotCreated();
+            GameLoader gameLoader = new GameLoader();
+            boolean loaded = gameLoader.createFromFile(gameFile);
+            if (gameLoader.getRoot() == null) {
+                log.warn("Unable to load game {} from {}", getId(), gameFile, gameLoader.getException());
+                return false;
+            }
+            root = gameLoader.getRoot();
+            processStartAction();
+            return loaded;
+        });
+    }
+
+    /**
+     * Creates the game from a saved game file without executing its actions
+     * @return the actions of the saved game file (to be processed by the game), null if the game was not created
+     */
+    public Future<List<PossibleAction>> open(final File gameFile) {
+        return executor.submit(() -> {
+            checkNotCreated();
+            GameLoader gameLoader = new GameLoader();
+            if (!gameLoader.startFromFile(gameFile)) {
+                log.warn("Unable to open game {} from {}", getId(), gameFile, gameLoader.getException());
+                return null;
+            }
+            root = gameLoader.getRoot();
+            processStartAction();
+            return gameLoader.getActions();
+        });
+    }
+
+    // creates the possible actions at the start of the game
+    private void processStartAction() {
+        root.getGameManager().process(new NullAction(root, NullAction.Mode.START_GAME));
+    }
+
+    private void checkNotCreated() {
+        if (root != null) {
+            throw new IllegalStateException("Game " + getId() + " already created");
+        }
+    }
+
+    /**
+     * Processes the action by the GameManager
+     * @return result of the action processing
+     */
+    public Future<Boolean> process(final PossibleAction action) {
+        return submit(railsRoot -> railsRoot.getGameManager().process(action));
+    }
+
+    /**
+     * Submits a task that accesses the game
+     * @throws IllegalStateException (at execution) if the game has not been created yet
+     */
+    public <T> Future<T> submit(final Function<RailsRoot, T> task) {
+        return executor.submit(() -> {
+            if (root == null) {
+                throw new IllegalStateException("Game " + getId() + " not created");
+            }
+            return task.apply(root);
+        });
+    }
+
+    /**
+     * Submits a task that runs in the context of the game
+     */
+    public <T> Future<T> submit(final Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * Stops the game thread after the submitted tasks are finished
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * @return true if the game thread stopped before the timeout
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "HeadlessGame(" + getId() + ")";
+    }
+
+}
@@ -79,9 +79,9 @@ public class CashCorrectionManager extends CorrectionManager {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CorrectCashError",
+            DisplayBuffer.addText(this, "CorrectCashError",
                     ch.getId(),
-                    errMsg));
+                    errMsg);
             result = true;
         } else {
             // no error occured
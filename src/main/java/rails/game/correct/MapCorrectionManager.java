@@ -126,10 +126,10 @@ public final class MapCorrectionManager extends CorrectionManager {
         }
 
         if (errMsg != null) {
-            DisplayBuffer.add(this, LocalText.getText("CorrectMapCannotLayTile",
+            DisplayBuffer.addText(this, "CorrectMapCannotLayTile",
                     chosenTile.toText(),
                     hex.getId(),
-                    errMsg ));
+                    errMsg );
             ;
         }
 
@@ -0,0 +1,193 @@
+package net.sf.rails.algorithms;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.ConfigManager;
+import net.sf.rails.game.OperatingRound;
+import net.sf.rails.game.Phase;
+import net.sf.rails.game.PublicCompany;
+import net.sf.rails.game.RailsRoot;
+import net.sf.rails.game.round.RoundFacade;
+import net.sf.rails.util.GameLoader;
+import rails.game.action.PossibleAction;
+
+/**
+ * Benchmark of the revenue engine based on the saved games of the test directory
+ * <p>
+ * Each saved game is replayed. Whenever a company starts to operate its network is used to time
+ * the graph construction (route graph, optimized graph, multigraph) and the revenue calculation
+ * separately. Each measurement is repeated after a number of warmup runs.
+ * <p>
+ * Run with: gradle revenueBenchmark (see build.gradle) or
+ * main arguments: directories and/or saved games, default is src/test/resources/data/real
+ * system properties: benchmark.warmup (default 2), benchmark.iterations (default 5),
+ * benchmark.multigraph (default true)
+ */
+public final class RevenueBenchmark {
+
+    private static final String DEFAULT_DIRECTORY = "src/test/resources/data/real";
+
+    private final int warmup;
+    private final int iterations;
+    private final boolean useMultiGraph;
+
+    // statistics of a saved game or all saved games
+    private static final class Statistics {
+        private int snapshots;
+        private long routeGraphTime;
+        private long optimizedGraphTime;
+        private long multiGraphTime;
+        private long revenueTime;
+        private long evaluations;
+        private long predictions;
+        private long prunings;
+
+        private void add(Statistics other) {
+            snapshots += other.snapshots;
+            routeGraphTime += other.routeGraphTime;
+            optimizedGraphTime += other.optimizedGraphTime;
+            multiGraphTime += other.multiGraphTime;
+            revenueTime += other.revenueTime;
+            evaluations += other.evaluations;
+            predictions += other.predictions;
+            prunings += other.prunings;
+        }
+
+        // mean time in microseconds per snapshot and iteration
+        private static String mean(long nanos, int count) {
+            if (count == 0) return "-";
+            return String.format("%.1f us", nanos / 1000.0 / count);
+        }
+
+        private String format(String name, int iterations) {
+            int count = snapshots * iterations;
+            double evaluationsPerSecond = revenueTime == 0 ? 0 : evaluations * 1.0e9 / revenueTime;
+            double pruningRate = predictions == 0 ? 0 : 100.0 * prunings / predictions;
+            return name + ": " + snapshots + " snapshots"
+                    + ", route graph " + mean(routeGraphTime, count)
+                    + ", optimized graph " + mean(optimizedGraphTime, count)
+                    + ", multigraph " + mean(multiGraphTime, count)
+                    + ", revenue " + mean(revenueTime, count)
+                    + String.format(", %.0f evaluations/s", evaluationsPerSecond)
+                    + String.format(", %d predictions, %.1f%% pruned", predictions / Math.max(iterations, 1), pruningRate);
+        }
+    }
+
+    private RevenueBenchmark(int warmup, int iterations, boolean useMultiGraph) {
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.useMultiGraph = useMultiGraph;
+    }
+
+    private Statistics benchmarkGame(File gameFile) {
+        final Statistics statistics = new Statistics();
+        GameLoader gameLoader = new GameLoader();
+        gameLoader.setReplayListener(new GameLoader.ReplayListener() {
+            private PublicCompany lastCompany = null;
+
+            @Override
+            public void actionProcessed(RailsRoot root, PossibleAction action) {
+                RoundFacade round = root.getGameManager().getCurrentRound();
+                if (!(round instanceof OperatingRound)) {
+                    lastCompany = null;
+                    return;
+                }
+                PublicCompany company = ((OperatingRound) round).getOperatingCompany();
+                if (company == null || company == lastCompany) return;
+                lastCompany = company;
+                if (company.getLaidBaseTokens().isEmpty()) return;
+                benchmarkCompany(root, company, statistics);
+            }
+        });
+        if (!gameLoader.createFromFile(gameFile)) {
+            System.out.println("Replay of " + gameFile.getName() + " failed: " + gameLoader.getException());
+        }
+        return statistics;
+    }
+
+    private void benchmarkCompany(RailsRoot root, PublicCompany company, Statistics statistics) {
+        Phase phase = root.getPhaseManager().getCurrentPhase();
+        statistics.snapshots++;
+
+        for (int i = 0; i < warmup + iterations; i++) {
+            boolean measure = i >= warmup;
+
+            // graph construction, without the caches of the NetworkManager
+            long start = System.nanoTime();
+            NetworkGraph mapGraph = NetworkGraph.createMapGraph(root);
+            NetworkGraph routeGraph = NetworkGraph.createRouteGraph(mapGraph, company, false, true);
+            long routeTime = System.nanoTime();
+            NetworkVertex.initAllRailsVertices(routeGraph, company, phase, true);
+            List<NetworkVertex> protectedVertices = routeGraph.getCompanyBaseTokenVertexes(company);
+            long initTime = System.nanoTime();
+            NetworkGraph optimizedGraph = NetworkGraph.createOptimizedGraph(routeGraph, protectedVertices);
+            long optimizedTime = System.nanoTime();
+            NetworkMultigraph.create(optimizedGraph, protectedVertices);
+            long multiTime = System.nanoTime();
+
+            // revenue calculation, without the result cache
+            root.getNetworkManager().getRevenueCache().clear();
+            RevenueAdapter revenueAdapter = RevenueAdapter.createRevenueAdapter(root, company, phase);
+            if (revenueAdapter.getTrains().isEmpty()) {
+                if (!measure) continue;
+                statistics.routeGraphTime += routeTime - start;
+                statistics.optimizedGraphTime += optimizedTime - initTime;
+                statistics.multiGraphTime += multiTime - optimizedTime;
+                continue;
+            }
+            revenueAdapter.initRevenueCalculator(useMultiGraph);
+            long revenueStart = System.nanoTime();
+            revenueAdapter.calculateRevenue();
+            long revenueEnd = System.nanoTime();
+
+            if (!measure) continue;
+            statistics.routeGraphTime += routeTime - start;
+            statistics.optimizedGraphTime += optimizedTime - initTime;
+            statistics.multiGraphTime += multiTime - optimizedTime;
+            statistics.revenueTime += revenueEnd - revenueStart;
+            statistics.evaluations += revenueAdapter.getNumberOfEvaluations();
+            statistics.predictions += revenueAdapter.getNumberOfPredictions();
+            statistics.prunings += revenueAdapter.getNumberOfPrunings();
+        }
+    }
+
+    private void benchmarkFile(File file, Statistics total) {
+        if (file.isDirectory()) {
+            String[] fileNames = file.list();
+            if (fileNames == null) return;
+            Arrays.sort(fileNames);
+            for (String fileName : fileNames) {
+                benchmarkFile(new File(file, fileName), total);
+            }
+        } else if (file.getName().endsWith("." + Config.get("save.filename.extension"))) {
+            Statistics statistics = benchmarkGame(file);
+            System.out.println(statistics.format(file.getName(), iterations));
+            total.add(statistics);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        ConfigManager.initConfiguration(true);
+
+        int warmup = Integer.getInteger("benchmark.warmup", 2);
+        int iterations = Math.max(Integer.getInteger("benchmark.iterations", 5), 1);
+        boolean useMultiGraph = Boolean.parseBoolean(System.getProperty("benchmark.multigraph", "true"));
+        RevenueBenchmark benchmark = new RevenueBenchmark(warmup, iterations, useMultiGraph);
+
+        if (args == null || args.length == 0) {
+            args = new String[] {DEFAULT_DIRECTORY};
+        }
+        System.out.println("Revenue benchmark: warmup = " + warmup + ", iterations = " + iterations
+                + ", multigraph = " + useMultiGraph);
+        Statistics total = new Statistics();
+        for (String arg : args) {
+            benchmark.benchmarkFile(new File(arg), total);
+        }
+        System.out.println(total.format("Total", iterations));
+    }
+
+}
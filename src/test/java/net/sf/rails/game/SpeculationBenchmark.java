@@ -0,0 +1,169 @@
+package net.sf.rails.game;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.ConfigManager;
+import net.sf.rails.game.state.ChangeStack;
+import net.sf.rails.util.GameLoader;
+import rails.game.action.GameAction;
+import rails.game.action.PossibleAction;
+
+/**
+ * Benchmark of speculative actions (see {@link Speculation}) based on the saved games of the test directory
+ * <p>
+ * Each saved game is replayed, at every n-th action all current possible actions (except game actions)
+ * are processed speculatively and rolled back. Afterwards the report of the game is compared with the one
+ * of a replay without speculations, to check that the rollbacks leave no traces.
+ * <p>
+ * Run with: gradle speculationBenchmark (see build.gradle) or
+ * main arguments: directories and/or saved games, default is src/test/resources/data/real
+ * system properties: benchmark.stride (default 10)
+ */
+public final class SpeculationBenchmark {
+
+    private static final String DEFAULT_DIRECTORY = "src/test/resources/data/real";
+
+    private final int stride;
+
+    // results of one game
+    private static final class Result implements GameLoader.ReplayListener {
+        private final int stride;
+        private int actions = 0;
+        private int positions = 0;
+        private int speculations = 0;
+        private int processed = 0;
+        private int failed = 0;
+        private long changeSets = 0;
+        private long time = 0;
+        private String error = null;
+
+        private Result(int stride) {
+            this.stride = stride;
+        }
+
+        @Override
+        public void actionProcessed(RailsRoot root, PossibleAction action) {
+            if (++actions % stride != 0 || error != null) return;
+            positions++;
+
+            GameManager gameManager = root.getGameManager();
+            ChangeStack changeStack = root.getStateManager().getChangeStack();
+            int index = changeStack.getCurrentIndex();
+            int reports = root.getReportManager().getReportBuffer().getAsList().size();
+            ImmutableList<PossibleAction> candidates = gameManager.getPossibleActions().getList();
+
+            for (PossibleAction candidate : candidates) {
+                if (candidate instanceof GameAction) continue;
+                speculations++;
+                long start = System.nanoTime();
+                try (Speculation speculation = Speculation.open(root)) {
+                    if (speculation.process(candidate)) {
+                        processed++;
+                        changeSets += speculation.getDepth();
+                    }
+                } catch (RuntimeException e) {
+                    // incomplete actions (e.g. without a chosen tile) can fail in the engine
+                    failed++;
+                }
+                time += System.nanoTime() - start;
+            }
+
+            if (changeStack.getCurrentIndex() != index) {
+                error = "change stack differs at action " + actions;
+            } else if (root.getReportManager().getReportBuffer().getAsList().size() != reports) {
+                error = "report differs at action " + actions;
+            } else if (!gameManager.getPossibleActions().getList().equals(candidates)) {
+                error = "possible actions differ at action " + actions;
+            }
+        }
+    }
+
+    private SpeculationBenchmark(int stride) {
+        this.stride = stride;
+    }
+
+    private static RailsRoot load(File gameFile, GameLoader.ReplayListener listener) {
+        GameLoader gameLoader = new GameLoader();
+        gameLoader.setUseSnapshot(false);
+        gameLoader.setReplayListener(listener);
+        if (!gameLoader.createFromFile(gameFile)) {
+            throw new IllegalStateException("Load of " + gameFile + " failed: " + gameLoader.getException());
+        }
+        return gameLoader.getRoot();
+    }
+
+    private Result run(File gameFile) {
+        List<String> report = load(gameFile, null).getReportManager().getReportBuffer().getAsList();
+
+        Result result = new Result(stride);
+        RailsRoot root = load(gameFile, result);
+        if (result.error != null) {
+            throw new IllegalStateException(gameFile.getName() + ": " + result.error);
+        }
+        if (!root.getReportManager().getReportBuffer().getAsList().equals(report)) {
+            throw new IllegalStateException(gameFile.getName() + ": reports differ after speculations");
+        }
+        return result;
+    }
+
+    private static String format(String name, int positions, int speculations, int processed, int failed,
+            long changeSets, long time) {
+        double perSecond = time == 0 ? 0 : speculations / (time / 1.0e9);
+        return name + ": positions " + positions + ", speculations " + speculations
+                + " (processed " + processed + ", failed " + failed + ")"
+                + String.format(", %.1f change sets/processed", processed == 0 ? 0 : (double) changeSets / processed)
+                + String.format(", %.0f speculations/s", perSecond);
+    }
+
+    private static void collectFiles(File file, List<File> files) {
+        if (file.isDirectory()) {
+            String[] fileNames = file.list();
+            if (fileNames == null) return;
+            Arrays.sort(fileNames);
+            for (String fileName : fileNames) {
+                collectFiles(new File(file, fileName), files);
+            }
+        } else if (file.getName().endsWith("." + Config.get("save.filename.extension"))) {
+            files.add(file);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        ConfigManager.initConfiguration(true);
+
+        int stride = Math.max(Integer.getInteger("benchmark.stride", 10), 1);
+
+        if (args == null || args.length == 0) {
+            args = new String[] {DEFAULT_DIRECTORY};
+        }
+        List<File> files = Lists.newArrayList();
+        for (String arg : args) {
+            collectFiles(new File(arg), files);
+        }
+        System.out.println("Speculation benchmark: stride = " + stride + ", saved games = " + files.size());
+
+        SpeculationBenchmark benchmark = new SpeculationBenchmark(stride);
+        int positions = 0, speculations = 0, processed = 0, failed = 0;
+        long changeSets = 0, time = 0;
+        for (File file : files) {
+            Result result = benchmark.run(file);
+            positions += result.positions;
+            speculations += result.speculations;
+            processed += result.processed;
+            failed += result.failed;
+            changeSets += result.changeSets;
+            time += result.time;
+            System.out.println(format(file.getName(), result.positions, result.speculations, result.processed,
+                    result.failed, result.changeSets, result.time));
+        }
+        System.out.println(format("Total", positions, speculations, processed, failed, changeSets, time));
+    }
+
+}
@@ -0,0 +1,202 @@
+package net.sf.rails.game.model;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedSet;
+
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.ConfigManager;
+import net.sf.rails.game.PublicCompany;
+import net.sf.rails.game.RailsRoot;
+import net.sf.rails.game.financial.PublicCertificate;
+import net.sf.rails.util.GameLoader;
+
+/**
+ * Benchmark of the share combinations against the previous enumeration of all subsets
+ * <p>
+ * The saved games are loaded, for each public company all its certificates form the portfolio.
+ * Share numbers and certificate combinations for all share numbers are calculated by both
+ * implementations, the results are compared and the times are reported.
+ * <p>
+ * Run with: gradle shareCombinationsBenchmark (see build.gradle) or
+ * main arguments: directories and/or saved games, default is src/test/resources/data/real
+ * system properties: benchmark.warmup (default 2), benchmark.iterations (default 5),
+ * benchmark.maxSubsetCertificates (default 20, larger portfolios are not enumerated)
+ */
+public final class ShareCombinationsBenchmark {
+
+    private static final String DEFAULT_DIRECTORY = "src/test/resources/data/real";
+
+    private final int warmup;
+    private final int iterations;
+    private final int maxSubsetCertificates;
+
+    private int portfolios;
+    private int mismatches;
+    private long subsetTime;
+    private long combinationsTime;
+
+    private ShareCombinationsBenchmark(int warmup, int iterations, int maxSubsetCertificates) {
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.maxSubsetCertificates = maxSubsetCertificates;
+    }
+
+    // previous implementation: enumeration of all subsets in binary order
+    private static SortedSet<Integer> subsetShareNumbers(List<PublicCertificate> certificates,
+            int maxShareNumber, boolean includePresident) {
+        ImmutableSortedSet.Builder<Integer> numbers = ImmutableSortedSet.naturalOrder();
+        for (long subset = 0; subset < 1L << certificates.size(); subset++) {
+            int sum = 0;
+            for (int i = 0; i < certificates.size() && sum <= maxShareNumber; i++) {
+                PublicCertificate cert = certificates.get(i);
+                if ((subset >> i & 1) == 0 || cert.isPresidentShare() && !includePresident) continue;
+                sum += cert.getShares();
+            }
+            if (sum <= maxShareNumber) {
+                numbers.add(sum);
+            }
+        }
+        return numbers.build();
+    }
+
+    private static SortedSet<PublicCertificate.Combination> subsetCombinations(
+            List<PublicCertificate> certificates, int shareNumber) {
+        ImmutableSortedSet.Builder<PublicCertificate.Combination> combinations = ImmutableSortedSet.naturalOrder();
+        for (long subset = 0; subset < 1L << certificates.size(); subset++) {
+            int sum = 0;
+            List<PublicCertificate> certSubSet = Lists.newArrayList();
+            for (int i = 0; i < certificates.size() && sum <= shareNumber; i++) {
+                if ((subset >> i & 1) == 0) continue;
+                certSubSet.add(certificates.get(i));
+                sum += certificates.get(i).getShares();
+            }
+            if (sum == shareNumber) {
+                combinations.add(PublicCertificate.Combination.create(certSubSet));
+            }
+        }
+        return combinations.build();
+    }
+
+    private static boolean sameCombinations(SortedSet<PublicCertificate.Combination> first,
+            SortedSet<PublicCertificate.Combination> second) {
+        if (first.size() != second.size()) return false;
+        Iterator<PublicCertificate.Combination> it = second.iterator();
+        for (PublicCertificate.Combination combination : first) {
+            if (!combination.getCertificates().equals(it.next().getCertificates())) return false;
+        }
+        return true;
+    }
+
+    private void benchmarkPortfolio(String name, List<PublicCertificate> certificates) {
+        int total = 0;
+        for (PublicCertificate cert : certificates) {
+            total += cert.getShares();
+        }
+        boolean enumerate = certificates.size() <= maxSubsetCertificates;
+        portfolios++;
+
+        for (int i = 0; i < warmup + iterations; i++) {
+            boolean measure = i >= warmup;
+
+            long start = System.nanoTime();
+            SortedSet<Integer> numbers = CertificatesModel.shareNumberCombinations(certificates, total, false);
+            List<SortedSet<PublicCertificate.Combination>> combinations = Lists.newArrayList();
+            for (int shareNumber = 1; shareNumber <= total; shareNumber++) {
+                combinations.add(CertificatesModel.certificateCombinations(certificates, shareNumber));
+            }
+            long end = System.nanoTime();
+            if (measure) combinationsTime += end - start;
+
+            if (!enumerate) continue;
+            start = System.nanoTime();
+            SortedSet<Integer> subsetNumbers = subsetShareNumbers(certificates, total, false);
+            List<SortedSet<PublicCertificate.Combination>> subsetCombinations = Lists.newArrayList();
+            for (int shareNumber = 1; shareNumber <= total; shareNumber++) {
+                subsetCombinations.add(subsetCombinations(certificates, shareNumber));
+            }
+            end = System.nanoTime();
+            if (measure) subsetTime += end - start;
+
+            if (i > 0) continue;
+            boolean same = numbers.equals(subsetNumbers);
+            for (int index = 0; same && index < combinations.size(); index++) {
+                same = sameCombinations(combinations.get(index), subsetCombinations.get(index));
+            }
+            if (!same) {
+                mismatches++;
+                System.out.println("Results differ for " + name + ": " + certificates);
+            }
+        }
+    }
+
+    private void benchmarkGame(File gameFile) {
+        GameLoader gameLoader = new GameLoader();
+        if (!gameLoader.createFromFile(gameFile)) {
+            System.out.println("Replay of " + gameFile.getName() + " failed: " + gameLoader.getException());
+            return;
+        }
+        RailsRoot root = gameLoader.getRoot();
+        long previousSubsetTime = subsetTime;
+        long previousCombinationsTime = combinationsTime;
+        int previousPortfolios = portfolios;
+        for (PublicCompany company : root.getCompanyManager().getAllPublicCompanies()) {
+            List<PublicCertificate> certificates = company.getCertificates();
+            if (certificates.isEmpty()) continue;
+            benchmarkPortfolio(gameFile.getName() + "/" + company.getId(), certificates);
+        }
+        System.out.println(format(gameFile.getName(), portfolios - previousPortfolios,
+                subsetTime - previousSubsetTime, combinationsTime - previousCombinationsTime));
+    }
+
+    private void benchmarkFile(File file) {
+        if (file.isDirectory()) {
+            String[] fileNames = file.list();
+            if (fileNames == null) return;
+            Arrays.sort(fileNames);
+            for (String fileName : fileNames) {
+                benchmarkFile(new File(file, fileName));
+            }
+        } else if (file.getName().endsWith("." + Config.get("save.filename.extension"))) {
+            benchmarkGame(file);
+        }
+    }
+
+    // mean time in microseconds per portfolio and iteration
+    private String format(String name, int count, long subsetNanos, long combinationsNanos) {
+        int measurements = count * iterations;
+        if (measurements == 0) return name + ": no portfolios";
+        return name + ": " + count + " portfolios"
+                + String.format(", subsets %.1f us", subsetNanos / 1000.0 / measurements)
+                + String.format(", combinations %.1f us", combinationsNanos / 1000.0 / measurements);
+    }
+
+    public static void main(String[] args) {
+
+        ConfigManager.initConfiguration(true);
+
+        int warmup = Integer.getInteger("benchmark.warmup", 2);
+        int iterations = Math.max(Integer.getInteger("benchmark.iterations", 5), 1);
+        int maxSubsetCertificates = Integer.getInteger("benchmark.maxSubsetCertificates", 20);
+        ShareCombinationsBenchmark benchmark = new ShareCombinationsBenchmark(warmup, iterations,
+                maxSubsetCertificates);
+
+        if (args == null || args.length == 0) {
+            args = new String[] {DEFAULT_DIRECTORY};
+        }
+        System.out.println("Share combinations benchmark: warmup = " + warmup + ", iterations = " + iterations
+                + ", max subset certificates = " + maxSubsetCertificates);
+        for (String arg : args) {
+            benchmark.benchmarkFile(new File(arg));
+        }
+        System.out.println(benchmark.format("Total", benchmark.portfolios, benchmark.subsetTime,
+                benchmark.combinationsTime));
+        System.out.println("Mismatches: " + benchmark.mismatches);
+    }
+
+}
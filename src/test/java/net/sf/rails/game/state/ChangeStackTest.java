@@ -131,4 +131,101 @@ public class ChangeStackTest {
         testUndoAfterClose();
     }
 
+    @Test
+    public void testRollback() {
+        ChangeStack.Checkpoint checkpoint = changeStack.openCheckpoint();
+        assertTrue(changeStack.isSpeculative());
+        state.set(false);
+        StateTestUtils.close(root);
+        state.set(true);
+        StateTestUtils.close(root);
+        assertEquals(5, changeStack.getCurrentIndex());
+
+        changeStack.rollback(checkpoint);
+        assertFalse(changeStack.isSpeculative());
+        assertEquals(3, changeStack.getCurrentIndex());
+        assertSame(set_3, changeStack.getClosedChangeSet());
+        assertTrue(state.value());
+        // the ChangeSets before the checkpoint are unchanged
+        testUndoAfterClose();
+    }
+
+    @Test
+    public void testRollbackKeepsRedo() {
+        changeStack.undo();
+        ChangeStack.Checkpoint checkpoint = changeStack.openCheckpoint();
+        assertFalse(changeStack.isRedoPossible());
+        state.set(true);
+        StateTestUtils.close(root);
+        changeStack.rollback(checkpoint);
+
+        assertFalse(state.value());
+        changeStack.redo();
+        assertEquals(3, changeStack.getCurrentIndex());
+        assertSame(set_3, changeStack.getClosedChangeSet());
+        assertTrue(state.value());
+    }
+
+    @Test
+    public void testRollbackKeepsOpenChanges() {
+        state.set(false);
+        ChangeStack.Checkpoint checkpoint = changeStack.openCheckpoint();
+        state.set(true);
+        StateTestUtils.close(root);
+        changeStack.rollback(checkpoint);
+
+        // the open change before the checkpoint is still there
+        assertFalse(state.value());
+        StateTestUtils.close(root);
+        assertEquals(4, changeStack.getCurrentIndex());
+        changeStack.undo();
+        assertTrue(state.value());
+        assertSame(set_3, changeStack.getClosedChangeSet());
+    }
+
+    @Test
+    public void testUndoInsideCheckpoint() {
+        ChangeStack.Checkpoint checkpoint = changeStack.openCheckpoint();
+        assertFalse(changeStack.isUndoPossible());
+        state.set(false);
+        StateTestUtils.close(root);
+        assertTrue(changeStack.isUndoPossible());
+        changeStack.undo();
+        assertTrue(state.value());
+        assertFalse(changeStack.isUndoPossible());
+        changeStack.redo();
+        assertFalse(state.value());
+
+        changeStack.rollback(checkpoint);
+        assertTrue(state.value());
+        assertTrue(changeStack.isUndoPossible());
+    }
+
+    @Test
+    public void testNestedCheckpoints() {
+        ChangeStack.Checkpoint outer = changeStack.openCheckpoint();
+        state.set(false);
+        StateTestUtils.close(root);
+        ChangeStack.Checkpoint inner = changeStack.openCheckpoint();
+        state.set(true);
+        StateTestUtils.close(root);
+
+        // only the innermost checkpoint can be rolled back
+        try{
+            changeStack.rollback(outer);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (Exception e){
+            assertThat(e).isInstanceOf(IllegalStateException.class);
+        }
+        changeStack.rollback(inner);
+        assertFalse(state.value());
+        assertEquals(4, changeStack.getCurrentIndex());
+        assertTrue(changeStack.isSpeculative());
+
+        changeStack.rollback(outer);
+        assertTrue(state.value());
+        assertEquals(3, changeStack.getCurrentIndex());
+        assertFalse(changeStack.isSpeculative());
+    }
+
 }
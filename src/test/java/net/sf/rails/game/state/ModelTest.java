@@ -9,6 +9,7 @@ import net.sf.rails.game.state.Root;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -21,7 +22,7 @@ public class ModelTest {
     
     private Root root;
     private ModelImpl model;
-    @Mock private Observer observer;
+    @Mock(answer = Answers.CALLS_REAL_METHODS) private Observer observer;
     
     @Before
     public void setUp() {
@@ -10,6 +10,7 @@ import net.sf.rails.game.state.Root;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -20,7 +21,7 @@ public class ObserverTest {
     
     private Root root;
     private BooleanState state;
-    @Mock private Observer observer;
+    @Mock(answer = Answers.CALLS_REAL_METHODS) private Observer observer;
 
     @Before
     public void setUp() {
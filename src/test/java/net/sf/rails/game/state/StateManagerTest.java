@@ -17,6 +17,7 @@ import net.sf.rails.game.state.StateManager;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -37,7 +38,7 @@ public class StateManagerTest {
     @Mock private Observer observer;
     @Mock private Model model; 
     private ModelImpl m_A1, m_A2, m_A3, m_B1, m_B2, m_C1, m_C2, m_C3, m_D, m_E, m_F;
-    @Mock private Observer o_A1, o_A2, o_A3, o_B1, o_B2, o_C1, o_C2, o_C3;
+    @Mock(answer = Answers.CALLS_REAL_METHODS) private Observer o_A1, o_A2, o_A3, o_B1, o_B2, o_C1, o_C2, o_C3;
     
     @Before
     public void setUp() {
@@ -179,6 +180,37 @@ public class StateManagerTest {
         verifyZeroInteractions(o_A2, o_A3, o_C3);
     }
 
+    @Test
+    public void testSuspendObserverUpdates() {
+        sm.suspendObserverUpdates();
+        sm.suspendObserverUpdates();
+        sm.updateObservers(ImmutableSet.of(m_A1.getState()));
+        sm.updateObservers(ImmutableSet.of(m_A1.getState(), m_C3.getState()));
+        sm.resumeObserverUpdates();
+        assertTrue(sm.isSuspended());
+        verify(o_A1, never()).update(anyString());
+        sm.resumeObserverUpdates();
+        assertFalse(sm.isSuspended());
+        // each observer is updated once
+        verify(o_A1).update(ID.get(0));
+        verify(o_B1).update(ID.get(3));
+        verify(o_C3).update(ID.get(7));
+        verifyZeroInteractions(o_A2, o_A3);
+    }
+
+    @Test
+    public void testSpeculationSkipsObservers() {
+        sm.suspendObserverUpdates();
+        sm.updateObservers(ImmutableSet.of(m_C3.getState()));
+        sm.beginSpeculation();
+        sm.updateObservers(ImmutableSet.of(m_A1.getState()));
+        sm.endSpeculation();
+        sm.resumeObserverUpdates();
+        // observers marked before the speculation are kept
+        verify(o_C3).update(ID.get(7));
+        verifyZeroInteractions(o_A1, o_B1, o_B2, o_C1, o_C2);
+    }
+
     @Test
     public void testGetChangeStack() {
         assertNotNull(sm.getChangeStack());
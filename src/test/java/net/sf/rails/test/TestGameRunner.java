@@ -0,0 +1,280 @@
+package net.sf.rails.test;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.ConfigManager;
+import net.sf.rails.common.GameContext;
+import net.sf.rails.game.RailsRoot;
+import net.sf.rails.util.GameLoader;
+
+/**
+ * Runs the test games of the test directory in parallel
+ * <p>
+ * Each test game is replayed by a worker thread with its own {@link GameContext}
+ * and its report is compared with the expected report (as {@link TestGame}).
+ * For each game the time of the phases (see {@link GameLoader.Phase}) and of the report comparison
+ * is listed. By default the runner stops at the first failed game and shows the first divergent line.
+ * <p>
+ * Run with: gradle regressionTest (see build.gradle) or
+ * main arguments: directories and/or saved games, default is the save directory of the test configuration
+ * system properties: regression.threads (default number of processors),
+ * regression.failFast (default true)
+ */
+public final class TestGameRunner {
+
+    private static final int MAX_RECURSION_LEVEL = 5;
+
+    private final int threads;
+    private final boolean failFast;
+
+    // result of one test game
+    private static final class Result {
+        private final String name;
+        private final long[] phaseTimes = new long[GameLoader.Phase.values().length];
+        private long reportTime;
+        private boolean skipped;
+        private String failure;
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        private long getTotalTime() {
+            long total = reportTime;
+            for (long time : phaseTimes) {
+                total += time;
+            }
+            return total;
+        }
+
+        private static String millis(long nanos) {
+            return String.format("%.0f ms", nanos / 1.0e6);
+        }
+
+        private String format() {
+            StringBuilder text = new StringBuilder(name).append(": ");
+            if (skipped) {
+                return text.append("skipped, no report").toString();
+            }
+            text.append(failure == null ? "passed" : "FAILED");
+            for (GameLoader.Phase phase : GameLoader.Phase.values()) {
+                text.append(", ").append(phase.name().toLowerCase()).append(" ")
+                        .append(millis(phaseTimes[phase.ordinal()]));
+            }
+            text.append(", report ").append(millis(reportTime));
+            text.append(", total ").append(millis(getTotalTime()));
+            return text.toString();
+        }
+    }
+
+    private TestGameRunner(int threads, boolean failFast) {
+        this.threads = threads;
+        this.failFast = failFast;
+    }
+
+    private static List<String> readReport(File reportFile) throws IOException {
+        List<String> report = new ArrayList<>();
+        try (Scanner reportScanner = new Scanner(new FileReader(reportFile))) {
+            while (reportScanner.hasNext()) {
+                report.add(reportScanner.nextLine());
+            }
+        }
+        return report;
+    }
+
+    /**
+     * @return description of the first difference of the reports, null if they are identical
+     */
+    static String compareReports(List<String> expectedReport, List<String> testReport) {
+        int lines = Math.min(expectedReport.size(), testReport.size());
+        for (int line = 0; line < lines; line++) {
+            if (!expectedReport.get(line).equals(testReport.get(line))) {
+                return "Reports differ in line " + (line + 1) + ":\n"
+                        + "- expected: " + expectedReport.get(line) + "\n"
+                        + "+ actual:   " + testReport.get(line);
+            }
+        }
+        if (expectedReport.size() > lines) {
+            return "Expected report exceeds test report in line " + (lines + 1) + ":\n"
+                    + "- expected: " + expectedReport.get(lines);
+        }
+        if (testReport.size() > lines) {
+            return "Test report exceeds expected report in line " + (lines + 1) + ":\n"
+                    + "+ actual:   " + testReport.get(lines);
+        }
+        return null;
+    }
+
+    private static Result runGame(File gameFile, String name) throws IOException {
+        Result result = new Result(name);
+        String basePath = gameFile.getParent() + File.separator
+                + gameFile.getName().substring(0, gameFile.getName().lastIndexOf('.'));
+        File reportFile = new File(basePath + "." + Config.get("report.filename.extension"));
+        if (!reportFile.exists()) {
+            result.skipped = true;
+            return result;
+        }
+
+        GameLoader gameLoader = new GameLoader();
+        gameLoader.setUseSnapshot(false);
+        boolean loaded = gameLoader.createFromFile(gameFile);
+        for (GameLoader.Phase phase : GameLoader.Phase.values()) {
+            result.phaseTimes[phase.ordinal()] = gameLoader.getPhaseTime(phase);
+        }
+
+        long reportStart = System.nanoTime();
+        RailsRoot root = gameLoader.getRoot();
+        List<String> testReport = root == null ? Collections.<String>emptyList()
+                : root.getReportManager().getReportBuffer().getAsList();
+        String difference = compareReports(readReport(reportFile), testReport);
+        if (!loaded) {
+            result.failure = "Game load failed: " + gameLoader.getException()
+                    + (difference == null ? "" : "\n" + difference);
+        } else {
+            result.failure = difference;
+        }
+
+        // save the test report of a failed game, otherwise delete an existing one
+        String failedFilename = basePath + "." + Config.get("failed.filename.extension");
+        if (result.failure != null) {
+            TestGameBuilder.saveGameReport(testReport, failedFilename, true);
+        } else {
+            File failedFile = new File(failedFilename);
+            if (failedFile.exists() && failedFile.delete()) {
+                System.out.println("Deleted failed report at " + failedFilename);
+            }
+        }
+        result.reportTime = System.nanoTime() - reportStart;
+        return result;
+    }
+
+    private static void collectGames(File file, String name, int level, List<File> files, List<String> names) {
+        if (file.isDirectory()) {
+            if (level > MAX_RECURSION_LEVEL) return;
+            String[] fileNames = file.list();
+            if (fileNames == null) return;
+            Arrays.sort(fileNames);
+            for (String fileName : fileNames) {
+                String nextName = name.isEmpty() ? fileName : name + File.separator + fileName;
+                collectGames(new File(file, fileName), nextName, level + 1, files, names);
+            }
+        } else if (file.getName().endsWith("." + Config.get("save.filename.extension"))) {
+            files.add(file);
+            names.add(name.substring(0, name.lastIndexOf('.')));
+        }
+    }
+
+    /**
+     * @return true if all games passed
+     */
+    private boolean run(List<File> files, List<String> names) throws InterruptedException {
+        System.out.println("Running " + files.size() + " test games with " + threads + " threads");
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CompletionService<Result> completionService = new ExecutorCompletionService<>(executor);
+        for (int i = 0; i < files.size(); i++) {
+            final File file = files.get(i);
+            final String name = names.get(i);
+            // each game has its own context, e.g. for the configuration stored in the saved file
+            final GameContext context = GameContext.create(name, null);
+            completionService.submit(() -> context.call(() -> runGame(file, name)));
+        }
+        executor.shutdown();
+
+        List<Result> results = Lists.newArrayList();
+        int failed = 0;
+        for (int i = 0; i < files.size(); i++) {
+            Result result;
+            try {
+                result = completionService.take().get();
+            } catch (ExecutionException e) {
+                failed++;
+                System.out.println("Test game failed with exception: " + e.getCause());
+                if (failFast) break;
+                continue;
+            }
+            results.add(result);
+            System.out.println(result.format());
+            if (result.failure != null) {
+                failed++;
+                System.out.println(result.failure);
+                if (failFast) break;
+            }
+        }
+        if (failed > 0 && failFast) {
+            executor.shutdownNow();
+        }
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        long wallTime = System.nanoTime() - start;
+
+        // summary
+        long[] phaseTimes = new long[GameLoader.Phase.values().length];
+        long reportTime = 0;
+        long gameTime = 0;
+        for (Result result : results) {
+            for (int phase = 0; phase < phaseTimes.length; phase++) {
+                phaseTimes[phase] += result.phaseTimes[phase];
+            }
+            reportTime += result.reportTime;
+            gameTime += result.getTotalTime();
+        }
+        StringBuilder phases = new StringBuilder("Phases:");
+        for (GameLoader.Phase phase : GameLoader.Phase.values()) {
+            phases.append(" ").append(phase.name().toLowerCase()).append(" ")
+                    .append(Result.millis(phaseTimes[phase.ordinal()])).append(",");
+        }
+        phases.append(" report ").append(Result.millis(reportTime));
+        System.out.println(phases);
+
+        results.sort(Comparator.comparingLong(Result::getTotalTime).reversed());
+        System.out.println("Slowest games:");
+        for (Result result : results.subList(0, Math.min(5, results.size()))) {
+            System.out.println("  " + result.name + " " + Result.millis(result.getTotalTime()));
+        }
+        System.out.println(String.format("%d games run, %d failed in %.1f s (sum of game times %.1f s)",
+                results.size(), failed, wallTime / 1.0e9, gameTime / 1.0e9));
+        return failed == 0;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+
+        ConfigManager.initConfiguration(true);
+
+        int threads = Math.max(Integer.getInteger("regression.threads",
+                Runtime.getRuntime().availableProcessors()), 1);
+        boolean failFast = Boolean.parseBoolean(System.getProperty("regression.failFast", "true"));
+
+        if (args == null || args.length == 0) {
+            args = new String[] {Config.get("save.directory")};
+        }
+        List<File> files = Lists.newArrayList();
+        List<String> names = Lists.newArrayList();
+        for (String arg : args) {
+            File file = new File(arg);
+            String name = file.isDirectory() ? "" : file.getName();
+            collectGames(file, name, 0, files, names);
+        }
+
+        boolean passed = new TestGameRunner(threads, failFast).run(files, names);
+        System.exit(passed ? 0 : 1);
+    }
+
+}
@@ -0,0 +1,149 @@
+package net.sf.rails.util;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.ConfigManager;
+import rails.game.action.PossibleAction;
+
+/**
+ * Load test of the GameServer based on the saved games of the test directory
+ * <p>
+ * A number of games is opened in parallel from the saved games (in turn), then all actions
+ * of all games are processed concurrently, each game by its own thread.
+ * Reports the processed actions per second and the heap used per game.
+ * <p>
+ * Run with: gradle gameServerLoadTest (see build.gradle) or
+ * main arguments: directories and/or saved games, default is src/test/resources/data/real
+ * system properties: loadtest.games (default 20), loadtest.locale (default configured locale)
+ */
+public final class GameServerLoadTest {
+
+    private static final String DEFAULT_DIRECTORY = "src/test/resources/data/real";
+
+    private static void collectFiles(File file, List<File> files) {
+        if (file.isDirectory()) {
+            String[] fileNames = file.list();
+            if (fileNames == null) return;
+            Arrays.sort(fileNames);
+            for (String fileName : fileNames) {
+                collectFiles(new File(file, fileName), files);
+            }
+        } else if (file.getName().endsWith("." + Config.get("save.filename.extension"))) {
+            files.add(file);
+        }
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    // number of actions processed before the first failure
+    private static int countProcessed(HeadlessGame game, List<Future<Boolean>> results) throws InterruptedException {
+        int processed = 0;
+        for (Future<Boolean> result : results) {
+            try {
+                if (!result.get()) {
+                    System.out.println(game.getId() + " interrupted at action " + (processed + 1));
+                    break;
+                }
+            } catch (ExecutionException e) {
+                System.out.println(game.getId() + " failed at action " + (processed + 1) + ": " + e.getCause());
+                break;
+            }
+            processed++;
+        }
+        return processed;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        ConfigManager.initConfiguration(true);
+
+        int nbGames = Math.max(Integer.getInteger("loadtest.games", 20), 1);
+        String localeCode = System.getProperty("loadtest.locale");
+
+        if (args == null || args.length == 0) {
+            args = new String[] {DEFAULT_DIRECTORY};
+        }
+        List<File> files = Lists.newArrayList();
+        for (String arg : args) {
+            collectFiles(new File(arg), files);
+        }
+        if (files.isEmpty()) {
+            System.out.println("No saved games found");
+            return;
+        }
+        System.out.println("GameServer load test: games = " + nbGames + ", saved games = " + files.size());
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseHeap = usedHeap(memory);
+
+        // open all games
+        GameServer server = new GameServer();
+        List<HeadlessGame> games = Lists.newArrayList();
+        List<Future<List<PossibleAction>>> openedGames = Lists.newArrayList();
+        long openStart = System.nanoTime();
+        for (int i = 0; i < nbGames; i++) {
+            File file = files.get(i % files.size());
+            HeadlessGame game = server.createGame("Game" + i + "-" + file.getName(),
+                    Collections.<String, String>emptyMap(), localeCode);
+            games.add(game);
+            openedGames.add(game.open(file));
+        }
+        List<List<PossibleAction>> gameActions = Lists.newArrayList();
+        for (int i = 0; i < nbGames; i++) {
+            List<PossibleAction> actions = openedGames.get(i).get();
+            if (actions == null) {
+                System.out.println(games.get(i).getId() + " could not be opened");
+                actions = Collections.emptyList();
+            }
+            gameActions.add(actions);
+        }
+        long openTime = System.nanoTime() - openStart;
+
+        // process all actions, each game in sequence
+        long processStart = System.nanoTime();
+        List<List<Future<Boolean>>> results = Lists.newArrayList();
+        for (int i = 0; i < nbGames; i++) {
+            List<Future<Boolean>> gameResults = Lists.newArrayList();
+            for (PossibleAction action : gameActions.get(i)) {
+                gameResults.add(games.get(i).process(action));
+            }
+            results.add(gameResults);
+        }
+        long processed = 0;
+        int completed = 0;
+        for (int i = 0; i < nbGames; i++) {
+            int count = countProcessed(games.get(i), results.get(i));
+            processed += count;
+            if (count == gameActions.get(i).size()) completed++;
+        }
+        long processTime = System.nanoTime() - processStart;
+
+        long heapPerGame = (usedHeap(memory) - baseHeap) / nbGames;
+
+        System.out.println(String.format("Opened %d games in %.1f s", nbGames, openTime / 1.0e9));
+        System.out.println(String.format("Processed %d actions in %.1f s: %.0f actions/s, %d of %d games completed",
+                processed, processTime / 1.0e9, processed * 1.0e9 / processTime, completed, nbGames));
+        System.out.println(String.format("Heap per game: %.1f MB", heapPerGame / 1024.0 / 1024.0));
+
+        if (!server.shutdown(1, TimeUnit.MINUTES)) {
+            System.out.println("Games did not stop in time");
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package net.sf.rails.util;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import net.sf.rails.common.Config;
+import net.sf.rails.common.ConfigManager;
+import net.sf.rails.common.ReportBuffer;
+import net.sf.rails.game.RailsRoot;
+
+/**
+ * Benchmark of the bulk replay of GameLoader based on the saved games of the test directory
+ * <p>
+ * Each saved game is loaded (without snapshot) with the normal replay and with the bulk replay
+ * in turns. The replay times are compared and the reports of both modes are checked to be identical.
+ * Each measurement is repeated after a number of warmup runs.
+ * <p>
+ * Run with: gradle replayBenchmark (see build.gradle) or
+ * main arguments: directories and/or saved games, default is src/test/resources/data/real
+ * system properties: benchmark.warmup (default 2), benchmark.iterations (default 5)
+ */
+public final class ReplayBenchmark {
+
+    private static final String DEFAULT_DIRECTORY = "src/test/resources/data/real";
+
+    private final int warmup;
+    private final int iterations;
+
+    // result of one load
+    private static final class Result {
+        private final long replayTime;
+        private final long loadTime;
+        private final List<String> report;
+        private final String reportHtml;
+        private final int changeStackIndex;
+
+        private Result(GameLoader gameLoader, long loadTime) {
+            this.replayTime = gameLoader.getPhaseTime(GameLoader.Phase.REPLAY);
+            this.loadTime = loadTime;
+            RailsRoot root = gameLoader.getRoot();
+            ReportBuffer reportBuffer = root.getReportManager().getReportBuffer();
+            this.report = reportBuffer.getAsList();
+            this.reportHtml = reportBuffer.getCurrentText();
+            this.changeStackIndex = root.getStateManager().getChangeStack().getCurrentIndex();
+        }
+
+        private String compare(Result other) {
+            if (!report.equals(other.report)) return "reports differ";
+            if (!reportHtml.equals(other.reportHtml)) return "html reports differ";
+            if (changeStackIndex != other.changeStackIndex) return "change stacks differ";
+            return null;
+        }
+    }
+
+    private ReplayBenchmark(int warmup, int iterations) {
+        this.warmup = warmup;
+        this.iterations = iterations;
+    }
+
+    private static Result load(File gameFile, boolean bulkReplay) {
+        GameLoader gameLoader = new GameLoader();
+        gameLoader.setUseSnapshot(false);
+        gameLoader.setBulkReplay(bulkReplay);
+        long start = System.nanoTime();
+        if (!gameLoader.createFromFile(gameFile)) {
+            throw new IllegalStateException("Load of " + gameFile + " failed: " + gameLoader.getException());
+        }
+        return new Result(gameLoader, System.nanoTime() - start);
+    }
+
+    private static String millis(long nanos, int count) {
+        return String.format("%.1f ms", nanos / 1.0e6 / Math.max(count, 1));
+    }
+
+    /**
+     * @return replay times of normal and bulk replay in nanoseconds (sum of all iterations)
+     */
+    private long[] run(File gameFile) {
+        for (int i = 0; i < warmup; i++) {
+            load(gameFile, false);
+            load(gameFile, true);
+        }
+        long[] times = new long[4];
+        for (int i = 0; i < iterations; i++) {
+            Result normal = load(gameFile, false);
+            Result bulk = load(gameFile, true);
+            String difference = bulk.compare(normal);
+            if (difference != null) {
+                throw new IllegalStateException(gameFile.getName() + ": bulk replay differs, " + difference);
+            }
+            times[0] += normal.replayTime;
+            times[1] += bulk.replayTime;
+            times[2] += normal.loadTime;
+            times[3] += bulk.loadTime;
+        }
+        return times;
+    }
+
+    private String format(String name, long[] times) {
+        double speedup = times[1] == 0 ? 0 : (double) times[0] / times[1];
+        return name + ": replay " + millis(times[0], iterations) + " -> " + millis(times[1], iterations)
+                + String.format(" (%.2fx)", speedup)
+                + ", load " + millis(times[2], iterations) + " -> " + millis(times[3], iterations);
+    }
+
+    private static void collectFiles(File file, List<File> files) {
+        if (file.isDirectory()) {
+            String[] fileNames = file.list();
+            if (fileNames == null) return;
+            Arrays.sort(fileNames);
+            for (String fileName : fileNames) {
+                collectFiles(new File(file, fileName), files);
+            }
+        } else if (file.getName().endsWith("." + Config.get("save.filename.extension"))) {
+            files.add(file);
+        }
+    }
+
+    public static void main(String[] args) {
+
+        ConfigManager.initConfiguration(true);
+
+        int warmup = Integer.getInteger("benchmark.warmup", 2);
+        int iterations = Math.max(Integer.getInteger("benchmark.iterations", 5), 1);
+
+        if (args == null || args.length == 0) {
+            args = new String[] {DEFAULT_DIRECTORY};
+        }
+        List<File> files = Lists.newArrayList();
+        for (String arg : args) {
+            collectFiles(new File(arg), files);
+        }
+        System.out.println("Replay benchmark: warmup = " + warmup + ", iterations = " + iterations
+                + ", saved games = " + files.size());
+
+        ReplayBenchmark benchmark = new ReplayBenchmark(warmup, iterations);
+        long[] total = new long[4];
+        for (File file : files) {
+            long[] times = benchmark.run(file);
+            for (int i = 0; i < total.length; i++) {
+                total[i] += times[i];
+            }
+            System.out.println(benchmark.format(file.getName(), times));
+        }
+        System.out.println(benchmark.format("Total", total));
+    }
+
+}